@@ -0,0 +1,48 @@
+package dev.magadiflo.benchmarks;
+
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.mapper.AccountMapper;
+import dev.magadiflo.app.money.Money;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de {@link AccountMapper#toAccountResponse(Account)}, el mapeo (generado por MapStruct) que hacen todas las
+ * respuestas de las operaciones sobre una cuenta.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountMapperBenchmark {
+
+    private AccountMapper accountMapper;
+    private Account account;
+
+    @Setup
+    public void setUp() {
+        this.accountMapper = Mappers.getMapper(AccountMapper.class);
+        Bank bank = Bank.builder().id(1L).name("BCP").totalTransfers(0).build();
+        this.account = Account.builder().id(1L).holder("Milagros").balance(Money.of("2000.00")).version(0L).bank(bank).build();
+    }
+
+    @Benchmark
+    public AccountResponse toAccountResponse() {
+        return this.accountMapper.toAccountResponse(this.account);
+    }
+}
@@ -0,0 +1,76 @@
+package dev.magadiflo.benchmarks;
+
+import dev.magadiflo.app.SpringRestApiApplication;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.metrics.AccountServiceMetricsAdvisor;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.AccountService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de {@link AccountServiceMetricsAdvisor} en {@link AccountService#getAccountBalance(Long)}, la operación más
+ * corta del servicio: el saldo se lee de la caché de cuentas, sin consultar la base de datos.
+ * <p>
+ * Arranca {@link SpringRestApiApplication} con el perfil {@code benchmark}, como {@link TransferBenchmark}, y con
+ * el registro de Prometheus; {@code accountMetrics} activa o desactiva el consejo ({@code app.account-metrics.enabled}).
+ * La llamada pasa por el proxy de Spring (transacción y demás aspectos) en ambos casos. Los logs de
+ * {@code AccountServiceImpl} se limitan a {@code WARN}, como en producción, para que no dominen la medición.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountMetricsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean accountMetrics;
+
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private Long accountId;
+
+    @Setup
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(SpringRestApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=benchmark",
+                        "--app.account-metrics.enabled=" + this.accountMetrics,
+                        "--logging.level.dev.magadiflo.app.service=WARN");
+        this.accountService = this.context.getBean(AccountService.class);
+
+        Bank bank = this.context.getBean(BankRepository.class).save(Bank.builder().name("BCP").totalTransfers(0).build());
+        this.accountId = this.accountService.saveAccount(
+                new AccountCreateRequest("Milagros", new BigDecimal("2000.00"), bank.getId())).id();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public BigDecimal getAccountBalance() {
+        return this.accountService.getAccountBalance(this.accountId);
+    }
+}
@@ -0,0 +1,126 @@
+package dev.magadiflo.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import dev.magadiflo.app.cache.AccountCache;
+import dev.magadiflo.app.cache.AccountIdBloomFilter;
+import dev.magadiflo.app.config.AccountCacheProperties;
+import dev.magadiflo.app.config.AccountIdFilterProperties;
+import dev.magadiflo.app.config.AccountProperties;
+import dev.magadiflo.app.config.HotPathLoggingProperties;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.WithdrawalRequest;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.logging.HotPathLogLimiter;
+import dev.magadiflo.app.mapper.AccountMapper;
+import dev.magadiflo.app.metrics.AccountMetrics;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.LedgerService;
+import dev.magadiflo.app.service.TransferCounterService;
+import dev.magadiflo.app.service.impl.AccountServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo en la JVM de {@code AccountServiceImpl.deposit} y {@code withdraw} en el modo {@code entity}: aritmética
+ * de {@code Money} de {@code makeADeposit}/{@code makeAWithdrawal}, los mensajes de log de cada operación y
+ * el mapeo a {@link AccountResponse}, sin base de datos.
+ * <p>
+ * El repositorio y el libro mayor son implementaciones en memoria ({@link Proxy}); el repositorio devuelve
+ * siempre la misma cuenta con el mismo saldo. La caché y el filtro de IDs son los reales. {@code serviceLogLevel} fija el nivel de
+ * {@code AccountServiceImpl}: con {@code INFO} se escriben los mensajes de cada operación (en
+ * {@code target/benchmarks.log}), con {@code WARN} solo se evalúa si están habilitados. Con {@code hotPathLogging}
+ * activo, {@code HotPathLogLimiter} escribe uno de cada {@value #SAMPLE_EVERY} mensajes de cada evento y como
+ * máximo {@value #MAX_PER_SECOND} por segundo. Para medir operaciones por segundo: {@code -bm thrpt -tu s}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountServiceBenchmark {
+
+    private static final Money INITIAL_BALANCE = Money.of("2000.00");
+    private static final int SAMPLE_EVERY = 100;
+    private static final int MAX_PER_SECOND = 100;
+
+    @Param({"INFO", "WARN"})
+    public String serviceLogLevel;
+
+    @Param({"false", "true"})
+    public boolean hotPathLogging;
+
+    private Account account;
+    private AccountServiceImpl accountService;
+    private DepositRequest depositRequest;
+    private WithdrawalRequest withdrawalRequest;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(AccountServiceImpl.class)).setLevel(ch.qos.logback.classic.Level.toLevel(this.serviceLogLevel));
+
+        Bank bank = Bank.builder().id(1L).name("BCP").totalTransfers(0).build();
+        this.account = Account.builder().id(1L).holder("Milagros").balance(INITIAL_BALANCE).version(0L).bank(bank).build();
+        AccountRepository accountRepository = inMemory(AccountRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            // Como una lectura de la base de datos: save(...) no persiste, cada operación parte del saldo inicial
+            case "findById" -> {
+                this.account.setBalance(INITIAL_BALANCE);
+                yield Optional.of(this.account);
+            }
+            case "save" -> args[0];
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+
+        this.accountService = new AccountServiceImpl(accountRepository,
+                inMemory(BankRepository.class, (proxy, method, args) -> null),
+                Mappers.getMapper(AccountMapper.class),
+                new AccountProperties(AccountProperties.BalanceUpdateMode.ENTITY, AccountProperties.TransferLocking.OPTIMISTIC, 50, 500, 1000),
+                inMemory(TransferCounterService.class, (proxy, method, args) -> null),
+                inMemory(LedgerService.class, (proxy, method, args) -> null),
+                new AccountCache(new AccountCacheProperties(10_000, Duration.ofSeconds(30)), new SimpleMeterRegistry()),
+                new AccountIdBloomFilter(new AccountIdFilterProperties(false, 0.01, 100_000, Duration.ofHours(1)), new SimpleMeterRegistry()),
+                new HotPathLogLimiter(new HotPathLoggingProperties(this.hotPathLogging, SAMPLE_EVERY, MAX_PER_SECOND), new SimpleMeterRegistry()),
+                new AccountMetrics(new SimpleMeterRegistry()));
+        this.depositRequest = new DepositRequest(new BigDecimal("150.75"));
+        this.withdrawalRequest = new WithdrawalRequest(new BigDecimal("150.75"));
+    }
+
+    @Benchmark
+    public AccountResponse deposit() {
+        return this.accountService.deposit(this.account.getId(), this.depositRequest);
+    }
+
+    @Benchmark
+    public AccountResponse withdraw() {
+        return this.accountService.withdraw(this.account.getId(), this.withdrawalRequest);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T inMemory(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
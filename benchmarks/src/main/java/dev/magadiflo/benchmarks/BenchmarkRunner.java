@@ -0,0 +1,45 @@
+package dev.magadiflo.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Punto de entrada de {@code target/benchmarks.jar}: ejecuta JMH con los mismos argumentos que
+ * {@code org.openjdk.jmh.Main} ({@code -h} para la ayuda), pero guarda por defecto los resultados en JSON en
+ * {@code results/jmh-<versión>-<fecha>.json}, para comparar una versión con otra (por ejemplo en
+ * <a href="https://jmh.morethan.net">JMH Visualizer</a>).
+ * <p>
+ * Con {@code -rf} se usa el formato indicado y el archivo por defecto de JMH; con {@code -rff} solo cambia el archivo.
+ * </p>
+ */
+public class BenchmarkRunner {
+
+    private static final Path RESULTS_DIRECTORY = Path.of("results");
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(List.of(args));
+        if (!jmhArgs.contains("-rf")) {
+            jmhArgs.addAll(List.of("-rf", "json"));
+            if (!jmhArgs.contains("-rff")) {
+                jmhArgs.addAll(List.of("-rff", resultFile().toString()));
+            }
+        }
+        Main.main(jmhArgs.toArray(String[]::new));
+    }
+
+    private static Path resultFile() throws IOException {
+        String version = Optional.ofNullable(BenchmarkRunner.class.getPackage().getImplementationVersion())
+                .orElse("dev");
+        Files.createDirectories(RESULTS_DIRECTORY);
+        return RESULTS_DIRECTORY.resolve("jmh-%s-%s.json".formatted(version, LocalDateTime.now().format(TIMESTAMP)));
+    }
+}
@@ -0,0 +1,72 @@
+package dev.magadiflo.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.dto.ErrorResponse;
+import dev.magadiflo.app.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización con Jackson de los cuerpos de respuesta más frecuentes: {@link AccountResponse} y
+ * {@link ErrorResponse} (con y sin errores de validación).
+ * <p>
+ * El {@link ObjectMapper} se construye con {@link Jackson2ObjectMapperBuilder}, con la misma configuración por
+ * defecto que el de Spring Boot (módulo {@code JavaTimeModule}, fechas ISO-8601). El cuerpo de error se crea en
+ * cada llamada porque {@link ErrorResponse#create} toma la hora actual.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private static final String PATH = "/api/v1/accounts/1/withdraw";
+
+    private ObjectMapper objectMapper;
+    private AccountResponse accountResponse;
+    private Map<String, List<String>> validationErrors;
+
+    @Setup
+    public void setUp() {
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.accountResponse = new AccountResponse(1L, "Milagros", Money.of("2000.00"), "BCP");
+        this.validationErrors = Map.of("amount", List.of("El monto mínimo es 0.01"));
+    }
+
+    @Benchmark
+    public byte[] accountResponse() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.accountResponse);
+    }
+
+    @Benchmark
+    public byte[] errorResponse() throws JsonProcessingException {
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        return this.objectMapper.writeValueAsBytes(ErrorResponse.create(status.value(), status.getReasonPhrase(),
+                "Saldo insuficiente en la cuenta del titular Milagros (ID: 1)", PATH));
+    }
+
+    @Benchmark
+    public byte[] validationErrorResponse() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(ErrorResponse.create(HttpStatus.BAD_REQUEST.value(), "Validation Failed",
+                "Los datos enviados no cumplen con las validaciones requeridas", PATH, this.validationErrors));
+    }
+}
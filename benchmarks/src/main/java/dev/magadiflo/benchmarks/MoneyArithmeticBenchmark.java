@@ -0,0 +1,66 @@
+package dev.magadiflo.benchmarks;
+
+import dev.magadiflo.app.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aritmética de saldo de un depósito seguido de un retiro (sumar, comparar con el saldo y restar), como en
+ * {@code makeADeposit}/{@code makeAWithdrawal}: con {@link BigDecimal} frente a {@link Money}.
+ * <p>
+ * {@code moneyFromRequest} incluye la conversión del monto de la petición ({@code BigDecimal}) que hace el servicio
+ * una vez por operación. Con {@code -prof gc}, {@code gc.alloc.rate.norm} muestra los bytes asignados por operación.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyArithmeticBenchmark {
+
+    private BigDecimal decimalBalance = new BigDecimal("2000.00");
+    private final BigDecimal decimalAmount = new BigDecimal("150.75");
+
+    private Money moneyBalance = Money.of("2000.00");
+    private final Money moneyAmount = Money.of("150.75");
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        this.decimalBalance = this.decimalBalance.add(this.decimalAmount);
+        if (this.decimalAmount.compareTo(this.decimalBalance) <= 0) {
+            this.decimalBalance = this.decimalBalance.subtract(this.decimalAmount);
+        }
+        return this.decimalBalance;
+    }
+
+    @Benchmark
+    public Money money() {
+        this.moneyBalance = this.moneyBalance.plus(this.moneyAmount);
+        if (!this.moneyAmount.isGreaterThan(this.moneyBalance)) {
+            this.moneyBalance = this.moneyBalance.minus(this.moneyAmount);
+        }
+        return this.moneyBalance;
+    }
+
+    @Benchmark
+    public Money moneyFromRequest() {
+        Money amount = Money.of(this.decimalAmount);
+        this.moneyBalance = this.moneyBalance.plus(amount);
+        if (!amount.isGreaterThan(this.moneyBalance)) {
+            this.moneyBalance = this.moneyBalance.minus(amount);
+        }
+        return this.moneyBalance;
+    }
+}
@@ -0,0 +1,99 @@
+package dev.magadiflo.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import dev.magadiflo.app.dto.ErrorResponse;
+import dev.magadiflo.app.exception.ErrorResponseTemplates;
+import dev.magadiflo.app.exception.InsufficientBalanceException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Microbenchmark JMH del camino de un retiro rechazado por saldo insuficiente: la excepción se crea y se lanza
+ * en lo profundo de la pila de llamadas, se captura y se genera el cuerpo JSON de la respuesta de error.
+ * <ul>
+ *     <li>{@code fullStackTrace}: como antes, una {@link RuntimeException} que captura la traza de la pila y un
+ *     {@link ErrorResponse} con {@code LocalDateTime.now()} serializado con Jackson.</li>
+ *     <li>{@code stackless}: como ahora, {@link InsufficientBalanceException} sin traza de la pila y el cuerpo
+ *     generado por {@link ErrorResponseTemplates}.</li>
+ * </ul>
+ * {@code stackless} debe mantenerse por encima de {@code fullStackTrace} en operaciones por milisegundo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectedWithdrawalBenchmark {
+
+    private static final String PATH = "/api/v1/accounts/1/withdraw";
+
+    // Profundidad aproximada de la pila de una petición al llegar al servicio: Tomcat, filtros, DispatcherServlet y proxies AOP
+    @Param({"150"})
+    public int stackDepth;
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseTemplates errorResponseTemplates;
+
+    @Setup
+    public void setUp() {
+        this.objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.errorResponseTemplates = new ErrorResponseTemplates();
+    }
+
+    @Benchmark
+    public byte[] fullStackTrace() throws JsonProcessingException {
+        try {
+            throwAt(this.stackDepth, () -> new FullStackTraceInsufficientBalanceException(1L, "Milagros"));
+        } catch (FullStackTraceInsufficientBalanceException e) {
+            HttpStatus status = HttpStatus.BAD_REQUEST;
+            return this.objectMapper.writeValueAsBytes(ErrorResponse.create(status.value(), status.getReasonPhrase(), e.getMessage(), PATH));
+        }
+        throw new IllegalStateException("La excepción no se lanzó");
+    }
+
+    @Benchmark
+    public byte[] stackless() {
+        try {
+            throwAt(this.stackDepth, () -> new InsufficientBalanceException(1L, "Milagros"));
+        } catch (InsufficientBalanceException e) {
+            return this.errorResponseTemplates.render(HttpStatus.BAD_REQUEST, e.getMessage(), PATH);
+        }
+        throw new IllegalStateException("La excepción no se lanzó");
+    }
+
+    private static void throwAt(int depth, Supplier<RuntimeException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+        throwAt(depth - 1, exception);
+    }
+
+    /**
+     * {@link InsufficientBalanceException} tal como era antes de extender {@code BusinessException}.
+     */
+    static class FullStackTraceInsufficientBalanceException extends RuntimeException {
+        FullStackTraceInsufficientBalanceException(Long accountId, String holder) {
+            super("Saldo insuficiente en la cuenta del titular %s (ID: %d)".formatted(holder, accountId));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package dev.magadiflo.benchmarks;
+
+import dev.magadiflo.app.SpringRestApiApplication;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.AccountService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Llamada completa a {@link AccountService#transfer(TransactionRequest)} a través del proxy de Spring (reintentos,
+ * transacción, Hibernate y el libro mayor) sobre H2 en memoria, entre dos cuentas elegidas al azar.
+ * <p>
+ * Arranca {@link SpringRestApiApplication} sin servidor web con el perfil {@code benchmark}
+ * ({@code application-benchmark.yml}); {@code transferLocking} elige la estrategia de bloqueo
+ * ({@code app.accounts.transfer-locking}). Mide la latencia de un único hilo: sin esperas por bloqueos ni latencia
+ * de red, es el costo de CPU de la petición en la aplicación y en el motor de base de datos. El calentamiento es más
+ * largo que en los demás benchmarks: Hibernate, Spring y H2 tardan más en compilarse con C2.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TransferBenchmark {
+
+    private static final int ACCOUNTS = 1_000;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000000.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+    @Param({"optimistic", "pessimistic"})
+    public String transferLocking;
+
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private List<Long> accountIds;
+
+    @Setup
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(SpringRestApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=benchmark", "--app.accounts.transfer-locking=" + this.transferLocking);
+        this.accountService = this.context.getBean(AccountService.class);
+
+        Bank bank = this.context.getBean(BankRepository.class).save(Bank.builder().name("BCP").totalTransfers(0).build());
+        List<AccountCreateRequest> accounts = IntStream.range(0, ACCOUNTS)
+                .mapToObj(i -> new AccountCreateRequest("Titular " + i, INITIAL_BALANCE, bank.getId()))
+                .toList();
+        this.accountIds = this.accountService.saveAccounts(accounts).stream()
+                .map(AccountResponse::id)
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public void transfer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = random.nextInt(ACCOUNTS);
+        int target = (source + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+        this.accountService.transfer(new TransactionRequest(this.accountIds.get(source), this.accountIds.get(target), AMOUNT));
+    }
+}
@@ -2,8 +2,15 @@ package dev.magadiflo.app;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// R2DBC es solo para la variante reactiva (dev.magadiflo.reactive): con un ConnectionFactory
+// Spring Boot no configuraría el DataSource de JPA
+@EnableScheduling
+@ConfigurationPropertiesScan
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class SpringRestApiApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,202 @@
+package dev.magadiflo.app.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.magadiflo.app.config.AccountCacheProperties;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.exception.AccountNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caché de lectura de cuentas ({@link AccountResponse}) por ID, con un índice secundario de titular a ID.
+ * <p>
+ * Ambas cachés están acotadas en tamaño y tiempo ({@code app.account-cache.*}) y publican sus estadísticas
+ * de aciertos, fallos y desalojos en Micrometer como {@code cache.*{cache=accounts}} y
+ * {@code cache.*{cache=accountHolders}}.
+ * </p>
+ * <p>
+ * Las operaciones de escritura invalidan las cuentas afectadas al confirmarse la transacción
+ * ({@link #evictAfterCommit(List)}): si se invalidaran antes, una lectura concurrente podría volver a cargar
+ * el saldo anterior a la confirmación y dejarlo en caché hasta que venza su TTL. Las cuentas solo se cargan
+ * a través de la caché por ID, y una carga en curso en el momento de la invalidación no deja su resultado
+ * en caché, porque la invalidación elimina la entrada de la carga y la carga solo completa esa entrada.
+ * </p>
+ * <p>
+ * La caché por ID guarda futuros ({@link AsyncCache}): el primer hilo que pide una cuenta que no está en caché
+ * registra un futuro pendiente y hace la consulta en su propio hilo, fuera de los bloqueos internos del mapa, y
+ * las peticiones concurrentes de la misma cuenta esperan ese futuro. Con {@code Cache.get(key, loader)} la consulta
+ * se ejecutaría dentro de {@code ConcurrentHashMap.compute}, y un hilo virtual esperando a la base de datos dentro
+ * de ese bloque {@code synchronized} quedaría fijado a su hilo portador.
+ * </p>
+ * <p>
+ * El índice de titulares no se invalida: solo guarda el ID, y la cuenta se obtiene de la caché por ID y se
+ * comprueba contra el titular buscado; si no coincide (titular modificado o cuenta eliminada) se vuelve a
+ * consultar por titular.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AccountCache {
+
+    private final AsyncCache<Long, AccountResponse> accounts;
+    private final Cache<String, Long> accountIdsByHolder;
+
+    public AccountCache(AccountCacheProperties accountCacheProperties, MeterRegistry meterRegistry) {
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(accountCacheProperties.maxSize())
+                .expireAfterWrite(accountCacheProperties.ttl())
+                .recordStats()
+                .buildAsync();
+        this.accountIdsByHolder = Caffeine.newBuilder()
+                .maximumSize(accountCacheProperties.maxSize())
+                .expireAfterWrite(accountCacheProperties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.accounts.synchronous(), "accounts");
+        CaffeineCacheMetrics.monitor(meterRegistry, this.accountIdsByHolder, "accountHolders");
+    }
+
+    /**
+     * Devuelve la cuenta en caché o la carga con {@code loader}; las excepciones del {@code loader}
+     * (p. ej. cuenta inexistente) se propagan y no se guarda nada.
+     * <p>
+     * Una cuenta inexistente completa la carga con {@code null}, que Caffeine descarta sin registrar nada, y quienes
+     * esperaban esa carga lanzan su propia {@link AccountNotFoundException}. Completarla con la excepción haría que
+     * Caffeine escribiera un WARN con la traza por cada 404.
+     * </p>
+     */
+    public AccountResponse getById(Long accountId, Function<Long, AccountResponse> loader) {
+        CompletableFuture<AccountResponse> loading = new CompletableFuture<>();
+        CompletableFuture<AccountResponse> account = this.accounts.get(accountId, (id, executor) -> loading);
+        if (account != loading) {
+            AccountResponse cached = join(account);
+            if (cached == null) {
+                throw new AccountNotFoundException(accountId);
+            }
+            return cached;
+        }
+        Throwable failure = null;
+        try {
+            AccountResponse loaded = loader.apply(accountId);
+            this.accountIdsByHolder.put(loaded.holder(), loaded.id());
+            loading.complete(loaded);
+            return loaded;
+        } catch (AccountNotFoundException e) {
+            loading.complete(null);
+            throw e;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            // Cualquier salida sin resultado (también un Error) debe completar el futuro: si no, quienes esperan la
+            // misma cuenta quedarían bloqueados. Caffeine elimina la entrada al completarse con error
+            if (failure != null) {
+                loading.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * Devuelve las cuentas en caché y carga el resto con una sola llamada a {@code loader}. Las cuentas que
+     * {@code loader} no devuelve (inexistentes) no se guardan ni aparecen en el resultado.
+     */
+    public Map<Long, AccountResponse> getAllById(Collection<Long> accountIds,
+                                                 Function<Set<? extends Long>, Map<Long, AccountResponse>> loader) {
+        return join(this.accounts.getAll(accountIds, (missingIds, executor) -> {
+            Map<Long, AccountResponse> loaded = loader.apply(missingIds);
+            loaded.values().forEach(account -> this.accountIdsByHolder.put(account.holder(), account.id()));
+            return CompletableFuture.completedFuture(loaded);
+        }));
+    }
+
+    /**
+     * Devuelve la cuenta del titular usando el índice de titulares y la caché por ID.
+     *
+     * @param holderLoader consulta por titular, usada cuando el titular no está en el índice o ya no corresponde
+     *                     a la cuenta indexada; su resultado solo alimenta el índice, no la caché por ID
+     * @param idLoader     consulta por ID, usada para cargar en caché la cuenta de un titular indexado
+     */
+    public AccountResponse getByHolder(String holder, Supplier<AccountResponse> holderLoader,
+                                       Function<Long, AccountResponse> idLoader) {
+        Long accountId = this.accountIdsByHolder.getIfPresent(holder);
+        if (accountId != null) {
+            AccountResponse account = this.accounts.synchronous().getIfPresent(accountId);
+            if (account == null) {
+                account = this.findById(accountId, idLoader);
+            }
+            if (account != null && account.holder().equals(holder)) {
+                return account;
+            }
+            this.accountIdsByHolder.invalidate(holder);
+        }
+        AccountResponse account = holderLoader.get();
+        this.accountIdsByHolder.put(holder, account.id());
+        return account;
+    }
+
+    /**
+     * Invalida las cuentas indicadas cuando se confirme la transacción en curso (no se invalidan si se revierte).
+     * Fuera de una transacción se invalidan de inmediato.
+     */
+    public void evictAfterCommit(List<Long> accountIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.evict(accountIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                AccountCache.this.evict(accountIds);
+            }
+        });
+    }
+
+    /**
+     * Vacía la caché, p. ej. después de modificar cuentas directamente en la base de datos.
+     */
+    public void invalidateAll() {
+        this.accounts.synchronous().invalidateAll();
+        this.accountIdsByHolder.invalidateAll();
+        log.info("Caché de cuentas vaciada");
+    }
+
+    private AccountResponse findById(Long accountId, Function<Long, AccountResponse> idLoader) {
+        try {
+            return this.getById(accountId, idLoader);
+        } catch (AccountNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            switch (e.getCause()) {
+                case RuntimeException cause -> throw cause;
+                case Error cause -> throw cause;
+                case null, default -> throw e;
+            }
+        }
+    }
+
+    private void evict(List<Long> accountIds) {
+        this.accounts.synchronous().invalidateAll(accountIds);
+        log.debug("Cuentas invalidadas en caché: {}", accountIds);
+    }
+}
@@ -0,0 +1,254 @@
+package dev.magadiflo.app.cache;
+
+import dev.magadiflo.app.config.AccountIdFilterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Filtro de Bloom con los IDs de las cuentas existentes, para descartar sin consultar la base de datos
+ * los IDs que con certeza no existen.
+ * <p>
+ * Un filtro de Bloom no tiene falsos negativos: si {@link #mightContain(Long)} devuelve {@code false}, la cuenta
+ * no existe. Si devuelve {@code true}, la cuenta existe o es un falso positivo (con la probabilidad configurada
+ * en {@code app.account-id-filter.false-positive-rate}) y se consulta normalmente. Hasta que se construye por
+ * primera vez, o si está desactivado, no descarta ningún ID.
+ * </p>
+ * <p>
+ * Lo anterior vale solo para los IDs que conoce el filtro: los leídos en la última reconstrucción y los agregados
+ * por esta instancia. Una cuenta creada por otra instancia, por la aplicación reactiva o con SQL directo no está
+ * en el filtro hasta la siguiente reconstrucción, y mientras tanto se responde como inexistente. Por eso el
+ * filtro está desactivado por defecto ({@code app.account-id-filter.enabled}) y solo debe activarse cuando esta
+ * aplicación, en una sola instancia, es la única que crea cuentas en el esquema.
+ * </p>
+ * <p>
+ * Las cuentas nuevas se agregan al guardarse ({@link #add(Long)}), pero las eliminadas no pueden quitarse de
+ * un filtro de Bloom: solo se cuentan ({@link #recordDeletion()}) y desaparecen en la siguiente reconstrucción
+ * ({@link #rebuild(long, Stream)}). Mientras tanto solo generan falsos positivos.
+ * </p>
+ * <p>
+ * Una reconstrucción no pierde las cuentas creadas mientras recorre la tabla: se agregan también al filtro en
+ * construcción, y las agregadas desde la reconstrucción anterior (que pueden no estar confirmadas todavía
+ * cuando se lee la tabla) se vuelven a agregar antes de reemplazar el filtro.
+ * </p>
+ * Métricas publicadas en Micrometer:
+ * <ul>
+ *     <li>{@value #SIZE_METRIC}: memoria ocupada por el filtro, en bytes.</li>
+ *     <li>{@value #IDS_METRIC}: IDs agregados desde la última reconstrucción.</li>
+ *     <li>{@value #EXPECTED_FPP_METRIC}: tasa de falsos positivos esperada para esa ocupación.</li>
+ *     <li>{@value #REJECTIONS_METRIC}: IDs descartados sin consultar la base de datos.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AccountIdBloomFilter {
+
+    public static final String SIZE_METRIC = "app.account.id.filter.size";
+    public static final String IDS_METRIC = "app.account.id.filter.ids";
+    public static final String EXPECTED_FPP_METRIC = "app.account.id.filter.expected.fpp";
+    public static final String REJECTIONS_METRIC = "app.account.id.filter.rejections";
+
+    // Reconstrucción anticipada cuando las cuentas eliminadas superan esta fracción de los IDs del filtro
+    private static final double MAX_DELETED_RATIO = 0.1;
+
+    private final AccountIdFilterProperties accountIdFilterProperties;
+    private final Counter rejections;
+    private final AtomicLong deletedSinceBuild = new AtomicLong();
+
+    private volatile Bits current;
+    private volatile Instant builtAt;
+    private Bits building;
+    private Queue<Long> addedSinceLastRebuild = new ConcurrentLinkedQueue<>();
+
+    public AccountIdBloomFilter(AccountIdFilterProperties accountIdFilterProperties, MeterRegistry meterRegistry) {
+        this.accountIdFilterProperties = accountIdFilterProperties;
+        this.rejections = Counter.builder(REJECTIONS_METRIC)
+                .description("IDs de cuenta descartados por el filtro sin consultar la base de datos")
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, this, filter -> filter.current == null ? 0 : filter.current.sizeInBytes())
+                .description("Memoria ocupada por el filtro de IDs de cuentas")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(IDS_METRIC, this, filter -> filter.current == null ? 0 : filter.current.insertions())
+                .description("IDs agregados al filtro desde su última reconstrucción")
+                .register(meterRegistry);
+        Gauge.builder(EXPECTED_FPP_METRIC, this, filter -> filter.current == null ? 0 : filter.current.expectedFalsePositiveRate())
+                .description("Tasa de falsos positivos esperada para la ocupación actual del filtro")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return this.accountIdFilterProperties.enabled();
+    }
+
+    /**
+     * @return {@code false} si la cuenta con certeza no existe; {@code true} si puede existir
+     */
+    public boolean mightContain(Long accountId) {
+        Bits bits = this.current;
+        if (!this.isEnabled() || bits == null || bits.mightContain(accountId)) {
+            return true;
+        }
+        this.rejections.increment();
+        return false;
+    }
+
+    /**
+     * Agrega el ID de una cuenta recién creada. Debe llamarse antes de confirmar la transacción que la crea,
+     * para que ninguna lectura posterior a la confirmación la descarte.
+     */
+    public synchronized void add(Long accountId) {
+        if (!this.isEnabled()) {
+            return;
+        }
+        if (this.current != null) {
+            this.current.put(accountId);
+        }
+        if (this.building != null) {
+            this.building.put(accountId);
+        }
+        this.addedSinceLastRebuild.add(accountId);
+    }
+
+    public void recordDeletion() {
+        this.deletedSinceBuild.incrementAndGet();
+    }
+
+    /**
+     * Indica si el filtro debe reconstruirse: nunca se construyó, pasó {@code app.account-id-filter.rebuild-interval},
+     * superó la capacidad para la que se dimensionó o acumula demasiadas cuentas eliminadas.
+     */
+    public boolean needsRebuild() {
+        Bits bits = this.current;
+        if (bits == null) {
+            return true;
+        }
+        return Instant.now().isAfter(this.builtAt.plus(this.accountIdFilterProperties.rebuildInterval()))
+               || bits.insertions() > bits.capacity()
+               || this.deletedSinceBuild.get() > bits.insertions() * MAX_DELETED_RATIO;
+    }
+
+    /**
+     * Reconstruye el filtro con los IDs de todas las cuentas y lo reemplaza al terminar; mientras tanto,
+     * el filtro anterior sigue respondiendo.
+     *
+     * @param accountCount número aproximado de cuentas, para dimensionar el filtro con margen de crecimiento
+     * @param accountIds   IDs de todas las cuentas
+     */
+    public void rebuild(long accountCount, Stream<Long> accountIds) {
+        long capacity = Math.max(this.accountIdFilterProperties.minCapacity(), accountCount * 2);
+        Bits fresh = new Bits(capacity, this.accountIdFilterProperties.falsePositiveRate());
+        Queue<Long> addedBeforeRebuild;
+        synchronized (this) {
+            this.building = fresh;
+            addedBeforeRebuild = this.addedSinceLastRebuild;
+            this.addedSinceLastRebuild = new ConcurrentLinkedQueue<>();
+        }
+        long deletedBeforeRebuild = this.deletedSinceBuild.get();
+        try {
+            accountIds.forEach(fresh::put);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                this.building = null;
+                addedBeforeRebuild.forEach(this.addedSinceLastRebuild::add);
+            }
+            throw e;
+        }
+        synchronized (this) {
+            addedBeforeRebuild.forEach(fresh::put);
+            this.current = fresh;
+            this.building = null;
+            this.builtAt = Instant.now();
+        }
+        this.deletedSinceBuild.addAndGet(-deletedBeforeRebuild);
+
+        log.info("Filtro de IDs de cuentas reconstruido | IDs: {} | Capacidad: {} | Funciones hash: {} | Memoria: {} KiB | " +
+                 "Tasa de falsos positivos esperada: {}", fresh.insertions(), fresh.capacity(), fresh.hashFunctions(),
+                fresh.sizeInBytes() / 1024, "%.5f".formatted(fresh.expectedFalsePositiveRate()));
+    }
+
+    /**
+     * Arreglo de bits del filtro, con {@code k} posiciones por ID obtenidas por doble hash
+     * ({@code h1 + i * h2}) a partir de dos mezclas de 64 bits del ID.
+     */
+    private static final class Bits {
+
+        private static final double LN2 = Math.log(2);
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashFunctions;
+        private final long capacity;
+        private final AtomicLong insertions = new AtomicLong();
+
+        Bits(long capacity, double falsePositiveRate) {
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+            this.words = new AtomicLongArray(Math.toIntExact((optimalBits + Long.SIZE - 1) / Long.SIZE));
+            this.bitCount = (long) this.words.length() * Long.SIZE;
+            this.hashFunctions = Math.max(1, (int) Math.round((double) this.bitCount / capacity * LN2));
+            this.capacity = capacity;
+        }
+
+        void put(long accountId) {
+            long hash1 = mix(accountId);
+            long hash2 = mix(accountId ^ 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < this.hashFunctions; i++) {
+                long bitIndex = Math.floorMod(hash1 + i * hash2, this.bitCount);
+                long mask = 1L << bitIndex;
+                this.words.getAndAccumulate((int) (bitIndex >>> 6), mask, (word, bit) -> word | bit);
+            }
+            this.insertions.incrementAndGet();
+        }
+
+        boolean mightContain(long accountId) {
+            long hash1 = mix(accountId);
+            long hash2 = mix(accountId ^ 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < this.hashFunctions; i++) {
+                long bitIndex = Math.floorMod(hash1 + i * hash2, this.bitCount);
+                if ((this.words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long sizeInBytes() {
+            return (long) this.words.length() * Long.BYTES;
+        }
+
+        long insertions() {
+            return this.insertions.get();
+        }
+
+        long capacity() {
+            return this.capacity;
+        }
+
+        int hashFunctions() {
+            return this.hashFunctions;
+        }
+
+        double expectedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-this.hashFunctions * (double) this.insertions() / this.bitCount), this.hashFunctions);
+        }
+
+        // Paso final de MurmurHash3 (fmix64): distribuye uniformemente IDs consecutivos
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb9fe1a85ec53L;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+}
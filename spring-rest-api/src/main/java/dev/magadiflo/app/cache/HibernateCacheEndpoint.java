@@ -0,0 +1,67 @@
+package dev.magadiflo.app.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Endpoint de Actuator ({@code /actuator/hibernatecache}) con los aciertos, fallos y la tasa de aciertos de cada
+ * región de la caché de segundo nivel de Hibernate y de la caché de consultas.
+ * <p>
+ * Solo existe con {@code spring.jpa.properties.hibernate.generate_statistics=true} (perfil dev): sin estadísticas
+ * todos los contadores quedarían en cero.
+ * </p>
+ */
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+
+    private final Statistics statistics;
+
+    public HibernateCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public HibernateCacheReport report() {
+        Map<String, CacheStatistics> regions = new TreeMap<>();
+        Arrays.stream(this.statistics.getSecondLevelCacheRegionNames())
+                .map(this.statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .forEach(region -> regions.put(region.getRegionName(), CacheStatistics.of(region)));
+        CacheStatistics queryCache = CacheStatistics.of(this.statistics.getQueryCacheHitCount(),
+                this.statistics.getQueryCacheMissCount(), this.statistics.getQueryCachePutCount());
+        return new HibernateCacheReport(this.statistics.isStatisticsEnabled(), regions, queryCache);
+    }
+
+    public record HibernateCacheReport(boolean statisticsEnabled,
+                                       Map<String, CacheStatistics> regions,
+                                       CacheStatistics queryCache) {
+    }
+
+    /**
+     * @param hitRatio aciertos / (aciertos + fallos), o {@code 0} si todavía no hubo accesos
+     */
+    public record CacheStatistics(long hits, long misses, long puts, double hitRatio) {
+
+        static CacheStatistics of(CacheRegionStatistics region) {
+            return of(region.getHitCount(), region.getMissCount(), region.getPutCount());
+        }
+
+        static CacheStatistics of(long hits, long misses, long puts) {
+            long requests = hits + misses;
+            return new CacheStatistics(hits, misses, puts, requests == 0 ? 0 : (double) hits / requests);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package dev.magadiflo.app.coalescing;
+
+import dev.magadiflo.app.config.DepositCoalescingProperties;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.exception.DatabaseOperationException;
+import dev.magadiflo.app.money.Money;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Agrupa los depósitos concurrentes dirigidos a una misma cuenta y los aplica juntos, en una sola transacción.
+ * <p>
+ * El primer depósito que llega para una cuenta abre un grupo y actúa como líder: espera como máximo
+ * {@link DepositCoalescingProperties#window()} (o hasta que el grupo alcance
+ * {@link DepositCoalescingProperties#maxBatchSize()}), cierra el grupo y aplica sus depósitos en una sola transacción
+ * (un único cambio de saldo por la suma, pero un movimiento del libro mayor por depósito).
+ * Los demás depósitos se unen al grupo abierto y esperan el resultado. Solo un grupo por cuenta se aplica a la vez:
+ * mientras el grupo anterior se confirma, el siguiente sigue aceptando depósitos (<i>group commit</i>), en lugar de
+ * competir por la misma fila. El turno es por cuenta: el líder espera solo al grupo anterior de su cuenta, de modo que
+ * los grupos de cuentas distintas se aplican en paralelo. Cada llamador recibe el saldo que habría
+ * resultado de aplicar los depósitos del grupo en orden de llegada hasta el suyo.
+ * </p>
+ * <p>
+ * Si el líder falla (con cualquier {@link Throwable}), todos los depósitos del grupo reciben el mismo error. Un
+ * depósito que no tiene resultado tras {@link DepositCoalescingProperties#maxWait()} sale de su grupo si este sigue
+ * abierto y recibe {@link DatabaseOperationException}: no se aplicará, y el llamador puede reintentarlo sin depositar
+ * dos veces. Si el grupo ya se cerró (el líder lo está aplicando), el depósito espera el resultado definitivo.
+ * </p>
+ * <p>
+ * Métricas publicadas:
+ * <ul>
+ *     <li>{@value #BATCH_SIZE_METRIC}: número de depósitos aplicados en cada grupo.</li>
+ *     <li>{@value #WAIT_METRIC}: latencia añadida a cada depósito mientras espera a que su grupo se aplique.</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "app.deposit-coalescing", name = "enabled", havingValue = "true")
+@Component
+public class DepositCoalescer {
+
+    public static final String BATCH_SIZE_METRIC = "app.deposits.coalesced.batch.size";
+    public static final String WAIT_METRIC = "app.deposits.coalesced.wait";
+
+    private final DepositCoalescingProperties properties;
+    private final DistributionSummary batchSize;
+    private final Timer waitTimer;
+    private final ConcurrentHashMap<Long, PendingBatch> openBatches = new ConcurrentHashMap<>();
+    // Último grupo en turno de cada cuenta: serializa los grupos de una misma cuenta sin bloquear a las demás
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> applyTurns = new ConcurrentHashMap<>();
+
+    public DepositCoalescer(DepositCoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.batchSize = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Depósitos aplicados en cada grupo")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder(WAIT_METRIC)
+                .description("Latencia añadida por la espera del grupo")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Encola un depósito y bloquea hasta que su grupo se aplique.
+     *
+     * @param accountId la cuenta destino
+     * @param amount    el monto de este depósito
+     * @param applier   aplica en una sola transacción los depósitos indicados, en orden de llegada, y devuelve la
+     *                  cuenta resultante; solo lo invoca el líder del grupo
+     * @return la cuenta con el saldo resultante para este depósito
+     */
+    public AccountResponse deposit(Long accountId, BigDecimal amount, Function<List<BigDecimal>, AccountResponse> applier) {
+        PendingDeposit deposit = new PendingDeposit(Money.of(amount), System.nanoTime());
+        PendingBatch[] joined = new PendingBatch[1];
+        boolean[] leader = new boolean[1];
+
+        // compute() serializa por cuenta el alta de depósitos y el cierre del grupo
+        this.openBatches.compute(accountId, (id, current) -> {
+            PendingBatch batch = current;
+            if (batch == null) {
+                batch = new PendingBatch();
+                leader[0] = true;
+            }
+            batch.deposits.add(deposit);
+            joined[0] = batch;
+            if (batch.deposits.size() >= this.properties.maxBatchSize()) {
+                batch.full.countDown();
+                return null;
+            }
+            return batch;
+        });
+
+        if (leader[0]) {
+            PendingBatch batch = joined[0];
+            this.awaitWindow(batch);
+            CompletableFuture<Void> turn = new CompletableFuture<>();
+            CompletableFuture<Void> previousTurn = this.applyTurns.put(accountId, turn);
+            try {
+                if (previousTurn != null) {
+                    previousTurn.join();
+                }
+                // El grupo se cierra recién al obtener el turno: mientras tanto sigue aceptando depósitos
+                this.openBatches.remove(accountId, batch);
+                this.apply(accountId, batch.deposits, applier);
+            } finally {
+                turn.complete(null);
+                this.applyTurns.remove(accountId, turn);
+            }
+        }
+        return this.awaitResult(accountId, joined[0], deposit);
+    }
+
+    private AccountResponse awaitResult(Long accountId, PendingBatch batch, PendingDeposit deposit) {
+        try {
+            return deposit.result.get(this.properties.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            if (this.withdraw(accountId, batch, deposit)) {
+                throw new DatabaseOperationException("depósito agrupado sin aplicar tras " + this.properties.maxWait(), e);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (this.withdraw(accountId, batch, deposit)) {
+                throw new DatabaseOperationException("depósito agrupado interrumpido", e);
+            }
+        }
+        // El grupo ya se cerró: el depósito se aplica o falla con el grupo, y el llamador debe saber cuál de los dos
+        try {
+            return deposit.result.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * Saca el depósito de su grupo si el grupo sigue abierto, es decir, si el líder todavía no lo tomó para aplicarlo.
+     *
+     * @return {@code true} si el depósito salió del grupo y no se aplicará
+     */
+    private boolean withdraw(Long accountId, PendingBatch batch, PendingDeposit deposit) {
+        boolean[] withdrawn = new boolean[1];
+        // Mismo compute() que el alta: el grupo sigue abierto mientras sea el grupo registrado para la cuenta
+        this.openBatches.computeIfPresent(accountId, (id, current) -> {
+            if (current == batch) {
+                withdrawn[0] = batch.deposits.remove(deposit);
+            }
+            return current;
+        });
+        if (withdrawn[0]) {
+            log.warn("Depósito agrupado retirado de su grupo sin aplicar | Cuenta ID: {} | Monto: {} | Espera máxima: {}",
+                    accountId, deposit.amount, this.properties.maxWait());
+        }
+        return withdrawn[0];
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return switch (cause) {
+            case RuntimeException exception -> exception;
+            case Error error -> throw error;
+            default -> new CompletionException(cause);
+        };
+    }
+
+    private void awaitWindow(PendingBatch batch) {
+        try {
+            batch.full.await(this.properties.window().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void apply(Long accountId, List<PendingDeposit> deposits, Function<List<BigDecimal>, AccountResponse> applier) {
+        long startNanos = System.nanoTime();
+        deposits.forEach(deposit -> this.waitTimer.record(startNanos - deposit.enqueuedNanos, TimeUnit.NANOSECONDS));
+        this.batchSize.record(deposits.size());
+
+        Money total = deposits.stream()
+                .map(PendingDeposit::amount)
+                .reduce(Money.ZERO, Money::plus);
+        try {
+            AccountResponse account = applier.apply(deposits.stream()
+                    .map(deposit -> deposit.amount().toBigDecimal())
+                    .toList());
+            Money balance = account.balance().minus(total);
+            for (PendingDeposit deposit : deposits) {
+                balance = balance.plus(deposit.amount);
+                deposit.result.complete(new AccountResponse(account.id(), account.holder(), balance, account.bankName()));
+            }
+            log.debug("Depósitos agrupados aplicados | Cuenta ID: {} | Depósitos: {} | Monto total: {}",
+                    accountId, deposits.size(), total);
+        } catch (Throwable e) {
+            // También los Error: un futuro sin completar dejaría esperando a los demás depósitos del grupo
+            deposits.forEach(deposit -> deposit.result.completeExceptionally(e));
+        }
+    }
+
+    private static class PendingBatch {
+        private final List<PendingDeposit> deposits = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+    }
+
+    private record PendingDeposit(Money amount, long enqueuedNanos, CompletableFuture<AccountResponse> result) {
+
+        PendingDeposit(Money amount, long enqueuedNanos) {
+            this(amount, enqueuedNanos, new CompletableFuture<>());
+        }
+    }
+}
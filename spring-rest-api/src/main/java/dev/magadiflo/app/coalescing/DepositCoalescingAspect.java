@@ -0,0 +1,48 @@
+package dev.magadiflo.app.coalescing;
+
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.retry.RetryOnConflictAspect;
+import dev.magadiflo.app.service.AccountService;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Desvía {@code AccountService.deposit} hacia {@link DepositCoalescer} cuando {@code app.deposit-coalescing.enabled=true}.
+ * <p>
+ * Se ejecuta por fuera de los reintentos y de la transacción: el líder del grupo aplica los depósitos con
+ * {@code AccountService.depositAll} a través del proxy, de modo que el grupo se reintenta y confirma como
+ * cualquier otra operación y cada depósito conserva su propio movimiento en el libro mayor. Si ya hay una
+ * transacción activa el depósito no se agrupa, porque el llamador espera verlo dentro de su propia transacción.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Aspect
+@Order(DepositCoalescingAspect.ORDER)
+@ConditionalOnProperty(prefix = "app.deposit-coalescing", name = "enabled", havingValue = "true")
+@Component
+public class DepositCoalescingAspect {
+
+    public static final int ORDER = RetryOnConflictAspect.ORDER - 100;
+
+    private final DepositCoalescer depositCoalescer;
+    // El proxy de AccountService se crea con este aspecto: se obtiene en la primera llamada
+    private final ObjectProvider<AccountService> accountServiceProvider;
+
+    @Around("execution(* dev.magadiflo.app.service.AccountService.deposit(..)) && args(accountId, request)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, Long accountId, DepositRequest request) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        return this.depositCoalescer.deposit(accountId, request.amount(), amounts ->
+                this.accountServiceProvider.getObject().depositAll(accountId, amounts.stream()
+                        .map(DepositRequest::new)
+                        .toList()));
+    }
+}
@@ -0,0 +1,18 @@
+package dev.magadiflo.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la caché de lectura de cuentas ({@code app.account-cache.*}).
+ *
+ * @param maxSize número máximo de cuentas (y, por separado, de titulares) que se mantienen en memoria
+ * @param ttl     tiempo que una cuenta permanece en memoria desde que se leyó de la base de datos; acota
+ *                cuánto puede verse un cambio hecho por otra instancia de la aplicación
+ */
+@ConfigurationProperties(prefix = "app.account-cache")
+public record AccountCacheProperties(@DefaultValue("10000") long maxSize,
+                                     @DefaultValue("30s") Duration ttl) {
+}
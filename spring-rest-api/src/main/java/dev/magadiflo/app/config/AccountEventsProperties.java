@@ -0,0 +1,25 @@
+package dev.magadiflo.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de los eventos JFR de las operaciones de cuentas ({@code app.account-events.*}).
+ *
+ * @param enabled         emite {@code AccountOperationEvent} en depósitos, retiros y transferencias; solo se
+ *                        registran mientras una grabación de JFR tenga el evento activo
+ * @param liveAggregation graba los eventos en la propia aplicación ({@code RecordingStream}) y publica sus agregados
+ *                        en {@code /actuator/accountevents}
+ * @param window          período sobre el que se calculan los agregados
+ * @param topSize         cuentas y transferencias que se muestran en cada ranking
+ * @param maxSamples      operaciones que se conservan en memoria como máximo, aunque sigan dentro de la ventana
+ */
+@ConfigurationProperties(prefix = "app.account-events")
+public record AccountEventsProperties(@DefaultValue("true") boolean enabled,
+                                      @DefaultValue("false") boolean liveAggregation,
+                                      @DefaultValue("1m") Duration window,
+                                      @DefaultValue("10") int topSize,
+                                      @DefaultValue("100000") int maxSamples) {
+}
@@ -0,0 +1,22 @@
+package dev.magadiflo.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del filtro de Bloom de IDs de cuentas existentes ({@code app.account-id-filter.*}).
+ *
+ * @param enabled           si se usa el filtro para rechazar, sin consultar la base de datos, los IDs que no existen;
+ *                          desactivado por defecto, porque supone una única instancia que crea todas las cuentas
+ * @param falsePositiveRate probabilidad objetivo de que un ID inexistente no sea descartado por el filtro
+ * @param minCapacity       número mínimo de IDs para el que se dimensiona el filtro
+ * @param rebuildInterval   intervalo máximo entre reconstrucciones completas desde la base de datos
+ */
+@ConfigurationProperties(prefix = "app.account-id-filter")
+public record AccountIdFilterProperties(@DefaultValue("false") boolean enabled,
+                                        @DefaultValue("0.01") double falsePositiveRate,
+                                        @DefaultValue("100000") long minCapacity,
+                                        @DefaultValue("1h") Duration rebuildInterval) {
+}
@@ -0,0 +1,15 @@
+package dev.magadiflo.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de la importación masiva de cuentas ({@code app.account-import.*}).
+ *
+ * @param chunkSize         filas del cuerpo que se confirman en cada transacción
+ * @param maxErrorsPerChunk máximo de errores de fila detallados en la respuesta por cada bloque
+ */
+@ConfigurationProperties(prefix = "app.account-import")
+public record AccountImportProperties(@DefaultValue("1000") int chunkSize,
+                                      @DefaultValue("100") int maxErrorsPerChunk) {
+}
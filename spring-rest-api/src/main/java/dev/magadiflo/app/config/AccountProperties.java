@@ -0,0 +1,52 @@
+package dev.magadiflo.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de configuración de las operaciones sobre cuentas ({@code app.accounts.*}).
+ *
+ * @param balanceUpdateMode estrategia usada por {@code deposit} y {@code withdraw} para modificar el saldo
+ * @param transferLocking   estrategia de bloqueo usada por {@code transfer} sobre las cuentas involucradas
+ * @param defaultPageSize   cuentas por página en el listado paginado cuando no se indica {@code limit}
+ * @param maxPageSize       máximo de cuentas por página en el listado paginado
+ * @param maxListSize       tope de cuentas devueltas por el listado sin paginar
+ */
+@ConfigurationProperties(prefix = "app.accounts")
+public record AccountProperties(@DefaultValue("ENTITY") BalanceUpdateMode balanceUpdateMode,
+                                @DefaultValue("OPTIMISTIC") TransferLocking transferLocking,
+                                @DefaultValue("50") int defaultPageSize,
+                                @DefaultValue("500") int maxPageSize,
+                                @DefaultValue("1000") int maxListSize) {
+
+    /**
+     * Estrategias de actualización del saldo de una cuenta.
+     */
+    public enum BalanceUpdateMode {
+        /**
+         * Lee la entidad, modifica el saldo en Java y la guarda (lectura-modificación-escritura).
+         */
+        ENTITY,
+        /**
+         * Ejecuta un único {@code UPDATE} condicional en la base de datos; el número de filas
+         * afectadas decide si la operación fue exitosa.
+         */
+        ATOMIC
+    }
+
+    /**
+     * Estrategias de bloqueo de filas durante una transferencia.
+     */
+    public enum TransferLocking {
+        /**
+         * Lee las cuentas con un {@code SELECT} simple, sin bloquear filas. Los conflictos se detectan al confirmar
+         * mediante la columna {@code @Version} y la operación completa se reintenta (ver {@code @RetryOnConflict}).
+         */
+        OPTIMISTIC,
+        /**
+         * Bloquea las cuentas con {@code SELECT ... FOR UPDATE} siempre en orden ascendente de ID,
+         * de modo que dos transferencias cruzadas entre el mismo par de cuentas nunca se bloquean mutuamente.
+         */
+        PESSIMISTIC
+    }
+}
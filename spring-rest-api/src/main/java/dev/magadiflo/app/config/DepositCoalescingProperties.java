@@ -0,0 +1,22 @@
+package dev.magadiflo.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la agrupación de depósitos concurrentes sobre una misma cuenta ({@code app.deposit-coalescing.*}).
+ *
+ * @param enabled      activa la agrupación; desactivada, cada depósito es su propia transacción
+ * @param window       tiempo máximo que el primer depósito de un grupo espera a que lleguen otros
+ * @param maxBatchSize número de depósitos que cierra el grupo antes de que termine la ventana
+ * @param maxWait      tiempo máximo que un depósito espera el resultado de su grupo mientras el grupo sigue abierto;
+ *                     vencido, el depósito sale del grupo sin aplicarse y el llamador recibe un error
+ */
+@ConfigurationProperties(prefix = "app.deposit-coalescing")
+public record DepositCoalescingProperties(@DefaultValue("false") boolean enabled,
+                                          @DefaultValue("2ms") Duration window,
+                                          @DefaultValue("64") int maxBatchSize,
+                                          @DefaultValue("5s") Duration maxWait) {
+}
@@ -0,0 +1,17 @@
+package dev.magadiflo.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de los límites de los logs de las operaciones de saldo ({@code app.hot-path-logging.*}).
+ *
+ * @param enabled      activa los límites; desactivados, se escriben todos los mensajes que permita el nivel de log
+ * @param sampleEvery  se escribe uno de cada {@code sampleEvery} mensajes de cada evento (1 = todos)
+ * @param maxPerSecond máximo de mensajes por segundo de cada evento (0 = sin límite)
+ */
+@ConfigurationProperties(prefix = "app.hot-path-logging")
+public record HotPathLoggingProperties(@DefaultValue("false") boolean enabled,
+                                       @DefaultValue("1") int sampleEvery,
+                                       @DefaultValue("0") int maxPerSecond) {
+}
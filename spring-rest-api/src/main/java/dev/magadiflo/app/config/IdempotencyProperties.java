@@ -0,0 +1,21 @@
+package dev.magadiflo.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de las operaciones idempotentes ({@code app.idempotency.*}).
+ *
+ * @param cacheMaxSize  número máximo de respuestas que se mantienen en memoria
+ * @param cacheTtl      tiempo que una respuesta permanece en memoria desde que se registró
+ * @param retention     tiempo que una clave se conserva en la base de datos antes de eliminarse
+ * @param purgeInterval intervalo entre eliminaciones de claves vencidas
+ */
+@ConfigurationProperties(prefix = "app.idempotency")
+public record IdempotencyProperties(@DefaultValue("10000") long cacheMaxSize,
+                                    @DefaultValue("10m") Duration cacheTtl,
+                                    @DefaultValue("24h") Duration retention,
+                                    @DefaultValue("1h") Duration purgeInterval) {
+}
@@ -0,0 +1,17 @@
+package dev.magadiflo.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del libro mayor de movimientos ({@code app.ledger.*}).
+ *
+ * @param snapshotInterval   intervalo entre fotos de saldo de las cuentas con movimientos nuevos
+ * @param maxMovementsPerPage máximo de movimientos devueltos por consulta
+ */
+@ConfigurationProperties(prefix = "app.ledger")
+public record LedgerProperties(@DefaultValue("5m") Duration snapshotInterval,
+                               @DefaultValue("500") int maxMovementsPerPage) {
+}
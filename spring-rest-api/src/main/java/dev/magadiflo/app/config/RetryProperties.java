@@ -0,0 +1,26 @@
+package dev.magadiflo.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del motor de reintentos ante conflictos de concurrencia ({@code app.retry.*}).
+ * <p>
+ * La espera antes del reintento {@code n} es un valor aleatorio entre cero y
+ * {@code min(maxBackoff, initialBackoff * multiplier^(n-1))} (<i>full jitter</i>), de modo que los
+ * hilos que chocaron en la misma fila no vuelvan a chocar en el mismo instante.
+ * </p>
+ *
+ * @param maxAttempts    número total de intentos, incluido el primero
+ * @param initialBackoff tope de la espera antes del primer reintento
+ * @param maxBackoff     tope absoluto de la espera entre reintentos
+ * @param multiplier     factor de crecimiento exponencial de la espera
+ */
+@ConfigurationProperties(prefix = "app.retry")
+public record RetryProperties(@DefaultValue("5") int maxAttempts,
+                              @DefaultValue("10ms") Duration initialBackoff,
+                              @DefaultValue("200ms") Duration maxBackoff,
+                              @DefaultValue("2.0") double multiplier) {
+}
@@ -0,0 +1,17 @@
+package dev.magadiflo.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del contador fragmentado de transferencias por banco ({@code app.transfer-counter.*}).
+ *
+ * @param shards         número de fragmentos por banco; {@code 1} equivale a un único contador por banco
+ * @param rollupInterval intervalo entre consolidaciones de los fragmentos en {@code banks.total_transfers}
+ */
+@ConfigurationProperties(prefix = "app.transfer-counter")
+public record TransferCounterProperties(@DefaultValue("16") int shards,
+                                        @DefaultValue("1m") Duration rollupInterval) {
+}
@@ -1,15 +1,31 @@
 package dev.magadiflo.app.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.magadiflo.app.dto.AccountBatchCreateRequest;
 import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountImportResponse;
+import dev.magadiflo.app.dto.AccountLookupRequest;
+import dev.magadiflo.app.dto.AccountLookupResponse;
+import dev.magadiflo.app.dto.AccountPage;
 import dev.magadiflo.app.dto.AccountResponse;
 import dev.magadiflo.app.dto.AccountUpdateRequest;
 import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.LedgerEntryResponse;
 import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.TransferBatchRequest;
+import dev.magadiflo.app.dto.TransferBatchResponse;
 import dev.magadiflo.app.dto.WithdrawalRequest;
+import dev.magadiflo.app.idempotency.IdempotencyExecutor;
+import dev.magadiflo.app.importer.AccountImportReader;
+import dev.magadiflo.app.service.AccountImportService;
 import dev.magadiflo.app.service.AccountService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,14 +33,24 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -32,11 +58,63 @@ import java.util.List;
 @RequestMapping(path = "/api/v1/accounts")
 public class AccountController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
     private final AccountService accountService;
+    private final AccountImportService accountImportService;
+    private final IdempotencyExecutor idempotencyExecutor;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * Sin parámetros devuelve el listado completo, limitado a {@code app.accounts.max-list-size} cuentas.
+     * Con {@code after} o {@code limit} devuelve una página y, si hay más cuentas, la cabecera
+     * {@code Link: <...>; rel="next"} con la URL de la página siguiente.
+     */
     @GetMapping
-    public ResponseEntity<List<AccountResponse>> findAllAccounts() {
-        return ResponseEntity.ok(this.accountService.findAllAccounts());
+    public ResponseEntity<List<AccountResponse>> findAllAccounts(@RequestParam(required = false) String after,
+                                                                 @RequestParam(required = false) Integer limit) {
+        if (after == null && limit == null) {
+            return ResponseEntity.ok(this.accountService.findAllAccounts());
+        }
+        AccountPage page = this.accountService.findAccountPage(after, limit);
+        if (page.nextCursor() == null) {
+            return ResponseEntity.ok(page.accounts());
+        }
+        String nextPage = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after", page.nextCursor())
+                .replaceQueryParam("limit", page.limit())
+                .toUriString();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(nextPage))
+                .body(page.accounts());
+    }
+
+    /**
+     * Exporta todas las cuentas como NDJSON (una cuenta JSON por línea), escribiendo cada fila en la respuesta
+     * a medida que se lee de la base de datos. A diferencia del listado, no tiene tope de cuentas y la memoria
+     * usada no depende de su número.
+     * <p>
+     * El cuerpo se escribe fuera del hilo de la petición, por eso la consulta se lanza dentro del
+     * {@link StreamingResponseBody} y no antes de devolver la respuesta.
+     * </p>
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAllAccounts() {
+        StreamingResponseBody body = outputStream -> {
+            ObjectWriter writer = this.objectMapper.writerFor(AccountResponse.class);
+            this.accountService.exportAllAccounts(account -> {
+                try {
+                    outputStream.write(writer.writeValueAsBytes(account));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping(path = "/{accountId}")
@@ -44,6 +122,15 @@ public class AccountController {
         return ResponseEntity.ok(this.accountService.findAccountById(accountId));
     }
 
+    /**
+     * Consulta varias cuentas por ID en una sola petición. Las cuentas se devuelven en el orden de los IDs
+     * solicitados y los IDs inexistentes se informan en {@code missingIds} en lugar de responder 404.
+     */
+    @PostMapping(path = "/lookup")
+    public ResponseEntity<AccountLookupResponse> findAccountsByIds(@Valid @RequestBody AccountLookupRequest request) {
+        return ResponseEntity.ok(this.accountService.findAccountsByIds(request.ids()));
+    }
+
     @GetMapping(path = "/search")
     public ResponseEntity<AccountResponse> searchByHolder(@RequestParam String holder) {
         return ResponseEntity.ok(this.accountService.findAccountByHolder(holder));
@@ -54,6 +141,13 @@ public class AccountController {
         return ResponseEntity.ok(this.accountService.getAccountBalance(accountId));
     }
 
+    @GetMapping(path = "/{accountId}/movements")
+    public ResponseEntity<List<LedgerEntryResponse>> findAccountMovements(@PathVariable Long accountId,
+                                                                          @RequestParam(defaultValue = "0") long afterSeq,
+                                                                          @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(this.accountService.findAccountMovements(accountId, afterSeq, limit));
+    }
+
     @PostMapping
     public ResponseEntity<AccountResponse> saveAccount(@Valid @RequestBody AccountCreateRequest request) {
         AccountResponse account = this.accountService.saveAccount(request);
@@ -65,6 +159,27 @@ public class AccountController {
         return ResponseEntity.created(location).body(account);
     }
 
+    @PostMapping(path = "/batch")
+    public ResponseEntity<List<AccountResponse>> saveAccounts(@Valid @RequestBody AccountBatchCreateRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(this.accountService.saveAccounts(request.accounts()));
+    }
+
+    /**
+     * Importa cuentas desde un CSV ({@code holder,balance,bankId}) o NDJSON que se lee a medida que llega, sin
+     * cargar el cuerpo en memoria. Cada bloque de {@code app.account-import.chunk-size} filas se confirma por
+     * separado y la respuesta resume el resultado de cada uno, con las filas rechazadas.
+     */
+    @PostMapping(path = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<AccountImportResponse> importAccounts(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                                InputStream body) throws IOException {
+        Reader reader = new InputStreamReader(body, Objects.requireNonNullElse(contentType.getCharset(), StandardCharsets.UTF_8));
+        try (AccountImportReader rows = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? AccountImportReader.ndjson(reader, this.objectMapper)
+                : AccountImportReader.csv(reader)) {
+            return ResponseEntity.ok(this.accountImportService.importAccounts(rows));
+        }
+    }
+
     @PutMapping(path = "/{accountId}")
     public ResponseEntity<AccountResponse> updateAccount(@PathVariable Long accountId, @Valid @RequestBody AccountUpdateRequest request) {
         return ResponseEntity.ok(this.accountService.updateAccount(accountId, request));
@@ -77,18 +192,48 @@ public class AccountController {
     }
 
     @PostMapping(path = "/{accountId}/deposit")
-    public ResponseEntity<AccountResponse> deposit(@PathVariable Long accountId, @Valid @RequestBody DepositRequest request) {
-        return ResponseEntity.ok(this.accountService.deposit(accountId, request));
+    public ResponseEntity<?> deposit(@PathVariable Long accountId,
+                                     @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                     @Valid @RequestBody DepositRequest request) {
+        return this.idempotent(idempotencyKey, "deposit:" + accountId, request,
+                () -> this.accountService.deposit(accountId, request));
     }
 
     @PostMapping(path = "/{accountId}/withdraw")
-    public ResponseEntity<AccountResponse> withdraw(@PathVariable Long accountId, @Valid @RequestBody WithdrawalRequest request) {
-        return ResponseEntity.ok(this.accountService.withdraw(accountId, request));
+    public ResponseEntity<?> withdraw(@PathVariable Long accountId,
+                                      @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                      @Valid @RequestBody WithdrawalRequest request) {
+        return this.idempotent(idempotencyKey, "withdraw:" + accountId, request,
+                () -> this.accountService.withdraw(accountId, request));
     }
 
     @PostMapping(path = "/transfer")
-    public ResponseEntity<Void> transfer(@Valid @RequestBody TransactionRequest request) {
-        this.accountService.transfer(request);
+    public ResponseEntity<Void> transfer(@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                         @Valid @RequestBody TransactionRequest request) {
+        this.idempotent(idempotencyKey, "transfer", request, () -> {
+            this.accountService.transfer(request);
+            return null;
+        });
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping(path = "/transfers/batch")
+    public ResponseEntity<TransferBatchResponse> transferBatch(@Valid @RequestBody TransferBatchRequest request) {
+        return ResponseEntity.ok(this.accountService.transferBatch(request.transfers()));
+    }
+
+    /**
+     * Sin cabecera {@value #IDEMPOTENCY_KEY_HEADER} la operación se ejecuta tal cual; con ella, a lo sumo una vez
+     * por clave, y los reintentos reciben la respuesta original: el JSON almacenado se escribe tal cual, sin
+     * deserializarlo ni volver a serializarlo.
+     */
+    private ResponseEntity<?> idempotent(String idempotencyKey, String operation, Object request, Supplier<?> action) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(action.get());
+        }
+        byte[] responseBody = this.idempotencyExecutor.execute(idempotencyKey, operation, request, action);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responseBody);
+    }
 }
@@ -0,0 +1,15 @@
+package dev.magadiflo.app.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record AccountBatchCreateRequest(@NotEmpty(message = "Debe especificarse al menos una cuenta")
+                                        @Size(max = AccountBatchCreateRequest.MAX_ACCOUNTS, message = "El lote admite como máximo {max} cuentas")
+                                        List<@NotNull(message = "La cuenta no puede ser nula") @Valid AccountCreateRequest> accounts) {
+
+    public static final int MAX_ACCOUNTS = 10_000;
+}
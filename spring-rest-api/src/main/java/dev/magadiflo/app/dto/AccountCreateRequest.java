@@ -1,5 +1,7 @@
 package dev.magadiflo.app.dto;
 
+import dev.magadiflo.app.money.Money;
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
@@ -15,6 +17,7 @@ public record AccountCreateRequest(@NotBlank(message = "El nombre del titular no
 
                                    @NotNull(message = "El saldo inicial es obligatorio")
                                    @DecimalMin(value = "0.00", message = "El saldo no puede ser negativo")
+                                   @DecimalMax(value = Money.MAX_AMOUNT, message = "El saldo no puede superar " + Money.MAX_AMOUNT)
                                    @Digits(integer = 17, fraction = 2, message = "El saldo debe tener hasta 17 dígitos enteros y 2 decimales")
                                    BigDecimal balance,
 
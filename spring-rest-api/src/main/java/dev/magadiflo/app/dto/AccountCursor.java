@@ -0,0 +1,42 @@
+package dev.magadiflo.app.dto;
+
+import dev.magadiflo.app.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor del listado de cuentas paginado por clave.
+ * <p>
+ * Se expone al cliente como un texto opaco (Base64 URL-safe) para que no dependa de su contenido
+ * y el formato pueda cambiar sin romper a los clientes.
+ * </p>
+ *
+ * @param lastAccountId ID de la última cuenta de la página ya entregada
+ */
+public record AccountCursor(Long lastAccountId) {
+
+    private static final String PREFIX = "a:";
+
+    public String encode() {
+        byte[] raw = (PREFIX + this.lastAccountId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    public static AccountCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new InvalidCursorException(cursor);
+            }
+            long lastAccountId = Long.parseLong(raw.substring(PREFIX.length()));
+            if (lastAccountId < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new AccountCursor(lastAccountId);
+        } catch (IllegalArgumentException e) {
+            // Incluye NumberFormatException y los errores de decodificación Base64
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
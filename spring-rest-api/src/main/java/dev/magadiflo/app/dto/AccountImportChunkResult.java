@@ -0,0 +1,47 @@
+package dev.magadiflo.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Resultado de un bloque de filas de una importación, confirmado en su propia transacción.
+ *
+ * @param index    posición del bloque en la importación (base 0)
+ * @param firstRow primera fila de datos del bloque
+ * @param lastRow  última fila de datos del bloque
+ * @param errors   filas rechazadas del bloque, como máximo {@code app.account-import.max-errors-per-chunk}
+ * @param message  causa por la que no se confirmó el bloque ({@link Status#FAILED})
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AccountImportChunkResult(int index,
+                                       long firstRow,
+                                       long lastRow,
+                                       Status status,
+                                       int imported,
+                                       int rejected,
+                                       List<AccountImportRowError> errors,
+                                       String message) {
+
+    public enum Status {
+        /**
+         * Las filas válidas del bloque se registraron; las inválidas se detallan en {@code errors}.
+         */
+        COMMITTED,
+        /**
+         * La transacción del bloque falló y no se registró ninguna de sus filas.
+         */
+        FAILED
+    }
+
+    public static AccountImportChunkResult committed(int index, long firstRow, long lastRow, int imported,
+                                                     int rejected, List<AccountImportRowError> errors) {
+        return new AccountImportChunkResult(index, firstRow, lastRow, Status.COMMITTED, imported, rejected, errors, null);
+    }
+
+    public static AccountImportChunkResult failed(int index, long firstRow, long lastRow,
+                                                  List<AccountImportRowError> errors, String message) {
+        return new AccountImportChunkResult(index, firstRow, lastRow, Status.FAILED, 0,
+                Math.toIntExact(lastRow - firstRow + 1), errors, message);
+    }
+}
@@ -0,0 +1,15 @@
+package dev.magadiflo.app.dto;
+
+import java.util.List;
+
+public record AccountImportResponse(long rows,
+                                    long imported,
+                                    long rejected,
+                                    List<AccountImportChunkResult> chunks) {
+
+    public static AccountImportResponse of(List<AccountImportChunkResult> chunks) {
+        long imported = chunks.stream().mapToLong(AccountImportChunkResult::imported).sum();
+        long rejected = chunks.stream().mapToLong(AccountImportChunkResult::rejected).sum();
+        return new AccountImportResponse(imported + rejected, imported, rejected, chunks);
+    }
+}
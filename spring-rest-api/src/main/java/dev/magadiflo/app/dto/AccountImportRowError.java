@@ -0,0 +1,10 @@
+package dev.magadiflo.app.dto;
+
+/**
+ * Fila de una importación que no se registró.
+ *
+ * @param row número de la fila de datos en el cuerpo (base 1, sin contar la cabecera CSV)
+ */
+public record AccountImportRowError(long row,
+                                    String message) {
+}
@@ -0,0 +1,14 @@
+package dev.magadiflo.app.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record AccountLookupRequest(@NotEmpty(message = "Debe especificarse al menos un ID de cuenta")
+                                   @Size(max = AccountLookupRequest.MAX_IDS, message = "La consulta admite como máximo {max} IDs")
+                                   List<@NotNull(message = "El ID de la cuenta no puede ser nulo") Long> ids) {
+
+    public static final int MAX_IDS = 1_000;
+}
@@ -0,0 +1,11 @@
+package dev.magadiflo.app.dto;
+
+import java.util.List;
+
+/**
+ * @param accounts   cuentas encontradas, en el orden de los IDs de la petición (cada ID una sola vez)
+ * @param missingIds IDs de la petición que no corresponden a ninguna cuenta, también en su orden
+ */
+public record AccountLookupResponse(List<AccountResponse> accounts,
+                                    List<Long> missingIds) {
+}
@@ -0,0 +1,15 @@
+package dev.magadiflo.app.dto;
+
+import java.util.List;
+
+/**
+ * Página del listado de cuentas paginado por clave.
+ *
+ * @param accounts   cuentas de la página, en orden ascendente de ID
+ * @param nextCursor cursor opaco para pedir la página siguiente; {@code null} si es la última
+ * @param limit      tamaño de página aplicado
+ */
+public record AccountPage(List<AccountResponse> accounts,
+                          String nextCursor,
+                          int limit) {
+}
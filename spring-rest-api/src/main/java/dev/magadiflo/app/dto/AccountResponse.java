@@ -1,9 +1,9 @@
 package dev.magadiflo.app.dto;
 
-import java.math.BigDecimal;
+import dev.magadiflo.app.money.Money;
 
 public record AccountResponse(Long id,
                               String holder,
-                              BigDecimal balance,
+                              Money balance,
                               String bankName) {
 }
@@ -0,0 +1,26 @@
+package dev.magadiflo.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.magadiflo.app.entity.LedgerEntry;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Movimiento del libro mayor de una cuenta.
+ *
+ * @param seq    posición del movimiento; sirve como cursor para pedir la página siguiente
+ * @param amount importe con signo: positivo para abonos y negativo para cargos
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LedgerEntryResponse(Long seq,
+                                  LedgerEntry.Type type,
+                                  BigDecimal amount,
+                                  Long counterpartyAccountId,
+                                  Instant createdAt) {
+
+    public static LedgerEntryResponse of(LedgerEntry entry) {
+        return new LedgerEntryResponse(entry.getSeq(), entry.getType(), entry.getAmount(),
+                entry.getCounterpartyAccountId(), entry.getCreatedAt());
+    }
+}
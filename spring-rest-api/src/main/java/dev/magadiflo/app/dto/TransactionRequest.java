@@ -1,5 +1,7 @@
 package dev.magadiflo.app.dto;
 
+import dev.magadiflo.app.money.Money;
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
@@ -17,6 +19,7 @@ public record TransactionRequest(@NotNull(message = "Debe especificarse el ID de
 
                                  @NotNull(message = "Debe especificar el monto a transferir")
                                  @DecimalMin(value = "0.01", message = "El monto mínimo de transferencia es 0.01")
+                                 @DecimalMax(value = Money.MAX_AMOUNT, message = "El monto no puede superar " + Money.MAX_AMOUNT)
                                  @Digits(integer = 17, fraction = 2, message = "El monto debe tener hasta 17 dígitos enteros y 2 decimales")
                                  BigDecimal amount) {
 }
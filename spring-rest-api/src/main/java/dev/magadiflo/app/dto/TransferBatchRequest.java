@@ -0,0 +1,15 @@
+package dev.magadiflo.app.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TransferBatchRequest(@NotEmpty(message = "Debe especificarse al menos una transferencia")
+                                   @Size(max = TransferBatchRequest.MAX_TRANSFERS, message = "El lote admite como máximo {max} transferencias")
+                                   List<@NotNull(message = "La transferencia no puede ser nula") @Valid TransactionRequest> transfers) {
+
+    public static final int MAX_TRANSFERS = 50_000;
+}
@@ -0,0 +1,16 @@
+package dev.magadiflo.app.dto;
+
+import java.util.List;
+
+public record TransferBatchResponse(int total,
+                                    int applied,
+                                    int rejected,
+                                    List<TransferLegResult> results) {
+
+    public static TransferBatchResponse of(List<TransferLegResult> results) {
+        int applied = (int) results.stream()
+                .filter(result -> result.status() == TransferLegResult.Status.APPLIED)
+                .count();
+        return new TransferBatchResponse(results.size(), applied, results.size() - applied, results);
+    }
+}
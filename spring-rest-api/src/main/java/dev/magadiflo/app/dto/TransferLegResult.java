@@ -0,0 +1,36 @@
+package dev.magadiflo.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+
+/**
+ * Resultado de una transferencia (tramo) dentro de un lote.
+ *
+ * @param index posición del tramo en la petición original (base 0)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TransferLegResult(int index,
+                                Long sourceAccountId,
+                                Long targetAccountId,
+                                BigDecimal amount,
+                                Status status,
+                                String message) {
+
+    public enum Status {
+        APPLIED,
+        ACCOUNT_NOT_FOUND,
+        INSUFFICIENT_BALANCE,
+        INVALID_TRANSACTION
+    }
+
+    public static TransferLegResult applied(int index, TransactionRequest request) {
+        return new TransferLegResult(index, request.sourceAccountId(), request.targetAccountId(), request.amount(),
+                Status.APPLIED, null);
+    }
+
+    public static TransferLegResult rejected(int index, TransactionRequest request, Status status, String message) {
+        return new TransferLegResult(index, request.sourceAccountId(), request.targetAccountId(), request.amount(),
+                status, message);
+    }
+}
@@ -1,5 +1,6 @@
 package dev.magadiflo.app.entity;
 
+import dev.magadiflo.app.money.Money;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -8,15 +9,16 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
-
-import java.math.BigDecimal;
+import org.hibernate.annotations.ColumnDefault;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -25,15 +27,39 @@ import java.math.BigDecimal;
 @Entity
 @Table(name = "accounts")
 public class Account {
+
+    public static final String SEQUENCE_NAME = "accounts_seq";
+    public static final int SEQ_ALLOCATION_SIZE = 50;
+    public static final int FIRST_GENERATED_ID = 1_000;
+
+    // Secuencia con optimizador pooled (como LedgerEntry): los IDs se asignan en memoria, sin un INSERT inmediato
+    // por cuenta, y los INSERT de varias cuentas se envían en lotes JDBC (hibernate.jdbc.batch_size)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE_NAME)
+    @SequenceGenerator(name = SEQUENCE_NAME, sequenceName = SEQUENCE_NAME, allocationSize = SEQ_ALLOCATION_SIZE,
+            initialValue = FIRST_GENERATED_ID)
     private Long id;
 
     @Column(nullable = false, length = 100)
     private String holder;
 
+    // Céntimos en memoria (MoneyConverter): la aritmética del saldo no crea BigDecimal intermedios
     @Column(nullable = false, precision = 19, scale = 2)
-    private BigDecimal balance;
+    private Money balance;
+
+    // Control de concurrencia optimista: Hibernate añade "AND version = ?" a cada UPDATE
+    // y lanza una excepción si otra transacción modificó la fila en el intermedio.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Posición en el libro mayor de la cuenta: se incrementa en el mismo UPDATE que cambia el saldo y sella los
+    // movimientos de esa transacción (LedgerEntry.accountPosition). La apertura queda en la posición 0
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "ledger_position", nullable = false)
+    private Long ledgerPosition = 0L;
 
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
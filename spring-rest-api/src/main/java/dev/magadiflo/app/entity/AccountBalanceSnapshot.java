@@ -0,0 +1,42 @@
+package dev.magadiflo.app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Foto periódica del saldo de una cuenta respecto al libro mayor.
+ * <p>
+ * {@code balance} es el saldo tras aplicar todos los movimientos con {@code accountPosition <= lastPosition}, por
+ * lo que el saldo según el libro mayor es {@code balance} más la suma de los movimientos posteriores a
+ * {@code lastPosition}: nunca hace falta recorrer el historial completo de la cuenta.
+ * </p>
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Entity
+@Table(name = "account_balance_snapshots")
+public class AccountBalanceSnapshot {
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "last_position", nullable = false)
+    private Long lastPosition;
+
+    @Column(name = "taken_at", nullable = false)
+    private Instant takenAt;
+}
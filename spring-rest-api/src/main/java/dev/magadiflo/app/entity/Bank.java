@@ -7,13 +7,18 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,17 +29,39 @@ import java.util.List;
 @Data
 @Entity
 @Table(name = "banks")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Bank.CACHE_REGION)
 public class Bank {
+
+    /**
+     * Región de la caché de segundo nivel de Hibernate con los bancos (configurada en {@code application.conf}).
+     */
+    public static final String CACHE_REGION = "banks";
+
+    public static final String SEQUENCE_NAME = "banks_seq";
+    public static final int SEQ_ALLOCATION_SIZE = 50;
+    public static final int FIRST_GENERATED_ID = 1_000;
+
+    // Secuencia propia con optimizador pooled; en MySQL la tabla banks_seq (sql/migration-mysql.sql)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE_NAME)
+    @SequenceGenerator(name = SEQUENCE_NAME, sequenceName = SEQUENCE_NAME, allocationSize = SEQ_ALLOCATION_SIZE,
+            initialValue = FIRST_GENERATED_ID)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
     private String name;
 
-    @Column(nullable = false)
+    // Valor inicial del total consolidado de transferencias. Solo lo modifica BankRepository.addTotalTransfers,
+    // sin pasar por la entidad ni invalidar la caché de segundo nivel, por lo que el valor de una entidad en caché
+    // puede estar desactualizado: el total vigente se lee con BankRepository.findTotalTransfersById.
+    @Column(nullable = false, updatable = false)
     private Integer totalTransfers;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @Builder.Default
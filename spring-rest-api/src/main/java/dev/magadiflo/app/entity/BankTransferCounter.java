@@ -0,0 +1,49 @@
+package dev.magadiflo.app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Fragmento (<i>shard</i>) del contador de transferencias de un banco.
+ * <p>
+ * Cada banco tiene hasta {@code N} filas en esta tabla; cada transferencia incrementa una fila elegida al azar,
+ * de modo que las transferencias concurrentes de un mismo banco ya no se serializan sobre una única fila.
+ * El total del banco es {@code banks.total_transfers} más la suma de sus fragmentos, y un proceso periódico
+ * traslada lo acumulado en los fragmentos a {@code banks.total_transfers}.
+ * </p>
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Entity
+@IdClass(BankTransferCounter.Key.class)
+@Table(name = "bank_transfer_counters")
+public class BankTransferCounter {
+    @Id
+    @Column(name = "bank_id")
+    private Long bankId;
+
+    @Id
+    private Integer shard;
+
+    @Column(nullable = false)
+    private Long transfers;
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    public static class Key implements Serializable {
+        private Long bankId;
+        private Integer shard;
+    }
+}
@@ -0,0 +1,64 @@
+package dev.magadiflo.app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Respuesta almacenada de una operación ejecutada con la cabecera {@code Idempotency-Key}.
+ * <p>
+ * La fila se inserta en la misma transacción que la operación, así que existe si y solo si la operación
+ * se confirmó. Las filas nunca se actualizan: implementa {@link Persistable} para que {@code save(...)}
+ * haga directamente un {@code INSERT}, sin el {@code SELECT} previo que haría {@code merge} con un ID asignado.
+ * </p>
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Immutable
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at")
+})
+public class IdempotencyKey implements Persistable<String> {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    @Id
+    @Column(name = "idempotency_key", length = MAX_KEY_LENGTH)
+    private String idempotencyKey;
+
+    // SHA-256 (hexadecimal) de la operación y el cuerpo de la petición original
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    // Respuesta serializada en JSON; nula cuando la operación no devuelve cuerpo
+    @Column(name = "response_body", length = 4000)
+    private String responseBody;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Override
+    public String getId() {
+        return this.idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
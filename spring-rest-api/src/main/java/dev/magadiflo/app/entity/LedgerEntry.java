@@ -0,0 +1,92 @@
+package dev.magadiflo.app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Movimiento del libro mayor de una cuenta. La tabla es de solo inserción: las filas nunca se actualizan
+ * ni se eliminan.
+ * <p>
+ * El identificador ({@code seq}) sale de una secuencia con optimizador {@code pooled}: Hibernate reserva
+ * bloques de {@value #SEQ_ALLOCATION_SIZE} valores, de modo que puede asignar los identificadores sin
+ * consultar la base de datos en cada inserción y enviar los {@code INSERT} en lotes JDBC (con
+ * {@code IDENTITY} el lote no es posible, porque el ID solo se conoce tras cada {@code INSERT}).
+ * </p>
+ * <p>
+ * El índice {@code (account_id, seq)} cubre la consulta de movimientos de una cuenta: el filtro por cuenta
+ * y el orden por {@code seq} se resuelven recorriendo el índice, sin ordenar en memoria.
+ * </p>
+ * <p>
+ * {@code seq} no refleja el orden de confirmación: cada instancia (y la aplicación reactiva) reserva su propio
+ * bloque de valores, así que un movimiento con un {@code seq} menor puede confirmarse después que otro con uno
+ * mayor. Las fotos de saldo se apoyan en {@code accountPosition}, la posición de la cuenta
+ * ({@code accounts.ledger_position}) tras la transacción que registró el movimiento: se incrementa con el saldo,
+ * bajo el bloqueo de la fila de la cuenta, de modo que para una misma cuenta sí sigue el orden de confirmación.
+ * </p>
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Immutable
+@Entity
+@Table(name = "ledger_entries", indexes = {
+        @Index(name = "idx_ledger_entries_account_seq", columnList = "account_id, seq"),
+        @Index(name = "idx_ledger_entries_account_position", columnList = "account_id, account_position")
+})
+public class LedgerEntry {
+
+    public static final int SEQ_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_entries_seq")
+    @SequenceGenerator(name = "ledger_entries_seq", sequenceName = "ledger_entries_seq", allocationSize = SEQ_ALLOCATION_SIZE)
+    private Long seq;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "account_position", nullable = false)
+    private Long accountPosition;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Type type;
+
+    // Importe con signo: positivo para abonos y negativo para cargos, de modo que el saldo es la suma de los importes
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    // Cuenta contraparte en las transferencias; nulo en el resto de movimientos
+    @Column(name = "counterparty_account_id")
+    private Long counterpartyAccountId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public enum Type {
+        OPENING,
+        DEPOSIT,
+        WITHDRAWAL,
+        TRANSFER_IN,
+        TRANSFER_OUT
+    }
+}
@@ -0,0 +1,14 @@
+package dev.magadiflo.app.exception;
+
+import dev.magadiflo.app.money.Money;
+
+/**
+ * Excepción lanzada cuando un abono dejaría el saldo de una cuenta por encima del máximo representable
+ * ({@link Money#MAX_AMOUNT}).
+ */
+public class BalanceLimitExceededException extends BusinessException {
+    public BalanceLimitExceededException(Long accountId, String holder) {
+        super("El saldo de la cuenta del titular %s (ID: %d) superaría el máximo permitido (%s)"
+                .formatted(holder, accountId, Money.MAX_AMOUNT));
+    }
+}
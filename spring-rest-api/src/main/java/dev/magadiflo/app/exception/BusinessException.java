@@ -0,0 +1,16 @@
+package dev.magadiflo.app.exception;
+
+/**
+ * Excepción base para los resultados de negocio esperados (cuenta inexistente, saldo insuficiente,
+ * transacción inválida, etc.), que se traducen en una respuesta 4xx y no indican un fallo de la aplicación.
+ * <p>
+ * No captura la traza de la pila ({@code writableStackTrace = false}): recorrer y guardar cientos de marcos
+ * de Spring, AOP y Tomcat es la parte más costosa de crear una excepción, y para estos casos nunca se
+ * registra. Tampoco admite excepciones suprimidas. Los errores técnicos no deben extender esta clase.
+ * </p>
+ */
+public abstract class BusinessException extends RuntimeException {
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+}
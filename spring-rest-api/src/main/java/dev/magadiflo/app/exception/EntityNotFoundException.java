@@ -7,7 +7,7 @@ package dev.magadiflo.app.exception;
  * {@link AccountNotFoundException} y {@link BankNotFoundException}.
  * </p>
  */
-public class EntityNotFoundException extends RuntimeException {
+public class EntityNotFoundException extends BusinessException {
     public EntityNotFoundException(String message) {
         super(message);
     }
@@ -0,0 +1,71 @@
+package dev.magadiflo.app.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import dev.magadiflo.app.dto.ErrorResponse;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Genera directamente el JSON de las respuestas de error de negocio, con el mismo formato que
+ * {@link ErrorResponse} pero sin crear el objeto ni pasar por Jackson.
+ * <p>
+ * La parte fija de cada respuesta ({@code status} y {@code error}) se serializa una sola vez por código HTTP
+ * y se guarda en caché; en cada error solo se agregan el mensaje y la ruta, escapados para JSON. La marca de
+ * tiempo, con precisión de milisegundos, se formatea a lo sumo una vez por milisegundo y se comparte entre
+ * todas las respuestas de ese milisegundo.
+ * </p>
+ */
+public final class ErrorResponseTemplates {
+
+    private final Map<HttpStatus, String> templates = new ConcurrentHashMap<>();
+    private final ZoneId zoneId;
+    private volatile FormattedTimestamp timestamp = new FormattedTimestamp(-1, "");
+
+    public ErrorResponseTemplates() {
+        this(ZoneId.systemDefault());
+    }
+
+    public ErrorResponseTemplates(ZoneId zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    /**
+     * @return el cuerpo JSON (UTF-8) equivalente a {@code ErrorResponse.create(status, reason, message, path)}
+     */
+    public byte[] render(HttpStatus status, String message, String path) {
+        String template = this.templates.computeIfAbsent(status, ErrorResponseTemplates::template);
+        StringBuilder json = new StringBuilder(template.length() + message.length() + path.length() + 64)
+                .append("{\"timestamp\":\"").append(this.timestamp())
+                .append(template)
+                .append("\"message\":\"").append(JsonStringEncoder.getInstance().quoteAsString(message))
+                .append("\",\"path\":\"").append(JsonStringEncoder.getInstance().quoteAsString(path))
+                .append("\"}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String timestamp() {
+        long now = System.currentTimeMillis();
+        FormattedTimestamp current = this.timestamp;
+        if (current.epochMilli() != now) {
+            LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), this.zoneId);
+            current = new FormattedTimestamp(now, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime));
+            this.timestamp = current;
+        }
+        return current.value();
+    }
+
+    private static String template(HttpStatus status) {
+        return "\",\"status\":%d,\"error\":\"%s\","
+                .formatted(status.value(), new String(JsonStringEncoder.getInstance().quoteAsString(status.getReasonPhrase())));
+    }
+
+    private record FormattedTimestamp(long epochMilli, String value) {
+    }
+}
@@ -4,7 +4,9 @@ import dev.magadiflo.app.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -19,32 +21,65 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseTemplates errorResponseTemplates = new ErrorResponseTemplates();
+
     // ========== EXCEPCIONES DE NEGOCIO (ESPERADAS) - NIVEL WARN ==========
     @ExceptionHandler(AccountNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleAccountNotFound(AccountNotFoundException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleAccountNotFound(AccountNotFoundException ex, HttpServletRequest request) {
         return this.businessException("Cuenta no encontrada: {} | Excepción: {} | Path: {}", HttpStatus.NOT_FOUND, ex, request);
     }
 
     @ExceptionHandler(BankNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleBankNotFound(BankNotFoundException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleBankNotFound(BankNotFoundException ex, HttpServletRequest request) {
         return this.businessException("Banco no encontrado: {} | Excepción: {} | Path: {}", HttpStatus.NOT_FOUND, ex, request);
     }
 
     @ExceptionHandler(EntityNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleEntityNotFound(EntityNotFoundException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleEntityNotFound(EntityNotFoundException ex, HttpServletRequest request) {
         return this.businessException("Entidad no encontrada: {} | Excepción: {} | Path: {}", HttpStatus.NOT_FOUND, ex, request);
     }
 
     @ExceptionHandler(InsufficientBalanceException.class)
-    public ResponseEntity<ErrorResponse> handleInsufficientBalance(InsufficientBalanceException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleInsufficientBalance(InsufficientBalanceException ex, HttpServletRequest request) {
         return this.businessException("Operación rechazada por saldo insuficiente: {} | Excepción: {} | Path: {}", HttpStatus.BAD_REQUEST, ex, request);
     }
 
+    @ExceptionHandler(BalanceLimitExceededException.class)
+    public ResponseEntity<byte[]> handleBalanceLimitExceeded(BalanceLimitExceededException ex, HttpServletRequest request) {
+        return this.businessException("Operación rechazada por superar el saldo máximo: {} | Excepción: {} | Path: {}", HttpStatus.BAD_REQUEST, ex, request);
+    }
+
     @ExceptionHandler(InvalidTransactionException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidTransaction(InvalidTransactionException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleInvalidTransaction(InvalidTransactionException ex, HttpServletRequest request) {
         return this.businessException("Transacción inválida: {} | Excepción: {} | Path: {}", HttpStatus.BAD_REQUEST, ex, request);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<byte[]> handleInvalidCursor(InvalidCursorException ex, HttpServletRequest request) {
+        return this.businessException("Cursor de paginación inválido: {} | Excepción: {} | Path: {}", HttpStatus.BAD_REQUEST, ex, request);
+    }
+
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<byte[]> handleIdempotencyKeyConflict(IdempotencyKeyConflictException ex, HttpServletRequest request) {
+        return this.businessException("Clave de idempotencia reutilizada: {} | Excepción: {} | Path: {}", HttpStatus.UNPROCESSABLE_ENTITY, ex, request);
+    }
+
+    // ========== CONFLICTOS DE CONCURRENCIA (REINTENTOS AGOTADOS) ==========
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyFailure(ConcurrencyFailureException ex, HttpServletRequest request) {
+        // El mensaje original contiene detalles del SQL, por eso no se devuelve al cliente.
+        log.warn("Conflicto de concurrencia no resuelto tras los reintentos | Excepción: {} | Path: {}",
+                ex.getClass().getSimpleName(), request.getRequestURI());
+
+        ErrorResponse errorResponse = ErrorResponse.create(
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                "La operación no pudo completarse por modificaciones concurrentes. Intente nuevamente",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     // ========== VALIDACIONES DE BEAN VALIDATION (@Valid) ==========
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -107,7 +142,10 @@ public class GlobalExceptionHandler {
     /**
      * Método auxiliar para manejar excepciones de negocio esperadas.
      * <p>
-     * Registra el error a nivel WARN y construye una respuesta HTTP estandarizada.
+     * Registra el error a nivel WARN y construye una respuesta HTTP estandarizada. El cuerpo se genera
+     * desde {@link ErrorResponseTemplates}, con el mismo formato JSON que {@link ErrorResponse}: estas
+     * respuestas pueden llegar en ráfagas (p. ej. retiros rechazados), y así no se crea un objeto por error
+     * ni se serializa con Jackson.
      * </p>
      *
      * @param logMessage mensaje para el log con placeholders {}
@@ -116,14 +154,10 @@ public class GlobalExceptionHandler {
      * @param request    contexto de la petición HTTP
      * @return respuesta con el error formateado
      */
-    private ResponseEntity<ErrorResponse> businessException(String logMessage, HttpStatus status, Exception ex, HttpServletRequest request) {
+    private ResponseEntity<byte[]> businessException(String logMessage, HttpStatus status, BusinessException ex, HttpServletRequest request) {
         log.warn(logMessage, ex.getMessage(), ex.getClass().getSimpleName(), request.getRequestURI());
-        ErrorResponse errorResponse = ErrorResponse.create(
-                status.value(),
-                status.getReasonPhrase(),
-                ex.getMessage(),
-                request.getRequestURI()
-        );
-        return ResponseEntity.status(status).body(errorResponse);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(this.errorResponseTemplates.render(status, ex.getMessage(), request.getRequestURI()));
     }
 }
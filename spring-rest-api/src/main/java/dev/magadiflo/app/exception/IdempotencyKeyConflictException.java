@@ -0,0 +1,11 @@
+package dev.magadiflo.app.exception;
+
+/**
+ * Excepción lanzada cuando una clave de idempotencia se reutiliza con una petición distinta
+ * (otra operación, otra cuenta u otro cuerpo) a la que se registró originalmente.
+ */
+public class IdempotencyKeyConflictException extends BusinessException {
+    public IdempotencyKeyConflictException(String idempotencyKey) {
+        super("La clave de idempotencia %s ya se utilizó con una petición diferente".formatted(idempotencyKey));
+    }
+}
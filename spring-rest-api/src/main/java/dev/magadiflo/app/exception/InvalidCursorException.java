@@ -0,0 +1,11 @@
+package dev.magadiflo.app.exception;
+
+/**
+ * Excepción lanzada cuando el cursor de paginación enviado por el cliente no es válido
+ * (no fue generado por la API o fue alterado).
+ */
+public class InvalidCursorException extends BusinessException {
+    public InvalidCursorException(String cursor) {
+        super("El cursor de paginación no es válido: %s".formatted(cursor));
+    }
+}
@@ -11,7 +11,7 @@ package dev.magadiflo.app.exception;
  * </ul>
  * </p>
  */
-public class InvalidTransactionException extends RuntimeException {
+public class InvalidTransactionException extends BusinessException {
     public InvalidTransactionException(String message) {
         super(message);
     }
@@ -0,0 +1,170 @@
+package dev.magadiflo.app.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.magadiflo.app.config.IdempotencyProperties;
+import dev.magadiflo.app.entity.IdempotencyKey;
+import dev.magadiflo.app.exception.IdempotencyKeyConflictException;
+import dev.magadiflo.app.exception.InvalidTransactionException;
+import dev.magadiflo.app.repository.IdempotencyKeyRepository;
+import dev.magadiflo.app.retry.RetryExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta una operación como máximo una vez por clave de idempotencia ({@code Idempotency-Key}).
+ * <p>
+ * La operación y el registro de la clave con su respuesta serializada se confirman en la misma transacción:
+ * si la operación falla no queda clave registrada y el cliente puede reintentar. Un reintento con la misma
+ * clave devuelve la respuesta almacenada sin volver a ejecutar la operación, tal como se almacenó (los mismos
+ * bytes JSON, sin deserializarla ni volver a serializarla):
+ * <ol>
+ *     <li>Primero se busca en una caché en memoria acotada en tamaño y tiempo, que responde los reintentos
+ *     inmediatos sin tocar la base de datos.</li>
+ *     <li>Si no está en caché, se busca en la tabla {@code idempotency_keys} dentro de la transacción.</li>
+ *     <li>Si dos peticiones con la misma clave llegan a la vez, ambas ejecutan la operación, pero solo una
+ *     puede insertar la clave: la otra falla por clave duplicada, se revierte por completo y responde con
+ *     lo que registró la primera.</li>
+ * </ol>
+ * </p>
+ * <p>
+ * La transacción se abre aquí, por lo que los reintentos ante conflictos de concurrencia también se aplican
+ * aquí ({@link RetryExecutor}): {@code @RetryOnConflict} no reintenta métodos invocados dentro de una
+ * transacción ya iniciada.
+ * </p>
+ */
+@Slf4j
+@Component
+public class IdempotencyExecutor {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RetryExecutor retryExecutor;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, StoredResponse> responses;
+
+    public IdempotencyExecutor(IdempotencyKeyRepository idempotencyKeyRepository,
+                               TransactionTemplate transactionTemplate,
+                               RetryExecutor retryExecutor,
+                               ObjectMapper objectMapper,
+                               IdempotencyProperties idempotencyProperties,
+                               MeterRegistry meterRegistry) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retryExecutor = retryExecutor;
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(idempotencyProperties.cacheMaxSize())
+                .expireAfterWrite(idempotencyProperties.cacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.responses, "idempotency");
+    }
+
+    /**
+     * @param idempotencyKey clave enviada por el cliente
+     * @param operation      nombre de la operación, incluidos los parámetros de ruta (p. ej. {@code deposit:1})
+     * @param request        cuerpo de la petición; junto con {@code operation} identifica a la petición original
+     * @param action         la operación a ejecutar
+     * @return la respuesta de la operación serializada en JSON (UTF-8), o la almacenada si la clave ya se había
+     * utilizado; {@code null} si la operación no devuelve respuesta
+     * @throws IdempotencyKeyConflictException si la clave ya se utilizó con una petición diferente
+     */
+    public byte[] execute(String idempotencyKey, String operation, Object request, Supplier<?> action) {
+        this.validate(idempotencyKey);
+        String requestHash = this.requestHash(operation, request);
+
+        StoredResponse cached = this.responses.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            log.debug("Respuesta idempotente servida desde caché | Clave: {} | Operación: {}", idempotencyKey, operation);
+            return this.replay(idempotencyKey, requestHash, cached);
+        }
+
+        StoredResponse stored;
+        try {
+            stored = this.retryExecutor.execute(operation, () -> this.transactionTemplate.execute(status ->
+                    this.idempotencyKeyRepository.findById(idempotencyKey)
+                            .map(StoredResponse::of)
+                            .orElseGet(() -> this.executeAndRecord(idempotencyKey, requestHash, action))));
+        } catch (DataIntegrityViolationException e) {
+            // Otra petición con la misma clave se confirmó primero; esta transacción ya se revirtió por completo
+            stored = this.idempotencyKeyRepository.findById(idempotencyKey)
+                    .map(StoredResponse::of)
+                    .orElseThrow(() -> e);
+            log.info("Petición idempotente concurrente resuelta con la respuesta registrada | Clave: {} | Operación: {}",
+                    idempotencyKey, operation);
+        }
+
+        this.responses.put(idempotencyKey, stored);
+        return this.replay(idempotencyKey, requestHash, stored);
+    }
+
+    private StoredResponse executeAndRecord(String idempotencyKey, String requestHash, Supplier<?> action) {
+        String responseBody = this.toJson(action.get());
+        IdempotencyKey record = this.idempotencyKeyRepository.save(IdempotencyKey.builder()
+                .idempotencyKey(idempotencyKey)
+                .requestHash(requestHash)
+                .responseBody(responseBody)
+                .build());
+        return StoredResponse.of(record);
+    }
+
+    private byte[] replay(String idempotencyKey, String requestHash, StoredResponse stored) {
+        if (!stored.requestHash().equals(requestHash)) {
+            log.warn("Clave de idempotencia reutilizada con una petición diferente | Clave: {}", idempotencyKey);
+            throw new IdempotencyKeyConflictException(idempotencyKey);
+        }
+        return stored.responseBody();
+    }
+
+    private void validate(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > IdempotencyKey.MAX_KEY_LENGTH) {
+            throw new InvalidTransactionException("La clave de idempotencia debe tener entre 1 y %d caracteres"
+                    .formatted(IdempotencyKey.MAX_KEY_LENGTH));
+        }
+    }
+
+    private String requestHash(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ':');
+            digest.update(this.objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo calcular la huella de la petición", e);
+        }
+    }
+
+    private String toJson(Object response) {
+        if (response == null) {
+            return null;
+        }
+        try {
+            return this.objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la respuesta", e);
+        }
+    }
+
+    // El cuerpo se codifica una sola vez: las respuestas en caché se reenvían sin copiarlo
+    private record StoredResponse(String requestHash, byte[] responseBody) {
+        static StoredResponse of(IdempotencyKey key) {
+            String responseBody = key.getResponseBody();
+            return new StoredResponse(key.getRequestHash(),
+                    responseBody == null ? null : responseBody.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
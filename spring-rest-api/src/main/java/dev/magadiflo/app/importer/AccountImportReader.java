@@ -0,0 +1,68 @@
+package dev.magadiflo.app.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Lee las filas de una importación de cuentas línea a línea, a medida que llega el cuerpo de la petición: en
+ * memoria solo está la línea actual. Las líneas en blanco se ignoran y una línea que no se puede interpretar
+ * no detiene la lectura, se devuelve como fila con error.
+ */
+public abstract class AccountImportReader implements Closeable {
+
+    private final BufferedReader reader;
+    private long row;
+    private boolean started;
+
+    protected AccountImportReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+    }
+
+    /**
+     * Una fila por línea con las columnas {@code holder,balance,bankId}, con cabecera opcional.
+     */
+    public static AccountImportReader csv(Reader reader) {
+        return new CsvAccountImportReader(reader);
+    }
+
+    /**
+     * Un {@code AccountCreateRequest} en JSON por línea.
+     */
+    public static AccountImportReader ndjson(Reader reader, ObjectMapper objectMapper) {
+        return new NdjsonAccountImportReader(reader, objectMapper);
+    }
+
+    /**
+     * @return la siguiente fila, o {@code null} si el cuerpo terminó
+     */
+    public AccountImportRow next() throws IOException {
+        String line;
+        while ((line = this.reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            boolean first = !this.started;
+            this.started = true;
+            if (first && this.isHeader(line)) {
+                continue;
+            }
+            return this.parse(++this.row, line);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    protected boolean isHeader(String firstLine) {
+        return false;
+    }
+
+    protected abstract AccountImportRow parse(long row, String line);
+}
@@ -0,0 +1,25 @@
+package dev.magadiflo.app.importer;
+
+import dev.magadiflo.app.dto.AccountCreateRequest;
+
+/**
+ * Fila de datos leída del cuerpo de una importación: la solicitud de alta o, si no se pudo interpretar, el motivo.
+ *
+ * @param row número de la fila de datos (base 1, sin contar la cabecera CSV)
+ */
+public record AccountImportRow(long row,
+                               AccountCreateRequest request,
+                               String error) {
+
+    static AccountImportRow parsed(long row, AccountCreateRequest request) {
+        return new AccountImportRow(row, request, null);
+    }
+
+    static AccountImportRow unreadable(long row, String error) {
+        return new AccountImportRow(row, null, error);
+    }
+
+    public boolean isParsed() {
+        return this.error == null;
+    }
+}
@@ -0,0 +1,83 @@
+package dev.magadiflo.app.importer;
+
+import dev.magadiflo.app.dto.AccountCreateRequest;
+
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV de tres columnas ({@code holder,balance,bankId}). Los campos pueden ir entre comillas dobles, con
+ * {@code ""} para una comilla dentro del campo; cada fila ocupa una sola línea.
+ */
+class CsvAccountImportReader extends AccountImportReader {
+
+    private static final String HEADER = "holder,balance,bankId";
+    private static final int COLUMNS = 3;
+
+    CsvAccountImportReader(Reader reader) {
+        super(reader);
+    }
+
+    @Override
+    protected boolean isHeader(String firstLine) {
+        return firstLine.replace(" ", "").replace("\"", "").strip().equalsIgnoreCase(HEADER);
+    }
+
+    @Override
+    protected AccountImportRow parse(long row, String line) {
+        List<String> fields = fields(line);
+        if (fields == null) {
+            return AccountImportRow.unreadable(row, "Comillas sin cerrar en la fila");
+        }
+        if (fields.size() != COLUMNS) {
+            return AccountImportRow.unreadable(row, "Se esperaban %d columnas (%s) y se encontraron %d"
+                    .formatted(COLUMNS, HEADER, fields.size()));
+        }
+        String balance = fields.get(1).strip();
+        String bankId = fields.get(2).strip();
+        try {
+            return AccountImportRow.parsed(row, new AccountCreateRequest(
+                    fields.get(0).strip(),
+                    balance.isEmpty() ? null : new BigDecimal(balance),
+                    bankId.isEmpty() ? null : Long.valueOf(bankId)));
+        } catch (NumberFormatException e) {
+            return AccountImportRow.unreadable(row, "Saldo o banco no numérico: %s, %s".formatted(balance, bankId));
+        }
+    }
+
+    /**
+     * @return los campos de la línea, o {@code null} si quedan comillas sin cerrar
+     */
+    private static List<String> fields(String line) {
+        List<String> fields = new ArrayList<>(COLUMNS);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
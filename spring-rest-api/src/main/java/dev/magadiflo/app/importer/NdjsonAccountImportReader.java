@@ -0,0 +1,30 @@
+package dev.magadiflo.app.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+
+import java.io.Reader;
+
+/**
+ * NDJSON: un {@link AccountCreateRequest} en JSON por línea.
+ */
+class NdjsonAccountImportReader extends AccountImportReader {
+
+    private final ObjectReader objectReader;
+
+    NdjsonAccountImportReader(Reader reader, ObjectMapper objectMapper) {
+        super(reader);
+        this.objectReader = objectMapper.readerFor(AccountCreateRequest.class);
+    }
+
+    @Override
+    protected AccountImportRow parse(long row, String line) {
+        try {
+            return AccountImportRow.parsed(row, this.objectReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return AccountImportRow.unreadable(row, "JSON inválido: %s".formatted(e.getOriginalMessage()));
+        }
+    }
+}
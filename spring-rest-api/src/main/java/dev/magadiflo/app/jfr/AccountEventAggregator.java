@@ -0,0 +1,182 @@
+package dev.magadiflo.app.jfr;
+
+import dev.magadiflo.app.config.AccountEventsProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Graba los {@link AccountOperationEvent} dentro de la propia aplicación con un {@link RecordingStream} y calcula
+ * sus agregados sobre los últimos {@link AccountEventsProperties#window()}: las cuentas con más contención, las
+ * transferencias más lentas y las excepciones por segundo. Los publica {@link AccountEventsEndpoint}.
+ * <p>
+ * La grabación se mantiene en memoria y en el repositorio de JFR del disco solo durante la ventana. Las excepciones
+ * por segundo de toda la JVM salen del evento periódico {@code jdk.ExceptionStatistics}, que no graba cada excepción.
+ * JFR entrega los eventos en bloques, aproximadamente una vez por segundo: los agregados tienen ese retraso.
+ * </p>
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "app.account-events", name = "live-aggregation", havingValue = "true")
+@Component
+public class AccountEventAggregator implements SmartLifecycle {
+
+    private static final String EXCEPTION_STATISTICS_EVENT = "jdk.ExceptionStatistics";
+    private static final String TRANSFER = "transfer";
+
+    private final AccountEventsProperties properties;
+    private final ArrayDeque<OperationSample> samples = new ArrayDeque<>();
+    private RecordingStream recordingStream;
+    private ThrowableCount lastThrowableCount;
+    private volatile double jvmExceptionsPerSecond;
+
+    public AccountEventAggregator(AccountEventsProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized void start() {
+        this.recordingStream = new RecordingStream();
+        this.recordingStream.enable(AccountOperationEvent.NAME);
+        this.recordingStream.enable(EXCEPTION_STATISTICS_EVENT).withPeriod(Duration.ofSeconds(1));
+        this.recordingStream.setMaxAge(this.properties.window());
+        this.recordingStream.onEvent(AccountOperationEvent.NAME, event -> this.record(OperationSample.of(event)));
+        this.recordingStream.onEvent(EXCEPTION_STATISTICS_EVENT, this::onExceptionStatistics);
+        this.recordingStream.startAsync();
+        log.info("Grabación JFR de operaciones de cuentas iniciada | Ventana: {}", this.properties.window());
+    }
+
+    @Override
+    public synchronized void stop() {
+        this.recordingStream.close();
+        this.recordingStream = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return this.recordingStream != null;
+    }
+
+    public AccountEventsReport report() {
+        return this.report(Instant.now());
+    }
+
+    synchronized void record(OperationSample sample) {
+        this.samples.addLast(sample);
+        while (this.samples.size() > this.properties.maxSamples()) {
+            this.samples.removeFirst();
+        }
+    }
+
+    synchronized AccountEventsReport report(Instant now) {
+        Instant since = now.minus(this.properties.window());
+        while (!this.samples.isEmpty() && this.samples.peekFirst().end().isBefore(since)) {
+            this.samples.removeFirst();
+        }
+        double windowSeconds = this.properties.window().toMillis() / 1000.0;
+
+        Map<Long, ContendedAccount> contention = new HashMap<>();
+        Map<String, Double> failedOperationsPerSecond = new TreeMap<>();
+        for (OperationSample sample : this.samples) {
+            if (sample.attempts() > 1 || sample.lockWaitMillis() > 0) {
+                contention.merge(sample.accountId(), ContendedAccount.of(sample.accountId(), sample), ContendedAccount::plus);
+                if (sample.targetAccountId() != 0) {
+                    contention.merge(sample.targetAccountId(), ContendedAccount.of(sample.targetAccountId(), sample), ContendedAccount::plus);
+                }
+            }
+            if (sample.exception() != null) {
+                failedOperationsPerSecond.merge(sample.exception(), 1 / windowSeconds, Double::sum);
+            }
+        }
+        List<ContendedAccount> topContendedAccounts = contention.values().stream()
+                .sorted(Comparator.comparingDouble(ContendedAccount::lockWaitMillis)
+                        .thenComparingLong(ContendedAccount::retries)
+                        .reversed())
+                .limit(this.properties.topSize())
+                .toList();
+        List<OperationSample> slowestTransfers = this.samples.stream()
+                .filter(sample -> TRANSFER.equals(sample.operation()))
+                .sorted(Comparator.comparingDouble(OperationSample::durationMillis).reversed())
+                .limit(this.properties.topSize())
+                .toList();
+        return new AccountEventsReport(this.properties.window().toSeconds(), this.samples.size(), topContendedAccounts,
+                slowestTransfers, failedOperationsPerSecond, this.jvmExceptionsPerSecond);
+    }
+
+    // jdk.ExceptionStatistics publica el total acumulado de excepciones creadas desde el arranque
+    private void onExceptionStatistics(RecordedEvent event) {
+        ThrowableCount current = new ThrowableCount(event.getEndTime(), event.getLong("throwables"));
+        ThrowableCount previous = this.lastThrowableCount;
+        if (previous != null && current.time().isAfter(previous.time())) {
+            double seconds = Duration.between(previous.time(), current.time()).toNanos() / 1e9;
+            this.jvmExceptionsPerSecond = (current.count() - previous.count()) / seconds;
+        }
+        this.lastThrowableCount = current;
+    }
+
+    private record ThrowableCount(Instant time, long count) {
+    }
+
+    /**
+     * @param failedOperationsPerSecond operaciones de cuentas fallidas por segundo, por tipo de excepción
+     * @param jvmExceptionsPerSecond    excepciones creadas por segundo en toda la JVM, según la última muestra
+     */
+    public record AccountEventsReport(long windowSeconds,
+                                      int operations,
+                                      List<ContendedAccount> topContendedAccounts,
+                                      List<OperationSample> slowestTransfers,
+                                      Map<String, Double> failedOperationsPerSecond,
+                                      double jvmExceptionsPerSecond) {
+    }
+
+    /**
+     * Contención de una cuenta: reintentos por conflictos de concurrencia (bloqueo optimista) y espera de
+     * bloqueos (bloqueo pesimista) de las operaciones en las que participó.
+     */
+    public record ContendedAccount(long accountId, int operations, long retries, double lockWaitMillis) {
+
+        static ContendedAccount of(long accountId, OperationSample sample) {
+            return new ContendedAccount(accountId, 1, sample.attempts() - 1, sample.lockWaitMillis());
+        }
+
+        ContendedAccount plus(ContendedAccount other) {
+            return new ContendedAccount(this.accountId, this.operations + other.operations,
+                    this.retries + other.retries, this.lockWaitMillis + other.lockWaitMillis);
+        }
+    }
+
+    public record OperationSample(Instant end,
+                                  String operation,
+                                  long accountId,
+                                  long targetAccountId,
+                                  double amount,
+                                  int attempts,
+                                  double durationMillis,
+                                  double lockWaitMillis,
+                                  double databaseTimeMillis,
+                                  String outcome,
+                                  String exception) {
+
+        static OperationSample of(RecordedEvent event) {
+            return new OperationSample(event.getEndTime(), event.getString("operation"), event.getLong("accountId"),
+                    event.getLong("targetAccountId"), event.getDouble("amount"), event.getInt("attempts"),
+                    millis(event.getDuration()), millis(event.getDuration("lockWait")),
+                    millis(event.getDuration("databaseTime")), event.getString("outcome"), event.getString("exception"));
+        }
+
+        private static double millis(Duration duration) {
+            return duration.toNanos() / 1e6;
+        }
+    }
+}
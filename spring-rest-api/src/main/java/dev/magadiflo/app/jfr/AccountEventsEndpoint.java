@@ -0,0 +1,25 @@
+package dev.magadiflo.app.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint de Actuator ({@code /actuator/accountevents}) con los agregados de los eventos JFR de las operaciones de
+ * cuentas de los últimos {@code app.account-events.window}. Requiere {@code app.account-events.live-aggregation=true}.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.account-events", name = "live-aggregation", havingValue = "true")
+@Component
+@Endpoint(id = "accountevents")
+public class AccountEventsEndpoint {
+
+    private final AccountEventAggregator accountEventAggregator;
+
+    @ReadOperation
+    public AccountEventAggregator.AccountEventsReport report() {
+        return this.accountEventAggregator.report();
+    }
+}
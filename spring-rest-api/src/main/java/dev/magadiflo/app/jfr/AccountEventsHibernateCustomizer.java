@@ -0,0 +1,22 @@
+package dev.magadiflo.app.jfr;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Registra {@link DatabaseTimeSessionListener} en cada sesión de Hibernate, para que {@link AccountOperationEvent}
+ * incluya el tiempo en base de datos.
+ */
+@ConditionalOnProperty(prefix = "app.account-events", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class AccountEventsHibernateCustomizer implements HibernatePropertiesCustomizer {
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, DatabaseTimeSessionListener.class.getName());
+    }
+}
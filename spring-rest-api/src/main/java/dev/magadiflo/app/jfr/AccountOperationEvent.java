@@ -0,0 +1,59 @@
+package dev.magadiflo.app.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento de Java Flight Recorder de un depósito, un retiro o una transferencia de {@code AccountService}.
+ * <p>
+ * La duración del evento es la de la llamada completa (agrupación de depósitos, reintentos y confirmación de la
+ * transacción). {@link #lockWait} es lo que tarda el bloqueo pesimista en obtener las filas
+ * ({@code SELECT ... FOR UPDATE}, incluida la espera a otras transacciones); con bloqueo optimista es cero y la
+ * contención se ve en {@link #attempts}. {@link #databaseTime} suma la ejecución de todas las sentencias JDBC.
+ * Lo emite {@link AccountOperationEventAdvisor}.
+ * </p>
+ */
+@Name(AccountOperationEvent.NAME)
+@Label("Operación de cuenta")
+@Category({"Spring REST API", "Cuentas"})
+@Description("Depósito, retiro o transferencia de AccountService")
+@StackTrace(false)
+public class AccountOperationEvent extends Event {
+
+    public static final String NAME = "dev.magadiflo.AccountOperation";
+
+    @Label("Operación")
+    String operation;
+
+    @Label("Cuenta")
+    long accountId;
+
+    @Label("Cuenta destino")
+    @Description("Cuenta que recibe el dinero en una transferencia; 0 en depósitos y retiros")
+    long targetAccountId;
+
+    @Label("Monto")
+    double amount;
+
+    @Label("Intentos")
+    int attempts = 1;
+
+    @Label("Espera de bloqueos")
+    @Timespan(Timespan.NANOSECONDS)
+    long lockWait;
+
+    @Label("Tiempo en base de datos")
+    @Timespan(Timespan.NANOSECONDS)
+    long databaseTime;
+
+    @Label("Resultado")
+    String outcome;
+
+    @Label("Excepción")
+    String exception;
+}
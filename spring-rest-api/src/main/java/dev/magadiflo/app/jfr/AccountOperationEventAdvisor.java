@@ -0,0 +1,98 @@
+package dev.magadiflo.app.jfr;
+
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.WithdrawalRequest;
+import dev.magadiflo.app.metrics.AccountMetrics;
+import dev.magadiflo.app.metrics.AccountServiceMetricsAdvisor;
+import dev.magadiflo.app.service.AccountService;
+import jdk.jfr.EventType;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * Emite un {@link AccountOperationEvent} por cada {@code deposit}, {@code withdraw} y {@code transfer} de
+ * {@code AccountService}.
+ * <p>
+ * El evento solo se crea si una grabación de JFR lo tiene activo (el {@code RecordingStream} de
+ * {@link AccountEventAggregator}, o una grabación iniciada con {@code jcmd <pid> JFR.start}); sin grabación, el
+ * costo es una comprobación de {@link EventType#isEnabled()}. Se ejecuta dentro de
+ * {@link AccountServiceMetricsAdvisor} y por fuera de la agrupación de depósitos, los reintentos y la transacción.
+ * Las llamadas anidadas (un depósito dentro de otra operación) no emiten un segundo evento.
+ * </p>
+ */
+@ConditionalOnProperty(prefix = "app.account-events", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+@Component
+public class AccountOperationEventAdvisor extends StaticMethodMatcherPointcutAdvisor implements MethodInterceptor {
+
+    public static final int ORDER = AccountServiceMetricsAdvisor.ORDER + 50;
+
+    private static final Set<String> OPERATIONS = Set.of("deposit", "withdraw", "transfer");
+    private static final EventType EVENT_TYPE = EventType.getEventType(AccountOperationEvent.class);
+
+    public AccountOperationEventAdvisor() {
+        this.setAdvice(this);
+        this.setOrder(ORDER);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return AccountService.class.isAssignableFrom(targetClass) && OPERATIONS.contains(method.getName());
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!EVENT_TYPE.isEnabled() || AccountOperationTracker.isTracking()) {
+            return invocation.proceed();
+        }
+        AccountOperationEvent event = new AccountOperationEvent();
+        event.operation = invocation.getMethod().getName();
+        describe(event, invocation.getArguments());
+        event.begin();
+        AccountOperationTracker.start(event);
+        try {
+            Object result = invocation.proceed();
+            event.outcome = AccountMetrics.Outcome.SUCCESS.tag();
+            return result;
+        } catch (Throwable e) {
+            event.outcome = AccountMetrics.Outcome.of(e).tag();
+            event.exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            AccountOperationTracker.stop();
+            event.commit();
+        }
+    }
+
+    // Los argumentos todavía no se validaron: pueden ser nulos
+    private static void describe(AccountOperationEvent event, Object[] arguments) {
+        if (arguments[0] instanceof Long accountId) {
+            event.accountId = accountId;
+        }
+        switch (arguments[arguments.length - 1]) {
+            case DepositRequest request -> event.amount = amount(request.amount());
+            case WithdrawalRequest request -> event.amount = amount(request.amount());
+            case TransactionRequest request -> {
+                event.accountId = request.sourceAccountId() == null ? 0 : request.sourceAccountId();
+                event.targetAccountId = request.targetAccountId() == null ? 0 : request.targetAccountId();
+                event.amount = amount(request.amount());
+            }
+            case null, default -> {
+            }
+        }
+    }
+
+    private static double amount(BigDecimal amount) {
+        return amount == null ? 0 : amount.doubleValue();
+    }
+}
@@ -0,0 +1,60 @@
+package dev.magadiflo.app.jfr;
+
+/**
+ * Operación de cuenta en curso en el hilo actual, a la que se suman el tiempo en base de datos, la espera de
+ * bloqueos y los reintentos mientras se ejecuta.
+ * <p>
+ * Solo hay una operación en curso si {@link AccountOperationEventAdvisor} está grabando el evento; en caso contrario
+ * cada método es una lectura de un {@link ThreadLocal} y no mide nada. Uso:
+ * {@code long start = AccountOperationTracker.startTiming(); ...; AccountOperationTracker.addLockWait(start);}
+ * </p>
+ */
+public final class AccountOperationTracker {
+
+    private static final long NOT_TRACKED = Long.MIN_VALUE;
+    private static final ThreadLocal<AccountOperationEvent> CURRENT = new ThreadLocal<>();
+
+    private AccountOperationTracker() {
+    }
+
+    /**
+     * @return el instante de inicio de la medición, o un valor que las demás operaciones ignoran si no hay ninguna
+     * operación en curso
+     */
+    public static long startTiming() {
+        return CURRENT.get() == null ? NOT_TRACKED : System.nanoTime();
+    }
+
+    public static void addLockWait(long startNanos) {
+        AccountOperationEvent event = CURRENT.get();
+        if (event != null && startNanos != NOT_TRACKED) {
+            event.lockWait += System.nanoTime() - startNanos;
+        }
+    }
+
+    public static void addDatabaseTime(long startNanos) {
+        AccountOperationEvent event = CURRENT.get();
+        if (event != null && startNanos != NOT_TRACKED) {
+            event.databaseTime += System.nanoTime() - startNanos;
+        }
+    }
+
+    public static void recordRetry() {
+        AccountOperationEvent event = CURRENT.get();
+        if (event != null) {
+            event.attempts++;
+        }
+    }
+
+    static boolean isTracking() {
+        return CURRENT.get() != null;
+    }
+
+    static void start(AccountOperationEvent event) {
+        CURRENT.set(event);
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+}
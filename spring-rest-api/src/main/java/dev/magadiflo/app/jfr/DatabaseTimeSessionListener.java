@@ -0,0 +1,37 @@
+package dev.magadiflo.app.jfr;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Suma a la operación de cuenta en curso ({@link AccountOperationTracker}) el tiempo que cada sesión de Hibernate
+ * pasa ejecutando sentencias JDBC, individuales o en lote (los {@code UPDATE} que se envían al confirmar).
+ * <p>
+ * Hibernate crea una instancia por sesión ({@code hibernate.session.events.auto}, registrado por
+ * {@link AccountEventsHibernateCustomizer}); fuera de una operación grabada no mide nada.
+ * </p>
+ */
+public class DatabaseTimeSessionListener extends BaseSessionEventListener {
+
+    private long statementStartNanos;
+    private long batchStartNanos;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        this.statementStartNanos = AccountOperationTracker.startTiming();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        AccountOperationTracker.addDatabaseTime(this.statementStartNanos);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        this.batchStartNanos = AccountOperationTracker.startTiming();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        AccountOperationTracker.addDatabaseTime(this.batchStartNanos);
+    }
+}
@@ -0,0 +1,36 @@
+package dev.magadiflo.app.job;
+
+import dev.magadiflo.app.cache.AccountIdBloomFilter;
+import dev.magadiflo.app.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Construye el filtro de IDs de cuentas existentes al arrancar y lo reconstruye desde la base de datos cuando
+ * lo indica {@link AccountIdBloomFilter#needsRebuild()}, para descartar las cuentas eliminadas y redimensionarlo
+ * si el número de cuentas creció.
+ */
+@RequiredArgsConstructor
+@Component
+public class AccountIdFilterRebuildJob {
+
+    private final AccountRepository accountRepository;
+    private final AccountIdBloomFilter accountIdBloomFilter;
+
+    @Transactional(readOnly = true)
+    @Scheduled(initialDelay = 0, fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void rebuildIfNeeded() {
+        if (!this.accountIdBloomFilter.isEnabled() || !this.accountIdBloomFilter.needsRebuild()) {
+            return;
+        }
+        long accountCount = this.accountRepository.count();
+        try (Stream<Long> accountIds = this.accountRepository.streamAllAccountIds()) {
+            this.accountIdBloomFilter.rebuild(accountCount, accountIds);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.magadiflo.app.job;
+
+import dev.magadiflo.app.config.IdempotencyProperties;
+import dev.magadiflo.app.repository.IdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Elimina periódicamente las claves de idempotencia más antiguas que el periodo de retención,
+ * para que la tabla {@code idempotency_keys} no crezca indefinidamente.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class IdempotencyKeyPurgeJob {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final IdempotencyProperties idempotencyProperties;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:1h}",
+            initialDelayString = "${app.idempotency.purge-interval:1h}")
+    public void purge() {
+        Instant cutoff = Instant.now().minus(this.idempotencyProperties.retention());
+        int deleted = this.idempotencyKeyRepository.deleteByCreatedAtBefore(cutoff);
+        if (deleted > 0) {
+            log.info("Claves de idempotencia vencidas eliminadas | Claves: {} | Anteriores a: {}", deleted, cutoff);
+        }
+    }
+}
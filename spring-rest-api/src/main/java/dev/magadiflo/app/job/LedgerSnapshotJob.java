@@ -0,0 +1,33 @@
+package dev.magadiflo.app.job;
+
+import dev.magadiflo.app.service.LedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Guarda periódicamente una foto de saldo de cada cuenta con movimientos nuevos, para que el saldo según
+ * el libro mayor se obtenga sumando solo los movimientos posteriores a la última foto.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LedgerSnapshotJob {
+
+    private final LedgerService ledgerService;
+
+    @Scheduled(fixedDelayString = "${app.ledger.snapshot-interval:5m}",
+            initialDelayString = "${app.ledger.snapshot-interval:5m}")
+    public void takeSnapshots() {
+        int snapshots = 0;
+        for (Long accountId : this.ledgerService.findAccountsPendingSnapshot()) {
+            if (this.ledgerService.takeSnapshot(accountId)) {
+                snapshots++;
+            }
+        }
+        if (snapshots > 0) {
+            log.info("Fotos de saldo del libro mayor completadas | Cuentas: {}", snapshots);
+        }
+    }
+}
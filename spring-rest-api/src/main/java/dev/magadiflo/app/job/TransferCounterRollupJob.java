@@ -0,0 +1,31 @@
+package dev.magadiflo.app.job;
+
+import dev.magadiflo.app.service.TransferCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consolida periódicamente los fragmentos del contador de transferencias en {@code banks.total_transfers},
+ * para que la tabla de fragmentos no crezca en valores ni la suma al consultar sea costosa.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TransferCounterRollupJob {
+
+    private final TransferCounterService transferCounterService;
+
+    @Scheduled(fixedDelayString = "${app.transfer-counter.rollup-interval:1m}",
+            initialDelayString = "${app.transfer-counter.rollup-interval:1m}")
+    public void rollup() {
+        long transfers = 0;
+        for (Long bankId : this.transferCounterService.findBanksWithPendingTransfers()) {
+            transfers += this.transferCounterService.rollup(bankId);
+        }
+        if (transfers > 0) {
+            log.info("Consolidación de contadores de transferencias completada | Transferencias consolidadas: {}", transfers);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package dev.magadiflo.app.logging;
+
+/**
+ * Mensajes de log de las operaciones de saldo cuyo volumen limita {@link HotPathLogLimiter}. Cada evento tiene
+ * su propio muestreo y su propio límite por segundo.
+ */
+public enum HotPathEvent {
+    DEPOSIT,
+    WITHDRAWAL,
+    TRANSFER,
+    // Detalle de makeADeposit/makeAWithdrawal: se escribe por cada depósito, retiro y tramo de transferencia
+    BALANCE_UPDATE
+}
@@ -0,0 +1,99 @@
+package dev.magadiflo.app.logging;
+
+import dev.magadiflo.app.config.HotPathLoggingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decide si se escribe un mensaje de log de una operación de saldo (depósitos, retiros, transferencias), que se
+ * ejecutan miles de veces por segundo.
+ * <p>
+ * Se usa como guarda del mensaje, en lugar de {@code logger.isInfoEnabled()}:
+ * {@code if (limiter.isInfoEnabled(log, HotPathEvent.DEPOSIT)) log.info(...)}. Primero se consulta el nivel
+ * del logger, así que con el nivel desactivado (por ejemplo, {@code WARN} en producción) no hay ningún costo
+ * adicional. Con el nivel activo y {@code app.hot-path-logging.enabled}, cada evento se muestrea (uno de cada
+ * {@code sample-every}) y se limita a {@code max-per-second} mensajes por segundo. La decisión no crea objetos:
+ * los argumentos del mensaje (y el arreglo de {@code varargs}) solo se crean si el mensaje se escribe.
+ * </p>
+ * <p>
+ * Los límites son aproximados (contadores atómicos sin bloqueo): con muchos hilos, una ventana puede admitir
+ * algún mensaje de más. El muestreo se aplica a cada mensaje por separado, de modo que de una misma operación
+ * puede escribirse un mensaje y no otro. Los mensajes descartados se cuentan en {@value #SUPPRESSED_METRIC},
+ * con la etiqueta {@code event}.
+ * </p>
+ */
+@Component
+public class HotPathLogLimiter {
+
+    public static final String SUPPRESSED_METRIC = "app.logging.hot.path.suppressed";
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final HotPathLoggingProperties hotPathLoggingProperties;
+    private final Map<HotPathEvent, Budget> budgets = new EnumMap<>(HotPathEvent.class);
+
+    public HotPathLogLimiter(HotPathLoggingProperties hotPathLoggingProperties, MeterRegistry meterRegistry) {
+        this.hotPathLoggingProperties = hotPathLoggingProperties;
+        for (HotPathEvent event : HotPathEvent.values()) {
+            this.budgets.put(event, new Budget(Counter.builder(SUPPRESSED_METRIC)
+                    .description("Mensajes de log de operaciones de saldo descartados por muestreo o límite por segundo")
+                    .tag("event", event.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry)));
+        }
+    }
+
+    public boolean isInfoEnabled(Logger logger, HotPathEvent event) {
+        return logger.isInfoEnabled() && this.tryAcquire(event);
+    }
+
+    public boolean isDebugEnabled(Logger logger, HotPathEvent event) {
+        return logger.isDebugEnabled() && this.tryAcquire(event);
+    }
+
+    private boolean tryAcquire(HotPathEvent event) {
+        if (!this.hotPathLoggingProperties.enabled()) {
+            return true;
+        }
+        Budget budget = this.budgets.get(event);
+        if (budget.admit(this.hotPathLoggingProperties.sampleEvery(), this.hotPathLoggingProperties.maxPerSecond(), System.nanoTime())) {
+            return true;
+        }
+        budget.suppressed.increment();
+        return false;
+    }
+
+    private static final class Budget {
+
+        private final Counter suppressed;
+        private final AtomicLong seen = new AtomicLong();
+        private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+        private final AtomicInteger writtenInWindow = new AtomicInteger();
+
+        private Budget(Counter suppressed) {
+            this.suppressed = suppressed;
+        }
+
+        private boolean admit(int sampleEvery, int maxPerSecond, long now) {
+            if (sampleEvery > 1 && this.seen.getAndIncrement() % sampleEvery != 0) {
+                return false;
+            }
+            if (maxPerSecond <= 0) {
+                return true;
+            }
+            long start = this.windowStart.get();
+            if (now - start >= WINDOW_NANOS && this.windowStart.compareAndSet(start, now)) {
+                this.writtenInWindow.set(0);
+            }
+            return this.writtenInWindow.incrementAndGet() <= maxPerSecond;
+        }
+    }
+}
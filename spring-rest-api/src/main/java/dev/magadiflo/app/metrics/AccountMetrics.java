@@ -0,0 +1,168 @@
+package dev.magadiflo.app.metrics;
+
+import dev.magadiflo.app.exception.BusinessException;
+import dev.magadiflo.app.exception.EntityNotFoundException;
+import dev.magadiflo.app.exception.InsufficientBalanceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Métricas de las operaciones de cuentas publicadas en Micrometer (y en {@code /actuator/prometheus}):
+ * <ul>
+ *     <li>{@value #OPERATION_METRIC}: duración de cada método de {@code AccountService}, etiquetada por
+ *     {@code method} y {@code outcome} ({@link Outcome}), con histograma para calcular percentiles en Prometheus
+ *     ({@code histogram_quantile}). La registra {@link AccountServiceMetricsAdvisor}. Las lecturas servidas desde la
+ *     caché de cuentas ({@link #CACHED_READS}) duran unos pocos microsegundos: en lugar de los ~70 intervalos del
+ *     histograma de percentiles usan unos pocos límites fijos ({@link #CACHED_READ_BUCKETS}), que bastan para
+ *     distinguir un acierto de la caché de una consulta a la base de datos y cuestan menos de actualizar.</li>
+ *     <li>{@value #MONEY_MOVED_METRIC}: importe depositado, retirado o transferido, etiquetado por
+ *     {@code bank.id} y {@code type} ({@link MoneyMovement}). Solo cuenta las operaciones confirmadas.</li>
+ * </ul>
+ * Los temporizadores se crean una vez por método y resultado, y los contadores una vez por tipo y banco: registrar
+ * una duración o un importe no busca el medidor en el registro ni crea etiquetas.
+ */
+@Component
+public class AccountMetrics {
+
+    public static final String OPERATION_METRIC = "app.account.operation";
+    public static final String MONEY_MOVED_METRIC = "app.account.money.moved";
+
+    /**
+     * Métodos de {@code AccountService} que leen de la caché de cuentas: su histograma usa {@link #CACHED_READ_BUCKETS}.
+     */
+    public static final Set<String> CACHED_READS = Set.of(
+            "findAccountById", "findAccountsByIds", "findAccountByHolder", "getAccountBalance");
+
+    /**
+     * Límites del histograma de las lecturas de la caché: aciertos (microsegundos) y consultas a la base de datos.
+     */
+    public static final List<Duration> CACHED_READ_BUCKETS = List.of(
+            Duration.ofNanos(50_000), Duration.ofNanos(250_000), Duration.ofMillis(1), Duration.ofMillis(5),
+            Duration.ofMillis(25), Duration.ofMillis(100), Duration.ofMillis(500));
+
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, AtomicReferenceArray<Timer>> operationTimers = new ConcurrentHashMap<>();
+    private final Map<MoneyMovement, ConcurrentMap<Long, Counter>> moneyMovedCounters = new EnumMap<>(MoneyMovement.class);
+
+    public AccountMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (MoneyMovement movement : MoneyMovement.values()) {
+            this.moneyMovedCounters.put(movement, new ConcurrentHashMap<>());
+        }
+    }
+
+    public Timer operationTimer(String method, Outcome outcome) {
+        AtomicReferenceArray<Timer> timers = this.operationTimers.get(method);
+        if (timers == null) {
+            timers = this.operationTimers.computeIfAbsent(method, key -> new AtomicReferenceArray<>(OUTCOMES.length));
+        }
+        Timer timer = timers.get(outcome.ordinal());
+        if (timer == null) {
+            // El registro devuelve el mismo temporizador si dos hilos lo crean a la vez
+            timer = this.registerOperationTimer(method, outcome);
+            timers.set(outcome.ordinal(), timer);
+        }
+        return timer;
+    }
+
+    private Timer registerOperationTimer(String method, Outcome outcome) {
+        Timer.Builder timer = Timer.builder(OPERATION_METRIC)
+                .description("Duración de las operaciones de AccountService")
+                .tag("method", method)
+                .tag("outcome", outcome.tag());
+        if (CACHED_READS.contains(method)) {
+            timer.serviceLevelObjectives(CACHED_READ_BUCKETS.toArray(Duration[]::new));
+        } else {
+            timer.publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10));
+        }
+        return timer.register(this.meterRegistry);
+    }
+
+    public void recordMoneyMovedAfterCommit(MoneyMovement movement, Long bankId, BigDecimal amount) {
+        this.recordMoneyMovedAfterCommit(movement, Map.of(bankId, amount));
+    }
+
+    /**
+     * Suma los importes de cada banco cuando se confirme la transacción en curso (no se suman si se revierte,
+     * por ejemplo antes de un reintento). Fuera de una transacción se suman de inmediato.
+     */
+    public void recordMoneyMovedAfterCommit(MoneyMovement movement, Map<Long, BigDecimal> amountsByBank) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.recordMoneyMoved(movement, amountsByBank);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                AccountMetrics.this.recordMoneyMoved(movement, amountsByBank);
+            }
+        });
+    }
+
+    private void recordMoneyMoved(MoneyMovement movement, Map<Long, BigDecimal> amountsByBank) {
+        ConcurrentMap<Long, Counter> counters = this.moneyMovedCounters.get(movement);
+        amountsByBank.forEach((bankId, amount) -> {
+            Counter counter = counters.get(bankId);
+            if (counter == null) {
+                counter = counters.computeIfAbsent(bankId, id -> Counter.builder(MONEY_MOVED_METRIC)
+                        .description("Importe movido por las operaciones de cuentas confirmadas")
+                        .tag("bank.id", id.toString())
+                        .tag("type", movement.tag())
+                        .register(this.meterRegistry));
+            }
+            counter.increment(amount.doubleValue());
+        });
+    }
+
+    public enum Outcome {
+        SUCCESS,
+        NOT_FOUND,
+        INSUFFICIENT_BALANCE,
+        INVALID,
+        // Excepciones que no son de negocio: conflictos sin resolver, errores de base de datos, etc.
+        ERROR;
+
+        public static Outcome of(Throwable exception) {
+            return switch (exception) {
+                case EntityNotFoundException e -> NOT_FOUND;
+                case InsufficientBalanceException e -> INSUFFICIENT_BALANCE;
+                case BusinessException e -> INVALID;
+                case IllegalArgumentException e -> INVALID;
+                default -> ERROR;
+            };
+        }
+
+        public String tag() {
+            return this.name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public enum MoneyMovement {
+        DEPOSIT,
+        WITHDRAWAL,
+        TRANSFER;
+
+        String tag() {
+            return this.name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package dev.magadiflo.app.metrics;
+
+import dev.magadiflo.app.coalescing.DepositCoalescingAspect;
+import dev.magadiflo.app.service.AccountService;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cada método de {@code AccountService} en {@link AccountMetrics#OPERATION_METRIC}, con el resultado
+ * ({@link AccountMetrics.Outcome}) que deduce de la excepción lanzada.
+ * <p>
+ * Es el consejo más externo: la duración incluye la espera de la agrupación de depósitos, los reintentos y
+ * la confirmación de la transacción, es decir, lo que espera quien llama al servicio. Se desactiva con
+ * {@code app.account-metrics.enabled=false}; los importes movidos se siguen contando.
+ * </p>
+ * <p>
+ * A diferencia de los demás aspectos no es un {@code @Aspect}: un {@code @Around} crea en cada llamada el
+ * {@code ProceedingJoinPoint} y una copia de la invocación, mientras que un {@link MethodInterceptor} continúa la
+ * misma invocación sin crear objetos. Los métodos se eligen una sola vez, al crear el proxy.
+ * </p>
+ * <p>
+ * Spring crea los {@code Advisor} antes que el resto de los beans: {@link AccountMetrics} (y con él el
+ * {@code MeterRegistry}) se obtiene en la primera llamada, para que el registro se cree después de que Spring Boot
+ * registre sus métricas (por ejemplo, las del pool de Hikari). Como los {@code Advisor} de Spring, se declara de
+ * infraestructura: no necesita pasar por los {@code BeanPostProcessor} que lo crean.
+ * </p>
+ */
+@ConditionalOnProperty(prefix = "app.account-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+@Component
+public class AccountServiceMetricsAdvisor extends StaticMethodMatcherPointcutAdvisor implements MethodInterceptor {
+
+    public static final int ORDER = DepositCoalescingAspect.ORDER - 100;
+
+    private final transient ObjectProvider<AccountMetrics> accountMetricsProvider;
+    private transient volatile AccountMetrics accountMetrics;
+
+    public AccountServiceMetricsAdvisor(ObjectProvider<AccountMetrics> accountMetricsProvider) {
+        this.accountMetricsProvider = accountMetricsProvider;
+        this.setAdvice(this);
+        this.setOrder(ORDER);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return AccountService.class.isAssignableFrom(targetClass)
+                && ReflectionUtils.findMethod(AccountService.class, method.getName(), method.getParameterTypes()) != null;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long startNanos = System.nanoTime();
+        AccountMetrics.Outcome outcome = AccountMetrics.Outcome.SUCCESS;
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            outcome = AccountMetrics.Outcome.of(e);
+            throw e;
+        } finally {
+            this.accountMetrics().operationTimer(invocation.getMethod().getName(), outcome)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private AccountMetrics accountMetrics() {
+        AccountMetrics metrics = this.accountMetrics;
+        if (metrics == null) {
+            metrics = this.accountMetricsProvider.getObject();
+            this.accountMetrics = metrics;
+        }
+        return metrics;
+    }
+}
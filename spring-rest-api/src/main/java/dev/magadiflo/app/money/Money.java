@@ -0,0 +1,85 @@
+package dev.magadiflo.app.money;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+
+/**
+ * Monto de dinero inmutable, en céntimos ({@code long}), para la aritmética de saldos.
+ * <p>
+ * Sumar, restar y comparar montos no crea objetos intermedios, a diferencia de {@link BigDecimal}: cada operación
+ * de {@code BigDecimal} crea un resultado nuevo (y, con escalas distintas, un {@code BigDecimal} reescalado). Las
+ * operaciones que exceden el rango de {@code long} lanzan {@link ArithmeticException} en lugar de desbordarse.
+ * </p>
+ * <p>
+ * Se persiste en las columnas {@code DECIMAL(19,2)} con {@link MoneyConverter} y se serializa en JSON como un
+ * número con dos decimales ({@link MoneyJsonSerializer}), igual que un saldo {@code BigDecimal} leído de la base
+ * de datos. El rango ({@code Long.MAX_VALUE} céntimos, unos 9,2 × 10^16) es menor que el de la columna: un valor mayor no puede
+ * leerse y lanza {@link ArithmeticException}.
+ * </p>
+ *
+ * @param cents el monto en céntimos
+ */
+@JsonSerialize(using = MoneyJsonSerializer.class)
+@JsonDeserialize(using = MoneyJsonDeserializer.class)
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    /**
+     * Mayor monto representable ({@code Long.MAX_VALUE} céntimos); las validaciones de los montos de entrada lo usan
+     * como límite ({@code @DecimalMax}).
+     */
+    public static final String MAX_AMOUNT = "92233720368547758.07";
+    public static final Money ZERO = new Money(0);
+
+    private static final int CENTS_PER_UNIT = 100;
+
+    public static Money ofCents(long cents) {
+        return new Money(cents);
+    }
+
+    /**
+     * @throws ArithmeticException si el monto tiene más de {@value #SCALE} decimales distintos de cero o no cabe en
+     *                             un {@code long} de céntimos
+     */
+    public static Money of(BigDecimal amount) {
+        return new Money(amount.movePointRight(SCALE).longValueExact());
+    }
+
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(this.cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(this.cents, other.cents));
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return this.cents > other.cents;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(this.cents, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(this.cents, other.cents);
+    }
+
+    /**
+     * El monto con dos decimales ({@code 1500.05}, {@code -0.50}), sin pasar por {@link BigDecimal}.
+     */
+    @Override
+    public String toString() {
+        long units = this.cents / CENTS_PER_UNIT;
+        long fraction = Math.abs(this.cents % CENTS_PER_UNIT);
+        String sign = this.cents < 0 && units == 0 ? "-" : "";
+        return sign + units + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
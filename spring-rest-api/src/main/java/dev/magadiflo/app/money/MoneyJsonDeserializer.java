@@ -0,0 +1,30 @@
+package dev.magadiflo.app.money;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Lee {@link Money} de los mismos valores que aceptaría un {@code BigDecimal} (números o cadenas numéricas).
+ * Un monto con más de dos decimales o fuera de rango es un error de formato de la petición.
+ */
+public class MoneyJsonDeserializer extends StdDeserializer<Money> {
+
+    public MoneyJsonDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        BigDecimal amount = context.readValue(parser, BigDecimal.class);
+        try {
+            return Money.of(amount);
+        } catch (ArithmeticException e) {
+            return (Money) context.handleWeirdNumberValue(Money.class, amount, "monto con más de %d decimales o fuera de rango",
+                    Money.SCALE);
+        }
+    }
+}
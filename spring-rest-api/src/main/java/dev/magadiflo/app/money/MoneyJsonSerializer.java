@@ -0,0 +1,23 @@
+package dev.magadiflo.app.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Escribe {@link Money} como número JSON con dos decimales ({@code 2000.00}), el mismo formato que un
+ * {@code BigDecimal} leído de una columna {@code DECIMAL(19,2)}.
+ */
+public class MoneyJsonSerializer extends StdSerializer<Money> {
+
+    public MoneyJsonSerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money money, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeNumber(money.toString());
+    }
+}
@@ -0,0 +1,7 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.entity.AccountBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AccountBalanceSnapshotRepository extends JpaRepository<AccountBalanceSnapshot, Long> {
+}
@@ -2,16 +2,31 @@ package dev.magadiflo.app.repository;
 
 import dev.magadiflo.app.dto.AccountResponse;
 import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.money.Money;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
+    /**
+     * Número de filas que el driver JDBC trae por cada viaje a la base de datos en {@link #streamAllAccounts()}.
+     */
+    String STREAM_FETCH_SIZE = "1000";
+
     /**
      * Obtiene todas las cuentas junto con el nombre del banco asociado.
      * <p>
@@ -26,6 +41,109 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
             """)
     List<AccountResponse> getAllAccounts();
 
+    /**
+     * Obtiene, en orden ascendente de ID, las cuentas con ID mayor que {@code afterId} (paginación por clave).
+     * <p>
+     * Usa la misma proyección DTO que {@link #getAllAccounts()}. A diferencia de un {@code OFFSET}, el costo de
+     * cada página no crece con su posición: la base de datos salta directamente a {@code afterId} por la clave
+     * primaria y lee solo {@code limit} filas.
+     * </p>
+     *
+     * @param afterId último ID de la página anterior ({@code 0} para la primera página)
+     * @param limit   número máximo de cuentas a devolver
+     */
+    @Query("""
+            SELECT new dev.magadiflo.app.dto.AccountResponse(a.id, a.holder, a.balance, b.name)
+            FROM Account AS a
+                JOIN a.bank AS b
+            WHERE a.id > :afterId
+            ORDER BY a.id
+            """)
+    List<AccountResponse> getAccountsAfter(Long afterId, Limit limit);
+
+    /**
+     * Recorre todas las cuentas, en orden ascendente de ID, como un {@link Stream} respaldado por un cursor JDBC.
+     * <p>
+     * A diferencia de {@link #getAllAccounts()}, las filas no se cargan en una lista: el driver las trae en
+     * bloques de {@link #STREAM_FETCH_SIZE} y cada {@link AccountResponse} (una proyección DTO, no una entidad
+     * administrada) puede ser descartada en cuanto se consume, de modo que la memoria usada no depende del
+     * número de cuentas. En MySQL el driver solo respeta el {@code fetchSize} con {@code useCursorFetch}, que
+     * {@link CursorFetch} activa solo para esta consulta; de lo contrario carga el resultado completo en memoria.
+     * </p>
+     *
+     * @return un {@link Stream} que debe cerrarse al terminar (por ejemplo con {@code try-with-resources})
+     * @implNote Este método debe ejecutarse dentro de un contexto {@code @Transactional}; el cursor se mantiene
+     * abierto mientras dure la transacción
+     */
+    @CursorFetch
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+            SELECT new dev.magadiflo.app.dto.AccountResponse(a.id, a.holder, a.balance, b.name)
+            FROM Account AS a
+                JOIN a.bank AS b
+            ORDER BY a.id
+            """)
+    Stream<AccountResponse> streamAllAccounts();
+
+    /**
+     * Recorre los IDs de todas las cuentas con un cursor JDBC, igual que {@link #streamAllAccounts()}.
+     * Se usa para reconstruir el filtro de IDs de cuentas existentes.
+     *
+     * @implNote Este método debe ejecutarse dentro de un contexto {@code @Transactional}
+     */
+    @CursorFetch
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT a.id
+            FROM Account AS a
+            """)
+    Stream<Long> streamAllAccountIds();
+
+    /**
+     * Obtiene una cuenta junto con el nombre de su banco, con la misma proyección DTO que {@link #getAllAccounts()}.
+     * <p>
+     * Al no devolver una entidad, no necesita una transacción abierta para resolver la relación perezosa con
+     * el banco, por lo que sirve para cargar la caché de cuentas fuera de una transacción.
+     * </p>
+     */
+    @Query("""
+            SELECT new dev.magadiflo.app.dto.AccountResponse(a.id, a.holder, a.balance, b.name)
+            FROM Account AS a
+                JOIN a.bank AS b
+            WHERE a.id = :accountId
+            """)
+    Optional<AccountResponse> findAccountResponseById(Long accountId);
+
+    /**
+     * Igual que {@link #findAccountResponseById(Long)}, pero para varias cuentas en una sola consulta {@code IN}.
+     * Las cuentas inexistentes simplemente no aparecen en el resultado, que no sigue ningún orden.
+     */
+    @Query("""
+            SELECT new dev.magadiflo.app.dto.AccountResponse(a.id, a.holder, a.balance, b.name)
+            FROM Account AS a
+                JOIN a.bank AS b
+            WHERE a.id IN :accountIds
+            """)
+    List<AccountResponse> findAccountResponsesByIds(Collection<Long> accountIds);
+
+    /**
+     * Igual que {@link #findAccountResponseById(Long)}, pero buscando por el nombre del titular.
+     */
+    @Query("""
+            SELECT new dev.magadiflo.app.dto.AccountResponse(a.id, a.holder, a.balance, b.name)
+            FROM Account AS a
+                JOIN a.bank AS b
+            WHERE a.holder = :holder
+            """)
+    Optional<AccountResponse> findAccountResponseByHolder(String holder);
+
     /**
      * Busca una cuenta por el nombre del titular.
      * <p>
@@ -39,6 +157,46 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
             """)
     Optional<Account> findAccountByHolder(String holder);
 
+    /**
+     * Busca una cuenta por su identificador y bloquea su fila para escritura ({@code SELECT ... FOR UPDATE}).
+     * <p>
+     * El bloqueo se mantiene hasta que finalice la transacción, por lo que ninguna otra transacción puede
+     * modificar (ni bloquear) la misma cuenta mientras tanto. Para evitar interbloqueos, cuando se bloquean
+     * varias cuentas en una misma transacción se deben adquirir siempre en orden ascendente de ID.
+     * </p>
+     *
+     * @param accountId el identificador de la cuenta
+     * @return un {@link Optional} con la cuenta bloqueada si existe
+     * @implNote Este método debe ejecutarse dentro de un contexto {@code @Transactional}
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = """
+            SELECT a
+            FROM Account AS a
+            WHERE a.id = :accountId
+            """)
+    Optional<Account> findByIdForUpdate(Long accountId);
+
+    /**
+     * Busca y bloquea ({@code SELECT ... FOR UPDATE}) varias cuentas en una sola consulta {@code IN}.
+     * <p>
+     * El {@code ORDER BY id} hace que las filas se bloqueen siempre en orden ascendente de ID,
+     * el mismo orden global que usa la transferencia individual en modo pesimista.
+     * </p>
+     *
+     * @param accountIds los identificadores de las cuentas
+     * @return las cuentas encontradas, ordenadas por ID
+     * @implNote Este método debe ejecutarse dentro de un contexto {@code @Transactional}
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = """
+            SELECT a
+            FROM Account AS a
+            WHERE a.id IN :accountIds
+            ORDER BY a.id
+            """)
+    List<Account> findAllByIdForUpdate(Collection<Long> accountIds);
+
     /**
      * Actualiza el nombre del titular de una cuenta mediante una consulta SQL nativa.
      * <p>
@@ -50,12 +208,18 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
      * tras la ejecución del {@code UPDATE}, evitando inconsistencias si se accede a la entidad
      * modificada en el mismo contexto transaccional.
      * </p>
+     * <p>
+     * El hint {@link HibernateHints#HINT_NATIVE_SPACES} declara la tabla modificada: sin él, Hibernate no sabe qué
+     * tablas toca una sentencia nativa y vacía toda la caché de segundo nivel (incluidos los bancos). Todas las
+     * sentencias nativas de modificación de los repositorios lo declaran.
+     * </p>
      *
      * @param account la entidad con los datos actualizados (debe contener id y holder)
      * @return número de filas afectadas (1 si la actualización fue exitosa, 0 si no se encontró la cuenta)
      * @implNote Este método debe ejecutarse dentro de un contexto {@code @Transactional}
      */
     @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "accounts"))
     @NativeQuery(value = """
             UPDATE accounts
             SET holder = :#{#account.holder}
@@ -80,9 +244,60 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
      * @implNote Este método debe ejecutarse dentro de un contexto {@code @Transactional}
      */
     @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "accounts"))
     @Query(value = """
             DELETE FROM accounts
             WHERE id = :accountId
             """, nativeQuery = true)
     int deleteAccountById(Long accountId);
+
+    /**
+     * Incrementa el saldo de una cuenta con una única sentencia {@code UPDATE}.
+     * <p>
+     * La suma se resuelve en la base de datos ({@code balance = balance + :amount}), por lo que
+     * depósitos concurrentes sobre la misma cuenta no pueden pisarse entre sí. También incrementa la
+     * columna {@code version} para que una lectura-modificación-escritura concurrente detecte el cambio, y
+     * {@code ledger_position} para sellar el movimiento del libro mayor. No se aplica si el saldo resultante superaría
+     * {@link Money#MAX_AMOUNT}: la columna lo admitiría, pero la cuenta ya no podría leerse como {@link Money}.
+     * </p>
+     *
+     * @param accountId el identificador de la cuenta
+     * @param amount    el monto a depositar
+     * @return número de filas afectadas (1 si el depósito se aplicó, 0 si la cuenta no existe o superaría el saldo máximo)
+     * @implNote Este método debe ejecutarse dentro de un contexto {@code @Transactional}
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "accounts"))
+    @NativeQuery(value = """
+            UPDATE accounts
+            SET balance = balance + :amount,
+                version = version + 1,
+                ledger_position = ledger_position + 1
+            WHERE id = :accountId
+                AND balance <= """ + Money.MAX_AMOUNT + " - :amount")
+    int increaseBalance(Long accountId, BigDecimal amount);
+
+    /**
+     * Descuenta el saldo de una cuenta solo si cubre el monto solicitado, en una única sentencia {@code UPDATE}.
+     * <p>
+     * La condición {@code balance >= :amount} se evalúa sobre la fila bloqueada por el propio {@code UPDATE},
+     * de modo que el saldo nunca puede quedar negativo aunque haya retiros concurrentes.
+     * </p>
+     *
+     * @param accountId el identificador de la cuenta
+     * @param amount    el monto a retirar
+     * @return número de filas afectadas (1 si el retiro se aplicó, 0 si la cuenta no existe o el saldo es insuficiente)
+     * @implNote Este método debe ejecutarse dentro de un contexto {@code @Transactional}
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "accounts"))
+    @NativeQuery(value = """
+            UPDATE accounts
+            SET balance = balance - :amount,
+                version = version + 1,
+                ledger_position = ledger_position + 1
+            WHERE id = :accountId
+                AND balance >= :amount
+            """)
+    int decreaseBalance(Long accountId, BigDecimal amount);
 }
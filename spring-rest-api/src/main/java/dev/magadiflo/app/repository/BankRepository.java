@@ -1,24 +1,82 @@
 package dev.magadiflo.app.repository;
 
 import dev.magadiflo.app.entity.Bank;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface BankRepository extends JpaRepository<Bank, Long> {
+
+    /**
+     * Espacio de consulta que declara {@link #addTotalTransfers(Long, long)} en lugar de la tabla {@code banks}.
+     * <p>
+     * Hibernate invalida las regiones de la caché de segundo nivel (y los resultados de consultas en caché)
+     * de las tablas que declara una sentencia nativa de modificación, o todas si no declara ninguna. La
+     * consolidación solo modifica {@code total_transfers}, que no se lee de la entidad en caché, así que
+     * declarar este espacio propio evita vaciar la región de los bancos en cada consolidación.
+     * </p>
+     */
+    String TOTAL_TRANSFERS_QUERY_SPACE = "banks.total_transfers";
+
     /**
      * Busca un banco por su nombre.
+     * <p>
+     * El resultado se guarda en la caché de consultas de Hibernate y el banco en la caché de segundo nivel,
+     * por lo que las búsquedas repetidas no consultan la base de datos mientras no se modifique la tabla.
+     * </p>
      *
      * @param name nombre del banco
      * @return un {@link Optional} que contiene el banco si existe
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Bank> findByName(String name);
 
     /**
-     * Verifica si existe un banco con el nombre indicado.
+     * Verifica si existe un banco con el nombre indicado, con la caché de consultas igual que {@link #findByName(String)}.
      *
      * @param name nombre del banco
      * @return {@code true} si el banco existe, {@code false} en caso contrario
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByName(String name);
+
+    /**
+     * Lee de la base de datos el total consolidado de transferencias del banco, sin pasar por la caché de
+     * segundo nivel (ver {@link #TOTAL_TRANSFERS_QUERY_SPACE}).
+     *
+     * @param bankId el identificador del banco
+     * @return un {@link Optional} con el total si el banco existe
+     */
+    @Query("""
+            SELECT b.totalTransfers
+            FROM Bank AS b
+            WHERE b.id = :bankId
+            """)
+    Optional<Integer> findTotalTransfersById(Long bankId);
+
+    /**
+     * Suma al total consolidado de transferencias del banco lo acumulado en sus fragmentos
+     * ({@link dev.magadiflo.app.entity.BankTransferCounter}).
+     *
+     * @param bankId    el identificador del banco
+     * @param transfers cantidad de transferencias a consolidar
+     * @return número de filas afectadas (1 si el banco existe, 0 en caso contrario)
+     * @implNote Este método debe ejecutarse dentro de un contexto {@code @Transactional}. No incrementa
+     * {@code version}: la suma se resuelve en la base de datos y no invalida la caché de segundo nivel, de modo que
+     * la versión de los bancos en caché sigue siendo válida
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TOTAL_TRANSFERS_QUERY_SPACE))
+    @NativeQuery(value = """
+            UPDATE banks
+            SET total_transfers = total_transfers + :transfers
+            WHERE id = :bankId
+            """)
+    int addTotalTransfers(Long bankId, long transfers);
 }
@@ -0,0 +1,69 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.entity.BankTransferCounter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface BankTransferCounterRepository extends JpaRepository<BankTransferCounter, BankTransferCounter.Key> {
+
+    /**
+     * Suma {@code transfers} al fragmento indicado, creándolo si aún no existe, con una única sentencia
+     * {@code INSERT ... ON DUPLICATE KEY UPDATE}.
+     *
+     * @param bankId    el identificador del banco
+     * @param shard     el número de fragmento
+     * @param transfers cantidad de transferencias a sumar
+     * @implNote Este método debe ejecutarse dentro de un contexto {@code @Transactional}
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "bank_transfer_counters"))
+    @NativeQuery(value = """
+            INSERT INTO bank_transfer_counters(bank_id, shard, transfers)
+            VALUES(:bankId, :shard, :transfers)
+            ON DUPLICATE KEY UPDATE transfers = transfers + :transfers
+            """)
+    void incrementShard(Long bankId, int shard, long transfers);
+
+    /**
+     * Resta a un fragmento la cantidad ya trasladada a {@code banks.total_transfers}.
+     * <p>
+     * Se resta en lugar de poner el fragmento a cero para no perder los incrementos que otras
+     * transacciones hayan confirmado después de leerlo.
+     * </p>
+     *
+     * @return número de filas afectadas
+     * @implNote Este método debe ejecutarse dentro de un contexto {@code @Transactional}
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "bank_transfer_counters"))
+    @NativeQuery(value = """
+            UPDATE bank_transfer_counters
+            SET transfers = transfers - :amount
+            WHERE bank_id = :bankId
+                AND shard = :shard
+            """)
+    int subtractFromShard(Long bankId, int shard, long amount);
+
+    @Query("""
+            SELECT COALESCE(SUM(c.transfers), 0)
+            FROM BankTransferCounter AS c
+            WHERE c.bankId = :bankId
+            """)
+    long sumTransfersByBankId(Long bankId);
+
+    List<BankTransferCounter> findByBankIdAndTransfersGreaterThan(Long bankId, long transfers);
+
+    @Query("""
+            SELECT DISTINCT c.bankId
+            FROM BankTransferCounter AS c
+            WHERE c.transfers > 0
+            """)
+    List<Long> findBankIdsWithPendingTransfers();
+}
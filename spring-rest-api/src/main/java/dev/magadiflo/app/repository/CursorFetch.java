@@ -0,0 +1,22 @@
+package dev.magadiflo.app.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca una consulta de repositorio que devuelve un {@link java.util.stream.Stream} con {@code fetchSize} y que,
+ * en MySQL, debe leerse con un cursor del servidor ({@code useCursorFetch}) en lugar de cargar el resultado completo.
+ * <p>
+ * La lectura por cursor se activa solo en la conexión de la transacción en curso y solo para esta consulta.
+ * </p>
+ *
+ * @see CursorFetchAspect
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CursorFetch {
+}
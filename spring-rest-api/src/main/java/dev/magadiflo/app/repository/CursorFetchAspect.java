@@ -0,0 +1,77 @@
+package dev.magadiflo.app.repository;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.jdbc.JdbcConnection;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Activa la lectura por cursor del driver de MySQL ({@code useCursorFetch}) en las consultas anotadas con
+ * {@link CursorFetch}.
+ * <p>
+ * Con {@code useCursorFetch=true} en la URL, el driver prepara en el servidor todas las sentencias de la aplicación
+ * y abre un cursor en el servidor para cada consulta con {@code fetchSize}, aunque devuelva una sola fila. Aquí la
+ * propiedad (junto con {@code useServerPrepStmts}, que el cursor requiere) se activa en la conexión de la
+ * transacción justo antes de ejecutar la consulta y se restaura enseguida: el driver la fija al crear la sentencia,
+ * por lo que la consulta conserva su cursor mientras se recorre el {@code Stream}, y las demás sentencias (y la
+ * conexión al volver al pool) siguen sin él.
+ * </p>
+ * <p>
+ * Con otro driver (H2 en las pruebas) la consulta se ejecuta tal cual.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Aspect
+@Component
+public class CursorFetchAspect {
+
+    private final EntityManager entityManager;
+
+    @Around("@annotation(dev.magadiflo.app.repository.CursorFetch)")
+    public Object withCursorFetch(ProceedingJoinPoint joinPoint) throws Throwable {
+        Session session = this.entityManager.unwrap(Session.class);
+        ConnectionSettings previous = session.doReturningWork(CursorFetchAspect::enableCursorFetch);
+        if (previous == null) {
+            return joinPoint.proceed();
+        }
+        try {
+            log.debug("Lectura por cursor activada para la consulta: {}", joinPoint.getSignature().getName());
+            return joinPoint.proceed();
+        } finally {
+            session.doWork(previous::restore);
+        }
+    }
+
+    private static ConnectionSettings enableCursorFetch(Connection connection) throws SQLException {
+        if (!connection.isWrapperFor(JdbcConnection.class)) {
+            return null;
+        }
+        PropertySet properties = connection.unwrap(JdbcConnection.class).getPropertySet();
+        ConnectionSettings previous = new ConnectionSettings(
+                properties.getBooleanProperty(PropertyKey.useCursorFetch).getValue(),
+                properties.getBooleanProperty(PropertyKey.useServerPrepStmts).getValue());
+        properties.getBooleanProperty(PropertyKey.useServerPrepStmts).setValue(true);
+        properties.getBooleanProperty(PropertyKey.useCursorFetch).setValue(true);
+        return previous;
+    }
+
+    private record ConnectionSettings(boolean useCursorFetch, boolean useServerPrepStmts) {
+
+        void restore(Connection connection) throws SQLException {
+            PropertySet properties = connection.unwrap(JdbcConnection.class).getPropertySet();
+            properties.getBooleanProperty(PropertyKey.useCursorFetch).setValue(this.useCursorFetch);
+            properties.getBooleanProperty(PropertyKey.useServerPrepStmts).setValue(this.useServerPrepStmts);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * Elimina las claves registradas antes del instante indicado, en una única sentencia {@code DELETE}.
+     *
+     * @return número de claves eliminadas
+     * @implNote Este método debe ejecutarse dentro de un contexto {@code @Transactional}
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM IdempotencyKey AS k
+            WHERE k.createdAt < :createdAt
+            """)
+    int deleteByCreatedAtBefore(Instant createdAt);
+}
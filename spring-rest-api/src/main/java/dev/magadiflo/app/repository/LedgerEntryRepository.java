@@ -0,0 +1,57 @@
+package dev.magadiflo.app.repository;
+
+import dev.magadiflo.app.entity.LedgerEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    /**
+     * Obtiene los movimientos de una cuenta posteriores a {@code seq}, en orden ascendente.
+     * <p>
+     * Se resuelve con un rango sobre el índice {@code (account_id, seq)}: el costo depende del tamaño de la
+     * página y no del número total de movimientos de la cuenta.
+     * </p>
+     *
+     * @param accountId el identificador de la cuenta
+     * @param seq       último {@code seq} ya leído ({@code 0} para empezar desde el primer movimiento)
+     * @param limit     número máximo de movimientos a devolver
+     */
+    List<LedgerEntry> findByAccountIdAndSeqGreaterThanOrderBySeqAsc(Long accountId, Long seq, Limit limit);
+
+    @Query("""
+            SELECT COALESCE(SUM(e.amount), 0)
+            FROM LedgerEntry AS e
+            WHERE e.accountId = :accountId
+            """)
+    BigDecimal sumAmountByAccountId(Long accountId);
+
+    /**
+     * Suma los movimientos de una cuenta posteriores a una posición, con un rango sobre el índice
+     * {@code (account_id, account_position)}.
+     */
+    @Query("""
+            SELECT COALESCE(SUM(e.amount), 0)
+            FROM LedgerEntry AS e
+            WHERE e.accountId = :accountId
+                AND e.accountPosition > :position
+            """)
+    BigDecimal sumAmountByAccountIdAndAccountPositionGreaterThan(Long accountId, Long position);
+
+    /**
+     * Obtiene las cuentas existentes cuya posición en el libro mayor avanzó desde su última foto de saldo, o que
+     * tienen movimientos y todavía no tienen foto.
+     */
+    @Query("""
+            SELECT a.id
+            FROM Account AS a
+                LEFT JOIN AccountBalanceSnapshot AS s ON s.accountId = a.id
+            WHERE a.ledgerPosition > s.lastPosition
+                OR (s.accountId IS NULL AND EXISTS (SELECT 1 FROM LedgerEntry AS e WHERE e.accountId = a.id))
+            """)
+    List<Long> findAccountIdsPendingSnapshot();
+}
@@ -0,0 +1,86 @@
+package dev.magadiflo.app.retry;
+
+import dev.magadiflo.app.config.RetryProperties;
+import dev.magadiflo.app.jfr.AccountOperationTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta una acción y la repite ante un {@link ConcurrencyFailureException}, con espera exponencial
+ * aleatorizada entre intentos y un número máximo de intentos configurable ({@link RetryProperties}).
+ * <p>
+ * Publica dos contadores etiquetados por {@code operation}:
+ * <ul>
+ *     <li>{@value #RETRIES_METRIC}: cada reintento realizado tras un conflicto.</li>
+ *     <li>{@value #EXHAUSTED_METRIC}: operaciones que agotaron todos sus intentos.</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RetryExecutor {
+
+    public static final String RETRIES_METRIC = "app.retry.retries";
+    public static final String EXHAUSTED_METRIC = "app.retry.exhausted";
+
+    private final RetryProperties retryProperties;
+    private final MeterRegistry meterRegistry;
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        int attempt = 1;
+        while (true) {
+            try {
+                return action.get();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= this.retryProperties.maxAttempts()) {
+                    log.warn("Conflicto de concurrencia sin resolver | Operación: {} | Intentos: {} | Excepción: {}",
+                            operation, attempt, e.getClass().getSimpleName());
+                    this.counter(EXHAUSTED_METRIC, operation).increment();
+                    throw e;
+                }
+                long backoffMillis = this.backoffMillis(attempt);
+                log.debug("Conflicto de concurrencia | Operación: {} | Intento: {} | Reintentando en {} ms",
+                        operation, attempt, backoffMillis);
+                this.counter(RETRIES_METRIC, operation).increment();
+                AccountOperationTracker.recordRetry();
+                this.sleep(backoffMillis, e);
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * Calcula la espera antes del siguiente intento con <i>full jitter</i>: un valor aleatorio entre cero
+     * y el tope exponencial {@code min(maxBackoff, initialBackoff * multiplier^(attempt-1))}.
+     */
+    long backoffMillis(int attempt) {
+        double exponential = this.retryProperties.initialBackoff().toMillis()
+                             * Math.pow(this.retryProperties.multiplier(), attempt - 1);
+        long ceiling = (long) Math.min(this.retryProperties.maxBackoff().toMillis(), exponential);
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private Counter counter(String name, String operation) {
+        return this.meterRegistry.counter(name, "operation", operation);
+    }
+
+    private void sleep(long millis, ConcurrencyFailureException cause) {
+        if (millis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.magadiflo.app.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un método transaccional cuya ejecución completa debe repetirse cuando falla por un conflicto
+ * de concurrencia (versión obsoleta, interbloqueo o tiempo de espera de bloqueo agotado).
+ * <p>
+ * Cada intento se ejecuta en una transacción nueva, por lo que el método debe poder repetirse
+ * sin efectos secundarios fuera de la base de datos.
+ * </p>
+ *
+ * @see RetryOnConflictAspect
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    /**
+     * Nombre de la operación usado como etiqueta en las métricas. Si se omite, se usa el nombre del método.
+     */
+    String value() default "";
+}
@@ -0,0 +1,65 @@
+package dev.magadiflo.app.retry;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Aplica {@link RetryExecutor} a los métodos anotados con {@link RetryOnConflict}.
+ * <p>
+ * El aspecto tiene mayor precedencia que el interceptor de {@code @Transactional} (que usa
+ * {@link Ordered#LOWEST_PRECEDENCE}), por lo que envuelve a la transacción: cada intento abre y confirma
+ * su propia transacción con un contexto de persistencia limpio.
+ * </p>
+ * <p>
+ * Si el método se invoca dentro de una transacción ya existente no se reintenta: la transacción externa
+ * quedó marcada para rollback y solo quien la inició puede repetirla.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Aspect
+@Order(RetryOnConflictAspect.ORDER)
+@Component
+public class RetryOnConflictAspect {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private final RetryExecutor retryExecutor;
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String operation = retryOnConflict.value().isBlank()
+                ? joinPoint.getSignature().getName()
+                : retryOnConflict.value();
+        try {
+            return this.retryExecutor.execute(operation, () -> {
+                try {
+                    return joinPoint.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CheckedExceptionHolder(e);
+                }
+            });
+        } catch (CheckedExceptionHolder holder) {
+            throw holder.getCause();
+        }
+    }
+
+    /**
+     * Transporta una excepción comprobada a través del {@link java.util.function.Supplier} del ejecutor.
+     */
+    private static class CheckedExceptionHolder extends RuntimeException {
+        CheckedExceptionHolder(Throwable cause) {
+            super(cause);
+        }
+    }
+}
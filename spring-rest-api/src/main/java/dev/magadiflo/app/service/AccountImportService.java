@@ -0,0 +1,10 @@
+package dev.magadiflo.app.service;
+
+import dev.magadiflo.app.dto.AccountImportResponse;
+import dev.magadiflo.app.importer.AccountImportReader;
+
+import java.io.IOException;
+
+public interface AccountImportService {
+    AccountImportResponse importAccounts(AccountImportReader reader) throws IOException;
+}
@@ -1,28 +1,43 @@
 package dev.magadiflo.app.service;
 
 import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountLookupResponse;
+import dev.magadiflo.app.dto.AccountPage;
 import dev.magadiflo.app.dto.AccountResponse;
 import dev.magadiflo.app.dto.AccountUpdateRequest;
 import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.LedgerEntryResponse;
 import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.TransferBatchResponse;
 import dev.magadiflo.app.dto.WithdrawalRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface AccountService {
     // ========= CONSULTAS =========
     List<AccountResponse> findAllAccounts();
 
+    AccountPage findAccountPage(String cursor, Integer limit);
+
+    long exportAllAccounts(Consumer<AccountResponse> consumer);
+
     AccountResponse findAccountById(Long accountId);
 
+    AccountLookupResponse findAccountsByIds(List<Long> accountIds);
+
     AccountResponse findAccountByHolder(String holder);
 
     BigDecimal getAccountBalance(Long accountId);
 
+    List<LedgerEntryResponse> findAccountMovements(Long accountId, long afterSeq, int limit);
+
     // ========= OPERACIONES CRUD =========
     AccountResponse saveAccount(AccountCreateRequest accountRequest);
 
+    List<AccountResponse> saveAccounts(List<AccountCreateRequest> accountRequests);
+
     AccountResponse updateAccount(Long accountId, AccountUpdateRequest accountRequest);
 
     void deleteAccount(Long accountId);
@@ -30,10 +45,14 @@ public interface AccountService {
     // ========= OPERACIONES TRANSACCIONALES =========
     AccountResponse deposit(Long accountId, DepositRequest request);
 
+    AccountResponse depositAll(Long accountId, List<DepositRequest> requests);
+
     AccountResponse withdraw(Long accountId, WithdrawalRequest request);
 
     void transfer(TransactionRequest request);
 
+    TransferBatchResponse transferBatch(List<TransactionRequest> requests);
+
     // ========= REPORTES / CONSULTAS AGREGADAS =========
     int countTotalTransfersToBank(Long bankId);
 }
@@ -0,0 +1,34 @@
+package dev.magadiflo.app.service;
+
+import dev.magadiflo.app.dto.LedgerEntryResponse;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.entity.Account;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public interface LedgerService {
+    // ========= REGISTRO DE MOVIMIENTOS =========
+    // Los movimientos se sellan con la posición actual de la cuenta (Account#getLedgerPosition): quien llama ya la
+    // incrementó en el mismo cambio de saldo
+    void recordOpening(Account account);
+
+    void recordOpenings(List<Account> accounts);
+
+    void recordDeposit(Account account, BigDecimal amount);
+
+    void recordWithdrawal(Account account, BigDecimal amount);
+
+    void recordTransfers(List<TransactionRequest> transfers, Map<Long, Account> accounts);
+
+    // ========= CONSULTAS =========
+    List<LedgerEntryResponse> findMovements(Long accountId, long afterSeq, int limit);
+
+    BigDecimal deriveBalance(Long accountId);
+
+    // ========= FOTOS DE SALDO =========
+    List<Long> findAccountsPendingSnapshot();
+
+    boolean takeSnapshot(Long accountId);
+}
@@ -0,0 +1,15 @@
+package dev.magadiflo.app.service;
+
+import java.util.List;
+
+public interface TransferCounterService {
+    void increment(Long bankId);
+
+    void increment(Long bankId, long transfers);
+
+    long countPendingTransfers(Long bankId);
+
+    List<Long> findBanksWithPendingTransfers();
+
+    long rollup(Long bankId);
+}
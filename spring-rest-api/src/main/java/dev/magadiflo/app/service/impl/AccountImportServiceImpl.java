@@ -0,0 +1,167 @@
+package dev.magadiflo.app.service.impl;
+
+import dev.magadiflo.app.cache.AccountIdBloomFilter;
+import dev.magadiflo.app.config.AccountImportProperties;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountImportChunkResult;
+import dev.magadiflo.app.dto.AccountImportResponse;
+import dev.magadiflo.app.dto.AccountImportRowError;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.importer.AccountImportReader;
+import dev.magadiflo.app.importer.AccountImportRow;
+import dev.magadiflo.app.mapper.AccountMapper;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.AccountImportService;
+import dev.magadiflo.app.service.LedgerService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importa cuentas desde un cuerpo CSV o NDJSON sin cargarlo completo en memoria.
+ * <p>
+ * Las filas se leen de una en una y se agrupan en bloques de {@code app.account-import.chunk-size}. Cada fila
+ * se valida con las mismas reglas que {@code POST /api/v1/accounts} y su banco se resuelve en un mapa cargado una
+ * sola vez al empezar, sin consultas por fila. Las filas válidas de cada bloque se registran, con sus movimientos
+ * de apertura, en una transacción propia con {@code INSERT} en lotes JDBC (ver {@link AccountServiceImpl#saveAccounts}):
+ * un bloque que falla no deshace los anteriores ni impide los siguientes.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AccountImportServiceImpl implements AccountImportService {
+
+    private final AccountRepository accountRepository;
+    private final BankRepository bankRepository;
+    private final AccountMapper accountMapper;
+    private final LedgerService ledgerService;
+    private final AccountIdBloomFilter accountIdBloomFilter;
+    private final AccountImportProperties accountImportProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    @Override
+    public AccountImportResponse importAccounts(AccountImportReader reader) throws IOException {
+        Map<Long, Bank> banks = this.bankRepository.findAll().stream()
+                .collect(Collectors.toMap(Bank::getId, Function.identity()));
+        log.debug("Iniciando importación de cuentas | Bancos: {} | Filas por bloque: {}",
+                banks.size(), this.accountImportProperties.chunkSize());
+
+        List<AccountImportChunkResult> chunks = new ArrayList<>();
+        Chunk chunk = new Chunk(0);
+        AccountImportRow row;
+        while ((row = reader.next()) != null) {
+            String error = this.validate(row, banks);
+            if (error == null) {
+                AccountCreateRequest request = row.request();
+                chunk.accept(row, this.accountMapper.toAccount(request, banks.get(request.bankId())));
+            } else {
+                chunk.reject(row, error, this.accountImportProperties.maxErrorsPerChunk());
+            }
+            if (chunk.rows == this.accountImportProperties.chunkSize()) {
+                chunks.add(this.commit(chunk));
+                chunk = new Chunk(chunk.index + 1);
+            }
+        }
+        if (chunk.rows > 0) {
+            chunks.add(this.commit(chunk));
+        }
+
+        AccountImportResponse response = AccountImportResponse.of(chunks);
+        log.info("Importación de cuentas finalizada | Filas: {} | Registradas: {} | Rechazadas: {} | Bloques: {}",
+                response.rows(), response.imported(), response.rejected(), chunks.size());
+        return response;
+    }
+
+    private AccountImportChunkResult commit(Chunk chunk) {
+        List<Account> accounts = chunk.accounts;
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> {
+                this.accountRepository.saveAll(accounts);
+                // Antes de confirmar, como en saveAccounts: una lectura concurrente de una cuenta recién confirmada
+                // no debe ser descartada por el filtro; si el bloque se revierte solo quedan falsos positivos
+                accounts.forEach(account -> this.accountIdBloomFilter.add(account.getId()));
+                this.ledgerService.recordOpenings(accounts);
+            });
+        } catch (DataAccessException e) {
+            log.warn("Bloque de importación revertido | Bloque: {} | Filas: {}-{} | Causa: {}",
+                    chunk.index, chunk.firstRow, chunk.lastRow, e.getMostSpecificCause().getMessage());
+            return AccountImportChunkResult.failed(chunk.index, chunk.firstRow, chunk.lastRow, chunk.errors,
+                    "No se pudo registrar el bloque de cuentas");
+        }
+        log.debug("Bloque de importación confirmado | Bloque: {} | Filas: {}-{} | Registradas: {} | Rechazadas: {}",
+                chunk.index, chunk.firstRow, chunk.lastRow, accounts.size(), chunk.rejected);
+        return AccountImportChunkResult.committed(chunk.index, chunk.firstRow, chunk.lastRow, accounts.size(),
+                chunk.rejected, chunk.errors);
+    }
+
+    /**
+     * @return los mensajes de las restricciones incumplidas, o {@code null} si la fila es válida
+     */
+    private String validate(AccountImportRow row, Map<Long, Bank> banks) {
+        if (!row.isParsed()) {
+            return row.error();
+        }
+        AccountCreateRequest request = row.request();
+        String violations = this.validator.validate(request).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining("; "));
+        if (!violations.isEmpty()) {
+            return violations;
+        }
+        if (!banks.containsKey(request.bankId())) {
+            return "No se encontró el banco con ID: %d".formatted(request.bankId());
+        }
+        return null;
+    }
+
+    private static class Chunk {
+        private final int index;
+        private final List<Account> accounts = new ArrayList<>();
+        private final List<AccountImportRowError> errors = new ArrayList<>();
+        private int rows;
+        private int rejected;
+        private long firstRow;
+        private long lastRow;
+
+        private Chunk(int index) {
+            this.index = index;
+        }
+
+        private void accept(AccountImportRow row, Account account) {
+            this.track(row);
+            this.accounts.add(account);
+        }
+
+        private void reject(AccountImportRow row, String error, int maxErrors) {
+            this.track(row);
+            this.rejected++;
+            if (this.errors.size() < maxErrors) {
+                this.errors.add(new AccountImportRowError(row.row(), error));
+            }
+        }
+
+        private void track(AccountImportRow row) {
+            if (this.rows++ == 0) {
+                this.firstRow = row.row();
+            }
+            this.lastRow = row.row();
+        }
+    }
+}
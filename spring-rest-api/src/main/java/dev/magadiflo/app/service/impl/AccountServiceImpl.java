@@ -1,25 +1,53 @@
 package dev.magadiflo.app.service.impl;
 
+import dev.magadiflo.app.cache.AccountCache;
+import dev.magadiflo.app.cache.AccountIdBloomFilter;
+import dev.magadiflo.app.config.AccountProperties;
 import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountLookupResponse;
+import dev.magadiflo.app.dto.AccountCursor;
+import dev.magadiflo.app.dto.AccountPage;
 import dev.magadiflo.app.dto.AccountResponse;
 import dev.magadiflo.app.dto.AccountUpdateRequest;
 import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.LedgerEntryResponse;
 import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.TransferBatchResponse;
+import dev.magadiflo.app.dto.TransferLegResult;
 import dev.magadiflo.app.dto.WithdrawalRequest;
 import dev.magadiflo.app.entity.Account;
 import dev.magadiflo.app.entity.Bank;
 import dev.magadiflo.app.exception.*;
+import dev.magadiflo.app.jfr.AccountOperationTracker;
+import dev.magadiflo.app.logging.HotPathEvent;
+import dev.magadiflo.app.logging.HotPathLogLimiter;
 import dev.magadiflo.app.mapper.AccountMapper;
+import dev.magadiflo.app.metrics.AccountMetrics;
+import dev.magadiflo.app.money.Money;
 import dev.magadiflo.app.repository.AccountRepository;
 import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.retry.RetryOnConflict;
 import dev.magadiflo.app.service.AccountService;
+import dev.magadiflo.app.service.LedgerService;
+import dev.magadiflo.app.service.TransferCounterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -27,49 +55,170 @@ import java.util.List;
 @Service
 public class AccountServiceImpl implements AccountService {
 
+    // Máximo de IDs por consulta IN (bloqueo de las cuentas de un lote de transferencias y consulta de varias cuentas)
+    private static final int IN_QUERY_CHUNK_SIZE = 1_000;
+
     private final AccountRepository accountRepository;
     private final BankRepository bankRepository;
     private final AccountMapper accountMapper;
+    private final AccountProperties accountProperties;
+    private final TransferCounterService transferCounterService;
+    private final LedgerService ledgerService;
+    private final AccountCache accountCache;
+    private final AccountIdBloomFilter accountIdBloomFilter;
+    private final HotPathLogLimiter hotPathLogLimiter;
+    private final AccountMetrics accountMetrics;
 
+    /**
+     * Listado sin paginar, limitado a {@code app.accounts.max-list-size} cuentas para no cargar la tabla
+     * completa en memoria. Para recorrer todas las cuentas se debe usar {@link #findAccountPage(String, Integer)}.
+     */
     @Override
     public List<AccountResponse> findAllAccounts() {
         log.debug("Consultando todas las cuentas");
-        List<AccountResponse> accounts = this.accountRepository.getAllAccounts();
+        int maxListSize = this.accountProperties.maxListSize();
+        List<AccountResponse> accounts = this.accountRepository.getAccountsAfter(0L, Limit.of(maxListSize));
+        if (accounts.size() == maxListSize) {
+            log.warn("El listado de cuentas alcanzó el tope de {} cuentas; use la paginación por cursor", maxListSize);
+        }
         log.info("Se encontraron {} cuentas", accounts.size());
         return accounts;
     }
 
+    /**
+     * Devuelve una página del listado de cuentas a partir del cursor indicado.
+     * <p>
+     * Se pide una fila más que el tamaño de página: si llega, existe una página siguiente y su cursor
+     * es el ID de la última cuenta entregada, sin necesidad de un {@code COUNT(*)} adicional.
+     * </p>
+     */
+    @Override
+    public AccountPage findAccountPage(String cursor, Integer limit) {
+        long afterId = cursor == null ? 0L : AccountCursor.decode(cursor).lastAccountId();
+        int pageSize = limit == null
+                ? this.accountProperties.defaultPageSize()
+                : Math.clamp(limit, 1, this.accountProperties.maxPageSize());
+        log.debug("Consultando página de cuentas | Después del ID: {} | Tamaño: {}", afterId, pageSize);
+
+        List<AccountResponse> accounts = this.accountRepository.getAccountsAfter(afterId, Limit.of(pageSize + 1));
+        String nextCursor = null;
+        if (accounts.size() > pageSize) {
+            accounts = accounts.subList(0, pageSize);
+            nextCursor = new AccountCursor(accounts.getLast().id()).encode();
+        }
+        log.info("Página de cuentas consultada | Cuentas: {} | Hay página siguiente: {}", accounts.size(), nextCursor != null);
+        return new AccountPage(accounts, nextCursor, pageSize);
+    }
+
+    /**
+     * Recorre todas las cuentas en orden de ID y entrega cada una a {@code consumer} sin acumularlas.
+     * <p>
+     * La transacción (y con ella el cursor JDBC) permanece abierta mientras dure el recorrido, por lo que
+     * {@code consumer} debe limitarse a escribir la cuenta en su destino, sin operaciones lentas adicionales.
+     * </p>
+     *
+     * @return el número de cuentas entregadas
+     */
     @Override
+    public long exportAllAccounts(Consumer<AccountResponse> consumer) {
+        log.debug("Exportando todas las cuentas");
+        long exported = 0;
+        try (Stream<AccountResponse> accounts = this.accountRepository.streamAllAccounts()) {
+            for (AccountResponse account : (Iterable<AccountResponse>) accounts::iterator) {
+                consumer.accept(account);
+                exported++;
+            }
+        }
+        log.info("Exportación de cuentas finalizada | Cuentas: {}", exported);
+        return exported;
+    }
+
+    /**
+     * Las tres consultas por cuenta individual se sirven desde {@link AccountCache}. No abren una transacción
+     * ({@code SUPPORTS}): un acierto en caché no toca la base de datos, y un fallo se resuelve con una única
+     * consulta de proyección que no necesita contexto transaccional. Los IDs que el filtro de Bloom
+     * ({@link AccountIdBloomFilter}) descarta ni siquiera llegan a la caché.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AccountResponse findAccountById(Long accountId) {
         log.debug("Buscando cuenta con ID: {}", accountId);
-        return this.accountRepository.findById(accountId)
-                .map(account -> {
-                    log.info("Cuenta encontrada | ID: {} | Titular: {}", accountId, account.getHolder());
-                    return this.accountMapper.toAccountResponse(account);
-                })
-                .orElseThrow(() -> new AccountNotFoundException(accountId));
+        this.rejectIfDefinitelyMissing(accountId);
+        AccountResponse account = this.accountCache.getById(accountId, this::loadAccount);
+        log.info("Cuenta encontrada | ID: {} | Titular: {}", accountId, account.holder());
+        return account;
+    }
+
+    /**
+     * Consulta varias cuentas a la vez, p. ej. las de una vista que muestra cientos de saldos. Como
+     * {@link #findAccountById(Long)}, descarta con el filtro de Bloom los IDs que con certeza no existen y sirve
+     * desde {@link AccountCache} las cuentas en caché; el resto se carga con consultas {@code IN} de proyección
+     * de hasta {@value #IN_QUERY_CHUNK_SIZE} IDs (una sola para el tamaño máximo de la petición).
+     * <p>
+     * Los IDs inexistentes no lanzan {@link AccountNotFoundException}: se devuelven en {@code missingIds}.
+     * </p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public AccountLookupResponse findAccountsByIds(List<Long> accountIds) {
+        log.debug("Buscando cuentas por ID | IDs: {}", accountIds.size());
+        Set<Long> requestedIds = new LinkedHashSet<>(accountIds);
+        List<Long> candidateIds = requestedIds.stream()
+                .filter(this.accountIdBloomFilter::mightContain)
+                .toList();
+        Map<Long, AccountResponse> found = this.accountCache.getAllById(candidateIds, this::loadAccounts);
+
+        List<AccountResponse> accounts = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long accountId : requestedIds) {
+            AccountResponse account = found.get(accountId);
+            if (account == null) {
+                missingIds.add(accountId);
+            } else {
+                accounts.add(account);
+            }
+        }
+        log.info("Cuentas encontradas por ID | Solicitadas: {} | Encontradas: {} | Inexistentes: {}",
+                requestedIds.size(), accounts.size(), missingIds.size());
+        return new AccountLookupResponse(accounts, missingIds);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AccountResponse findAccountByHolder(String holder) {
         log.debug("Buscando cuenta del titular: {}", holder);
-        return this.accountRepository.findAccountByHolder(holder)
-                .map(account -> {
-                    log.info("Cuenta encontrada | Titular: {} | ID: {}", account.getHolder(), account.getId());
-                    return this.accountMapper.toAccountResponse(account);
-                })
-                .orElseThrow(() -> new AccountNotFoundException(holder));
+        AccountResponse account = this.accountCache.getByHolder(holder,
+                () -> this.accountRepository.findAccountResponseByHolder(holder)
+                        .orElseThrow(() -> new AccountNotFoundException(holder)),
+                this::loadAccount);
+        log.info("Cuenta encontrada | Titular: {} | ID: {}", account.holder(), account.id());
+        return account;
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BigDecimal getAccountBalance(Long accountId) {
         log.debug("Consultando saldo de la cuenta con ID: {}", accountId);
-        return this.accountRepository.findById(accountId)
-                .map(account -> {
-                    log.info("Saldo consultado | Cuenta ID: {} | Saldo: {}", accountId, account.getBalance());
-                    return account.getBalance();
-                })
-                .orElseThrow(() -> new AccountNotFoundException(accountId));
+        this.rejectIfDefinitelyMissing(accountId);
+        AccountResponse account = this.accountCache.getById(accountId, this::loadAccount);
+        log.info("Saldo consultado | Cuenta ID: {} | Saldo: {}", accountId, account.balance());
+        return account.balance().toBigDecimal();
+    }
+
+    /**
+     * Consulta los movimientos de la cuenta en el libro mayor, a partir del {@code seq} indicado.
+     * El saldo actual sigue leyéndose de {@code accounts.balance} en {@link #getAccountBalance(Long)}.
+     */
+    @Override
+    public List<LedgerEntryResponse> findAccountMovements(Long accountId, long afterSeq, int limit) {
+        log.debug("Consultando movimientos de la cuenta con ID: {} | Desde seq: {} | Límite: {}", accountId, afterSeq, limit);
+        this.rejectIfDefinitelyMissing(accountId);
+        if (!this.accountRepository.existsById(accountId)) {
+            throw new AccountNotFoundException(accountId);
+        }
+        List<LedgerEntryResponse> movements = this.ledgerService.findMovements(accountId, afterSeq, limit);
+        log.info("Movimientos consultados | Cuenta ID: {} | Movimientos: {}", accountId, movements.size());
+        return movements;
     }
 
     @Override
@@ -83,16 +232,58 @@ public class AccountServiceImpl implements AccountService {
         Account account = this.accountMapper.toAccount(accountRequest, bank);
 
         this.accountRepository.save(account);
+        this.accountIdBloomFilter.add(account.getId());
+        this.ledgerService.recordOpening(account);
 
         log.info("Cuenta registrada exitosamente | ID: {} | Titular: {} | Banco: {} | Saldo inicial: {}",
                 account.getId(), account.getHolder(), bank.getName(), account.getBalance());
         return this.accountMapper.toAccountResponse(account);
     }
 
+    /**
+     * Registra todas las cuentas del lote y sus movimientos de apertura en una sola transacción. Si algún banco
+     * no existe no se registra ninguna cuenta.
+     * <p>
+     * Los IDs salen de {@code accounts_seq} en bloques de {@value Account#SEQ_ALLOCATION_SIZE} sin insertar nada,
+     * así que Hibernate envía los {@code INSERT} de las cuentas y de sus movimientos en lotes JDBC
+     * ({@code hibernate.jdbc.batch_size}) al confirmar, en lugar de una sentencia por cuenta.
+     * </p>
+     */
+    @Override
+    @Transactional
+    public List<AccountResponse> saveAccounts(List<AccountCreateRequest> accountRequests) {
+        log.debug("Iniciando registro de lote de cuentas | Cuentas: {}", accountRequests.size());
+
+        Set<Long> bankIds = accountRequests.stream()
+                .map(AccountCreateRequest::bankId)
+                .collect(Collectors.toSet());
+        Map<Long, Bank> banks = this.bankRepository.findAllById(bankIds).stream()
+                .collect(Collectors.toMap(Bank::getId, Function.identity()));
+        List<Account> accounts = accountRequests.stream()
+                .map(request -> {
+                    Bank bank = banks.get(request.bankId());
+                    if (bank == null) {
+                        throw new BankNotFoundException(request.bankId());
+                    }
+                    return this.accountMapper.toAccount(request, bank);
+                })
+                .toList();
+
+        this.accountRepository.saveAll(accounts);
+        accounts.forEach(account -> this.accountIdBloomFilter.add(account.getId()));
+        this.ledgerService.recordOpenings(accounts);
+
+        log.info("Lote de cuentas registrado | Cuentas: {} | Bancos: {}", accounts.size(), banks.size());
+        return accounts.stream()
+                .map(this.accountMapper::toAccountResponse)
+                .toList();
+    }
+
     @Override
     @Transactional
     public AccountResponse updateAccount(Long accountId, AccountUpdateRequest accountRequest) {
         log.debug("Iniciando actualización del titular para la cuenta con ID: {}", accountId);
+        this.accountCache.evictAfterCommit(List.of(accountId));
         return this.accountRepository.findById(accountId)
                 .map(account -> {
                     log.info("Cuenta encontrada | ID: {} | Titular actual: {}", accountId, account.getHolder());
@@ -110,6 +301,7 @@ public class AccountServiceImpl implements AccountService {
     @Transactional
     public void deleteAccount(Long accountId) {
         log.debug("Iniciando eliminación de la cuenta con ID: {}", accountId);
+        this.accountCache.evictAfterCommit(List.of(accountId));
         this.accountRepository.findById(accountId)
                 .map(account -> this.accountRepository.deleteAccountById(account.getId()))
                 .map(affectedRows -> {
@@ -117,6 +309,7 @@ public class AccountServiceImpl implements AccountService {
                         log.error("No se pudo eliminar la cuenta con ID: {}", accountId);
                         throw new DatabaseOperationException("DELETE cuenta");
                     }
+                    this.accountIdBloomFilter.recordDeletion();
                     log.info("Cuenta eliminada exitosamente | ID: {}", accountId);
                     return affectedRows;
                 })
@@ -124,50 +317,130 @@ public class AccountServiceImpl implements AccountService {
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public AccountResponse deposit(Long accountId, DepositRequest request) {
-        log.debug("Iniciando depósito a la cuenta con ID: {}, monto: {}", accountId, request.amount());
+        if (this.hotPathLogLimiter.isDebugEnabled(log, HotPathEvent.DEPOSIT)) {
+            log.debug("Iniciando depósito a la cuenta con ID: {}, monto: {}", accountId, request.amount());
+        }
+        this.accountCache.evictAfterCommit(List.of(accountId));
+        if (this.isAtomicBalanceUpdate()) {
+            return this.atomicDeposit(accountId, request.amount());
+        }
+        Money amount = Money.of(request.amount());
         return this.accountRepository.findById(accountId)
-                .map(account -> this.makeADeposit(account, request.amount()))
+                .map(account -> this.makeADeposit(account, amount))
                 .map(this.accountRepository::save)
                 .map(account -> {
-                    log.info("Depósito exitoso | Cuenta ID: {} | Monto depositado: {} | Nuevo saldo: {}",
-                            account.getId(), request.amount(), account.getBalance());
+                    this.ledgerService.recordDeposit(account, request.amount());
+                    this.accountMetrics.recordMoneyMovedAfterCommit(AccountMetrics.MoneyMovement.DEPOSIT,
+                            account.getBank().getId(), request.amount());
+                    if (this.hotPathLogLimiter.isInfoEnabled(log, HotPathEvent.DEPOSIT)) {
+                        log.info("Depósito exitoso | Cuenta ID: {} | Monto depositado: {} | Nuevo saldo: {}",
+                                account.getId(), request.amount(), account.getBalance());
+                    }
                     return this.accountMapper.toAccountResponse(account);
                 })
                 .orElseThrow(() -> new AccountNotFoundException(accountId));
     }
 
+    /**
+     * Aplica varios depósitos a una misma cuenta en una sola transacción: un único {@code UPDATE} del saldo por la
+     * suma y un movimiento {@code DEPOSIT} del libro mayor por cada depósito, como si se hubieran hecho por separado.
+     * Lo usa la agrupación de depósitos concurrentes ({@code DepositCoalescer}).
+     */
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public AccountResponse depositAll(Long accountId, List<DepositRequest> requests) {
+        if (this.hotPathLogLimiter.isDebugEnabled(log, HotPathEvent.DEPOSIT)) {
+            log.debug("Iniciando depósitos agrupados a la cuenta con ID: {}, depósitos: {}", accountId, requests.size());
+        }
+        this.accountCache.evictAfterCommit(List.of(accountId));
+        BigDecimal total = requests.stream()
+                .map(DepositRequest::amount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Account account;
+        if (this.isAtomicBalanceUpdate()) {
+            int affectedRows = this.accountRepository.increaseBalance(accountId, total);
+            account = this.accountRepository.findById(accountId)
+                    .orElseThrow(() -> new AccountNotFoundException(accountId));
+            if (affectedRows == 0) {
+                throw new BalanceLimitExceededException(account.getId(), account.getHolder());
+            }
+            requests.forEach(request -> this.ledgerService.recordDeposit(account, request.amount()));
+        } else {
+            account = this.accountRepository.findById(accountId)
+                    .orElseThrow(() -> new AccountNotFoundException(accountId));
+            for (DepositRequest request : requests) {
+                this.ledgerService.recordDeposit(this.makeADeposit(account, Money.of(request.amount())), request.amount());
+            }
+            this.accountRepository.save(account);
+        }
+        this.accountMetrics.recordMoneyMovedAfterCommit(AccountMetrics.MoneyMovement.DEPOSIT, account.getBank().getId(), total);
+        if (this.hotPathLogLimiter.isInfoEnabled(log, HotPathEvent.DEPOSIT)) {
+            log.info("Depósitos agrupados exitosos | Cuenta ID: {} | Depósitos: {} | Monto total: {} | Nuevo saldo: {}",
+                    accountId, requests.size(), total, account.getBalance());
+        }
+        return this.accountMapper.toAccountResponse(account);
+    }
+
     @Override
+    @RetryOnConflict
     @Transactional
     public AccountResponse withdraw(Long accountId, WithdrawalRequest request) {
-        log.debug("Iniciando retiro de la cuenta con ID: {}, monto: {}", accountId, request.amount());
+        if (this.hotPathLogLimiter.isDebugEnabled(log, HotPathEvent.WITHDRAWAL)) {
+            log.debug("Iniciando retiro de la cuenta con ID: {}, monto: {}", accountId, request.amount());
+        }
+        this.accountCache.evictAfterCommit(List.of(accountId));
+        if (this.isAtomicBalanceUpdate()) {
+            return this.atomicWithdrawal(accountId, request.amount());
+        }
+        Money amount = Money.of(request.amount());
         return this.accountRepository.findById(accountId)
-                .map(account -> this.makeAWithdrawal(account, request.amount()))
+                .map(account -> this.makeAWithdrawal(account, amount))
                 .map(this.accountRepository::save)
                 .map(account -> {
-                    log.info("Retiro exitoso | Cuenta ID: {} | Monto retirado: {} | Nuevo saldo: {}",
-                            account.getId(), request.amount(), account.getBalance());
+                    this.ledgerService.recordWithdrawal(account, request.amount());
+                    this.accountMetrics.recordMoneyMovedAfterCommit(AccountMetrics.MoneyMovement.WITHDRAWAL,
+                            account.getBank().getId(), request.amount());
+                    if (this.hotPathLogLimiter.isInfoEnabled(log, HotPathEvent.WITHDRAWAL)) {
+                        log.info("Retiro exitoso | Cuenta ID: {} | Monto retirado: {} | Nuevo saldo: {}",
+                                account.getId(), request.amount(), account.getBalance());
+                    }
                     return this.accountMapper.toAccountResponse(account);
                 })
                 .orElseThrow(() -> new AccountNotFoundException(accountId));
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public void transfer(TransactionRequest request) {
-        log.debug("Iniciando transferencia | Origen: {} | Destino: {} | Monto: {}",
-                request.sourceAccountId(), request.targetAccountId(), request.amount());
+        if (this.hotPathLogLimiter.isDebugEnabled(log, HotPathEvent.TRANSFER)) {
+            log.debug("Iniciando transferencia | Origen: {} | Destino: {} | Monto: {}",
+                    request.sourceAccountId(), request.targetAccountId(), request.amount());
+        }
 
         if (request.sourceAccountId().equals(request.targetAccountId())) {
             log.warn("Intento de transferencia a la misma cuenta: {}", request.sourceAccountId());
             throw new InvalidTransactionException("No se puede hacer transferencia de una cuenta a sí misma");
         }
 
-        Account sourceAccount = this.accountRepository.findById(request.sourceAccountId())
-                .orElseThrow(() -> new AccountNotFoundException(request.sourceAccountId()));
-        Account targetAccount = this.accountRepository.findById(request.targetAccountId())
-                .orElseThrow(() -> new AccountNotFoundException(request.targetAccountId()));
+        boolean pessimistic = this.accountProperties.transferLocking() == AccountProperties.TransferLocking.PESSIMISTIC;
+        Account sourceAccount;
+        Account targetAccount;
+        if (pessimistic) {
+            List<Account> lockedAccounts = this.lockAccountsInAscendingOrder(request.sourceAccountId(), request.targetAccountId());
+            boolean sourceFirst = request.sourceAccountId() < request.targetAccountId();
+            sourceAccount = lockedAccounts.get(sourceFirst ? 0 : 1);
+            targetAccount = lockedAccounts.get(sourceFirst ? 1 : 0);
+        } else {
+            sourceAccount = this.accountRepository.findById(request.sourceAccountId())
+                    .orElseThrow(() -> new AccountNotFoundException(request.sourceAccountId()));
+            targetAccount = this.accountRepository.findById(request.targetAccountId())
+                    .orElseThrow(() -> new AccountNotFoundException(request.targetAccountId()));
+        }
 
         if (!sourceAccount.getBank().getId().equals(targetAccount.getBank().getId())) {
             log.warn("Intento de transferencia entre bancos diferentes | Banco origen: {} | Banco destino: {}",
@@ -175,55 +448,288 @@ public class AccountServiceImpl implements AccountService {
             throw new InvalidTransactionException("No se puede hacer transferencia entre cuentas de diferentes bancos");
         }
 
-        // Aunque las entidades Account y Bank están en estado MANAGED dentro de esta transacción,
+        this.accountCache.evictAfterCommit(List.of(sourceAccount.getId(), targetAccount.getId()));
+
+        // Aunque las entidades Account están en estado MANAGED dentro de esta transacción,
         // usamos save(...) explícitamente para reforzar la intención de persistencia,
         // facilitar la trazabilidad del flujo y permitir verificación en tests unitarios.
         // JPA sincronizará los cambios al final del method, pero estos save(...) hacen visible el punto
         // de persistencia.
-        this.accountRepository.save(this.makeAWithdrawal(sourceAccount, request.amount()));
-        this.accountRepository.save(this.makeADeposit(targetAccount, request.amount()));
+        Money amount = Money.of(request.amount());
+        this.accountRepository.save(this.makeAWithdrawal(sourceAccount, amount));
+        this.accountRepository.save(this.makeADeposit(targetAccount, amount));
+        this.ledgerService.recordTransfers(List.of(request),
+                Map.of(sourceAccount.getId(), sourceAccount, targetAccount.getId(), targetAccount));
 
-        Bank bank = sourceAccount.getBank();
-        bank.setTotalTransfers(bank.getTotalTransfers() + 1);
-        this.bankRepository.save(bank);
+        // El total del banco se lleva en un contador fragmentado: cada transferencia incrementa una fila
+        // elegida al azar, en lugar de serializar todas las transferencias del banco sobre la fila de Bank.
+        Long bankId = sourceAccount.getBank().getId();
+        this.transferCounterService.increment(bankId);
+        this.accountMetrics.recordMoneyMovedAfterCommit(AccountMetrics.MoneyMovement.TRANSFER, bankId, request.amount());
 
-        log.info("Transferencia exitosa | De: {} (ID: {}) | Para: {} (ID: {}) | Monto: {} | Banco: {} | Total transferencias: {}",
-                sourceAccount.getHolder(), sourceAccount.getId(),
-                targetAccount.getHolder(), targetAccount.getId(),
-                request.amount(), bank.getName(), bank.getTotalTransfers());
+        if (this.hotPathLogLimiter.isInfoEnabled(log, HotPathEvent.TRANSFER)) {
+            log.info("Transferencia exitosa | De: {} (ID: {}) | Para: {} (ID: {}) | Monto: {} | Banco ID: {}",
+                    sourceAccount.getHolder(), sourceAccount.getId(),
+                    targetAccount.getHolder(), targetAccount.getId(),
+                    request.amount(), bankId);
+        }
+    }
+
+    /**
+     * Aplica un lote de transferencias en una única transacción.
+     * <p>
+     * Todas las cuentas afectadas se cargan y bloquean con consultas {@code IN} ordenadas por ID (en bloques de
+     * {@value #IN_QUERY_CHUNK_SIZE}), los tramos se aplican en memoria en el orden recibido y, al
+     * confirmar, Hibernate envía los {@code UPDATE} en lotes JDBC ({@code hibernate.jdbc.batch_size}).
+     * Un tramo inválido no aborta el lote: se marca como rechazado y se continúa con el siguiente.
+     * </p>
+     */
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public TransferBatchResponse transferBatch(List<TransactionRequest> requests) {
+        log.debug("Iniciando lote de transferencias | Tramos: {}", requests.size());
+
+        Map<Long, Account> accounts = this.lockBatchAccounts(requests);
+        Map<Long, Long> appliedTransfersByBank = new HashMap<>();
+        List<TransferLegResult> results = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            results.add(this.applyTransferLeg(index, requests.get(index), accounts, appliedTransfersByBank));
+        }
+        appliedTransfersByBank.forEach(this.transferCounterService::increment);
+        this.accountCache.evictAfterCommit(List.copyOf(accounts.keySet()));
+        List<TransactionRequest> appliedRequests = results.stream()
+                .filter(result -> result.status() == TransferLegResult.Status.APPLIED)
+                .map(result -> requests.get(result.index()))
+                .toList();
+        this.ledgerService.recordTransfers(appliedRequests, accounts);
+        this.accountMetrics.recordMoneyMovedAfterCommit(AccountMetrics.MoneyMovement.TRANSFER, appliedRequests.stream()
+                .collect(Collectors.groupingBy(request -> accounts.get(request.sourceAccountId()).getBank().getId(),
+                        Collectors.reducing(BigDecimal.ZERO, TransactionRequest::amount, BigDecimal::add))));
+
+        TransferBatchResponse response = TransferBatchResponse.of(results);
+        log.info("Lote de transferencias procesado | Tramos: {} | Aplicados: {} | Rechazados: {} | Cuentas bloqueadas: {}",
+                response.total(), response.applied(), response.rejected(), accounts.size());
+        return response;
     }
 
     @Override
     public int countTotalTransfersToBank(Long bankId) {
         log.debug("Consultando total de transferencias del banco con ID: {}", bankId);
-        return this.bankRepository.findById(bankId)
-                .map(bank -> {
-                    log.info("Total de transferencias del banco {} (ID: {}): {}",
-                            bank.getName(), bank.getId(), bank.getTotalTransfers());
-                    return bank.getTotalTransfers();
+        // El total consolidado se lee de la base de datos: el de la entidad en caché puede estar desactualizado
+        return this.bankRepository.findTotalTransfersById(bankId)
+                .map(consolidatedTransfers -> {
+                    // Total consolidado más lo acumulado en los fragmentos pendientes de consolidar
+                    int totalTransfers = Math.toIntExact(
+                            consolidatedTransfers + this.transferCounterService.countPendingTransfers(bankId));
+                    log.info("Total de transferencias del banco con ID {}: {}", bankId, totalTransfers);
+                    return totalTransfers;
                 })
                 .orElseThrow(() -> new BankNotFoundException(bankId));
     }
 
-    private Account makeADeposit(Account account, BigDecimal amount) {
-        log.info("Aplicando depósito a cuenta con ID: {}, saldo actual: {}, monto a agregar: {}",
-                account.getId(), account.getBalance(), amount);
+    /**
+     * Descarta sin consultar la base de datos los IDs que el filtro de Bloom indica que con certeza no existen.
+     * Supone que esta instancia es la única que crea cuentas (ver {@link AccountIdBloomFilter}).
+     */
+    private void rejectIfDefinitelyMissing(Long accountId) {
+        if (!this.accountIdBloomFilter.mightContain(accountId)) {
+            log.debug("Cuenta con ID {} descartada por el filtro de IDs existentes", accountId);
+            throw new AccountNotFoundException(accountId);
+        }
+    }
+
+    private AccountResponse loadAccount(Long accountId) {
+        return this.accountRepository.findAccountResponseById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(accountId));
+    }
 
-        account.setBalance(account.getBalance().add(amount));
+    private Map<Long, AccountResponse> loadAccounts(Set<? extends Long> accountIds) {
+        List<Long> ids = List.copyOf(accountIds);
+        Map<Long, AccountResponse> accounts = HashMap.newHashMap(ids.size());
+        for (int from = 0; from < ids.size(); from += IN_QUERY_CHUNK_SIZE) {
+            this.accountRepository.findAccountResponsesByIds(ids.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, ids.size())))
+                    .forEach(account -> accounts.put(account.id(), account));
+        }
+        return accounts;
+    }
+
+    /**
+     * Bloquea ({@code SELECT ... FOR UPDATE}) las dos cuentas de una transferencia en orden ascendente de ID.
+     * <p>
+     * Como todas las transferencias adquieren los bloqueos en el mismo orden global, dos transferencias
+     * cruzadas (A→B y B→A) esperan una por la otra en lugar de interbloquearse.
+     * </p>
+     *
+     * @return las cuentas bloqueadas, en orden ascendente de ID
+     */
+    private List<Account> lockAccountsInAscendingOrder(Long sourceAccountId, Long targetAccountId) {
+        Long firstAccountId = Math.min(sourceAccountId, targetAccountId);
+        Long secondAccountId = Math.max(sourceAccountId, targetAccountId);
+        long lockStartNanos = AccountOperationTracker.startTiming();
+        Account firstAccount = this.accountRepository.findByIdForUpdate(firstAccountId)
+                .orElseThrow(() -> new AccountNotFoundException(firstAccountId));
+        Account secondAccount = this.accountRepository.findByIdForUpdate(secondAccountId)
+                .orElseThrow(() -> new AccountNotFoundException(secondAccountId));
+        AccountOperationTracker.addLockWait(lockStartNanos);
+        log.debug("Cuentas bloqueadas en orden | Primera: {} | Segunda: {}", firstAccountId, secondAccountId);
+        return List.of(firstAccount, secondAccount);
+    }
+
+    /**
+     * Bloquea todas las cuentas de un lote en orden ascendente de ID, en bloques para no exceder
+     * el número de parámetros admitido por la base de datos en una cláusula {@code IN}.
+     *
+     * @return las cuentas encontradas indexadas por ID; las inexistentes no aparecen en el mapa
+     */
+    private Map<Long, Account> lockBatchAccounts(List<TransactionRequest> requests) {
+        List<Long> accountIds = requests.stream()
+                .flatMap(request -> Stream.of(request.sourceAccountId(), request.targetAccountId()))
+                .distinct()
+                .sorted()
+                .toList();
+        Map<Long, Account> accounts = HashMap.newHashMap(accountIds.size());
+        long lockStartNanos = AccountOperationTracker.startTiming();
+        for (int from = 0; from < accountIds.size(); from += IN_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = accountIds.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, accountIds.size()));
+            this.accountRepository.findAllByIdForUpdate(chunk)
+                    .forEach(account -> accounts.put(account.getId(), account));
+        }
+        AccountOperationTracker.addLockWait(lockStartNanos);
+        return accounts;
+    }
+
+    /**
+     * Valida y aplica en memoria un tramo del lote. A diferencia de {@code transfer}, los errores de negocio
+     * no se lanzan: se devuelven como resultado del tramo para no abortar el resto del lote.
+     */
+    private TransferLegResult applyTransferLeg(int index, TransactionRequest request,
+                                               Map<Long, Account> accounts, Map<Long, Long> appliedTransfersByBank) {
+        if (request.sourceAccountId().equals(request.targetAccountId())) {
+            return TransferLegResult.rejected(index, request, TransferLegResult.Status.INVALID_TRANSACTION,
+                    "No se puede hacer transferencia de una cuenta a sí misma");
+        }
+        Account sourceAccount = accounts.get(request.sourceAccountId());
+        Account targetAccount = accounts.get(request.targetAccountId());
+        if (sourceAccount == null || targetAccount == null) {
+            Long missingAccountId = sourceAccount == null ? request.sourceAccountId() : request.targetAccountId();
+            return TransferLegResult.rejected(index, request, TransferLegResult.Status.ACCOUNT_NOT_FOUND,
+                    new AccountNotFoundException(missingAccountId).getMessage());
+        }
+        Long bankId = sourceAccount.getBank().getId();
+        if (!bankId.equals(targetAccount.getBank().getId())) {
+            return TransferLegResult.rejected(index, request, TransferLegResult.Status.INVALID_TRANSACTION,
+                    "No se puede hacer transferencia entre cuentas de diferentes bancos");
+        }
+        Money amount = Money.of(request.amount());
+        if (amount.isGreaterThan(sourceAccount.getBalance())) {
+            return TransferLegResult.rejected(index, request, TransferLegResult.Status.INSUFFICIENT_BALANCE,
+                    new InsufficientBalanceException(sourceAccount.getId(), sourceAccount.getHolder()).getMessage());
+        }
+        Money targetBalance;
+        try {
+            targetBalance = this.increasedBalance(targetAccount, amount);
+        } catch (BalanceLimitExceededException e) {
+            return TransferLegResult.rejected(index, request, TransferLegResult.Status.INVALID_TRANSACTION, e.getMessage());
+        }
+
+        sourceAccount.setBalance(sourceAccount.getBalance().minus(amount));
+        sourceAccount.setLedgerPosition(sourceAccount.getLedgerPosition() + 1);
+        targetAccount.setBalance(targetBalance);
+        targetAccount.setLedgerPosition(targetAccount.getLedgerPosition() + 1);
+        appliedTransfersByBank.merge(bankId, 1L, Long::sum);
+        return TransferLegResult.applied(index, request);
+    }
+
+    private boolean isAtomicBalanceUpdate() {
+        return this.accountProperties.balanceUpdateMode() == AccountProperties.BalanceUpdateMode.ATOMIC;
+    }
+
+    /**
+     * Aplica el depósito con un único {@code UPDATE} condicional en la base de datos.
+     * <p>
+     * No hay lectura previa de la entidad: si el {@code UPDATE} no afecta filas es porque la cuenta no existe.
+     * La cuenta se lee después para construir la respuesta y sellar el movimiento con el saldo y la posición
+     * resultantes.
+     * </p>
+     */
+    private AccountResponse atomicDeposit(Long accountId, BigDecimal amount) {
+        int affectedRows = this.accountRepository.increaseBalance(accountId, amount);
+        Account account = this.accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(accountId));
+        if (affectedRows == 0) {
+            throw new BalanceLimitExceededException(account.getId(), account.getHolder());
+        }
+        this.ledgerService.recordDeposit(account, amount);
+        this.accountMetrics.recordMoneyMovedAfterCommit(AccountMetrics.MoneyMovement.DEPOSIT, account.getBank().getId(), amount);
+        if (this.hotPathLogLimiter.isInfoEnabled(log, HotPathEvent.DEPOSIT)) {
+            log.info("Depósito atómico exitoso | Cuenta ID: {} | Monto depositado: {} | Nuevo saldo: {}",
+                    accountId, amount, account.getBalance());
+        }
+        return this.accountMapper.toAccountResponse(account);
+    }
+
+    /**
+     * Aplica el retiro con un único {@code UPDATE ... WHERE balance >= :amount}.
+     * <p>
+     * Si el {@code UPDATE} no afecta filas, la cuenta se consulta solo para distinguir entre
+     * cuenta inexistente ({@link AccountNotFoundException}) y saldo insuficiente
+     * ({@link InsufficientBalanceException}).
+     * </p>
+     */
+    private AccountResponse atomicWithdrawal(Long accountId, BigDecimal amount) {
+        int affectedRows = this.accountRepository.decreaseBalance(accountId, amount);
+        Account account = this.accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(accountId));
+        if (affectedRows == 0) {
+            log.warn("Solicitud rechazada por saldo insuficiente | Cuenta ID: {} | Titular: {} | Saldo: {} | Monto solicitado: {}",
+                    account.getId(), account.getHolder(), account.getBalance(), amount);
+            throw new InsufficientBalanceException(account.getId(), account.getHolder());
+        }
+        this.ledgerService.recordWithdrawal(account, amount);
+        this.accountMetrics.recordMoneyMovedAfterCommit(AccountMetrics.MoneyMovement.WITHDRAWAL, account.getBank().getId(), amount);
+        if (this.hotPathLogLimiter.isInfoEnabled(log, HotPathEvent.WITHDRAWAL)) {
+            log.info("Retiro atómico exitoso | Cuenta ID: {} | Monto retirado: {} | Nuevo saldo: {}",
+                    accountId, amount, account.getBalance());
+        }
+        return this.accountMapper.toAccountResponse(account);
+    }
+
+    private Account makeADeposit(Account account, Money amount) {
+        if (this.hotPathLogLimiter.isInfoEnabled(log, HotPathEvent.BALANCE_UPDATE)) {
+            log.info("Aplicando depósito a cuenta con ID: {}, saldo actual: {}, monto a agregar: {}",
+                    account.getId(), account.getBalance(), amount);
+        }
+
+        account.setBalance(this.increasedBalance(account, amount));
+        account.setLedgerPosition(account.getLedgerPosition() + 1);
         return account;
     }
 
-    private Account makeAWithdrawal(Account account, BigDecimal amount) {
-        log.info("Validando el retiro de saldo para la cuenta con ID: {}, saldo actual: {}, monto a retirar: {}",
-                account.getId(), account.getBalance(), amount);
+    private Money increasedBalance(Account account, Money amount) {
+        try {
+            return account.getBalance().plus(amount);
+        } catch (ArithmeticException e) {
+            log.warn("Solicitud rechazada por superar el saldo máximo | Cuenta ID: {} | Saldo: {} | Monto: {}",
+                    account.getId(), account.getBalance(), amount);
+            throw new BalanceLimitExceededException(account.getId(), account.getHolder());
+        }
+    }
+
+    private Account makeAWithdrawal(Account account, Money amount) {
+        if (this.hotPathLogLimiter.isInfoEnabled(log, HotPathEvent.BALANCE_UPDATE)) {
+            log.info("Validando el retiro de saldo para la cuenta con ID: {}, saldo actual: {}, monto a retirar: {}",
+                    account.getId(), account.getBalance(), amount);
+        }
 
-        if (amount.compareTo(account.getBalance()) > 0) {
+        if (amount.isGreaterThan(account.getBalance())) {
             log.warn("Solicitud rechazada por saldo insuficiente | Cuenta ID: {} | Titular: {} | Saldo: {} | Monto solicitado: {}",
                     account.getId(), account.getHolder(), account.getBalance(), amount);
             throw new InsufficientBalanceException(account.getId(), account.getHolder());
         }
 
-        account.setBalance(account.getBalance().subtract(amount));
+        account.setBalance(account.getBalance().minus(amount));
+        account.setLedgerPosition(account.getLedgerPosition() + 1);
         return account;
     }
 }
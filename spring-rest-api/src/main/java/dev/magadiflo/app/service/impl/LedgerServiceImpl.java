@@ -0,0 +1,156 @@
+package dev.magadiflo.app.service.impl;
+
+import dev.magadiflo.app.config.LedgerProperties;
+import dev.magadiflo.app.dto.LedgerEntryResponse;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.AccountBalanceSnapshot;
+import dev.magadiflo.app.entity.LedgerEntry;
+import dev.magadiflo.app.repository.AccountBalanceSnapshotRepository;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.LedgerEntryRepository;
+import dev.magadiflo.app.retry.RetryOnConflict;
+import dev.magadiflo.app.service.LedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class LedgerServiceImpl implements LedgerService {
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final AccountBalanceSnapshotRepository accountBalanceSnapshotRepository;
+    private final AccountRepository accountRepository;
+    private final LedgerProperties ledgerProperties;
+
+    /**
+     * Los métodos de registro se unen a la transacción de la operación que los invoca: el movimiento se
+     * confirma o se revierte junto con el cambio de saldo. Los {@code INSERT} se envían al confirmar,
+     * agrupados en lotes JDBC junto con el resto de cambios pendientes.
+     * <p>
+     * Cada movimiento se sella con {@link Account#getLedgerPosition()}, que quien llama incrementa en el mismo
+     * {@code UPDATE} que cambia el saldo (la apertura queda en la posición inicial, {@code 0}).
+     * </p>
+     */
+    @Override
+    @Transactional
+    public void recordOpening(Account account) {
+        this.ledgerEntryRepository.save(this.entry(account, LedgerEntry.Type.OPENING, account.getBalance().toBigDecimal(), null));
+    }
+
+    @Override
+    @Transactional
+    public void recordOpenings(List<Account> accounts) {
+        this.ledgerEntryRepository.saveAll(accounts.stream()
+                .map(account -> this.entry(account, LedgerEntry.Type.OPENING, account.getBalance().toBigDecimal(), null))
+                .toList());
+    }
+
+    @Override
+    @Transactional
+    public void recordDeposit(Account account, BigDecimal amount) {
+        this.ledgerEntryRepository.save(this.entry(account, LedgerEntry.Type.DEPOSIT, amount, null));
+    }
+
+    @Override
+    @Transactional
+    public void recordWithdrawal(Account account, BigDecimal amount) {
+        this.ledgerEntryRepository.save(this.entry(account, LedgerEntry.Type.WITHDRAWAL, amount.negate(), null));
+    }
+
+    /**
+     * Registra el cargo en la cuenta origen y el abono en la cuenta destino de cada transferencia.
+     *
+     * @param accounts las cuentas de las transferencias, indexadas por ID, con su posición ya incrementada
+     */
+    @Override
+    @Transactional
+    public void recordTransfers(List<TransactionRequest> transfers, Map<Long, Account> accounts) {
+        List<LedgerEntry> entries = new ArrayList<>(transfers.size() * 2);
+        for (TransactionRequest transfer : transfers) {
+            entries.add(this.entry(accounts.get(transfer.sourceAccountId()), LedgerEntry.Type.TRANSFER_OUT,
+                    transfer.amount().negate(), transfer.targetAccountId()));
+            entries.add(this.entry(accounts.get(transfer.targetAccountId()), LedgerEntry.Type.TRANSFER_IN,
+                    transfer.amount(), transfer.sourceAccountId()));
+        }
+        this.ledgerEntryRepository.saveAll(entries);
+    }
+
+    @Override
+    public List<LedgerEntryResponse> findMovements(Long accountId, long afterSeq, int limit) {
+        int pageSize = Math.clamp(limit, 1, this.ledgerProperties.maxMovementsPerPage());
+        return this.ledgerEntryRepository.findByAccountIdAndSeqGreaterThanOrderBySeqAsc(accountId, afterSeq, Limit.of(pageSize))
+                .stream()
+                .map(LedgerEntryResponse::of)
+                .toList();
+    }
+
+    /**
+     * Calcula el saldo de la cuenta según el libro mayor: la última foto más los movimientos con una posición
+     * posterior. Sin foto, se suman todos los movimientos de la cuenta.
+     */
+    @Override
+    public BigDecimal deriveBalance(Long accountId) {
+        return this.accountBalanceSnapshotRepository.findById(accountId)
+                .map(snapshot -> snapshot.getBalance().add(this.ledgerEntryRepository
+                        .sumAmountByAccountIdAndAccountPositionGreaterThan(accountId, snapshot.getLastPosition())))
+                .orElseGet(() -> this.ledgerEntryRepository.sumAmountByAccountId(accountId));
+    }
+
+    @Override
+    public List<Long> findAccountsPendingSnapshot() {
+        return this.ledgerEntryRepository.findAccountIdsPendingSnapshot();
+    }
+
+    /**
+     * Guarda una foto del saldo de la cuenta junto con la posición del libro mayor que refleja.
+     * <p>
+     * Saldo y posición se leen de la misma fila, bloqueada ({@code SELECT ... FOR UPDATE}): toda operación que
+     * registra un movimiento incrementa la posición en el {@code UPDATE} que cambia el saldo, así que los
+     * movimientos con una posición menor o igual ya están confirmados y reflejados en el saldo, y los que se
+     * confirmen después tendrán una posición mayor. No se usa el {@code seq}: los bloques de la secuencia se
+     * reservan por instancia y un {@code seq} menor puede confirmarse después de la foto.
+     * </p>
+     *
+     * @return {@code true} si se guardó la foto, {@code false} si la cuenta ya no existe
+     */
+    @Override
+    @RetryOnConflict("ledgerSnapshot")
+    @Transactional
+    public boolean takeSnapshot(Long accountId) {
+        return this.accountRepository.findByIdForUpdate(accountId)
+                .map(account -> {
+                    this.accountBalanceSnapshotRepository.save(AccountBalanceSnapshot.builder()
+                            .accountId(accountId)
+                            .balance(account.getBalance().toBigDecimal())
+                            .lastPosition(account.getLedgerPosition())
+                            .takenAt(Instant.now())
+                            .build());
+                    log.debug("Foto de saldo guardada | Cuenta ID: {} | Saldo: {} | Posición: {}",
+                            accountId, account.getBalance(), account.getLedgerPosition());
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private LedgerEntry entry(Account account, LedgerEntry.Type type, BigDecimal amount, Long counterpartyAccountId) {
+        return LedgerEntry.builder()
+                .accountId(account.getId())
+                .accountPosition(account.getLedgerPosition())
+                .type(type)
+                .amount(amount)
+                .counterpartyAccountId(counterpartyAccountId)
+                .build();
+    }
+}
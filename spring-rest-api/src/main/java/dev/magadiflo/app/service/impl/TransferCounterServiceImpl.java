@@ -0,0 +1,79 @@
+package dev.magadiflo.app.service.impl;
+
+import dev.magadiflo.app.config.TransferCounterProperties;
+import dev.magadiflo.app.entity.BankTransferCounter;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.repository.BankTransferCounterRepository;
+import dev.magadiflo.app.retry.RetryOnConflict;
+import dev.magadiflo.app.service.TransferCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class TransferCounterServiceImpl implements TransferCounterService {
+
+    private final BankTransferCounterRepository bankTransferCounterRepository;
+    private final BankRepository bankRepository;
+    private final TransferCounterProperties transferCounterProperties;
+
+    /**
+     * Incrementa un fragmento elegido al azar. Se une a la transacción de la transferencia,
+     * por lo que el incremento se revierte si la transferencia falla.
+     */
+    @Override
+    @Transactional
+    public void increment(Long bankId) {
+        this.increment(bankId, 1);
+    }
+
+    @Override
+    @Transactional
+    public void increment(Long bankId, long transfers) {
+        int shard = ThreadLocalRandom.current().nextInt(this.transferCounterProperties.shards());
+        this.bankTransferCounterRepository.incrementShard(bankId, shard, transfers);
+    }
+
+    @Override
+    public long countPendingTransfers(Long bankId) {
+        return this.bankTransferCounterRepository.sumTransfersByBankId(bankId);
+    }
+
+    @Override
+    public List<Long> findBanksWithPendingTransfers() {
+        return this.bankTransferCounterRepository.findBankIdsWithPendingTransfers();
+    }
+
+    /**
+     * Traslada lo acumulado en los fragmentos del banco a {@code banks.total_transfers}.
+     * <p>
+     * Ambas escrituras ocurren en la misma transacción, así que la suma
+     * {@code total_transfers + fragmentos} se mantiene constante para cualquier lector.
+     * </p>
+     *
+     * @return cantidad de transferencias consolidadas
+     */
+    @Override
+    @RetryOnConflict("transferCounterRollup")
+    @Transactional
+    public long rollup(Long bankId) {
+        List<BankTransferCounter> shards = this.bankTransferCounterRepository.findByBankIdAndTransfersGreaterThan(bankId, 0);
+        long transfers = shards.stream().mapToLong(BankTransferCounter::getTransfers).sum();
+        if (transfers == 0) {
+            return 0;
+        }
+        shards.forEach(counter ->
+                this.bankTransferCounterRepository.subtractFromShard(bankId, counter.getShard(), counter.getTransfers()));
+        this.bankRepository.addTotalTransfers(bankId, transfers);
+        log.debug("Contador de transferencias consolidado | Banco ID: {} | Fragmentos: {} | Transferencias: {}",
+                bankId, shards.size(), transfers);
+        return transfers;
+    }
+}
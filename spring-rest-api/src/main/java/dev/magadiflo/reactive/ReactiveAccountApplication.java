@@ -0,0 +1,35 @@
+package dev.magadiflo.reactive;
+
+import dev.magadiflo.app.config.AccountProperties;
+import dev.magadiflo.app.config.LedgerProperties;
+import dev.magadiflo.app.config.TransferCounterProperties;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+/**
+ * Variante reactiva (WebFlux + R2DBC) de la API de cuentas, con el mismo contrato que
+ * {@code SpringRestApiApplication} para {@code /api/v1/accounts} y {@code /api/v1/banks}.
+ * <p>
+ * Atiende todas las peticiones con unos pocos hilos del event loop de Netty: ninguna operación bloquea un hilo
+ * mientras espera a la base de datos, por lo que miles de peticiones concurrentes no necesitan miles de hilos ni de
+ * conexiones. Comparte el esquema (que crea y migra la aplicación servlet), los DTO, las excepciones de negocio y
+ * las propiedades {@code app.*}, y se configura con el perfil {@code reactive} ({@code application-reactive.yml}).
+ * </p>
+ * <p>
+ * Ejecutar con: {@code mvn spring-boot:run -Dspring-boot.run.main-class=dev.magadiflo.reactive.ReactiveAccountApplication}
+ * </p>
+ */
+@EnableConfigurationProperties({AccountProperties.class, LedgerProperties.class, TransferCounterProperties.class})
+@SpringBootApplication
+public class ReactiveAccountApplication {
+
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveAccountApplication.class)
+                .profiles(PROFILE)
+                .run(args);
+    }
+
+}
@@ -0,0 +1,54 @@
+package dev.magadiflo.reactive.config;
+
+import dev.magadiflo.app.money.Money;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Conversiones de R2DBC para la variante reactiva.
+ * <p>
+ * Las proyecciones a {@code AccountResponse} leen la columna {@code balance} ({@code DECIMAL(19,2)}) como
+ * {@link BigDecimal}, y el DTO la expone como {@link Money}. La entidad reactiva conserva {@link BigDecimal},
+ * porque sus importes se envían tal cual a los {@code UPDATE} de la base de datos.
+ * </p>
+ * <p>
+ * El convertidor de escritura hace de {@link Money} un tipo simple para Spring Data: sin él, las proyecciones
+ * tratarían {@code balance} como un objeto anidado de la entidad y fallarían al leerlo.
+ * </p>
+ */
+@Configuration
+public class R2dbcConfig {
+
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+        return R2dbcCustomConversions.of(DialectResolver.getDialect(connectionFactory), List.of(
+                new BigDecimalToMoneyConverter(), new MoneyToBigDecimalConverter()));
+    }
+
+    @ReadingConverter
+    static class BigDecimalToMoneyConverter implements Converter<BigDecimal, Money> {
+
+        @Override
+        public Money convert(BigDecimal source) {
+            return Money.of(source);
+        }
+    }
+
+    @WritingConverter
+    static class MoneyToBigDecimalConverter implements Converter<Money, BigDecimal> {
+
+        @Override
+        public BigDecimal convert(Money source) {
+            return source.toBigDecimal();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.magadiflo.reactive.config;
+
+import dev.magadiflo.reactive.exception.ReactiveErrorHandler;
+import dev.magadiflo.reactive.handler.AccountHandler;
+import dev.magadiflo.reactive.handler.BankHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Rutas de la variante reactiva, con el mismo contrato que {@code AccountController} y {@code BankController}.
+ * <p>
+ * No incluye la cabecera {@code Idempotency-Key} ni {@code POST /api/v1/accounts/transfers/batch}: ambas
+ * dependen de servicios JPA de la aplicación servlet.
+ * </p>
+ */
+@Configuration
+public class RouterConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> accountRoutes(AccountHandler accountHandler, ReactiveErrorHandler errorHandler) {
+        return route()
+                .path("/api/v1/accounts", builder -> builder
+                        .GET("", RouterConfig::acceptsNdjson, accountHandler::exportAllAccounts)
+                        .GET("", accountHandler::findAllAccounts)
+                        .GET("/search", accountHandler::searchByHolder)
+                        .GET("/{accountId}", accountHandler::findAccountById)
+                        .GET("/{accountId}/balance", accountHandler::getAccountBalance)
+                        .GET("/{accountId}/movements", accountHandler::findAccountMovements)
+                        .POST("", accountHandler::saveAccount)
+                        .POST("/transfer", accountHandler::transfer)
+                        .POST("/{accountId}/deposit", accountHandler::deposit)
+                        .POST("/{accountId}/withdraw", accountHandler::withdraw)
+                        .PUT("/{accountId}", accountHandler::updateAccount)
+                        .DELETE("/{accountId}", accountHandler::deleteAccount))
+                .onError(Throwable.class, errorHandler::handle)
+                .build();
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> bankRoutes(BankHandler bankHandler, ReactiveErrorHandler errorHandler) {
+        return route()
+                .GET("/api/v1/banks/{bankId}", bankHandler::countTotalTransfersToBank)
+                .onError(Throwable.class, errorHandler::handle)
+                .build();
+    }
+
+    /**
+     * Como {@code produces} en {@code AccountController}: la exportación NDJSON solo se sirve si el cliente la pide
+     * explícitamente; sin cabecera {@code Accept} (o con {@code *}{@code /*}) se devuelve el listado JSON.
+     */
+    private static boolean acceptsNdjson(ServerRequest request) {
+        return request.headers().accept().stream()
+                .anyMatch(mediaType -> mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON) && !mediaType.isWildcardType());
+    }
+}
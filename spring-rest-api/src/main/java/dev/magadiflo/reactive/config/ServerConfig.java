@@ -0,0 +1,23 @@
+package dev.magadiflo.reactive.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Servidor Netty para la variante reactiva.
+ * <p>
+ * El módulo incluye Tomcat para la aplicación servlet y, con ambos en el classpath, Spring Boot elegiría Tomcat
+ * también para WebFlux (adaptado sobre la API de servlets asíncrona). Con Netty las peticiones las atienden los
+ * hilos del event loop, sin un pool de hilos de peticiones. Los {@code WebServerFactoryCustomizer} de Spring Boot
+ * ({@code server.port}, etc.) se siguen aplicando a esta fábrica.
+ * </p>
+ */
+@Configuration
+public class ServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,33 @@
+package dev.magadiflo.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+/**
+ * Fila de la tabla {@code accounts} para R2DBC. El esquema es el de la entidad JPA {@code dev.magadiflo.app.entity.Account}.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Table("accounts")
+public class Account {
+    @Id
+    private Long id;
+
+    private String holder;
+
+    private BigDecimal balance;
+
+    private Long bankId;
+
+    @Version
+    private Long version;
+}
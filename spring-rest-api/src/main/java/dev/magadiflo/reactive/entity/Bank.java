@@ -0,0 +1,29 @@
+package dev.magadiflo.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Fila de la tabla {@code banks} para R2DBC. El esquema es el de la entidad JPA {@code dev.magadiflo.app.entity.Bank}.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Table("banks")
+public class Bank {
+    @Id
+    private Long id;
+
+    private String name;
+
+    private Integer totalTransfers;
+
+    @Version
+    private Long version;
+}
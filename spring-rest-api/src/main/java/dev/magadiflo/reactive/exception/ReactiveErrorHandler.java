@@ -0,0 +1,87 @@
+package dev.magadiflo.reactive.exception;
+
+import dev.magadiflo.app.dto.ErrorResponse;
+import dev.magadiflo.app.exception.BusinessException;
+import dev.magadiflo.app.exception.EntityNotFoundException;
+import dev.magadiflo.app.exception.ErrorResponseTemplates;
+import dev.magadiflo.app.exception.IdempotencyKeyConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Traduce los errores de las rutas reactivas a respuestas HTTP con el mismo formato y los mismos códigos que
+ * {@code GlobalExceptionHandler} en la aplicación servlet.
+ */
+@Slf4j
+@Component
+public class ReactiveErrorHandler {
+
+    private final ErrorResponseTemplates errorResponseTemplates = new ErrorResponseTemplates();
+
+    public Mono<ServerResponse> handle(Throwable ex, ServerRequest request) {
+        String path = request.path();
+        return switch (ex) {
+            case BusinessException businessException -> this.businessException(businessException, path);
+            case RequestValidationException validationException -> {
+                log.info("Errores de validación en petición {} | Campos con errores: {} | Path: {}",
+                        request.method(), validationException.getValidationErrors().keySet(), path);
+                yield this.errorResponse(HttpStatus.BAD_REQUEST, ErrorResponse.create(
+                        HttpStatus.BAD_REQUEST.value(),
+                        "Validation Failed",
+                        validationException.getMessage(),
+                        path,
+                        validationException.getValidationErrors()));
+            }
+            case ConcurrencyFailureException concurrencyFailure -> {
+                // El mensaje original contiene detalles del SQL, por eso no se devuelve al cliente.
+                log.warn("Conflicto de concurrencia no resuelto | Excepción: {} | Path: {}",
+                        concurrencyFailure.getClass().getSimpleName(), path);
+                yield this.errorResponse(HttpStatus.CONFLICT,
+                        "La operación no pudo completarse por modificaciones concurrentes. Intente nuevamente", path);
+            }
+            case ResponseStatusException statusException -> {
+                // Cuerpo ilegible, parámetros con formato inválido, etc.
+                log.info("Petición rechazada: {} | Path: {}", statusException.getReason(), path);
+                HttpStatus status = HttpStatus.valueOf(statusException.getStatusCode().value());
+                yield this.errorResponse(status, statusException.getReason() == null
+                        ? status.getReasonPhrase()
+                        : statusException.getReason(), path);
+            }
+            default -> {
+                log.error("Error inesperado del sistema: {} | Path: {} | Exception: {}",
+                        ex.getMessage(), path, ex.getClass().getSimpleName(), ex);
+                yield this.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+                        "Ocurrió un error interno del servidor. Por favor, contacte al administrador", path);
+            }
+        };
+    }
+
+    private Mono<ServerResponse> businessException(BusinessException ex, String path) {
+        HttpStatus status = switch (ex) {
+            case EntityNotFoundException ignored -> HttpStatus.NOT_FOUND;
+            case IdempotencyKeyConflictException ignored -> HttpStatus.UNPROCESSABLE_ENTITY;
+            default -> HttpStatus.BAD_REQUEST;
+        };
+        log.warn("Excepción de negocio: {} | Excepción: {} | Path: {}", ex.getMessage(), ex.getClass().getSimpleName(), path);
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(this.errorResponseTemplates.render(status, ex.getMessage(), path));
+    }
+
+    private Mono<ServerResponse> errorResponse(HttpStatus status, String message, String path) {
+        return this.errorResponse(status, ErrorResponse.create(status.value(), status.getReasonPhrase(), message, path));
+    }
+
+    private Mono<ServerResponse> errorResponse(HttpStatus status, ErrorResponse errorResponse) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(errorResponse);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.magadiflo.reactive.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cuerpo de la petición que no cumple las validaciones de Bean Validation. Equivale a
+ * {@code MethodArgumentNotValidException} en la aplicación servlet, donde las valida {@code @Valid}.
+ */
+@Getter
+public class RequestValidationException extends RuntimeException {
+
+    private final transient Map<String, List<String>> validationErrors;
+
+    public RequestValidationException(Map<String, List<String>> validationErrors) {
+        super("Los datos enviados no cumplen con las validaciones requeridas", null, false, false);
+        this.validationErrors = validationErrors;
+    }
+}
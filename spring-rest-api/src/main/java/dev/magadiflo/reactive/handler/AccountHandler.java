@@ -0,0 +1,175 @@
+package dev.magadiflo.reactive.handler;
+
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.dto.AccountUpdateRequest;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.WithdrawalRequest;
+import dev.magadiflo.reactive.exception.RequestValidationException;
+import dev.magadiflo.reactive.service.ReactiveAccountService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Handlers funcionales de {@code /api/v1/accounts}, equivalentes a los métodos de {@code AccountController}.
+ */
+@RequiredArgsConstructor
+@Component
+public class AccountHandler {
+
+    private final ReactiveAccountService accountService;
+    private final Validator validator;
+
+    /**
+     * Sin parámetros devuelve el listado completo, limitado a {@code app.accounts.max-list-size} cuentas.
+     * Con {@code after} o {@code limit} devuelve una página y, si hay más cuentas, la cabecera
+     * {@code Link: <...>; rel="next"} con la URL de la página siguiente.
+     */
+    public Mono<ServerResponse> findAllAccounts(ServerRequest request) {
+        String after = request.queryParam("after").orElse(null);
+        Integer limit = request.queryParam("limit").map(value -> parse(value, "limit", Integer::valueOf)).orElse(null);
+        if (after == null && limit == null) {
+            return ServerResponse.ok().body(this.accountService.findAllAccounts(), AccountResponse.class);
+        }
+        return this.accountService.findAccountPage(after, limit)
+                .flatMap(page -> {
+                    ServerResponse.BodyBuilder response = ServerResponse.ok();
+                    if (page.nextCursor() != null) {
+                        String nextPage = UriComponentsBuilder.fromUri(request.uri())
+                                .replaceQueryParam("after", page.nextCursor())
+                                .replaceQueryParam("limit", page.limit())
+                                .toUriString();
+                        response.header(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(nextPage));
+                    }
+                    return response.bodyValue(page.accounts());
+                });
+    }
+
+    /**
+     * Exporta todas las cuentas como NDJSON. Las filas se leen de la base de datos al ritmo en que el cliente
+     * consume la respuesta (contrapresión), sin acumularlas en memoria.
+     */
+    public Mono<ServerResponse> exportAllAccounts(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(this.accountService.exportAllAccounts(), AccountResponse.class);
+    }
+
+    public Mono<ServerResponse> findAccountById(ServerRequest request) {
+        return this.accountService.findAccountById(accountId(request))
+                .flatMap(account -> ServerResponse.ok().bodyValue(account));
+    }
+
+    public Mono<ServerResponse> searchByHolder(ServerRequest request) {
+        String holder = request.queryParam("holder")
+                .orElseThrow(() -> new ServerWebInputException("Falta el parámetro obligatorio 'holder'"));
+        return this.accountService.findAccountByHolder(holder)
+                .flatMap(account -> ServerResponse.ok().bodyValue(account));
+    }
+
+    public Mono<ServerResponse> getAccountBalance(ServerRequest request) {
+        return this.accountService.getAccountBalance(accountId(request))
+                .flatMap(balance -> ServerResponse.ok().bodyValue(balance));
+    }
+
+    public Mono<ServerResponse> findAccountMovements(ServerRequest request) {
+        long afterSeq = request.queryParam("afterSeq").map(value -> parse(value, "afterSeq", Long::valueOf)).orElse(0L);
+        int limit = request.queryParam("limit").map(value -> parse(value, "limit", Integer::valueOf)).orElse(50);
+        return this.accountService.findAccountMovements(accountId(request), afterSeq, limit)
+                .collectList()
+                .flatMap(movements -> ServerResponse.ok().bodyValue(movements));
+    }
+
+    public Mono<ServerResponse> saveAccount(ServerRequest request) {
+        return this.validBody(request, AccountCreateRequest.class)
+                .flatMap(this.accountService::saveAccount)
+                .flatMap(account -> {
+                    URI location = UriComponentsBuilder.fromUri(request.uri())
+                            .path("/{accountId}")
+                            .buildAndExpand(account.id())
+                            .toUri();
+                    return ServerResponse.created(location).bodyValue(account);
+                });
+    }
+
+    public Mono<ServerResponse> updateAccount(ServerRequest request) {
+        Long accountId = accountId(request);
+        return this.validBody(request, AccountUpdateRequest.class)
+                .flatMap(body -> this.accountService.updateAccount(accountId, body))
+                .flatMap(account -> ServerResponse.ok().bodyValue(account));
+    }
+
+    public Mono<ServerResponse> deleteAccount(ServerRequest request) {
+        return this.accountService.deleteAccount(accountId(request))
+                .then(ServerResponse.noContent().build());
+    }
+
+    public Mono<ServerResponse> deposit(ServerRequest request) {
+        Long accountId = accountId(request);
+        return this.validBody(request, DepositRequest.class)
+                .flatMap(body -> this.accountService.deposit(accountId, body))
+                .flatMap(account -> ServerResponse.ok().bodyValue(account));
+    }
+
+    public Mono<ServerResponse> withdraw(ServerRequest request) {
+        Long accountId = accountId(request);
+        return this.validBody(request, WithdrawalRequest.class)
+                .flatMap(body -> this.accountService.withdraw(accountId, body))
+                .flatMap(account -> ServerResponse.ok().bodyValue(account));
+    }
+
+    public Mono<ServerResponse> transfer(ServerRequest request) {
+        return this.validBody(request, TransactionRequest.class)
+                .flatMap(this.accountService::transfer)
+                .then(ServerResponse.noContent().build());
+    }
+
+    /**
+     * Lee el cuerpo y lo valida con Bean Validation, como {@code @Valid @RequestBody} en la aplicación servlet.
+     */
+    private <T> Mono<T> validBody(ServerRequest request, Class<T> bodyType) {
+        return request.bodyToMono(bodyType)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("El cuerpo de la petición es obligatorio")))
+                .handle((body, sink) -> {
+                    Set<ConstraintViolation<T>> violations = this.validator.validate(body);
+                    if (violations.isEmpty()) {
+                        sink.next(body);
+                        return;
+                    }
+                    Map<String, List<String>> validationErrors = violations.stream()
+                            .collect(Collectors.groupingBy(
+                                    violation -> violation.getPropertyPath().toString(),
+                                    Collectors.mapping(ConstraintViolation::getMessage, Collectors.toList())));
+                    sink.error(new RequestValidationException(validationErrors));
+                });
+    }
+
+    private static Long accountId(ServerRequest request) {
+        return parse(request.pathVariable("accountId"), "accountId", Long::valueOf);
+    }
+
+    static <T> T parse(String value, String name, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("Valor inválido para '%s': %s".formatted(name, value));
+        }
+    }
+}
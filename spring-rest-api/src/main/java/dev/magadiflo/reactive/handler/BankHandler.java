@@ -0,0 +1,24 @@
+package dev.magadiflo.reactive.handler;
+
+import dev.magadiflo.reactive.service.ReactiveAccountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handlers funcionales de {@code /api/v1/banks}, equivalentes a los métodos de {@code BankController}.
+ */
+@RequiredArgsConstructor
+@Component
+public class BankHandler {
+
+    private final ReactiveAccountService accountService;
+
+    public Mono<ServerResponse> countTotalTransfersToBank(ServerRequest request) {
+        Long bankId = AccountHandler.parse(request.pathVariable("bankId"), "bankId", Long::valueOf);
+        return this.accountService.countTotalTransfersToBank(bankId)
+                .flatMap(totalTransfers -> ServerResponse.ok().bodyValue(totalTransfers));
+    }
+}
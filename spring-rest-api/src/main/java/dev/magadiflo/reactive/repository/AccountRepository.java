@@ -0,0 +1,124 @@
+package dev.magadiflo.reactive.repository;
+
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.reactive.entity.Account;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Versión R2DBC de {@code dev.magadiflo.app.repository.AccountRepository}: mismas consultas, en SQL, devolviendo
+ * {@link Mono}/{@link Flux}. Las proyecciones a {@link AccountResponse} se mapean por nombre de columna
+ * ({@code bank_name} → {@code bankName}).
+ */
+public interface AccountRepository extends ReactiveCrudRepository<Account, Long> {
+
+    @Query("""
+            SELECT a.id, a.holder, a.balance, b.name AS bank_name
+            FROM accounts AS a
+                JOIN banks AS b ON b.id = a.bank_id
+            WHERE a.id = :accountId
+            """)
+    Mono<AccountResponse> findAccountResponseById(Long accountId);
+
+    @Query("""
+            SELECT a.id, a.holder, a.balance, b.name AS bank_name
+            FROM accounts AS a
+                JOIN banks AS b ON b.id = a.bank_id
+            WHERE a.holder = :holder
+            """)
+    Mono<AccountResponse> findAccountResponseByHolder(String holder);
+
+    /**
+     * Obtiene, en orden ascendente de ID, las cuentas con ID mayor que {@code afterId} (paginación por clave).
+     */
+    @Query("""
+            SELECT a.id, a.holder, a.balance, b.name AS bank_name
+            FROM accounts AS a
+                JOIN banks AS b ON b.id = a.bank_id
+            WHERE a.id > :afterId
+            ORDER BY a.id
+            LIMIT :limit
+            """)
+    Flux<AccountResponse> findAccountsAfter(long afterId, int limit);
+
+    /**
+     * Recorre todas las cuentas en orden de ID. Las filas se piden al driver según la demanda del suscriptor,
+     * así que la memoria usada no depende del número de cuentas.
+     */
+    @Query("""
+            SELECT a.id, a.holder, a.balance, b.name AS bank_name
+            FROM accounts AS a
+                JOIN banks AS b ON b.id = a.bank_id
+            ORDER BY a.id
+            """)
+    Flux<AccountResponse> streamAllAccounts();
+
+    /**
+     * Busca y bloquea ({@code SELECT ... FOR UPDATE}) las cuentas indicadas, siempre en orden ascendente de ID,
+     * el mismo orden global que usan las transferencias de la aplicación servlet.
+     *
+     * @implNote Debe ejecutarse dentro de una transacción ({@code TransactionalOperator})
+     */
+    @Query("""
+            SELECT *
+            FROM accounts
+            WHERE id IN (:accountIds)
+            ORDER BY id
+            FOR UPDATE
+            """)
+    Flux<Account> findAllByIdForUpdate(Collection<Long> accountIds);
+
+    @Modifying
+    @Query("""
+            UPDATE accounts
+            SET holder = :holder
+            WHERE id = :accountId
+            """)
+    Mono<Integer> updateAccountHolder(Long accountId, String holder);
+
+    @Modifying
+    @Query("""
+            DELETE FROM accounts
+            WHERE id = :accountId
+            """)
+    Mono<Integer> deleteAccountById(Long accountId);
+
+    /**
+     * Incrementa el saldo en la base de datos ({@code balance = balance + :amount}) y la versión, para que una
+     * lectura-modificación-escritura concurrente de la aplicación servlet detecte el cambio. También avanza la
+     * posición del libro mayor de la cuenta, con la que {@link LedgerEntryRepository#save} sella el movimiento.
+     *
+     * @return número de filas afectadas (0 si la cuenta no existe)
+     */
+    @Modifying
+    @Query("""
+            UPDATE accounts
+            SET balance = balance + :amount,
+                version = version + 1,
+                ledger_position = ledger_position + 1
+            WHERE id = :accountId
+            """)
+    Mono<Integer> increaseBalance(Long accountId, BigDecimal amount);
+
+    /**
+     * Descuenta el saldo solo si cubre el monto, en un único {@code UPDATE}.
+     *
+     * @return número de filas afectadas (0 si la cuenta no existe o el saldo es insuficiente)
+     */
+    @Modifying
+    @Query("""
+            UPDATE accounts
+            SET balance = balance - :amount,
+                version = version + 1,
+                ledger_position = ledger_position + 1
+            WHERE id = :accountId
+                AND balance >= :amount
+            """)
+    Mono<Integer> decreaseBalance(Long accountId, BigDecimal amount);
+}
@@ -0,0 +1,19 @@
+package dev.magadiflo.reactive.repository;
+
+import dev.magadiflo.reactive.entity.Bank;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+public interface BankRepository extends ReactiveCrudRepository<Bank, Long> {
+
+    /**
+     * Total consolidado de transferencias del banco (sin los fragmentos pendientes de consolidar).
+     */
+    @Query("""
+            SELECT total_transfers
+            FROM banks
+            WHERE id = :bankId
+            """)
+    Mono<Integer> findTotalTransfersById(Long bankId);
+}
@@ -0,0 +1,47 @@
+package dev.magadiflo.reactive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contador fragmentado de transferencias por banco ({@code bank_transfer_counters}). La consolidación de los
+ * fragmentos en {@code banks.total_transfers} la hace el proceso periódico de la aplicación servlet.
+ */
+@RequiredArgsConstructor
+@Repository
+public class BankTransferCounterRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Suma {@code transfers} al fragmento indicado, creándolo si aún no existe.
+     *
+     * @implNote Debe ejecutarse dentro de una transacción ({@code TransactionalOperator})
+     */
+    public Mono<Long> incrementShard(Long bankId, int shard, long transfers) {
+        return this.databaseClient.sql("""
+                        INSERT INTO bank_transfer_counters(bank_id, shard, transfers)
+                        VALUES(:bankId, :shard, :transfers)
+                        ON DUPLICATE KEY UPDATE transfers = transfers + :transfers
+                        """)
+                .bind("bankId", bankId)
+                .bind("shard", shard)
+                .bind("transfers", transfers)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> sumTransfersByBankId(Long bankId) {
+        return this.databaseClient.sql("""
+                        SELECT COALESCE(SUM(transfers), 0) AS transfers
+                        FROM bank_transfer_counters
+                        WHERE bank_id = :bankId
+                        """)
+                .bind("bankId", bankId)
+                // SUM devuelve DECIMAL en MySQL y NUMERIC en H2
+                .map(row -> ((Number) row.get("transfers")).longValue())
+                .one();
+    }
+}
@@ -0,0 +1,74 @@
+package dev.magadiflo.reactive.repository;
+
+import dev.magadiflo.app.dto.LedgerEntryResponse;
+import dev.magadiflo.app.entity.LedgerEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Libro mayor de movimientos ({@code ledger_entries}), de solo inserción. Los {@code seq} los asigna
+ * {@link SequenceAllocator}; la posición del movimiento ({@code account_position}) se copia de
+ * {@code accounts.ledger_position}, que el {@code UPDATE} del saldo ya incrementó en la misma transacción, como en
+ * la aplicación servlet.
+ */
+@RequiredArgsConstructor
+@Repository
+public class LedgerEntryRepository {
+
+    private final DatabaseClient databaseClient;
+    private final SequenceAllocator sequenceAllocator;
+
+    /**
+     * @param amount importe con signo: positivo para abonos y negativo para cargos
+     * @implNote Debe ejecutarse dentro de la transacción de la operación que registra el movimiento, después del
+     * {@code UPDATE} que cambia el saldo de la cuenta
+     */
+    public Mono<Void> save(Long accountId, LedgerEntry.Type type, BigDecimal amount, Long counterpartyAccountId) {
+        return this.sequenceAllocator.next(SequenceAllocator.Sequence.LEDGER_ENTRIES)
+                .flatMap(seq -> {
+                    // El tipo va como literal: r2dbc-h2 envía los String como CLOB, que H2 no convierte a ENUM.
+                    // Es una constante del enum, así que no hay riesgo de inyección y son solo cinco sentencias distintas.
+                    DatabaseClient.GenericExecuteSpec insert = this.databaseClient.sql("""
+                                    INSERT INTO ledger_entries(seq, account_id, account_position, type, amount, counterparty_account_id, created_at)
+                                    SELECT :seq, id, ledger_position, '%s', :amount, :counterpartyAccountId, :createdAt
+                                    FROM accounts
+                                    WHERE id = :accountId
+                                    """.formatted(type.name()))
+                            .bind("seq", seq)
+                            .bind("accountId", accountId)
+                            .bind("amount", amount)
+                            .bind("createdAt", Instant.now());
+                    insert = counterpartyAccountId == null
+                            ? insert.bindNull("counterpartyAccountId", Long.class)
+                            : insert.bind("counterpartyAccountId", counterpartyAccountId);
+                    return insert.then();
+                });
+    }
+
+    public Flux<LedgerEntryResponse> findMovements(Long accountId, long afterSeq, int limit) {
+        return this.databaseClient.sql("""
+                        SELECT seq, type, amount, counterparty_account_id, created_at
+                        FROM ledger_entries
+                        WHERE account_id = :accountId
+                            AND seq > :afterSeq
+                        ORDER BY seq
+                        LIMIT :limit
+                        """)
+                .bind("accountId", accountId)
+                .bind("afterSeq", afterSeq)
+                .bind("limit", limit)
+                .map(row -> new LedgerEntryResponse(
+                        row.get("seq", Long.class),
+                        LedgerEntry.Type.valueOf(row.get("type", String.class)),
+                        row.get("amount", BigDecimal.class),
+                        row.get("counterparty_account_id", Long.class),
+                        row.get("created_at", Instant.class)))
+                .all();
+    }
+}
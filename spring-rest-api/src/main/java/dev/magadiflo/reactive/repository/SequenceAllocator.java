@@ -0,0 +1,109 @@
+package dev.magadiflo.reactive.repository;
+
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.LedgerEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Asigna identificadores de las secuencias de Hibernate ({@code accounts_seq}, {@code ledger_entries_seq}) con el
+ * mismo esquema que su optimizador {@code pooled} en la aplicación servlet, para que ambas puedan insertar filas
+ * sin repetir identificadores.
+ * <p>
+ * Cada valor {@code V} leído de la secuencia reserva el bloque {@code (V - allocationSize, V]}, que se reparte en
+ * memoria; como en Hibernate, el bloque nunca baja del valor inicial de la secuencia. En H2 son secuencias; MySQL
+ * no tiene secuencias e Hibernate las emula con una tabla de una fila ({@code next_val}), que se lee y avanza en
+ * una transacción propia para no retener su bloqueo durante la operación que usa el identificador.
+ * </p>
+ */
+@Slf4j
+@Repository
+public class SequenceAllocator {
+
+    public enum Sequence {
+        ACCOUNTS(Account.SEQUENCE_NAME, Account.SEQ_ALLOCATION_SIZE, Account.FIRST_GENERATED_ID),
+        LEDGER_ENTRIES("ledger_entries_seq", LedgerEntry.SEQ_ALLOCATION_SIZE, 1);
+
+        private final String sequenceName;
+        private final int allocationSize;
+        private final long initialValue;
+
+        Sequence(String sequenceName, int allocationSize, long initialValue) {
+            this.sequenceName = sequenceName;
+            this.allocationSize = allocationSize;
+            this.initialValue = initialValue;
+        }
+    }
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator newTransaction;
+    private final boolean tableEmulatedSequence;
+    private final Map<Sequence, AtomicReference<Block>> blocks = new EnumMap<>(Sequence.class);
+
+    public SequenceAllocator(DatabaseClient databaseClient, ReactiveTransactionManager transactionManager) {
+        this.databaseClient = databaseClient;
+        this.newTransaction = TransactionalOperator.create(transactionManager,
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        this.tableEmulatedSequence = databaseClient.getConnectionFactory().getMetadata().getName().contains("MySQL");
+        for (Sequence sequence : Sequence.values()) {
+            this.blocks.put(sequence, new AtomicReference<>(new Block(1, 0)));
+        }
+    }
+
+    public Mono<Long> next(Sequence sequence) {
+        return Mono.defer(() -> this.allocate(sequence));
+    }
+
+    private Mono<Long> allocate(Sequence sequence) {
+        AtomicReference<Block> block = this.blocks.get(sequence);
+        Block current = block.get();
+        long id = current.next().getAndIncrement();
+        if (id <= current.hi()) {
+            return Mono.just(id);
+        }
+        // Si otra petición reserva un bloque a la vez, cada una usa el suyo y el sobrante queda como hueco
+        return this.reserveBlock(sequence)
+                .map(hi -> {
+                    log.debug("Bloque de {} reservado | Hasta: {}", sequence.sequenceName, hi);
+                    Block reserved = new Block(Math.max(sequence.initialValue, hi - sequence.allocationSize + 1), hi);
+                    block.compareAndSet(current, reserved);
+                    return reserved.next().getAndIncrement();
+                });
+    }
+
+    // Los nombres de las secuencias son constantes de Sequence, no datos de la petición
+    private Mono<Long> reserveBlock(Sequence sequence) {
+        if (!this.tableEmulatedSequence) {
+            return this.databaseClient.sql("SELECT NEXT VALUE FOR %s AS next_val".formatted(sequence.sequenceName))
+                    .map(row -> row.get("next_val", Long.class))
+                    .one();
+        }
+        return this.databaseClient.sql("SELECT next_val FROM %s FOR UPDATE".formatted(sequence.sequenceName))
+                .map(row -> row.get("next_val", Long.class))
+                .one()
+                .flatMap(value -> this.databaseClient.sql("UPDATE %s SET next_val = :next WHERE next_val = :value"
+                                .formatted(sequence.sequenceName))
+                        .bind("next", value + sequence.allocationSize)
+                        .bind("value", value)
+                        .then()
+                        .thenReturn(value))
+                .as(this.newTransaction::transactional);
+    }
+
+    private record Block(AtomicLong next, long hi) {
+        Block(long first, long hi) {
+            this(new AtomicLong(first), hi);
+        }
+    }
+}
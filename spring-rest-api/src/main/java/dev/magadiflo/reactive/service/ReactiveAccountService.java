@@ -0,0 +1,49 @@
+package dev.magadiflo.reactive.service;
+
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountPage;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.dto.AccountUpdateRequest;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.LedgerEntryResponse;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.WithdrawalRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Operaciones de {@code AccountService} en versión reactiva. Los errores de negocio (cuenta inexistente, saldo
+ * insuficiente, etc.) se emiten como señal de error con las mismas excepciones que la aplicación servlet.
+ */
+public interface ReactiveAccountService {
+
+    Flux<AccountResponse> findAllAccounts();
+
+    Mono<AccountPage> findAccountPage(String cursor, Integer limit);
+
+    Flux<AccountResponse> exportAllAccounts();
+
+    Mono<AccountResponse> findAccountById(Long accountId);
+
+    Mono<AccountResponse> findAccountByHolder(String holder);
+
+    Mono<BigDecimal> getAccountBalance(Long accountId);
+
+    Flux<LedgerEntryResponse> findAccountMovements(Long accountId, long afterSeq, int limit);
+
+    Mono<AccountResponse> saveAccount(AccountCreateRequest accountRequest);
+
+    Mono<AccountResponse> updateAccount(Long accountId, AccountUpdateRequest accountRequest);
+
+    Mono<Void> deleteAccount(Long accountId);
+
+    Mono<AccountResponse> deposit(Long accountId, DepositRequest request);
+
+    Mono<AccountResponse> withdraw(Long accountId, WithdrawalRequest request);
+
+    Mono<Void> transfer(TransactionRequest request);
+
+    Mono<Integer> countTotalTransfersToBank(Long bankId);
+}
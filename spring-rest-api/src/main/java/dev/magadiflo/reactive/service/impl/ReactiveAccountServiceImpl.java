@@ -0,0 +1,333 @@
+package dev.magadiflo.reactive.service.impl;
+
+import dev.magadiflo.app.config.AccountProperties;
+import dev.magadiflo.app.config.LedgerProperties;
+import dev.magadiflo.app.config.TransferCounterProperties;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountCursor;
+import dev.magadiflo.app.dto.AccountPage;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.dto.AccountUpdateRequest;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.LedgerEntryResponse;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.WithdrawalRequest;
+import dev.magadiflo.app.entity.LedgerEntry;
+import dev.magadiflo.app.exception.AccountNotFoundException;
+import dev.magadiflo.app.exception.BankNotFoundException;
+import dev.magadiflo.app.exception.InsufficientBalanceException;
+import dev.magadiflo.app.exception.InvalidTransactionException;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.reactive.entity.Account;
+import dev.magadiflo.reactive.repository.AccountRepository;
+import dev.magadiflo.reactive.repository.BankRepository;
+import dev.magadiflo.reactive.repository.BankTransferCounterRepository;
+import dev.magadiflo.reactive.repository.LedgerEntryRepository;
+import dev.magadiflo.reactive.repository.SequenceAllocator;
+import dev.magadiflo.reactive.service.ReactiveAccountService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implementación reactiva de las operaciones sobre cuentas, con las mismas reglas de negocio que
+ * {@code AccountServiceImpl}.
+ * <p>
+ * Las escrituras se envuelven en un {@link TransactionalOperator}: la transacción R2DBC queda ligada a la
+ * suscripción (no a un hilo) y se confirma o revierte cuando el {@link Mono} termina. Depósitos y retiros usan
+ * siempre el {@code UPDATE} condicional del modo {@code ATOMIC} y las transferencias el bloqueo {@code PESSIMISTIC}
+ * en orden ascendente de ID, porque el reintento completo de una operación optimista no encaja con un
+ * {@code Mono} que ya emitió sus efectos.
+ * </p>
+ * <p>
+ * Puede escribir en el mismo esquema que la aplicación servlet, que la ve como a otra instancia:
+ * </p>
+ * <ul>
+ *     <li>Cada cambio de saldo avanza {@code accounts.ledger_position} y sella con ella sus movimientos, así que
+ *     las fotos de saldo de la aplicación servlet los incluyen aunque su {@code seq} salga de otro bloque.</li>
+ *     <li>No pasa por la caché de cuentas de la aplicación servlet: sus cambios se ven allí cuando vence la entrada
+ *     ({@code app.account-cache.ttl}), igual que los de otra instancia.</li>
+ *     <li>No agrega las cuentas que crea al filtro de IDs de la aplicación servlet: con ambas escribiendo, ese
+ *     filtro debe seguir desactivado ({@code app.account-id-filter.enabled=false}, el valor por defecto).</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class ReactiveAccountServiceImpl implements ReactiveAccountService {
+
+    private final AccountRepository accountRepository;
+    private final BankRepository bankRepository;
+    private final BankTransferCounterRepository bankTransferCounterRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final SequenceAllocator sequenceAllocator;
+    private final AccountProperties accountProperties;
+    private final LedgerProperties ledgerProperties;
+    private final TransferCounterProperties transferCounterProperties;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveAccountServiceImpl(AccountRepository accountRepository,
+                                      BankRepository bankRepository,
+                                      BankTransferCounterRepository bankTransferCounterRepository,
+                                      LedgerEntryRepository ledgerEntryRepository,
+                                      SequenceAllocator sequenceAllocator,
+                                      AccountProperties accountProperties,
+                                      LedgerProperties ledgerProperties,
+                                      TransferCounterProperties transferCounterProperties,
+                                      ReactiveTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.bankRepository = bankRepository;
+        this.bankTransferCounterRepository = bankTransferCounterRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.sequenceAllocator = sequenceAllocator;
+        this.accountProperties = accountProperties;
+        this.ledgerProperties = ledgerProperties;
+        this.transferCounterProperties = transferCounterProperties;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+    }
+
+    @Override
+    public Flux<AccountResponse> findAllAccounts() {
+        log.debug("Consultando todas las cuentas");
+        int maxListSize = this.accountProperties.maxListSize();
+        return this.accountRepository.findAccountsAfter(0L, maxListSize)
+                .collectList()
+                .doOnNext(accounts -> {
+                    if (accounts.size() == maxListSize) {
+                        log.warn("El listado de cuentas alcanzó el tope de {} cuentas; use la paginación por cursor", maxListSize);
+                    }
+                    log.info("Se encontraron {} cuentas", accounts.size());
+                })
+                .flatMapIterable(accounts -> accounts);
+    }
+
+    /**
+     * Igual que en la aplicación servlet, se pide una fila más que el tamaño de página para saber si existe
+     * una página siguiente.
+     */
+    @Override
+    public Mono<AccountPage> findAccountPage(String cursor, Integer limit) {
+        return Mono.fromCallable(() -> cursor == null ? 0L : AccountCursor.decode(cursor).lastAccountId())
+                .flatMap(afterId -> {
+                    int pageSize = limit == null
+                            ? this.accountProperties.defaultPageSize()
+                            : Math.clamp(limit, 1, this.accountProperties.maxPageSize());
+                    log.debug("Consultando página de cuentas | Después del ID: {} | Tamaño: {}", afterId, pageSize);
+                    return this.accountRepository.findAccountsAfter(afterId, pageSize + 1)
+                            .collectList()
+                            .map(accounts -> {
+                                if (accounts.size() <= pageSize) {
+                                    return new AccountPage(accounts, null, pageSize);
+                                }
+                                List<AccountResponse> page = accounts.subList(0, pageSize);
+                                return new AccountPage(page, new AccountCursor(page.getLast().id()).encode(), pageSize);
+                            });
+                })
+                .doOnNext(page -> log.info("Página de cuentas consultada | Cuentas: {} | Hay página siguiente: {}",
+                        page.accounts().size(), page.nextCursor() != null));
+    }
+
+    @Override
+    public Flux<AccountResponse> exportAllAccounts() {
+        log.debug("Exportando todas las cuentas");
+        return this.accountRepository.streamAllAccounts()
+                .doOnComplete(() -> log.info("Exportación de cuentas finalizada"));
+    }
+
+    @Override
+    public Mono<AccountResponse> findAccountById(Long accountId) {
+        log.debug("Buscando cuenta con ID: {}", accountId);
+        return this.loadAccount(accountId)
+                .doOnNext(account -> log.info("Cuenta encontrada | ID: {} | Titular: {}", accountId, account.holder()));
+    }
+
+    @Override
+    public Mono<AccountResponse> findAccountByHolder(String holder) {
+        log.debug("Buscando cuenta del titular: {}", holder);
+        return this.accountRepository.findAccountResponseByHolder(holder)
+                .switchIfEmpty(Mono.error(() -> new AccountNotFoundException(holder)))
+                .doOnNext(account -> log.info("Cuenta encontrada | Titular: {} | ID: {}", account.holder(), account.id()));
+    }
+
+    @Override
+    public Mono<BigDecimal> getAccountBalance(Long accountId) {
+        log.debug("Consultando saldo de la cuenta con ID: {}", accountId);
+        return this.loadAccount(accountId)
+                .map(account -> account.balance().toBigDecimal())
+                .doOnNext(balance -> log.info("Saldo consultado | Cuenta ID: {} | Saldo: {}", accountId, balance));
+    }
+
+    @Override
+    public Flux<LedgerEntryResponse> findAccountMovements(Long accountId, long afterSeq, int limit) {
+        log.debug("Consultando movimientos de la cuenta con ID: {} | Desde seq: {} | Límite: {}", accountId, afterSeq, limit);
+        int pageSize = Math.clamp(limit, 1, this.ledgerProperties.maxMovementsPerPage());
+        return this.accountRepository.existsById(accountId)
+                .flatMapMany(exists -> exists
+                        ? this.ledgerEntryRepository.findMovements(accountId, afterSeq, pageSize)
+                        : Flux.error(new AccountNotFoundException(accountId)));
+    }
+
+    @Override
+    public Mono<AccountResponse> saveAccount(AccountCreateRequest accountRequest) {
+        log.debug("Iniciando registro de cuenta para el titular: {}", accountRequest.holder());
+        return this.bankRepository.findById(accountRequest.bankId())
+                .switchIfEmpty(Mono.error(() -> new BankNotFoundException(accountRequest.bankId())))
+                // El ID sale de accounts_seq como en la aplicación servlet; con version nulo Spring Data
+                // sigue tratando la cuenta como nueva y la inserta
+                .flatMap(bank -> this.sequenceAllocator.next(SequenceAllocator.Sequence.ACCOUNTS)
+                        .flatMap(accountId -> this.accountRepository.save(Account.builder()
+                                .id(accountId)
+                                .holder(accountRequest.holder())
+                                .balance(accountRequest.balance())
+                                .bankId(bank.getId())
+                                .build()))
+                        .flatMap(account -> this.ledgerEntryRepository
+                                .save(account.getId(), LedgerEntry.Type.OPENING, account.getBalance(), null)
+                                .thenReturn(new AccountResponse(account.getId(), account.getHolder(),
+                                        Money.of(account.getBalance()), bank.getName()))))
+                .as(this.transactionalOperator::transactional)
+                .doOnNext(account -> log.info("Cuenta registrada exitosamente | ID: {} | Titular: {} | Banco: {} | Saldo inicial: {}",
+                        account.id(), account.holder(), account.bankName(), account.balance()));
+    }
+
+    @Override
+    public Mono<AccountResponse> updateAccount(Long accountId, AccountUpdateRequest accountRequest) {
+        log.debug("Iniciando actualización del titular para la cuenta con ID: {}", accountId);
+        return this.accountRepository.updateAccountHolder(accountId, accountRequest.holder())
+                .flatMap(affectedRows -> affectedRows == 0
+                        ? Mono.error(new AccountNotFoundException(accountId))
+                        : this.loadAccount(accountId))
+                .as(this.transactionalOperator::transactional)
+                .doOnNext(account -> log.info("Cuenta actualizada | ID: {} | Nuevo titular: {}", accountId, account.holder()));
+    }
+
+    @Override
+    public Mono<Void> deleteAccount(Long accountId) {
+        log.debug("Iniciando eliminación de la cuenta con ID: {}", accountId);
+        return this.accountRepository.deleteAccountById(accountId)
+                .flatMap(affectedRows -> affectedRows == 0
+                        ? Mono.<Void>error(new AccountNotFoundException(accountId))
+                        : Mono.<Void>empty())
+                .as(this.transactionalOperator::transactional)
+                .doOnSuccess(unused -> log.info("Cuenta eliminada exitosamente | ID: {}", accountId));
+    }
+
+    /**
+     * Un único {@code UPDATE}: si no afecta filas es porque la cuenta no existe. La cuenta se lee después solo para
+     * construir la respuesta con el saldo resultante.
+     */
+    @Override
+    public Mono<AccountResponse> deposit(Long accountId, DepositRequest request) {
+        log.debug("Iniciando depósito a la cuenta con ID: {}, monto: {}", accountId, request.amount());
+        return this.accountRepository.increaseBalance(accountId, request.amount())
+                .flatMap(affectedRows -> affectedRows == 0
+                        ? Mono.error(new AccountNotFoundException(accountId))
+                        : this.ledgerEntryRepository.save(accountId, LedgerEntry.Type.DEPOSIT, request.amount(), null)
+                        .then(this.loadAccount(accountId)))
+                .as(this.transactionalOperator::transactional)
+                .doOnNext(account -> log.info("Depósito atómico exitoso | Cuenta ID: {} | Monto depositado: {} | Nuevo saldo: {}",
+                        accountId, request.amount(), account.balance()));
+    }
+
+    /**
+     * Un único {@code UPDATE ... WHERE balance >= :amount}. Si no afecta filas, la cuenta se consulta solo para
+     * distinguir entre cuenta inexistente y saldo insuficiente.
+     */
+    @Override
+    public Mono<AccountResponse> withdraw(Long accountId, WithdrawalRequest request) {
+        log.debug("Iniciando retiro de la cuenta con ID: {}, monto: {}", accountId, request.amount());
+        return this.accountRepository.decreaseBalance(accountId, request.amount())
+                .flatMap(affectedRows -> {
+                    if (affectedRows > 0) {
+                        return this.ledgerEntryRepository
+                                .save(accountId, LedgerEntry.Type.WITHDRAWAL, request.amount().negate(), null)
+                                .then(this.loadAccount(accountId));
+                    }
+                    return this.loadAccount(accountId)
+                            .flatMap(account -> {
+                                log.warn("Solicitud rechazada por saldo insuficiente | Cuenta ID: {} | Titular: {} | Saldo: {} | Monto solicitado: {}",
+                                        account.id(), account.holder(), account.balance(), request.amount());
+                                return Mono.error(new InsufficientBalanceException(account.id(), account.holder()));
+                            });
+                })
+                .as(this.transactionalOperator::transactional)
+                .doOnNext(account -> log.info("Retiro atómico exitoso | Cuenta ID: {} | Monto retirado: {} | Nuevo saldo: {}",
+                        accountId, request.amount(), account.balance()));
+    }
+
+    /**
+     * Bloquea ambas cuentas con un único {@code SELECT ... FOR UPDATE} ordenado por ID (el mismo orden global que
+     * la aplicación servlet, de modo que transferencias cruzadas entre ambas no se interbloquean), valida y aplica
+     * los dos {@code UPDATE}, los movimientos del libro mayor y el incremento del contador fragmentado del banco
+     * en la misma transacción.
+     */
+    @Override
+    public Mono<Void> transfer(TransactionRequest request) {
+        log.debug("Iniciando transferencia | Origen: {} | Destino: {} | Monto: {}",
+                request.sourceAccountId(), request.targetAccountId(), request.amount());
+
+        if (request.sourceAccountId().equals(request.targetAccountId())) {
+            log.warn("Intento de transferencia a la misma cuenta: {}", request.sourceAccountId());
+            return Mono.error(new InvalidTransactionException("No se puede hacer transferencia de una cuenta a sí misma"));
+        }
+
+        return this.accountRepository.findAllByIdForUpdate(List.of(request.sourceAccountId(), request.targetAccountId()))
+                .collectMap(Account::getId)
+                .flatMap(accounts -> {
+                    Account sourceAccount = accounts.get(request.sourceAccountId());
+                    Account targetAccount = accounts.get(request.targetAccountId());
+                    if (sourceAccount == null) {
+                        return Mono.error(new AccountNotFoundException(request.sourceAccountId()));
+                    }
+                    if (targetAccount == null) {
+                        return Mono.error(new AccountNotFoundException(request.targetAccountId()));
+                    }
+                    if (!sourceAccount.getBankId().equals(targetAccount.getBankId())) {
+                        log.warn("Intento de transferencia entre bancos diferentes | Banco origen: {} | Banco destino: {}",
+                                sourceAccount.getBankId(), targetAccount.getBankId());
+                        return Mono.error(new InvalidTransactionException("No se puede hacer transferencia entre cuentas de diferentes bancos"));
+                    }
+                    if (request.amount().compareTo(sourceAccount.getBalance()) > 0) {
+                        log.warn("Solicitud rechazada por saldo insuficiente | Cuenta ID: {} | Titular: {} | Saldo: {} | Monto solicitado: {}",
+                                sourceAccount.getId(), sourceAccount.getHolder(), sourceAccount.getBalance(), request.amount());
+                        return Mono.error(new InsufficientBalanceException(sourceAccount.getId(), sourceAccount.getHolder()));
+                    }
+                    int shard = ThreadLocalRandom.current().nextInt(this.transferCounterProperties.shards());
+                    return this.accountRepository.decreaseBalance(sourceAccount.getId(), request.amount())
+                            .then(this.accountRepository.increaseBalance(targetAccount.getId(), request.amount()))
+                            .then(this.ledgerEntryRepository.save(sourceAccount.getId(), LedgerEntry.Type.TRANSFER_OUT,
+                                    request.amount().negate(), targetAccount.getId()))
+                            .then(this.ledgerEntryRepository.save(targetAccount.getId(), LedgerEntry.Type.TRANSFER_IN,
+                                    request.amount(), sourceAccount.getId()))
+                            .then(this.bankTransferCounterRepository.incrementShard(sourceAccount.getBankId(), shard, 1))
+                            .doOnSuccess(unused -> log.info("Transferencia exitosa | De: {} (ID: {}) | Para: {} (ID: {}) | Monto: {} | Banco ID: {}",
+                                    sourceAccount.getHolder(), sourceAccount.getId(),
+                                    targetAccount.getHolder(), targetAccount.getId(),
+                                    request.amount(), sourceAccount.getBankId()));
+                })
+                .as(this.transactionalOperator::transactional)
+                .then();
+    }
+
+    @Override
+    public Mono<Integer> countTotalTransfersToBank(Long bankId) {
+        log.debug("Consultando total de transferencias del banco con ID: {}", bankId);
+        return this.bankRepository.findTotalTransfersById(bankId)
+                .switchIfEmpty(Mono.error(() -> new BankNotFoundException(bankId)))
+                // Total consolidado más lo acumulado en los fragmentos pendientes de consolidar
+                .zipWith(this.bankTransferCounterRepository.sumTransfersByBankId(bankId),
+                        (consolidatedTransfers, pendingTransfers) -> Math.toIntExact(consolidatedTransfers + pendingTransfers))
+                .doOnNext(totalTransfers -> log.info("Total de transferencias del banco con ID {}: {}", bankId, totalTransfers));
+    }
+
+    private Mono<AccountResponse> loadAccount(Long accountId) {
+        return this.accountRepository.findAccountResponseById(accountId)
+                .switchIfEmpty(Mono.error(() -> new AccountNotFoundException(accountId)));
+    }
+}
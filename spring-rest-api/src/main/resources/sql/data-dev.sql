@@ -1,13 +1,17 @@
 -- ============================================
--- LIMPIAR DATOS EXISTENTES Y RESETEAR IDS
+-- LIMPIAR DATOS EXISTENTES
 -- ============================================
 
 -- Desactivar verificación de llaves foráneas temporalmente
 SET FOREIGN_KEY_CHECKS = 0;
 
--- Limpiar tablas (TRUNCATE resetea AUTO_INCREMENT automáticamente)
+-- Limpiar tablas
 TRUNCATE TABLE accounts;
 TRUNCATE TABLE banks;
+TRUNCATE TABLE bank_transfer_counters;
+TRUNCATE TABLE ledger_entries;
+TRUNCATE TABLE account_balance_snapshots;
+TRUNCATE TABLE idempotency_keys;
 
 -- Reactivar verificación de llaves foráneas
 SET FOREIGN_KEY_CHECKS = 1;
@@ -16,15 +20,17 @@ SET FOREIGN_KEY_CHECKS = 1;
 -- INSERTAR DATOS INICIALES
 -- ============================================
 
+-- Los IDs son explícitos: las secuencias de Hibernate (accounts_seq, banks_seq) empiezan en 1000
+
 -- Bancos
-INSERT INTO banks(name, total_transfers)
-VALUES('Banco Continental', 0),
-('Banco de Crédito', 0),
-('Interbank', 0);
+INSERT INTO banks(id, name, total_transfers)
+VALUES(1, 'Banco Continental', 0),
+(2, 'Banco de Crédito', 0),
+(3, 'Interbank', 0);
 
 -- Cuentas
-INSERT INTO accounts(holder, balance, bank_id)
-VALUES('Juan Pérez', 5000.00, 1),
-('María García', 3000.00, 1),
-('Carlos López', 7500.00, 2),
-('Ana Martínez', 2000.00, 3);
+INSERT INTO accounts(id, holder, balance, bank_id)
+VALUES(1, 'Juan Pérez', 5000.00, 1),
+(2, 'María García', 3000.00, 1),
+(3, 'Carlos López', 7500.00, 2),
+(4, 'Ana Martínez', 2000.00, 3);
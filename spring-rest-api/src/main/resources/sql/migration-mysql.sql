@@ -0,0 +1,127 @@
+-- ============================================
+-- ACTUALIZACIÓN DEL ESQUEMA (MySQL)
+-- ============================================
+
+-- Para los esquemas que no gestiona Hibernate (qa: ddl-auto validate, prod: ddl-auto none). Lleva un esquema con
+-- solo las tablas accounts y banks (IDs AUTO_INCREMENT) al que esperan las entidades actuales. Ejecutar una vez,
+-- con la aplicación detenida, antes de desplegar la versión que lo requiere. Mismo DDL que genera Hibernate.
+
+-- ============================================
+-- CONTROL DE CONCURRENCIA OPTIMISTA (@Version)
+-- ============================================
+
+ALTER TABLE banks
+    ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE accounts
+    ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- Posición del libro mayor de cada cuenta: se incrementa en el mismo UPDATE que cambia el saldo
+ALTER TABLE accounts
+    ADD COLUMN ledger_position BIGINT DEFAULT 0 NOT NULL;
+
+-- ============================================
+-- SECUENCIAS DE CUENTAS Y BANCOS
+-- ============================================
+
+-- MySQL no tiene secuencias: Hibernate las emula con una tabla de una fila (next_val). Con el optimizador pooled
+-- (allocationSize = 50) cada valor V leído reserva el bloque (V - 50, V], por lo que next_val debe superar en más
+-- de 50 al mayor ID existente; como en Hibernate, nunca baja del valor inicial (1000).
+-- Las columnas id pueden conservar AUTO_INCREMENT: Hibernate inserta siempre el ID tomado de la secuencia.
+
+CREATE TABLE IF NOT EXISTS banks_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+DELETE FROM banks_seq;
+
+INSERT INTO banks_seq(next_val)
+SELECT GREATEST(COALESCE(MAX(id), 0) + 50 + 1, 1000)
+FROM banks;
+
+CREATE TABLE IF NOT EXISTS accounts_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+DELETE FROM accounts_seq;
+
+INSERT INTO accounts_seq(next_val)
+SELECT GREATEST(COALESCE(MAX(id), 0) + 50 + 1, 1000)
+FROM accounts;
+
+-- ============================================
+-- CONTADOR FRAGMENTADO DE TRANSFERENCIAS
+-- ============================================
+
+-- Las transferencias anteriores ya están en banks.total_transfers: el contador empieza vacío
+CREATE TABLE IF NOT EXISTS bank_transfer_counters
+(
+    shard     INTEGER NOT NULL,
+    bank_id   BIGINT  NOT NULL,
+    transfers BIGINT  NOT NULL,
+    PRIMARY KEY (shard, bank_id)
+) ENGINE = InnoDB;
+
+-- ============================================
+-- LIBRO MAYOR
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS ledger_entries
+(
+    amount                  DECIMAL(19, 2) NOT NULL,
+    account_id              BIGINT         NOT NULL,
+    account_position        BIGINT         NOT NULL,
+    counterparty_account_id BIGINT,
+    created_at              DATETIME(6)    NOT NULL,
+    seq                     BIGINT         NOT NULL,
+    type                    ENUM ('DEPOSIT','OPENING','TRANSFER_IN','TRANSFER_OUT','WITHDRAWAL') NOT NULL,
+    PRIMARY KEY (seq)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_ledger_entries_account_seq ON ledger_entries (account_id, seq);
+
+CREATE INDEX idx_ledger_entries_account_position ON ledger_entries (account_id, account_position);
+
+CREATE TABLE IF NOT EXISTS account_balance_snapshots
+(
+    balance       DECIMAL(19, 2) NOT NULL,
+    account_id    BIGINT         NOT NULL,
+    last_position BIGINT         NOT NULL,
+    taken_at      DATETIME(6)    NOT NULL,
+    PRIMARY KEY (account_id)
+) ENGINE = InnoDB;
+
+-- El saldo de las cuentas existentes entra al libro mayor como su apertura (posición 0), igual que al crear una
+-- cuenta: así el saldo derivado de los movimientos coincide con accounts.balance
+INSERT INTO ledger_entries(seq, account_id, account_position, type, amount, counterparty_account_id, created_at)
+SELECT ROW_NUMBER() OVER (ORDER BY id), id, 0, 'OPENING', balance, NULL, UTC_TIMESTAMP(6)
+FROM accounts;
+
+CREATE TABLE IF NOT EXISTS ledger_entries_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+DELETE FROM ledger_entries_seq;
+
+-- Como las secuencias de cuentas y bancos, pero con el valor inicial por defecto (1)
+INSERT INTO ledger_entries_seq(next_val)
+SELECT COALESCE(MAX(seq), 0) + 50 + 1
+FROM ledger_entries;
+
+-- ============================================
+-- CLAVES DE IDEMPOTENCIA
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS idempotency_keys
+(
+    created_at      DATETIME(6)   NOT NULL,
+    request_hash    VARCHAR(64)   NOT NULL,
+    idempotency_key VARCHAR(100)  NOT NULL,
+    response_body   VARCHAR(4000),
+    PRIMARY KEY (idempotency_key)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
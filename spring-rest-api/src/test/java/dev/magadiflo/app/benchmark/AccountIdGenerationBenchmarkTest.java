@@ -0,0 +1,144 @@
+package dev.magadiflo.app.benchmark;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.AccountBatchCreateRequest;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.AccountService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara el alta de 100 000 cuentas con {@code POST /api/v1/accounts/batch} ({@link AccountService#saveAccounts})
+ * según cómo se generan sus IDs: la secuencia {@code accounts_seq} con el optimizador {@code pooled} de la
+ * aplicación frente a {@code IDENTITY} (el {@code AUTO_INCREMENT} de MySQL), que se reactiva solo aquí con
+ * {@code benchmark/identity-ids-orm.xml}.
+ * <p>
+ * Con {@code IDENTITY} Hibernate necesita el ID que genera la base de datos al persistir cada cuenta, así que
+ * ejecuta un {@code INSERT} por cuenta y no puede agruparlos; con la secuencia obtiene 50 IDs por consulta y envía
+ * los {@code INSERT} en lotes de {@code hibernate.jdbc.batch_size}. Los movimientos de apertura usan su propia
+ * secuencia en ambos casos. Cada sentencia preparada y cada confirmación esperan {@code benchmark.db-latency}
+ * (1 ms por defecto) para simular la red de una base de datos real (ver {@link DatabaseLatency}).
+ * </p>
+ * <p>
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=AccountIdGenerationBenchmarkTest}.
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test-h2")
+@Import(AccountIdGenerationBenchmarkTest.DatabaseLatencyConfig.class)
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO",
+        "logging.level.dev.magadiflo.app.service=WARN"
+})
+class AccountIdGenerationBenchmarkTest {
+
+    private static final int ACCOUNTS = 100_000;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+    private static final Duration DB_LATENCY = Duration.ofMillis(Long.getLong("benchmark.db-latency", 1));
+
+    @Nested
+    class SequenceIds extends AccountCreation {
+        @Test
+        void measureBatchCreation() {
+            this.measure("SECUENCIA");
+        }
+    }
+
+    // Base de datos propia: el esquema de las cuentas (columna IDENTITY) no es el del resto de contextos
+    @Nested
+    @TestPropertySource(properties = {
+            "spring.jpa.mapping-resources=benchmark/identity-ids-orm.xml",
+            "spring.datasource.url=jdbc:h2:mem:db_identity_ids;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+    })
+    class IdentityIds extends AccountCreation {
+        @Test
+        void measureBatchCreation() {
+            this.measure("IDENTITY");
+        }
+    }
+
+    /**
+     * Las clases {@code @Nested} reciben sus dependencias de su propio contexto de Spring
+     * (cada una con su estrategia de IDs), por eso el estado vive aquí y no en la clase externa.
+     */
+    abstract static class AccountCreation {
+
+        @Autowired
+        private AccountService accountService;
+
+        @Autowired
+        private AccountRepository accountRepository;
+
+        @Autowired
+        private BankRepository bankRepository;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Autowired
+        private DatabaseLatency databaseLatency;
+
+        void measure(String strategy) {
+            Long bankId = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build()).getId();
+            List<AccountCreateRequest> requests = IntStream.range(0, ACCOUNTS)
+                    .mapToObj(i -> new AccountCreateRequest("Titular " + i, INITIAL_BALANCE, bankId))
+                    .toList();
+            Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            this.databaseLatency.enable();
+            long start = System.nanoTime();
+            try {
+                // En lotes del tamaño máximo que admite el endpoint
+                for (int from = 0; from < ACCOUNTS; from += AccountBatchCreateRequest.MAX_ACCOUNTS) {
+                    int to = Math.min(from + AccountBatchCreateRequest.MAX_ACCOUNTS, ACCOUNTS);
+                    this.accountService.saveAccounts(requests.subList(from, to));
+                }
+            } finally {
+                this.databaseLatency.disable();
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            log.info("[{}] Cuentas: {} | Tiempo: {} ms | Cuentas/s: {} | Sentencias preparadas: {} | Entidades insertadas: {}",
+                    strategy, ACCOUNTS, elapsed.toMillis(), Math.round(ACCOUNTS / (elapsed.toNanos() / 1e9)),
+                    statistics.getPrepareStatementCount(), statistics.getEntityInsertCount());
+            assertThat(this.accountRepository.count()).isEqualTo(ACCOUNTS);
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class DatabaseLatencyConfig {
+
+        @Bean
+        static DatabaseLatency databaseLatency() {
+            return new DatabaseLatency(DB_LATENCY);
+        }
+    }
+}
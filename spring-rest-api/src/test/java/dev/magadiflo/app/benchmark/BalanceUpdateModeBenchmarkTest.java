@@ -0,0 +1,154 @@
+package dev.magadiflo.app.benchmark;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.AccountService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara el throughput de depósitos concurrentes sobre una única cuenta "caliente"
+ * entre el modo {@code ENTITY} (lectura-modificación-escritura) y el modo {@code ATOMIC}
+ * (un único {@code UPDATE} condicional), y el modo {@code ENTITY} con la agrupación de depósitos activada.
+ * <p>
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=BalanceUpdateModeBenchmarkTest}
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class BalanceUpdateModeBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int DEPOSITS_PER_THREAD = 250;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+    @Nested
+    class EntityMode extends HotAccountDeposits {
+        @Test
+        void measureHotAccountDeposits() throws Exception {
+            BenchmarkResult result = runConcurrentDeposits();
+            log.info("[ENTITY] {}", result);
+            assertThat(result.completed()).isPositive();
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "app.accounts.balance-update-mode=atomic")
+    class AtomicMode extends HotAccountDeposits {
+        @Test
+        void measureHotAccountDeposits() throws Exception {
+            BenchmarkResult result = runConcurrentDeposits();
+            log.info("[ATOMIC] {}", result);
+            assertThat(result.failed()).isZero();
+            assertThat(result.lostUpdates()).isZero();
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "app.deposit-coalescing.enabled=true")
+    class CoalescedEntityMode extends HotAccountDeposits {
+        @Test
+        void measureHotAccountDeposits() throws Exception {
+            BenchmarkResult result = runConcurrentDeposits();
+            log.info("[ENTITY + AGRUPACIÓN] {}", result);
+            assertThat(result.failed()).isZero();
+            assertThat(result.lostUpdates()).isZero();
+        }
+    }
+
+    /**
+     * Las clases {@code @Nested} reciben sus dependencias de su propio contexto de Spring
+     * (cada una con su propia configuración), por eso el estado vive aquí y no en la clase externa.
+     */
+    abstract static class HotAccountDeposits {
+
+        @Autowired
+        private AccountService accountService;
+
+        @Autowired
+        private AccountRepository accountRepository;
+
+        @Autowired
+        private BankRepository bankRepository;
+
+        private Long hotAccountId;
+
+        @BeforeEach
+        void setUp() {
+            Bank bank = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build());
+            Account account = this.accountRepository.save(Account.builder()
+                    .holder("Cuenta caliente")
+                    .balance(Money.of(INITIAL_BALANCE))
+                    .bank(bank)
+                    .build());
+            this.hotAccountId = account.getId();
+        }
+
+        BenchmarkResult runConcurrentDeposits() throws Exception {
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+
+            long start = System.nanoTime();
+            try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(() -> {
+                        for (int j = 0; j < DEPOSITS_PER_THREAD; j++) {
+                            try {
+                                this.accountService.deposit(this.hotAccountId, new DepositRequest(AMOUNT));
+                                completed.incrementAndGet();
+                            } catch (RuntimeException e) {
+                                failed.incrementAndGet();
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+
+            BigDecimal expected = INITIAL_BALANCE.add(AMOUNT.multiply(BigDecimal.valueOf(completed.get())));
+            BigDecimal actual = this.accountService.getAccountBalance(this.hotAccountId);
+            int lostUpdates = expected.subtract(actual).divide(AMOUNT).intValue();
+            double opsPerSecond = completed.get() / (elapsedNanos / 1_000_000_000.0);
+            return new BenchmarkResult(completed.get(), failed.get(), lostUpdates, elapsedNanos / 1_000_000, opsPerSecond);
+        }
+    }
+
+    private record BenchmarkResult(int completed, int failed, int lostUpdates, long elapsedMillis, double opsPerSecond) {
+        @Override
+        public String toString() {
+            return "Depósitos: %d | Fallidos: %d | Actualizaciones perdidas: %d | Tiempo: %d ms | Throughput: %.1f ops/s"
+                    .formatted(completed, failed, lostUpdates, elapsedMillis, opsPerSecond);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package dev.magadiflo.app.benchmark;
+
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Statement;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Simula la latencia de red de una base de datos real sobre H2 en memoria: mientras está activada, preparar
+ * (JDBC) o ejecutar (R2DBC, ver {@link #offEventLoop(Publisher)}) cada sentencia y confirmar cada transacción esperan {@code latency}.
+ * <p>
+ * Envuelve tanto el {@link DataSource} como el {@link ConnectionFactory}. Con JDBC la espera bloquea el hilo de
+ * la petición ({@code Thread.sleep}); con R2DBC es un temporizador ({@code Mono.delay}) que no ocupa ningún hilo,
+ * igual que la espera de la respuesta de un socket.
+ * </p>
+ */
+class DatabaseLatency implements BeanPostProcessor {
+
+    private final Duration latency;
+    private volatile boolean enabled;
+
+    DatabaseLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    void enable() {
+        this.enabled = true;
+    }
+
+    void disable() {
+        this.enabled = false;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return withLatency(super.getConnection());
+                }
+            };
+        }
+        if (bean instanceof ConnectionFactory connectionFactory) {
+            return new ConnectionFactory() {
+                @Override
+                public Publisher<? extends io.r2dbc.spi.Connection> create() {
+                    return Mono.from(connectionFactory.create()).map(DatabaseLatency.this::withLatency);
+                }
+
+                @Override
+                public ConnectionFactoryMetadata getMetadata() {
+                    return connectionFactory.getMetadata();
+                }
+            };
+        }
+        return bean;
+    }
+
+    private Connection withLatency(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (this.enabled && (method.getName().startsWith("prepare") || method.getName().equals("commit"))) {
+                        Thread.sleep(this.latency);
+                    }
+                    return invoke(connection, method, args);
+                });
+    }
+
+    private io.r2dbc.spi.Connection withLatency(io.r2dbc.spi.Connection connection) {
+        return (io.r2dbc.spi.Connection) Proxy.newProxyInstance(io.r2dbc.spi.Connection.class.getClassLoader(),
+                new Class<?>[]{io.r2dbc.spi.Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return switch (method.getName()) {
+                        case "createStatement" -> this.withLatency((Statement) result);
+                        case "commitTransaction" -> this.delayed((Publisher<?>) result);
+                        default -> result;
+                    };
+                });
+    }
+
+    private Statement withLatency(Statement statement) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{Statement.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(statement, method, args);
+                    return switch (method.getName()) {
+                        case "execute" -> this.delayed(offEventLoop((Publisher<?>) result));
+                        // Los métodos bind devuelven la sentencia para encadenar llamadas
+                        default -> result == statement ? proxy : result;
+                    };
+                });
+    }
+
+    /**
+     * r2dbc-h2 ejecuta H2 dentro de la JVM y espera los bloqueos de fila bloqueando el hilo que la llama: en el
+     * event loop, una transferencia que espera a otra detendría a todas las demás, incluida la que tiene el bloqueo.
+     * Con una base de datos real esa espera ocurre en el servidor y el driver solo espera la respuesta del socket,
+     * así que aquí las sentencias se ejecutan fuera del event loop.
+     */
+    private static <T> Publisher<T> offEventLoop(Publisher<T> publisher) {
+        return Flux.from(publisher).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private <T> Publisher<T> delayed(Publisher<T> publisher) {
+        return this.enabled ? Mono.delay(this.latency).thenMany(publisher) : Flux.from(publisher);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
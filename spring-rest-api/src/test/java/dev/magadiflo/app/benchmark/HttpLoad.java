@@ -0,0 +1,95 @@
+package dev.magadiflo.app.benchmark;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Generador de carga HTTP de los benchmarks de servidor: mantiene un número fijo de conexiones enviando peticiones
+ * sin pausa, cada una en cuanto llega la respuesta anterior, primero durante el calentamiento sin medir y luego
+ * durante la medición.
+ * <p>
+ * El cliente es asíncrono y usa solo {@value #CLIENT_THREADS} hilos: con un hilo por conexión, los miles de hilos
+ * del cliente competirían por la CPU con los pocos hilos del servidor (portadores de los hilos virtuales o event
+ * loop de Netty) y el benchmark mediría al cliente, no al servidor.
+ * </p>
+ */
+final class HttpLoad {
+
+    private static final int CLIENT_THREADS = 2;
+
+    private final Duration warmup;
+    private final Duration measurement;
+
+    HttpLoad(Duration warmup, Duration measurement) {
+        this.warmup = warmup;
+        this.measurement = measurement;
+    }
+
+    Result run(int connections, Function<ThreadLocalRandom, HttpRequest> requests) {
+        Counters counters = new Counters();
+        long measureFrom = System.nanoTime() + this.warmup.toNanos();
+        long measureUntil = measureFrom + this.measurement.toNanos();
+
+        ExecutorService callbacks = Executors.newFixedThreadPool(CLIENT_THREADS);
+        try (HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(callbacks)
+                .build()) {
+            CompletableFuture.allOf(IntStream.range(0, connections)
+                            .mapToObj(i -> sendUntil(httpClient, callbacks, requests, measureFrom, measureUntil, counters))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            callbacks.shutdownNow();
+        }
+        return new Result(connections, counters.succeeded.sum(), counters.failed.sum(), counters.latencyNanos.sum(),
+                this.measurement);
+    }
+
+    private static CompletableFuture<Void> sendUntil(HttpClient httpClient, Executor callbacks,
+                                                     Function<ThreadLocalRandom, HttpRequest> requests,
+                                                     long measureFrom, long measureUntil, Counters counters) {
+        long start = System.nanoTime();
+        if (start >= measureUntil) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return httpClient.sendAsync(requests.apply(ThreadLocalRandom.current()), HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> error == null && response.statusCode() < 400)
+                // Asíncrono para que los fallos inmediatos no encadenen llamadas en la misma pila
+                .thenComposeAsync(ok -> {
+                    long end = System.nanoTime();
+                    if (start >= measureFrom && end <= measureUntil) {
+                        (ok ? counters.succeeded : counters.failed).increment();
+                        counters.latencyNanos.add(end - start);
+                    }
+                    return sendUntil(httpClient, callbacks, requests, measureFrom, measureUntil, counters);
+                }, callbacks);
+    }
+
+    private static final class Counters {
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+    }
+
+    record Result(int connections, long succeeded, long failed, long latencyNanos, Duration measurement) {
+        @Override
+        public String toString() {
+            long requests = succeeded + failed;
+            return "Conexiones: %d | Exitosas: %d | Fallidas: %d | Throughput: %.1f req/s | Latencia media: %.1f ms"
+                    .formatted(connections, succeeded, failed, requests / (double) measurement.toSeconds(),
+                            requests == 0 ? 0 : latencyNanos / 1_000_000.0 / requests);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package dev.magadiflo.app.benchmark;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.reactive.ReactiveAccountApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara la API servlet ({@code AccountController} sobre Tomcat con 200 hilos y JDBC) con su variante reactiva
+ * ({@code ReactiveAccountApplication}, WebFlux sobre Netty y R2DBC) para {@code GET /api/v1/accounts/{id}} y
+ * {@code POST /api/v1/accounts/transfer}, con el mismo número de conexiones concurrentes y contra la misma base
+ * de datos.
+ * <p>
+ * Ambas aplicaciones corren en esta JVM sobre la misma base H2 en memoria, con pools de conexiones del mismo
+ * tamaño y {@code benchmark.db-latency} (20 ms por defecto) de latencia simulada por sentencia y por confirmación
+ * (ver {@link DatabaseLatency}). Las transferencias servlet usan el bloqueo {@code pessimistic}, el único que
+ * implementa la variante reactiva, y la caché de cuentas se desactiva para que cada consulta llegue a la base de
+ * datos. La comparación con hilos virtuales está en {@link VirtualThreadsBenchmarkTest}.
+ * </p>
+ * <p>
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=ReactiveVsServletBenchmarkTest}. Los niveles de concurrencia
+ * se indican con {@code -Dbenchmark.connections=1000,5000} (por defecto). Como en {@link VirtualThreadsBenchmarkTest},
+ * el primer modo paga la compilación JIT: para comparar sin ese sesgo, ejecutar cada uno por separado
+ * ({@code -Dtest='ReactiveVsServletBenchmarkTest#measureReactive'}) o alargar {@code -Dbenchmark.warmup}.
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test-h2")
+@Import(ReactiveVsServletBenchmarkTest.DatabaseLatencyConfig.class)
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=" + ReactiveVsServletBenchmarkTest.POOL_SIZE,
+        "spring.datasource.hikari.minimum-idle=" + ReactiveVsServletBenchmarkTest.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=60000",
+        "server.tomcat.max-connections=20000",
+        "server.tomcat.accept-count=10000",
+        "server.tomcat.max-keep-alive-requests=-1",
+        "app.accounts.transfer-locking=pessimistic",
+        "app.account-cache.max-size=0",
+        "app.transfer-counter.shards=4096",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO",
+        "logging.level.dev.magadiflo.app.service=WARN",
+        "logging.level.dev.magadiflo.app.controller=WARN",
+        "logging.level.dev.magadiflo.reactive=WARN"
+})
+class ReactiveVsServletBenchmarkTest {
+
+    static final int POOL_SIZE = 400;
+    private static final int ACCOUNTS = 10_000;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000.00");
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup", 10));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DB_LATENCY = Duration.ofMillis(Long.getLong("benchmark.db-latency", 20));
+    private static final HttpLoad LOAD = new HttpLoad(WARMUP, MEASUREMENT);
+    private static final int[] CONNECTIONS = Arrays.stream(System.getProperty("benchmark.connections", "1000,5000").split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim()))
+            .toArray();
+
+    // Compartida por ambas aplicaciones: activarla agrega la latencia a JDBC y a R2DBC a la vez
+    private static final DatabaseLatency DATABASE_LATENCY = new DatabaseLatency(DB_LATENCY);
+
+    private static ConfigurableApplicationContext reactiveApplication;
+
+    @LocalServerPort
+    private int servletPort;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    private final List<Long> accountIds = new ArrayList<>();
+
+    @BeforeAll
+    static void startReactiveApplication() {
+        reactiveApplication = new SpringApplicationBuilder(ReactiveAccountApplication.class)
+                .profiles("test-h2", ReactiveAccountApplication.PROFILE)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(DATABASE_LATENCY))
+                // Como argumentos y no con properties(...), que solo son valores por defecto y no se impondrían
+                // a application-reactive.yml
+                .run("--spring.r2dbc.pool.initial-size=" + POOL_SIZE,
+                        "--spring.r2dbc.pool.max-size=" + POOL_SIZE,
+                        "--spring.r2dbc.pool.max-acquire-time=60s",
+                        "--app.transfer-counter.shards=4096",
+                        "--logging.level.dev.magadiflo.reactive=WARN");
+    }
+
+    @AfterAll
+    static void stopReactiveApplication() {
+        if (reactiveApplication != null) {
+            reactiveApplication.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        // El esquema lo crea Hibernate; la aplicación reactiva ve las mismas cuentas en la misma base H2
+        Bank bank = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build());
+        List<Account> accounts = IntStream.range(0, ACCOUNTS)
+                .mapToObj(i -> Account.builder().holder("Titular " + i).balance(Money.of(INITIAL_BALANCE)).bank(bank).build())
+                .toList();
+        this.accountRepository.saveAll(accounts).forEach(account -> this.accountIds.add(account.getId()));
+    }
+
+    @Test
+    void measureServlet() {
+        this.measure("SERVLET", this.servletPort);
+    }
+
+    @Test
+    void measureReactive() {
+        this.measure("REACTIVA", ((WebServerApplicationContext) reactiveApplication).getWebServer().getPort());
+    }
+
+    private void measure(String mode, int port) {
+        DATABASE_LATENCY.enable();
+        try {
+            for (int connections : CONNECTIONS) {
+                HttpLoad.Result findById = LOAD.run(connections, random -> this.findByIdRequest(port, random));
+                log.info("[{}] GET /api/v1/accounts/{id} | {}", mode, findById);
+                HttpLoad.Result transfer = LOAD.run(connections, random -> this.transferRequest(port, random));
+                log.info("[{}] POST /api/v1/accounts/transfer | {}", mode, transfer);
+                assertThat(findById.succeeded()).isPositive();
+                assertThat(transfer.succeeded()).isPositive();
+            }
+        } finally {
+            DATABASE_LATENCY.disable();
+        }
+    }
+
+    private HttpRequest findByIdRequest(int port, ThreadLocalRandom random) {
+        Long accountId = this.accountIds.get(random.nextInt(ACCOUNTS));
+        return HttpRequest.newBuilder(URI.create("http://localhost:%d/api/v1/accounts/%d".formatted(port, accountId)))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest transferRequest(int port, ThreadLocalRandom random) {
+        int source = random.nextInt(ACCOUNTS);
+        int target = (source + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+        String body = """
+                {"sourceAccountId": %d, "targetAccountId": %d, "amount": 1.00}
+                """.formatted(this.accountIds.get(source), this.accountIds.get(target));
+        return HttpRequest.newBuilder(URI.create("http://localhost:%d/api/v1/accounts/transfer".formatted(port)))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class DatabaseLatencyConfig {
+
+        @Bean
+        static DatabaseLatency databaseLatency() {
+            return DATABASE_LATENCY;
+        }
+    }
+}
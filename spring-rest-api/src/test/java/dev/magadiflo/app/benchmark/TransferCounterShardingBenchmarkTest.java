@@ -0,0 +1,163 @@
+package dev.magadiflo.app.benchmark;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.AccountService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mide cómo escala el throughput de transferencias dentro de un único banco al aumentar los hilos,
+ * con un solo fragmento de contador (equivalente a la antigua fila caliente {@code banks.total_transfers})
+ * frente a un contador con varios fragmentos.
+ * <p>
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=TransferCounterShardingBenchmarkTest}
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "logging.level.dev.magadiflo.app=INFO"
+})
+class TransferCounterShardingBenchmarkTest {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+    private static final int TRANSFERS_PER_THREAD = 250;
+    private static final int ACCOUNTS = 64;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("100000.00");
+
+    @Nested
+    @TestPropertySource(properties = "app.transfer-counter.shards=1")
+    class SingleShard extends SameBankTransfers {
+        @Test
+        void measureThroughputByThreadCount() throws Exception {
+            warmUp();
+            for (int threads : THREAD_COUNTS) {
+                BenchmarkResult result = runConcurrentTransfers(threads);
+                log.info("[SHARDS=1] {}", result);
+                assertThat(result.completed()).isPositive();
+            }
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "app.transfer-counter.shards=16")
+    class SixteenShards extends SameBankTransfers {
+        @Test
+        void measureThroughputByThreadCount() throws Exception {
+            warmUp();
+            for (int threads : THREAD_COUNTS) {
+                BenchmarkResult result = runConcurrentTransfers(threads);
+                log.info("[SHARDS=16] {}", result);
+                assertThat(result.completed()).isPositive();
+            }
+        }
+    }
+
+    /**
+     * Las clases {@code @Nested} reciben sus dependencias de su propio contexto de Spring
+     * (cada una con su número de fragmentos), por eso el estado vive aquí y no en la clase externa.
+     */
+    abstract static class SameBankTransfers {
+
+        @Autowired
+        private AccountService accountService;
+
+        @Autowired
+        private AccountRepository accountRepository;
+
+        @Autowired
+        private BankRepository bankRepository;
+
+        private final List<Long> accountIds = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            Bank bank = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build());
+            for (int i = 0; i < ACCOUNTS; i++) {
+                this.accountIds.add(this.accountRepository.save(Account.builder()
+                        .holder("Titular " + i)
+                        .balance(Money.of(INITIAL_BALANCE))
+                        .bank(bank)
+                        .build()).getId());
+            }
+        }
+
+        /**
+         * Ejecuta una ronda sin medir para que ambas variantes se midan con el JIT y el pool ya calientes.
+         */
+        void warmUp() throws Exception {
+            runConcurrentTransfers(THREAD_COUNTS[THREAD_COUNTS.length - 1]);
+        }
+
+        BenchmarkResult runConcurrentTransfers(int threads) throws Exception {
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+
+            long start = System.nanoTime();
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(() -> {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        for (int j = 0; j < TRANSFERS_PER_THREAD; j++) {
+                            int source = random.nextInt(ACCOUNTS);
+                            int target = (source + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                            try {
+                                this.accountService.transfer(new TransactionRequest(
+                                        this.accountIds.get(source), this.accountIds.get(target), BigDecimal.ONE));
+                                completed.incrementAndGet();
+                            } catch (ConcurrencyFailureException e) {
+                                failed.incrementAndGet();
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+
+            double opsPerSecond = completed.get() / (elapsedNanos / 1_000_000_000.0);
+            return new BenchmarkResult(threads, completed.get(), failed.get(), elapsedNanos / 1_000_000, opsPerSecond);
+        }
+    }
+
+    private record BenchmarkResult(int threads, int completed, int failed, long elapsedMillis, double opsPerSecond) {
+        @Override
+        public String toString() {
+            return "Hilos: %d | Transferencias: %d | Fallidas: %d | Tiempo: %d ms | Throughput: %.1f ops/s"
+                    .formatted(threads, completed, failed, elapsedMillis, opsPerSecond);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package dev.magadiflo.app.benchmark;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.exception.InsufficientBalanceException;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.retry.RetryExecutor;
+import dev.magadiflo.app.service.AccountService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara el throughput de transferencias con bloqueo optimista ({@code @Version} + reintentos) frente a
+ * bloqueo pesimista ({@code SELECT ... FOR UPDATE}) en una carga con poca contención: muchos bancos con
+ * pocas cuentas cada uno, y transferencias siempre dentro del mismo banco.
+ * <p>
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=TransferLockingBenchmarkTest}
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class TransferLockingBenchmarkTest {
+
+    private static final int BANKS = 50;
+    private static final int ACCOUNTS_PER_BANK = 4;
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 500;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("100000.00");
+
+    @Nested
+    @TestPropertySource(properties = "app.accounts.transfer-locking=optimistic")
+    class OptimisticLocking extends LowContentionTransfers {
+        @Test
+        void measureLowContentionTransfers() throws Exception {
+            BenchmarkResult result = runConcurrentTransfers();
+            log.info("[OPTIMISTIC] {}", result);
+            assertThat(result.completed()).isPositive();
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "app.accounts.transfer-locking=pessimistic")
+    class PessimisticLocking extends LowContentionTransfers {
+        @Test
+        void measureLowContentionTransfers() throws Exception {
+            BenchmarkResult result = runConcurrentTransfers();
+            log.info("[PESSIMISTIC] {}", result);
+            assertThat(result.completed()).isPositive();
+        }
+    }
+
+    /**
+     * Las clases {@code @Nested} reciben sus dependencias de su propio contexto de Spring
+     * (cada una con su {@code transfer-locking}), por eso el estado vive aquí y no en la clase externa.
+     */
+    abstract static class LowContentionTransfers {
+
+        @Autowired
+        private AccountService accountService;
+
+        @Autowired
+        private AccountRepository accountRepository;
+
+        @Autowired
+        private BankRepository bankRepository;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        private final List<List<Long>> accountIdsByBank = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            for (int b = 0; b < BANKS; b++) {
+                Bank bank = this.bankRepository.save(Bank.builder().name("Banco " + b).totalTransfers(0).build());
+                List<Long> accountIds = new ArrayList<>();
+                for (int a = 0; a < ACCOUNTS_PER_BANK; a++) {
+                    accountIds.add(this.accountRepository.save(Account.builder()
+                            .holder("Titular %d-%d".formatted(b, a))
+                            .balance(Money.of(INITIAL_BALANCE))
+                            .bank(bank)
+                            .build()).getId());
+                }
+                this.accountIdsByBank.add(accountIds);
+            }
+        }
+
+        BenchmarkResult runConcurrentTransfers() throws Exception {
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+
+            long start = System.nanoTime();
+            try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(() -> {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        for (int j = 0; j < TRANSFERS_PER_THREAD; j++) {
+                            List<Long> accountIds = this.accountIdsByBank.get(random.nextInt(BANKS));
+                            int source = random.nextInt(ACCOUNTS_PER_BANK);
+                            int target = (source + 1 + random.nextInt(ACCOUNTS_PER_BANK - 1)) % ACCOUNTS_PER_BANK;
+                            try {
+                                this.accountService.transfer(new TransactionRequest(
+                                        accountIds.get(source), accountIds.get(target), BigDecimal.ONE));
+                                completed.incrementAndGet();
+                            } catch (InsufficientBalanceException | ConcurrencyFailureException e) {
+                                failed.incrementAndGet();
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+
+            double retries = this.meterRegistry.find(RetryExecutor.RETRIES_METRIC).counters().stream()
+                    .mapToDouble(Counter::count)
+                    .sum();
+            double opsPerSecond = completed.get() / (elapsedNanos / 1_000_000_000.0);
+            return new BenchmarkResult(completed.get(), failed.get(), (long) retries, elapsedNanos / 1_000_000, opsPerSecond);
+        }
+    }
+
+    private record BenchmarkResult(int completed, int failed, long retries, long elapsedMillis, double opsPerSecond) {
+        @Override
+        public String toString() {
+            return "Transferencias: %d | Fallidas: %d | Reintentos: %d | Tiempo: %d ms | Throughput: %.1f ops/s"
+                    .formatted(completed, failed, retries, elapsedMillis, opsPerSecond);
+        }
+    }
+}
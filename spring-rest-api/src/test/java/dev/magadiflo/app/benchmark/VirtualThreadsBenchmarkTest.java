@@ -0,0 +1,190 @@
+package dev.magadiflo.app.benchmark;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara Tomcat con hilos de plataforma (200 hilos, la configuración por defecto) frente a hilos virtuales
+ * ({@code spring.threads.virtual.enabled=true}, perfil {@code virtual-threads}) para {@code GET /api/v1/accounts/{id}}
+ * y {@code POST /api/v1/accounts/transfer} con miles de conexiones concurrentes.
+ * <p>
+ * H2 en memoria hace de base de datos, pero cada sentencia espera {@code benchmark.db-latency} (20 ms por defecto)
+ * para simular la latencia de red de una base de datos real. El pool de conexiones es el mismo en ambos modos y mayor
+ * que los hilos de Tomcat, como en un nodo que satura sus hilos mucho antes que la CPU o la base de datos; la caché
+ * de cuentas se desactiva para que cada consulta llegue a la base de datos.
+ * </p>
+ * <p>
+ * El contador de transferencias usa muchos más fragmentos que en producción: H2 espera los bloqueos de fila dentro
+ * de la JVM, en parte con espera activa, así que las transferencias que coinciden en una fila consumen la CPU y los
+ * hilos portadores del propio servidor. Con MySQL esa espera ocurre en la base de datos y el hilo virtual solo
+ * espera la respuesta del socket.
+ * </p>
+ * <p>
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=VirtualThreadsBenchmarkTest}. Los niveles de concurrencia se
+ * indican con {@code -Dbenchmark.connections=1000,5000} (por defecto); el cliente y el servidor comparten el
+ * proceso, así que cada conexión ocupa dos descriptores de archivo: 10000 conexiones requieren {@code ulimit -n}
+ * mayor que 20000.
+ * </p>
+ * <p>
+ * Ambos modos comparten la JVM y el primero en ejecutarse paga la compilación JIT; para comparar sin ese sesgo,
+ * ejecutar cada modo por separado ({@code -Dtest='VirtualThreadsBenchmarkTest$VirtualThreads'}) o alargar el
+ * calentamiento con {@code -Dbenchmark.warmup=30} (segundos, 10 por defecto).
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test-h2")
+@Import(VirtualThreadsBenchmarkTest.DatabaseLatencyConfig.class)
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=" + VirtualThreadsBenchmarkTest.POOL_SIZE,
+        "spring.datasource.hikari.minimum-idle=" + VirtualThreadsBenchmarkTest.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=60000",
+        "server.tomcat.max-connections=20000",
+        "server.tomcat.accept-count=10000",
+        "server.tomcat.max-keep-alive-requests=-1",
+        "app.account-cache.max-size=0",
+        "app.transfer-counter.shards=4096",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO",
+        "logging.level.dev.magadiflo.app.service=WARN",
+        "logging.level.dev.magadiflo.app.controller=WARN"
+})
+class VirtualThreadsBenchmarkTest {
+
+    static final int POOL_SIZE = 400;
+    private static final int ACCOUNTS = 10_000;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000.00");
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup", 10));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DB_LATENCY = Duration.ofMillis(Long.getLong("benchmark.db-latency", 20));
+    private static final HttpLoad LOAD = new HttpLoad(WARMUP, MEASUREMENT);
+    private static final int[] CONNECTIONS = Arrays.stream(System.getProperty("benchmark.connections", "1000,5000").split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim()))
+            .toArray();
+
+    @Nested
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+    class PlatformThreads extends ConcurrentConnections {
+        @Test
+        void measureFindByIdAndTransfer() {
+            this.measure("PLATAFORMA");
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    class VirtualThreads extends ConcurrentConnections {
+        @Test
+        void measureFindByIdAndTransfer() {
+            this.measure("VIRTUALES");
+        }
+    }
+
+    /**
+     * Las clases {@code @Nested} reciben sus dependencias de su propio contexto de Spring
+     * (cada una con su tipo de hilos), por eso el estado vive aquí y no en la clase externa.
+     */
+    abstract static class ConcurrentConnections {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private AccountRepository accountRepository;
+
+        @Autowired
+        private BankRepository bankRepository;
+
+        @Autowired
+        private DatabaseLatency databaseLatency;
+
+        private final List<Long> accountIds = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            Bank bank = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build());
+            List<Account> accounts = IntStream.range(0, ACCOUNTS)
+                    .mapToObj(i -> Account.builder().holder("Titular " + i).balance(Money.of(INITIAL_BALANCE)).bank(bank).build())
+                    .toList();
+            this.accountRepository.saveAll(accounts).forEach(account -> this.accountIds.add(account.getId()));
+        }
+
+        void measure(String mode) {
+            this.databaseLatency.enable();
+            try {
+                for (int connections : CONNECTIONS) {
+                    HttpLoad.Result findById = LOAD.run(connections, this::findByIdRequest);
+                    log.info("[{}] GET /api/v1/accounts/{id} | {}", mode, findById);
+                    HttpLoad.Result transfer = LOAD.run(connections, this::transferRequest);
+                    log.info("[{}] POST /api/v1/accounts/transfer | {}", mode, transfer);
+                    assertThat(findById.succeeded()).isPositive();
+                    assertThat(transfer.succeeded()).isPositive();
+                }
+            } finally {
+                this.databaseLatency.disable();
+            }
+        }
+
+        private HttpRequest findByIdRequest(ThreadLocalRandom random) {
+            Long accountId = this.accountIds.get(random.nextInt(ACCOUNTS));
+            return HttpRequest.newBuilder(URI.create("http://localhost:%d/api/v1/accounts/%d".formatted(this.port, accountId)))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+        }
+
+        private HttpRequest transferRequest(ThreadLocalRandom random) {
+            int source = random.nextInt(ACCOUNTS);
+            int target = (source + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+            String body = """
+                    {"sourceAccountId": %d, "targetAccountId": %d, "amount": 1.00}
+                    """.formatted(this.accountIds.get(source), this.accountIds.get(target));
+            return HttpRequest.newBuilder(URI.create("http://localhost:%d/api/v1/accounts/transfer".formatted(this.port)))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class DatabaseLatencyConfig {
+
+        @Bean
+        static DatabaseLatency databaseLatency() {
+            return new DatabaseLatency(DB_LATENCY);
+        }
+    }
+}
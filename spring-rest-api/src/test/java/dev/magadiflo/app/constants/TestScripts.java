@@ -4,6 +4,9 @@ import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class TestScripts {
+    // Esquema para H2 sin Hibernate (variante reactiva)
+    public static final String SCHEMA_H2 = "/sql-test/schema-h2.sql";
+
     // Limpieza por BD
     public static final String CLEANUP_H2 = "/sql-test/cleanup-h2.sql";
     public static final String CLEANUP_MYSQL = "/sql-test/cleanup-mysql.sql";
@@ -13,6 +16,7 @@ public class TestScripts {
 
     // Combinación comunes
     public static final String[] H2_INIT = {CLEANUP_H2, DATA_TEST};
+    public static final String[] H2_REACTIVE_INIT = {SCHEMA_H2, CLEANUP_H2, DATA_TEST};
     public static final String[] MYSQL_INIT = {CLEANUP_MYSQL, DATA_TEST};
 }
 
@@ -1,12 +1,23 @@
 package dev.magadiflo.app.factory;
 
+import dev.magadiflo.app.cache.AccountCache;
+import dev.magadiflo.app.cache.AccountIdBloomFilter;
+import dev.magadiflo.app.config.AccountCacheProperties;
+import dev.magadiflo.app.config.AccountIdFilterProperties;
+import dev.magadiflo.app.config.AccountProperties;
+import dev.magadiflo.app.config.HotPathLoggingProperties;
 import dev.magadiflo.app.dto.AccountCreateRequest;
 import dev.magadiflo.app.dto.AccountResponse;
 import dev.magadiflo.app.entity.Account;
 import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.logging.HotPathLogLimiter;
+import dev.magadiflo.app.metrics.AccountMetrics;
+import dev.magadiflo.app.money.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.experimental.UtilityClass;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Arrays;
 
 @UtilityClass
@@ -26,14 +37,14 @@ public class AccountTestFactory {
         return Account.builder()
                 .id(accountId)
                 .holder(holder)
-                .balance(balance)
+                .balance(Money.of(balance))
                 .build();
     }
 
     public static Account createAccountWithoutId(AccountCreateRequest request, Bank bank) {
         return Account.builder()
                 .holder(request.holder())
-                .balance(request.balance())
+                .balance(Money.of(request.balance()))
                 .bank(bank)
                 .build();
     }
@@ -42,7 +53,7 @@ public class AccountTestFactory {
         return Account.builder()
                 .id(expectedAccountId)
                 .holder(request.holder())
-                .balance(request.balance())
+                .balance(Money.of(request.balance()))
                 .bank(bank)
                 .build();
     }
@@ -59,4 +70,26 @@ public class AccountTestFactory {
     public static AccountCreateRequest createAccountRequest(String holder, BigDecimal balance, Long bankId) {
         return new AccountCreateRequest(holder, balance, bankId);
     }
+
+    public static AccountProperties createAccountProperties() {
+        return new AccountProperties(AccountProperties.BalanceUpdateMode.ENTITY, AccountProperties.TransferLocking.OPTIMISTIC,
+                50, 500, 1000);
+    }
+
+    public static AccountCache createAccountCache() {
+        return new AccountCache(new AccountCacheProperties(1000, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+    }
+
+    public static AccountIdBloomFilter createAccountIdBloomFilter(boolean enabled) {
+        return new AccountIdBloomFilter(new AccountIdFilterProperties(enabled, 0.01, 1000, Duration.ofHours(1)),
+                new SimpleMeterRegistry());
+    }
+
+    public static HotPathLogLimiter createHotPathLogLimiter() {
+        return new HotPathLogLimiter(new HotPathLoggingProperties(false, 1, 0), new SimpleMeterRegistry());
+    }
+
+    public static AccountMetrics createAccountMetrics() {
+        return new AccountMetrics(new SimpleMeterRegistry());
+    }
 }
@@ -1,11 +1,14 @@
 package dev.magadiflo.app.integration.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.magadiflo.app.cache.AccountCache;
 import dev.magadiflo.app.constants.TestScripts;
 import dev.magadiflo.app.dto.AccountCreateRequest;
 import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.entity.Account;
 import lombok.extern.slf4j.Slf4j;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,9 +46,18 @@ class AccountControllerMockMvcTest {
     @Autowired
     private DataSource dataSource;
 
+    @Autowired
+    private AccountCache accountCache;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @BeforeEach
+    void setUp() {
+        // Los scripts reinician los datos (y los IDs) sin pasar por la caché de cuentas
+        this.accountCache.invalidateAll();
+    }
+
     @Test
     void shouldUseMySQLDatabase() throws SQLException {
         String url = this.dataSource.getConnection().getMetaData().getURL();
@@ -91,8 +103,8 @@ class AccountControllerMockMvcTest {
         // then
         result.andExpect(status().isCreated())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(header().string("Location", Matchers.containsString("/api/v1/accounts/9")))
-                .andExpect(jsonPath("$.id", Matchers.is(9)))
+                .andExpect(header().string("Location", Matchers.matchesPattern(".*/api/v1/accounts/\\d+")))
+                .andExpect(jsonPath("$.id", Matchers.greaterThanOrEqualTo(Account.FIRST_GENERATED_ID)))
                 .andExpect(jsonPath("$.holder", Matchers.is("Milagros")))
                 .andExpect(jsonPath("$.balance", Matchers.is(2000)))
                 .andExpect(jsonPath("$.bankName", Matchers.is("BBVA")));
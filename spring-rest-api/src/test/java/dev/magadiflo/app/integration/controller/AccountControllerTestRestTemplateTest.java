@@ -1,11 +1,15 @@
 package dev.magadiflo.app.integration.controller;
 
+import dev.magadiflo.app.cache.AccountCache;
 import dev.magadiflo.app.constants.TestScripts;
 import dev.magadiflo.app.dto.AccountCreateRequest;
 import dev.magadiflo.app.dto.AccountResponse;
 import dev.magadiflo.app.dto.ErrorResponse;
 import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.money.Money;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,6 +43,15 @@ class AccountControllerTestRestTemplateTest {
     @Autowired
     private DataSource dataSource;
 
+    @Autowired
+    private AccountCache accountCache;
+
+    @BeforeEach
+    void setUp() {
+        // Los scripts reinician los datos (y los IDs) sin pasar por la caché de cuentas
+        this.accountCache.invalidateAll();
+    }
+
     @Test
     void shouldUseMySQLDatabase() throws SQLException {
         String url = this.dataSource.getConnection().getMetaData().getURL();
@@ -87,7 +100,7 @@ class AccountControllerTestRestTemplateTest {
                 .isPresent()
                 .hasValueSatisfying(accountResponse -> {
                     assertThat(accountResponse.holder()).isEqualTo("Lesly Águila");
-                    assertThat(accountResponse.balance()).isEqualByComparingTo("3000");
+                    assertThat(accountResponse.balance()).isEqualTo(Money.of("3000"));
                     assertThat(accountResponse.bankName()).isEqualTo("BCP");
                 });
     }
@@ -111,8 +124,9 @@ class AccountControllerTestRestTemplateTest {
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody())
                 .isNotNull()
-                .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
-                .containsExactly(9L, request.holder(), request.balance(), "BCP");
+                .extracting(AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
+                .containsExactly(request.holder(), Money.of(request.balance()), "BCP");
+        assertThat(response.getBody().id()).isGreaterThanOrEqualTo(Account.FIRST_GENERATED_ID);
     }
 
     @Test
@@ -131,7 +145,7 @@ class AccountControllerTestRestTemplateTest {
                 .satisfies(accountResponse -> {
                     assertThat(accountResponse.id()).isEqualTo(5);
                     assertThat(accountResponse.holder()).isEqualTo("Milagros Díaz");
-                    assertThat(accountResponse.balance()).isEqualByComparingTo("3500");
+                    assertThat(accountResponse.balance()).isEqualTo(Money.of("3500"));
                     assertThat(accountResponse.bankName()).isEqualTo("Interbank");
                 });
     }
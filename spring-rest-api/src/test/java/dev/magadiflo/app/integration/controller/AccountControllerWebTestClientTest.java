@@ -1,10 +1,14 @@
 package dev.magadiflo.app.integration.controller;
 
+import dev.magadiflo.app.cache.AccountCache;
 import dev.magadiflo.app.constants.TestScripts;
 import dev.magadiflo.app.dto.AccountCreateRequest;
 import dev.magadiflo.app.dto.AccountResponse;
 import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.money.Money;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +38,15 @@ class AccountControllerWebTestClientTest {
     @Autowired
     private DataSource dataSource;
 
+    @Autowired
+    private AccountCache accountCache;
+
+    @BeforeEach
+    void setUp() {
+        // Los scripts reinician los datos (y los IDs) sin pasar por la caché de cuentas
+        this.accountCache.invalidateAll();
+    }
+
     @Test
     void shouldUseMySQLDatabase() throws SQLException {
         String url = this.dataSource.getConnection().getMetaData().getURL();
@@ -91,7 +104,7 @@ class AccountControllerWebTestClientTest {
                             .isPresent()
                             .hasValueSatisfying(accountResponse -> {
                                 assertThat(accountResponse.holder()).isEqualTo("Lesly Águila");
-                                assertThat(accountResponse.balance()).isEqualByComparingTo("3000");
+                                assertThat(accountResponse.balance()).isEqualTo(Money.of("3000"));
                                 assertThat(accountResponse.bankName()).isEqualTo("BCP");
                             });
                 });
@@ -120,8 +133,9 @@ class AccountControllerWebTestClientTest {
                     AccountResponse accountResponse = result.getResponseBody();
                     assertThat(accountResponse)
                             .isNotNull()
-                            .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
-                            .containsExactly(9L, request.holder(), request.balance(), "BCP");
+                            .extracting(AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
+                            .containsExactly(request.holder(), Money.of(request.balance()), "BCP");
+                    assertThat(accountResponse.id()).isGreaterThanOrEqualTo(Account.FIRST_GENERATED_ID);
                 });
     }
 
@@ -0,0 +1,148 @@
+package dev.magadiflo.app.integration.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.exception.IdempotencyKeyConflictException;
+import dev.magadiflo.app.idempotency.IdempotencyExecutor;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.repository.IdempotencyKeyRepository;
+import dev.magadiflo.app.service.AccountService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("integration")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class IdempotencyExecutorTest {
+
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+    private static final DepositRequest DEPOSIT = new DepositRequest(new BigDecimal("100.00"));
+
+    @Autowired
+    private IdempotencyExecutor idempotencyExecutor;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long accountId;
+    private String idempotencyKey;
+
+    @BeforeEach
+    void setUp() {
+        Bank bank = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build());
+        this.accountId = this.accountRepository.save(Account.builder()
+                .holder("Milagros")
+                .balance(Money.of(INITIAL_BALANCE))
+                .bank(bank)
+                .build()).getId();
+        // La caché en memoria sobrevive entre pruebas del mismo contexto; una clave nueva por prueba la aísla
+        this.idempotencyKey = UUID.randomUUID().toString();
+    }
+
+    @Test
+    void shouldApplyDepositOnceAndReplayTheSameResponseBytes() throws Exception {
+        // given
+        byte[] original = this.deposit(this.idempotencyKey);
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        byte[] replayed = this.deposit(this.idempotencyKey);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        String originalBody = new String(original, StandardCharsets.UTF_8);
+        assertThat(replayed).isEqualTo(original);
+        assertThat(this.objectMapper.readValue(original, AccountResponse.class).balance()).isEqualTo(Money.of("1100.00"));
+        assertThat(this.accountService.getAccountBalance(this.accountId)).isEqualByComparingTo("1100.00");
+        assertThat(this.idempotencyKeyRepository.findById(this.idempotencyKey))
+                .hasValueSatisfying(key -> assertThat(key.getResponseBody()).isEqualTo(originalBody));
+    }
+
+    @Test
+    void shouldThrowConflictWhenKeyIsReusedWithDifferentRequest() {
+        // given
+        this.deposit(this.idempotencyKey);
+        DepositRequest differentDeposit = new DepositRequest(new BigDecimal("999.00"));
+
+        // when
+        assertThatThrownBy(() -> this.idempotencyExecutor.execute(this.idempotencyKey, "deposit:" + this.accountId,
+                differentDeposit, () -> this.accountService.deposit(this.accountId, differentDeposit)))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+
+        // then
+        assertThat(this.accountService.getAccountBalance(this.accountId)).isEqualByComparingTo("1100.00");
+    }
+
+    @Test
+    void shouldApplyDepositOnceWhenTheSameKeyArrivesConcurrently() throws Exception {
+        // given
+        int threads = 8;
+        List<Future<byte[]>> futures = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> this.deposit(this.idempotencyKey)));
+            }
+        }
+        List<String> responses = new ArrayList<>();
+        for (Future<byte[]> future : futures) {
+            responses.add(new String(future.get(), StandardCharsets.UTF_8));
+        }
+
+        // then
+        assertThat(this.accountService.getAccountBalance(this.accountId)).isEqualByComparingTo("1100.00");
+        assertThat(responses).containsOnly(responses.getFirst());
+        assertThat(this.idempotencyKeyRepository.count()).isOne();
+    }
+
+    private byte[] deposit(String idempotencyKey) {
+        return this.idempotencyExecutor.execute(idempotencyKey, "deposit:" + this.accountId, DEPOSIT,
+                () -> this.accountService.deposit(this.accountId, DEPOSIT));
+    }
+}
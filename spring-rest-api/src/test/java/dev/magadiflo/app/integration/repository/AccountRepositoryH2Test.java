@@ -4,19 +4,23 @@ import dev.magadiflo.app.constants.TestScripts;
 import dev.magadiflo.app.dto.AccountResponse;
 import dev.magadiflo.app.entity.Account;
 import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.money.Money;
 import dev.magadiflo.app.repository.AccountRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
 import javax.sql.DataSource;
-import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -52,6 +56,47 @@ class AccountRepositoryH2Test {
                 .contains("Lesly Águila", "Briela Cirilo", "Milagros Díaz");
     }
 
+    @Test
+    void shouldWalkAllAccountsInIdOrderWhenPagingByKeyset() {
+        // given
+        List<Long> expectedIds = this.accountRepository.getAllAccounts().stream()
+                .map(AccountResponse::id)
+                .sorted()
+                .toList();
+        List<Long> visitedIds = new ArrayList<>();
+        long afterId = 0L;
+
+        // when
+        List<AccountResponse> page;
+        do {
+            page = this.accountRepository.getAccountsAfter(afterId, Limit.of(3));
+            page.forEach(account -> visitedIds.add(account.id()));
+            if (!page.isEmpty()) {
+                afterId = page.getLast().id();
+            }
+        } while (page.size() == 3);
+
+        // then
+        assertThat(visitedIds).containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    void shouldStreamAllAccountsInIdOrder() {
+        // given
+        List<AccountResponse> expected = this.accountRepository.getAllAccounts().stream()
+                .sorted(Comparator.comparing(AccountResponse::id))
+                .toList();
+
+        // when
+        List<AccountResponse> streamed;
+        try (Stream<AccountResponse> accounts = this.accountRepository.streamAllAccounts()) {
+            streamed = accounts.toList();
+        }
+
+        // then
+        assertThat(streamed).containsExactlyElementsOf(expected);
+    }
+
     @Test
     void shouldHaveAssociatedBankForAllAccountsWhenFetchingAccounts() {
         // when
@@ -64,7 +109,7 @@ class AccountRepositoryH2Test {
                 .allSatisfy(account -> {
                     assertThat(account.id()).isNotNull();
                     assertThat(account.holder()).isNotBlank();
-                    assertThat(account.balance()).isNotNull().isPositive();
+                    assertThat(account.balance()).isNotNull().isGreaterThan(Money.ZERO);
                     assertThat(account.bankName())
                             .withFailMessage("La cuenta con ID %d (titular: %s) debe tener banco asociado",
                                     account.id(), account.holder())
@@ -91,7 +136,7 @@ class AccountRepositoryH2Test {
                 .hasValueSatisfying(account -> {
                     assertThat(account.getId()).isEqualTo(accountId);
                     assertThat(account.getHolder()).isEqualTo("Lesly Águila");
-                    assertThat(account.getBalance()).isEqualByComparingTo("3000");
+                    assertThat(account.getBalance()).isEqualTo(Money.of("3000"));
                     assertThat(account.getBank())
                             .isNotNull()
                             .extracting(Bank::getId, Bank::getName)
@@ -118,8 +163,8 @@ class AccountRepositoryH2Test {
         // given
         Account newAccount = Account.builder()
                 .holder("Edwin Guerrero Test")
-                .balance(new BigDecimal("5000"))
-                .bank(Bank.builder().id(1L).build())
+                .balance(Money.of("5000"))
+                .bank(Bank.builder().id(1L).version(0L).build())
                 .build();
 
         // when
@@ -128,9 +173,9 @@ class AccountRepositoryH2Test {
         // then
         assertThat(savedAccount.getId())
                 .isNotNull()
-                .isEqualTo(9);
+                .isGreaterThanOrEqualTo(Account.FIRST_GENERATED_ID);
         assertThat(savedAccount.getHolder()).isEqualTo("Edwin Guerrero Test");
-        assertThat(savedAccount.getBalance()).isEqualByComparingTo("5000");
+        assertThat(savedAccount.getBalance()).isEqualTo(Money.of("5000"));
         assertThat(savedAccount.getBank()).isNotNull();
     }
 
@@ -161,7 +206,7 @@ class AccountRepositoryH2Test {
                 .hasValueSatisfying(account -> {
                     assertThat(account.getId()).isEqualTo(accountId);
                     assertThat(account.getHolder()).isEqualTo("Lesly Águila");
-                    assertThat(account.getBalance()).isEqualByComparingTo("3000");
+                    assertThat(account.getBalance()).isEqualTo(Money.of("3000"));
                     assertThat(account.getBank())
                             .isNotNull()
                             .extracting(Bank::getId, Bank::getName)
@@ -178,7 +223,7 @@ class AccountRepositoryH2Test {
                 .hasValueSatisfying(account -> {
                     assertThat(account.getId()).isEqualTo(accountId);
                     assertThat(account.getHolder()).isEqualTo("Lesly Katherine");
-                    assertThat(account.getBalance()).isEqualByComparingTo("3000");
+                    assertThat(account.getBalance()).isEqualTo(Money.of("3000"));
                     assertThat(account.getBank())
                             .isNotNull()
                             .extracting(Bank::getId, Bank::getName)
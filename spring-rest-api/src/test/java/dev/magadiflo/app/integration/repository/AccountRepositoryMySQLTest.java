@@ -4,6 +4,7 @@ import dev.magadiflo.app.constants.TestScripts;
 import dev.magadiflo.app.dto.AccountResponse;
 import dev.magadiflo.app.entity.Account;
 import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.money.Money;
 import dev.magadiflo.app.repository.AccountRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Tag;
@@ -15,7 +16,6 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
 import javax.sql.DataSource;
-import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
@@ -68,7 +68,7 @@ class AccountRepositoryMySQLTest {
                 .allSatisfy(account -> {
                     assertThat(account.id()).isNotNull();
                     assertThat(account.holder()).isNotBlank();
-                    assertThat(account.balance()).isNotNull().isPositive();
+                    assertThat(account.balance()).isNotNull().isGreaterThan(Money.ZERO);
                     assertThat(account.bankName())
                             .withFailMessage("La cuenta con ID %d (titular: %s) debe tener banco asociado",
                                     account.id(), account.holder())
@@ -95,7 +95,7 @@ class AccountRepositoryMySQLTest {
                 .hasValueSatisfying(account -> {
                     assertThat(account.getId()).isEqualTo(accountId);
                     assertThat(account.getHolder()).isEqualTo("Lesly Águila");
-                    assertThat(account.getBalance()).isEqualByComparingTo("3000");
+                    assertThat(account.getBalance()).isEqualTo(Money.of("3000"));
                     assertThat(account.getBank())
                             .isNotNull()
                             .extracting(Bank::getId, Bank::getName)
@@ -122,7 +122,7 @@ class AccountRepositoryMySQLTest {
         // given
         Account newAccount = Account.builder()
                 .holder("Edwin Guerrero Test")
-                .balance(new BigDecimal("5000"))
+                .balance(Money.of("5000"))
                 .bank(Bank.builder().id(1L).build())
                 .build();
 
@@ -132,9 +132,9 @@ class AccountRepositoryMySQLTest {
         // then
         assertThat(savedAccount.getId())
                 .isNotNull()
-                .isEqualTo(9);
+                .isGreaterThanOrEqualTo(Account.FIRST_GENERATED_ID);
         assertThat(savedAccount.getHolder()).isEqualTo("Edwin Guerrero Test");
-        assertThat(savedAccount.getBalance()).isEqualByComparingTo("5000");
+        assertThat(savedAccount.getBalance()).isEqualTo(Money.of("5000"));
         assertThat(savedAccount.getBank()).isNotNull();
     }
 
@@ -165,7 +165,7 @@ class AccountRepositoryMySQLTest {
                 .hasValueSatisfying(account -> {
                     assertThat(account.getId()).isEqualTo(accountId);
                     assertThat(account.getHolder()).isEqualTo("Lesly Águila");
-                    assertThat(account.getBalance()).isEqualByComparingTo("3000");
+                    assertThat(account.getBalance()).isEqualTo(Money.of("3000"));
                     assertThat(account.getBank())
                             .isNotNull()
                             .extracting(Bank::getId, Bank::getName)
@@ -182,7 +182,7 @@ class AccountRepositoryMySQLTest {
                 .hasValueSatisfying(account -> {
                     assertThat(account.getId()).isEqualTo(accountId);
                     assertThat(account.getHolder()).isEqualTo("Lesly Katherine");
-                    assertThat(account.getBalance()).isEqualByComparingTo("3000");
+                    assertThat(account.getBalance()).isEqualTo(Money.of("3000"));
                     assertThat(account.getBank())
                             .isNotNull()
                             .extracting(Bank::getId, Bank::getName)
@@ -0,0 +1,175 @@
+package dev.magadiflo.app.integration.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.magadiflo.app.cache.AccountIdBloomFilter;
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.AccountImportChunkResult;
+import dev.magadiflo.app.dto.AccountImportResponse;
+import dev.magadiflo.app.dto.AccountImportRowError;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.importer.AccountImportReader;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.repository.LedgerEntryRepository;
+import dev.magadiflo.app.service.AccountImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Tag("integration")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app.account-import.chunk-size=" + AccountImportServiceTest.CHUNK_SIZE,
+        "app.account-import.max-errors-per-chunk=2",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO"
+})
+class AccountImportServiceTest {
+
+    static final int CHUNK_SIZE = 100;
+
+    @Autowired
+    private AccountImportService accountImportService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoSpyBean
+    private AccountIdBloomFilter accountIdBloomFilter;
+
+    private Long bankId;
+
+    @BeforeEach
+    void setUp() {
+        this.bankId = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build()).getId();
+    }
+
+    @Test
+    void shouldCommitEachChunkAndReportRejectedRows() throws IOException {
+        // given: 250 filas; la 5 con saldo negativo, la 150 con un banco inexistente y la 151 ilegible
+        String body = "holder,balance,bankId\n" + IntStream.rangeClosed(1, 250)
+                .mapToObj(row -> switch (row) {
+                    case 5 -> "Titular 5,-1,%d".formatted(this.bankId);
+                    case 150 -> "Titular 150,100,99";
+                    case 151 -> "Titular 151,100";
+                    default -> "Titular %d,100.00,%d".formatted(row, this.bankId);
+                })
+                .collect(Collectors.joining("\n"));
+
+        // when
+        AccountImportResponse response = this.accountImportService.importAccounts(AccountImportReader.csv(new StringReader(body)));
+
+        // then
+        assertThat(response.rows()).isEqualTo(250);
+        assertThat(response.imported()).isEqualTo(247);
+        assertThat(response.rejected()).isEqualTo(3);
+        assertThat(response.chunks())
+                .extracting(AccountImportChunkResult::index, AccountImportChunkResult::firstRow, AccountImportChunkResult::lastRow,
+                        AccountImportChunkResult::status, AccountImportChunkResult::imported, AccountImportChunkResult::rejected)
+                .containsExactly(
+                        tuple(0, 1L, 100L, AccountImportChunkResult.Status.COMMITTED, 99, 1),
+                        tuple(1, 101L, 200L, AccountImportChunkResult.Status.COMMITTED, 98, 2),
+                        tuple(2, 201L, 250L, AccountImportChunkResult.Status.COMMITTED, 50, 0));
+        assertThat(response.chunks().get(0).errors())
+                .containsExactly(new AccountImportRowError(5, "El saldo no puede ser negativo"));
+        assertThat(response.chunks().get(1).errors())
+                .extracting(AccountImportRowError::row, AccountImportRowError::message)
+                .containsExactly(
+                        tuple(150L, "No se encontró el banco con ID: 99"),
+                        tuple(151L, "Se esperaban 3 columnas (holder,balance,bankId) y se encontraron 2"));
+        assertThat(this.accountRepository.count()).isEqualTo(247);
+        assertThat(this.ledgerEntryRepository.count()).isEqualTo(247);
+    }
+
+    @Test
+    void shouldRejectRowsWhoseBalanceExceedsTheMaximumAmount() throws IOException {
+        // given
+        String body = """
+                holder,balance,bankId
+                Titular 1,92233720368547758.07,%1$d
+                Titular 2,92233720368547758.08,%1$d
+                """.formatted(this.bankId);
+
+        // when
+        AccountImportResponse response = this.accountImportService.importAccounts(AccountImportReader.csv(new StringReader(body)));
+
+        // then
+        assertThat(response.imported()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(response.chunks().get(0).errors())
+                .containsExactly(new AccountImportRowError(2, "El saldo no puede superar 92233720368547758.07"));
+        assertThat(this.accountRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldImportNdjsonAndCapDetailedErrorsPerChunk() throws IOException {
+        // given
+        String body = """
+                {"holder": "Milagros", "balance": 2000, "bankId": %1$d}
+                {"holder": "", "balance": 100, "bankId": %1$d}
+                {"holder": "Kiara", "balance": -1, "bankId": %1$d}
+                {"holder": "Susana"}
+                """.formatted(this.bankId);
+
+        // when
+        AccountImportResponse response = this.accountImportService.importAccounts(
+                AccountImportReader.ndjson(new StringReader(body), this.objectMapper));
+
+        // then
+        assertThat(response.imported()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(3);
+        assertThat(response.chunks()).singleElement().satisfies(chunk -> {
+            assertThat(chunk.rejected()).isEqualTo(3);
+            assertThat(chunk.errors()).extracting(AccountImportRowError::row).containsExactly(2L, 3L);
+        });
+        assertThat(this.accountRepository.findAll()).singleElement()
+                .satisfies(account -> assertThat(account.getHolder()).isEqualTo("Milagros"));
+    }
+
+    @Test
+    void shouldAddImportedAccountIdsToTheFilterBeforeTheChunkCommits() throws IOException {
+        // given
+        List<Boolean> transactionActiveOnAdd = new CopyOnWriteArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            transactionActiveOnAdd.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(this.accountIdBloomFilter).add(Mockito.anyLong());
+        String body = "holder,balance,bankId\n" + IntStream.rangeClosed(1, 150)
+                .mapToObj(row -> "Titular %d,100.00,%d".formatted(row, this.bankId))
+                .collect(Collectors.joining("\n"));
+
+        // when
+        AccountImportResponse response = this.accountImportService.importAccounts(AccountImportReader.csv(new StringReader(body)));
+
+        // then
+        assertThat(response.imported()).isEqualTo(150);
+        assertThat(transactionActiveOnAdd).hasSize(150).containsOnly(true);
+    }
+}
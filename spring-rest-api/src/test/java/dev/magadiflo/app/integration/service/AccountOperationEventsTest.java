@@ -0,0 +1,92 @@
+package dev.magadiflo.app.integration.service;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.WithdrawalRequest;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.exception.InsufficientBalanceException;
+import dev.magadiflo.app.jfr.AccountEventAggregator;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.AccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@Tag("integration")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+// Cierra el contexto (y su RecordingStream): la grabación activa el evento en toda la JVM, también para las demás pruebas
+@DirtiesContext
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app.account-events.live-aggregation=true",
+        "app.accounts.transfer-locking=pessimistic"
+})
+class AccountOperationEventsTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private AccountEventAggregator accountEventAggregator;
+
+    private Long milagrosId;
+    private Long kiaraId;
+
+    @BeforeEach
+    void setUp() {
+        Bank bank = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build());
+        this.milagrosId = this.accountService.saveAccount(
+                new AccountCreateRequest("Milagros", new BigDecimal("2000.00"), bank.getId())).id();
+        this.kiaraId = this.accountService.saveAccount(
+                new AccountCreateRequest("Kiara", new BigDecimal("1000.00"), bank.getId())).id();
+    }
+
+    @Test
+    void shouldAggregateTheRecordedAccountOperations() {
+        // given
+        this.accountService.deposit(this.milagrosId, new DepositRequest(new BigDecimal("500.00")));
+        this.accountService.transfer(new TransactionRequest(this.milagrosId, this.kiaraId, new BigDecimal("200.00")));
+        assertThatThrownBy(() -> this.accountService.withdraw(this.kiaraId, new WithdrawalRequest(new BigDecimal("99999.00"))))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        // when
+        // JFR entrega los eventos al RecordingStream en bloques, aproximadamente una vez por segundo
+        AccountEventAggregator.AccountEventsReport report = await()
+                .atMost(Duration.ofSeconds(15))
+                .until(this.accountEventAggregator::report, current -> current.operations() >= 3);
+
+        // then
+        assertThat(report.slowestTransfers()).singleElement().satisfies(transfer -> {
+            assertThat(transfer.accountId()).isEqualTo(this.milagrosId);
+            assertThat(transfer.targetAccountId()).isEqualTo(this.kiaraId);
+            assertThat(transfer.amount()).isEqualTo(200.0);
+            assertThat(transfer.outcome()).isEqualTo("success");
+            assertThat(transfer.lockWaitMillis()).isPositive();
+            assertThat(transfer.databaseTimeMillis()).isPositive();
+            assertThat(transfer.durationMillis())
+                    .isGreaterThanOrEqualTo(transfer.lockWaitMillis())
+                    .isGreaterThanOrEqualTo(transfer.databaseTimeMillis());
+        });
+        assertThat(report.topContendedAccounts())
+                .extracting(AccountEventAggregator.ContendedAccount::accountId)
+                .containsExactlyInAnyOrder(this.milagrosId, this.kiaraId);
+        assertThat(report.failedOperationsPerSecond()).containsOnlyKeys("InsufficientBalanceException");
+    }
+}
@@ -0,0 +1,114 @@
+package dev.magadiflo.app.integration.service;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.exception.BankNotFoundException;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.repository.LedgerEntryRepository;
+import dev.magadiflo.app.service.AccountService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+@Tag("integration")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO"
+})
+class AccountServiceAccountBatchTest {
+
+    private static final int ACCOUNTS = 1_000;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long bankId;
+
+    @BeforeEach
+    void setUp() {
+        this.bankId = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build()).getId();
+    }
+
+    @Test
+    void shouldInsertAccountsAndOpeningMovementsInJdbcBatches() {
+        // given
+        List<AccountCreateRequest> requests = IntStream.range(0, ACCOUNTS)
+                .mapToObj(i -> new AccountCreateRequest("Titular " + i, INITIAL_BALANCE, this.bankId))
+                .toList();
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<AccountResponse> accounts = this.accountService.saveAccounts(requests);
+
+        // then
+        long preparedStatements = statistics.getPrepareStatementCount();
+        log.info("Cuentas: {} | Sentencias preparadas: {} | Entidades insertadas: {}",
+                accounts.size(), preparedStatements, statistics.getEntityInsertCount());
+
+        assertThat(accounts)
+                .hasSize(ACCOUNTS)
+                .allSatisfy(account -> assertThat(account.id()).isGreaterThanOrEqualTo(Account.FIRST_GENERATED_ID))
+                .extracting(AccountResponse::id)
+                .doesNotHaveDuplicates();
+        assertThat(this.accountRepository.count()).isEqualTo(ACCOUNTS);
+        assertThat(this.ledgerEntryRepository.count()).isEqualTo(ACCOUNTS);
+        // Una cuenta y su movimiento de apertura por cada elemento del lote
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2L * ACCOUNTS);
+        // Los bloques de accounts_seq y ledger_entries_seq y los INSERT en lotes de hibernate.jdbc.batch_size:
+        // muy por debajo de una sentencia por cuenta
+        assertThat(preparedStatements).isLessThan(ACCOUNTS / 10);
+    }
+
+    @Test
+    void shouldSaveNoAccountWhenBatchReferencesMissingBank() {
+        // given
+        List<AccountCreateRequest> requests = List.of(
+                new AccountCreateRequest("Milagros", INITIAL_BALANCE, this.bankId),
+                new AccountCreateRequest("Kiara", INITIAL_BALANCE, 99L));
+
+        // when
+        assertThatThrownBy(() -> this.accountService.saveAccounts(requests))
+                .isInstanceOf(BankNotFoundException.class);
+
+        // then
+        assertThat(this.accountRepository.count()).isZero();
+        assertThat(this.ledgerEntryRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,187 @@
+package dev.magadiflo.app.integration.service;
+
+import dev.magadiflo.app.cache.AccountCache;
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.dto.AccountUpdateRequest;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.exception.AccountNotFoundException;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.AccountService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("integration")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class AccountServiceCacheTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AccountCache accountCache;
+
+    private Long milagrosId;
+    private Long kiaraId;
+
+    @BeforeEach
+    void setUp() {
+        // El script de limpieza reinicia los IDs sin pasar por la caché
+        this.accountCache.invalidateAll();
+        Bank bank = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build());
+        this.milagrosId = this.accountService.saveAccount(
+                new AccountCreateRequest("Milagros", new BigDecimal("2000.00"), bank.getId())).id();
+        this.kiaraId = this.accountService.saveAccount(
+                new AccountCreateRequest("Kiara", new BigDecimal("1000.00"), bank.getId())).id();
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCacheAndReloadAfterCommittedWrites() {
+        // given
+        double hitsBefore = this.cacheGets("hit");
+        assertThat(this.accountService.getAccountBalance(this.milagrosId)).isEqualByComparingTo("2000.00");
+        assertThat(this.accountService.findAccountById(this.milagrosId).balance()).isEqualTo(Money.of("2000.00"));
+        assertThat(this.cacheGets("hit") - hitsBefore).isEqualTo(1);
+
+        // when
+        this.accountService.deposit(this.milagrosId, new DepositRequest(new BigDecimal("500.00")));
+        this.accountService.transfer(new TransactionRequest(this.milagrosId, this.kiaraId, new BigDecimal("100.00")));
+
+        // then
+        assertThat(this.accountService.getAccountBalance(this.milagrosId)).isEqualByComparingTo("2400.00");
+        assertThat(this.accountService.getAccountBalance(this.kiaraId)).isEqualByComparingTo("1100.00");
+    }
+
+    @Test
+    void shouldInvalidateOnlyWhenTheWritingTransactionCommits() {
+        // given
+        this.accountService.getAccountBalance(this.milagrosId);
+
+        // when
+        BigDecimal balanceBeforeCommit = this.transactionTemplate.execute(status -> {
+            this.accountService.deposit(this.milagrosId, new DepositRequest(new BigDecimal("500.00")));
+            return this.accountService.getAccountBalance(this.milagrosId);
+        });
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.accountService.deposit(this.milagrosId, new DepositRequest(new BigDecimal("700.00")));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(balanceBeforeCommit).isEqualByComparingTo("2000.00");
+        assertThat(this.accountService.getAccountBalance(this.milagrosId)).isEqualByComparingTo("2500.00");
+    }
+
+    @Test
+    void shouldResolveHolderLookupsAgainstTheCurrentHolder() {
+        // given
+        Long bankId = this.bankRepository.save(Bank.builder().name("BBVA").totalTransfers(0).build()).getId();
+        Long leslyId = this.accountService.saveAccount(
+                new AccountCreateRequest("Lesly Águila", new BigDecimal("500.00"), bankId)).id();
+        assertThat(this.accountService.findAccountByHolder("Lesly Águila").id()).isEqualTo(leslyId);
+        assertThat(this.accountService.findAccountByHolder("Lesly Águila").id()).isEqualTo(leslyId);
+
+        // when
+        this.accountService.updateAccount(leslyId, new AccountUpdateRequest("Lesly Cirilo"));
+
+        // then
+        assertThat(this.accountService.findAccountByHolder("Lesly Cirilo").id()).isEqualTo(leslyId);
+        assertThatThrownBy(() -> this.accountService.findAccountByHolder("Lesly Águila"))
+                .isInstanceOf(AccountNotFoundException.class)
+                .hasMessage("No se encontró la cuenta del titular: Lesly Águila");
+    }
+
+    @Test
+    void shouldLoadAnAccountOnceForConcurrentReadsOutsideTheCacheLocks() throws Exception {
+        // given
+        AccountResponse milagros = this.accountService.findAccountById(this.milagrosId);
+        this.accountCache.invalidateAll();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Long, AccountResponse> blockingLoader = id -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return milagros;
+        };
+
+        // when
+        List<Future<AccountResponse>> reads = new ArrayList<>();
+        try (ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                reads.add(readers.submit(() -> this.accountCache.getById(this.milagrosId, blockingLoader)));
+            }
+            // Con la carga en curso, otras cuentas se siguen leyendo y cargando
+            assertThat(this.accountService.getAccountBalance(this.kiaraId)).isEqualByComparingTo("1000.00");
+            release.countDown();
+        }
+
+        // then
+        assertThat(loads).hasValue(1);
+        for (Future<AccountResponse> read : reads) {
+            assertThat(read.get()).isEqualTo(milagros);
+        }
+    }
+
+    @Test
+    void shouldNotCacheFailedLoads() {
+        // given
+        Function<Long, AccountResponse> failingLoader = id -> {
+            throw new AccountNotFoundException(id);
+        };
+        assertThatThrownBy(() -> this.accountCache.getById(this.milagrosId, failingLoader))
+                .isInstanceOf(AccountNotFoundException.class);
+
+        // when
+        BigDecimal balance = this.accountService.getAccountBalance(this.milagrosId);
+
+        // then
+        assertThat(balance).isEqualByComparingTo("2000.00");
+    }
+
+    private double cacheGets(String result) {
+        return this.meterRegistry.get("cache.gets")
+                .tag("cache", "accounts")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,138 @@
+package dev.magadiflo.app.integration.service;
+
+import dev.magadiflo.app.coalescing.DepositCoalescer;
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.entity.LedgerEntry;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.repository.LedgerEntryRepository;
+import dev.magadiflo.app.service.AccountService;
+import dev.magadiflo.app.service.LedgerService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app.deposit-coalescing.enabled=true",
+        "app.deposit-coalescing.window=20ms",
+        "app.deposit-coalescing.max-batch-size=8"
+})
+class AccountServiceDepositCoalescingTest {
+
+    private static final int THREADS = 8;
+    private static final int DEPOSITS_PER_THREAD = 25;
+    private static final int DEPOSITS = THREADS * DEPOSITS_PER_THREAD;
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+    @Nested
+    @TestPropertySource(properties = "app.accounts.balance-update-mode=entity")
+    class EntityBalanceUpdate extends ConcurrentDeposits {
+        @Test
+        void shouldApplyEveryDepositAndRecordEachOneInTheLedger() throws Exception {
+            this.runAndVerifyInvariants();
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "app.accounts.balance-update-mode=atomic")
+    class AtomicBalanceUpdate extends ConcurrentDeposits {
+        @Test
+        void shouldApplyEveryDepositAndRecordEachOneInTheLedger() throws Exception {
+            this.runAndVerifyInvariants();
+        }
+    }
+
+    /**
+     * Las clases {@code @Nested} reciben sus dependencias de su propio contexto de Spring
+     * (cada una con su {@code balance-update-mode}), por eso el estado vive aquí y no en la clase externa.
+     */
+    abstract static class ConcurrentDeposits {
+
+        @Autowired
+        private AccountService accountService;
+
+        @Autowired
+        private LedgerService ledgerService;
+
+        @Autowired
+        private BankRepository bankRepository;
+
+        @Autowired
+        private LedgerEntryRepository ledgerEntryRepository;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        private List<Long> accountIds;
+
+        @BeforeEach
+        void setUp() {
+            Bank bank = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build());
+            this.accountIds = List.of(
+                    this.accountService.saveAccount(new AccountCreateRequest("Milagros", new BigDecimal("2000.00"), bank.getId())).id(),
+                    this.accountService.saveAccount(new AccountCreateRequest("Kiara", new BigDecimal("1000.00"), bank.getId())).id());
+        }
+
+        void runAndVerifyInvariants() throws Exception {
+            // given
+            DistributionSummary batchSize = this.meterRegistry.summary(DepositCoalescer.BATCH_SIZE_METRIC);
+            long batchesBefore = batchSize.count();
+            List<Future<?>> futures = new ArrayList<>();
+
+            // when
+            try (ExecutorService executor = Executors.newFixedThreadPool(THREADS * this.accountIds.size())) {
+                for (Long accountId : this.accountIds) {
+                    for (int i = 0; i < THREADS; i++) {
+                        futures.add(executor.submit(() -> {
+                            for (int j = 0; j < DEPOSITS_PER_THREAD; j++) {
+                                this.accountService.deposit(accountId, new DepositRequest(AMOUNT));
+                            }
+                        }));
+                    }
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+
+            // then
+            assertThat(batchSize.count() - batchesBefore).isLessThan((long) DEPOSITS * this.accountIds.size());
+            assertThat(this.accountService.getAccountBalance(this.accountIds.get(0))).isEqualByComparingTo("2200.00");
+            assertThat(this.accountService.getAccountBalance(this.accountIds.get(1))).isEqualByComparingTo("1200.00");
+            for (Long accountId : this.accountIds) {
+                List<LedgerEntry> deposits = this.ledgerEntryRepository
+                        .findByAccountIdAndSeqGreaterThanOrderBySeqAsc(accountId, 0L, Limit.unlimited()).stream()
+                        .filter(entry -> entry.getType() == LedgerEntry.Type.DEPOSIT)
+                        .toList();
+                assertThat(deposits)
+                        .hasSize(DEPOSITS)
+                        .allSatisfy(entry -> assertThat(entry.getAmount()).isEqualByComparingTo(AMOUNT));
+                assertThat(this.ledgerService.deriveBalance(accountId))
+                        .isEqualByComparingTo(this.accountService.getAccountBalance(accountId));
+            }
+        }
+    }
+}
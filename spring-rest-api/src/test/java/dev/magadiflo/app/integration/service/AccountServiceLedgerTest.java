@@ -0,0 +1,189 @@
+package dev.magadiflo.app.integration.service;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.LedgerEntryResponse;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.WithdrawalRequest;
+import dev.magadiflo.app.entity.AccountBalanceSnapshot;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.entity.LedgerEntry;
+import dev.magadiflo.app.exception.InsufficientBalanceException;
+import dev.magadiflo.app.repository.AccountBalanceSnapshotRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.repository.LedgerEntryRepository;
+import dev.magadiflo.app.service.AccountService;
+import dev.magadiflo.app.service.LedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("integration")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class AccountServiceLedgerTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private AccountBalanceSnapshotRepository accountBalanceSnapshotRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long milagrosId;
+    private Long kiaraId;
+
+    @BeforeEach
+    void setUp() {
+        Bank bank = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build());
+        this.milagrosId = this.accountService.saveAccount(
+                new AccountCreateRequest("Milagros", new BigDecimal("2000.00"), bank.getId())).id();
+        this.kiaraId = this.accountService.saveAccount(
+                new AccountCreateRequest("Kiara", new BigDecimal("1000.00"), bank.getId())).id();
+    }
+
+    @Test
+    void shouldRecordEveryMovementInOrderAndDeriveTheCurrentBalance() {
+        // given
+        this.accountService.deposit(this.milagrosId, new DepositRequest(new BigDecimal("500.00")));
+        this.accountService.withdraw(this.milagrosId, new WithdrawalRequest(new BigDecimal("300.00")));
+        this.accountService.transfer(new TransactionRequest(this.milagrosId, this.kiaraId, new BigDecimal("200.00")));
+        this.accountService.transferBatch(List.of(
+                new TransactionRequest(this.kiaraId, this.milagrosId, new BigDecimal("50.00")),
+                new TransactionRequest(this.milagrosId, this.kiaraId, new BigDecimal("99999.00"))));
+        assertThatThrownBy(() -> this.accountService.withdraw(this.milagrosId, new WithdrawalRequest(new BigDecimal("99999.00"))))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        // when
+        List<LedgerEntryResponse> movements = this.accountService.findAccountMovements(this.milagrosId, 0L, 50);
+
+        // then
+        assertThat(movements)
+                .extracting(LedgerEntryResponse::type)
+                .containsExactly(
+                        LedgerEntry.Type.OPENING,
+                        LedgerEntry.Type.DEPOSIT,
+                        LedgerEntry.Type.WITHDRAWAL,
+                        LedgerEntry.Type.TRANSFER_OUT,
+                        LedgerEntry.Type.TRANSFER_IN);
+        assertThat(movements)
+                .extracting(LedgerEntryResponse::amount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(
+                        new BigDecimal("2000.00"),
+                        new BigDecimal("500.00"),
+                        new BigDecimal("-300.00"),
+                        new BigDecimal("-200.00"),
+                        new BigDecimal("50.00"));
+        assertThat(movements)
+                .extracting(LedgerEntryResponse::seq)
+                .isSorted()
+                .doesNotHaveDuplicates();
+        assertThat(movements.get(3).counterpartyAccountId()).isEqualTo(this.kiaraId);
+        assertThat(this.ledgerService.deriveBalance(this.milagrosId))
+                .isEqualByComparingTo(this.accountService.getAccountBalance(this.milagrosId))
+                .isEqualByComparingTo("2050.00");
+        assertThat(this.ledgerService.deriveBalance(this.kiaraId))
+                .isEqualByComparingTo(this.accountService.getAccountBalance(this.kiaraId))
+                .isEqualByComparingTo("1150.00");
+    }
+
+    @Test
+    void shouldPageMovementsUsingTheLastSeqAsCursor() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            this.accountService.deposit(this.milagrosId, new DepositRequest(new BigDecimal("10.00")));
+        }
+
+        // when
+        List<LedgerEntryResponse> firstPage = this.accountService.findAccountMovements(this.milagrosId, 0L, 4);
+        List<LedgerEntryResponse> secondPage = this.accountService.findAccountMovements(
+                this.milagrosId, firstPage.getLast().seq(), 4);
+
+        // then
+        assertThat(firstPage).hasSize(4);
+        assertThat(secondPage).hasSize(2);
+        assertThat(secondPage.getFirst().seq()).isGreaterThan(firstPage.getLast().seq());
+    }
+
+    @Test
+    void shouldDeriveBalanceFromLatestSnapshotPlusLaterMovements() {
+        // given
+        this.accountService.deposit(this.milagrosId, new DepositRequest(new BigDecimal("500.00")));
+        assertThat(this.ledgerService.findAccountsPendingSnapshot())
+                .containsExactlyInAnyOrder(this.milagrosId, this.kiaraId);
+
+        // when
+        boolean taken = this.ledgerService.takeSnapshot(this.milagrosId);
+        this.accountService.withdraw(this.milagrosId, new WithdrawalRequest(new BigDecimal("100.00")));
+
+        // then
+        AccountBalanceSnapshot snapshot = this.accountBalanceSnapshotRepository.findById(this.milagrosId).orElseThrow();
+        assertThat(taken).isTrue();
+        assertThat(snapshot.getBalance()).isEqualByComparingTo("2500.00");
+        assertThat(this.ledgerService.deriveBalance(this.milagrosId))
+                .isEqualByComparingTo(this.accountService.getAccountBalance(this.milagrosId))
+                .isEqualByComparingTo("2400.00");
+        assertThat(this.ledgerService.findAccountsPendingSnapshot())
+                .containsExactlyInAnyOrder(this.milagrosId, this.kiaraId);
+
+        this.ledgerService.takeSnapshot(this.milagrosId);
+        this.ledgerService.takeSnapshot(this.kiaraId);
+        assertThat(this.ledgerService.findAccountsPendingSnapshot()).isEmpty();
+    }
+
+    @Test
+    void shouldIncludeMovementsConfirmedAfterTheSnapshotEvenWithALowerSeq() {
+        // given
+        this.accountService.deposit(this.milagrosId, new DepositRequest(new BigDecimal("500.00")));
+        this.ledgerService.takeSnapshot(this.milagrosId);
+        long lowerSeq = this.ledgerEntryRepository.findAll().stream()
+                .mapToLong(LedgerEntry::getSeq)
+                .min()
+                .orElseThrow() - 1;
+
+        // when
+        // Otro escritor (otra instancia o la aplicación reactiva) confirma un depósito con un seq de un bloque anterior
+        this.jdbcTemplate.update("""
+                UPDATE accounts
+                SET balance = balance + 100, ledger_position = ledger_position + 1
+                WHERE id = ?
+                """, this.milagrosId);
+        this.jdbcTemplate.update("""
+                INSERT INTO ledger_entries(seq, account_id, account_position, type, amount, created_at)
+                SELECT ?, id, ledger_position, 'DEPOSIT', 100, CURRENT_TIMESTAMP
+                FROM accounts
+                WHERE id = ?
+                """, lowerSeq, this.milagrosId);
+
+        // then
+        assertThat(this.ledgerService.findAccountsPendingSnapshot()).contains(this.milagrosId);
+        assertThat(this.ledgerService.deriveBalance(this.milagrosId))
+                .isEqualByComparingTo(this.accountService.getAccountBalance(this.milagrosId))
+                .isEqualByComparingTo("2600.00");
+    }
+}
@@ -0,0 +1,159 @@
+package dev.magadiflo.app.integration.service;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.WithdrawalRequest;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.exception.EntityNotFoundException;
+import dev.magadiflo.app.exception.InsufficientBalanceException;
+import dev.magadiflo.app.metrics.AccountMetrics;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.AccountService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Tag("integration")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@AutoConfigureObservability
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=prometheus")
+class AccountServiceMetricsTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Long bankId;
+    private Long milagrosId;
+    private Long kiaraId;
+
+    @BeforeEach
+    void setUp() {
+        this.bankId = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build()).getId();
+        this.milagrosId = this.accountService.saveAccount(
+                new AccountCreateRequest("Milagros", new BigDecimal("2000.00"), this.bankId)).id();
+        this.kiaraId = this.accountService.saveAccount(
+                new AccountCreateRequest("Kiara", new BigDecimal("1000.00"), this.bankId)).id();
+    }
+
+    @Test
+    void shouldTimeEveryOperationByOutcome() {
+        // given
+        long balanceSuccesses = this.operationCount("getAccountBalance", "success");
+        long balanceNotFound = this.operationCount("getAccountBalance", "not_found");
+        long rejectedWithdrawals = this.operationCount("withdraw", "insufficient_balance");
+        this.accountService.getAccountBalance(this.milagrosId);
+        this.accountService.getAccountBalance(this.kiaraId);
+
+        // when
+        assertThatThrownBy(() -> this.accountService.getAccountBalance(999L))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> this.accountService.withdraw(this.kiaraId, new WithdrawalRequest(new BigDecimal("99999.00"))))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        // then
+        assertThat(this.operationCount("getAccountBalance", "success")).isEqualTo(balanceSuccesses + 2);
+        assertThat(this.operationCount("getAccountBalance", "not_found")).isEqualTo(balanceNotFound + 1);
+        assertThat(this.operationCount("withdraw", "insufficient_balance")).isEqualTo(rejectedWithdrawals + 1);
+    }
+
+    @Test
+    void shouldCountConfirmedMoneyMovedByBank() {
+        // given
+        this.accountService.deposit(this.milagrosId, new DepositRequest(new BigDecimal("500.00")));
+        this.accountService.withdraw(this.milagrosId, new WithdrawalRequest(new BigDecimal("300.00")));
+        this.accountService.transfer(new TransactionRequest(this.milagrosId, this.kiaraId, new BigDecimal("200.00")));
+
+        // when
+        assertThatThrownBy(() -> this.accountService.transfer(new TransactionRequest(this.kiaraId, this.milagrosId, new BigDecimal("99999.00"))))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        // then
+        assertThat(this.moneyMoved("deposit")).isEqualTo(500.0);
+        assertThat(this.moneyMoved("withdrawal")).isEqualTo(300.0);
+        assertThat(this.moneyMoved("transfer")).isEqualTo(200.0);
+    }
+
+    @Test
+    void shouldTimeCachedReadsWithCoarseHistogram() {
+        // given
+        this.accountService.getAccountBalance(this.milagrosId);
+
+        // when
+        Timer balanceTimer = this.meterRegistry.get(AccountMetrics.OPERATION_METRIC)
+                .tag("method", "getAccountBalance")
+                .tag("outcome", "success")
+                .timer();
+        Timer saveTimer = this.meterRegistry.get(AccountMetrics.OPERATION_METRIC)
+                .tag("method", "saveAccount")
+                .tag("outcome", "success")
+                .timer();
+
+        // then
+        assertThat(balanceTimer.takeSnapshot().histogramCounts()).hasSize(AccountMetrics.CACHED_READ_BUCKETS.size());
+        assertThat(saveTimer.takeSnapshot().histogramCounts()).hasSizeGreaterThan(AccountMetrics.CACHED_READ_BUCKETS.size());
+    }
+
+    @Test
+    void shouldExposeOperationAndConnectionPoolMetricsInPrometheusFormat() throws Exception {
+        // given
+        this.accountService.getAccountBalance(this.milagrosId);
+
+        // when
+        // then
+        this.mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("app_account_operation_seconds_bucket{")))
+                .andExpect(content().string(matchesPattern(
+                        "(?s).*app_account_operation_seconds_bucket\\{[^}]*method=\"getAccountBalance\".*")))
+                .andExpect(content().string(containsString("hikaricp_connections_active{")));
+    }
+
+    // El contexto (y sus medidores) se comparte entre las pruebas: se comparan los conteos antes y después
+    private long operationCount(String method, String outcome) {
+        Timer timer = this.meterRegistry.find(AccountMetrics.OPERATION_METRIC)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double moneyMoved(String type) {
+        return this.meterRegistry.get(AccountMetrics.MONEY_MOVED_METRIC)
+                .tag("bank.id", this.bankId.toString())
+                .tag("type", type)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,133 @@
+package dev.magadiflo.app.integration.service;
+
+import dev.magadiflo.app.cache.AccountCache;
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountLookupResponse;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.AccountService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Tag("integration")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AccountServiceReadQueriesTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private AccountCache accountCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long milagrosId;
+    private Long kiaraId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Bank bank = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build());
+        this.milagrosId = this.accountService.saveAccount(
+                new AccountCreateRequest("Milagros", new BigDecimal("2000.00"), bank.getId())).id();
+        this.kiaraId = this.accountService.saveAccount(
+                new AccountCreateRequest("Kiara", new BigDecimal("100.00"), bank.getId())).id();
+        // Cada prueba mide una lectura que no encuentra la cuenta en caché
+        this.accountCache.invalidateAll();
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @Test
+    void shouldFindAccountByIdWithOneStatementAndNoEntity() {
+        // when
+        AccountResponse account = this.accountService.findAccountById(this.milagrosId);
+
+        // then
+        assertThat(account.bankName()).isEqualTo("BCP");
+        this.assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    void shouldFindAccountByHolderWithOneStatementAndNoEntity() {
+        // when
+        AccountResponse account = this.accountService.findAccountByHolder("Milagros");
+
+        // then
+        assertThat(account.id()).isEqualTo(this.milagrosId);
+        assertThat(account.bankName()).isEqualTo("BCP");
+        this.assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    void shouldGetAccountBalanceWithOneStatementAndNoEntity() {
+        // when
+        BigDecimal balance = this.accountService.getAccountBalance(this.milagrosId);
+
+        // then
+        assertThat(balance).isEqualByComparingTo("2000.00");
+        this.assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    void shouldFindAccountsByIdsWithOneStatementInRequestOrder() {
+        // when
+        AccountLookupResponse response = this.accountService.findAccountsByIds(
+                List.of(this.kiaraId, 404L, this.milagrosId, this.kiaraId));
+
+        // then
+        assertThat(response.accounts())
+                .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::bankName)
+                .containsExactly(
+                        tuple(this.kiaraId, "Kiara", "BCP"),
+                        tuple(this.milagrosId, "Milagros", "BCP"));
+        assertThat(response.missingIds()).containsExactly(404L);
+        this.assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    void shouldServeCachedAccountsOfLookupWithoutQuerying() {
+        // given
+        this.accountService.findAccountById(this.milagrosId);
+        this.accountService.findAccountById(this.kiaraId);
+        this.statistics.clear();
+
+        // when
+        AccountLookupResponse response = this.accountService.findAccountsByIds(List.of(this.milagrosId, this.kiaraId));
+
+        // then
+        assertThat(response.accounts()).extracting(AccountResponse::id).containsExactly(this.milagrosId, this.kiaraId);
+        assertThat(response.missingIds()).isEmpty();
+        assertThat(this.statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private void assertSingleStatementWithoutEntities() {
+        // Una sola consulta con JOIN al banco: sin SELECT perezoso adicional ni entidades en el contexto de persistencia
+        assertThat(this.statistics.getPrepareStatementCount()).isOne();
+        assertThat(this.statistics.getEntityLoadCount()).isZero();
+    }
+}
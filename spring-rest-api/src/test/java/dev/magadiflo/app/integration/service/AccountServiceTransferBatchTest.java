@@ -0,0 +1,117 @@
+package dev.magadiflo.app.integration.service;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.TransferBatchResponse;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.AccountService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@Tag("integration")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO"
+})
+class AccountServiceTransferBatchTest {
+
+    private static final int ACCOUNTS = 200;
+    private static final int LEGS = 2_000;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+    // Debe coincidir con spring.jpa.properties.hibernate.jdbc.batch_size
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long bankId;
+    private final List<Long> accountIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Bank bank = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build());
+        this.bankId = bank.getId();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            this.accountIds.add(this.accountRepository.save(Account.builder()
+                    .holder("Titular " + i)
+                    .balance(Money.of(INITIAL_BALANCE))
+                    .bank(bank)
+                    .build()).getId());
+        }
+    }
+
+    @Test
+    void shouldApplyThousandsOfLegsInOneTransactionWithBatchedUpdates() {
+        // given
+        Random random = new Random(42);
+        List<TransactionRequest> requests = new ArrayList<>(LEGS);
+        for (int i = 0; i < LEGS; i++) {
+            int source = random.nextInt(ACCOUNTS);
+            int target = (source + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+            requests.add(new TransactionRequest(this.accountIds.get(source), this.accountIds.get(target),
+                    BigDecimal.valueOf(random.nextInt(1, 60_000), 2)));
+        }
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        TransferBatchResponse response = this.accountService.transferBatch(requests);
+
+        // then
+        long preparedStatements = statistics.getPrepareStatementCount();
+        log.info("Tramos: {} | Aplicados: {} | Rechazados: {} | Sentencias preparadas: {} | Entidades actualizadas: {}",
+                response.total(), response.applied(), response.rejected(),
+                preparedStatements, statistics.getEntityUpdateCount());
+
+        List<Account> accounts = this.accountRepository.findAllById(this.accountIds);
+        Money totalBalance = accounts.stream()
+                .map(Account::getBalance)
+                .reduce(Money.ZERO, Money::plus);
+        assertThat(response.total()).isEqualTo(LEGS);
+        assertThat(response.applied() + response.rejected()).isEqualTo(LEGS);
+        assertThat(response.applied()).isPositive();
+        assertThat(totalBalance).isEqualTo(Money.of(INITIAL_BALANCE.multiply(BigDecimal.valueOf(ACCOUNTS))));
+        assertThat(accounts).allSatisfy(account -> assertThat(account.getBalance()).isGreaterThanOrEqualTo(Money.ZERO));
+        assertThat(this.accountService.countTotalTransfersToBank(this.bankId)).isEqualTo(response.applied());
+        // Dos movimientos del libro mayor (cargo y abono) por cada tramo aplicado
+        long ledgerEntries = 2L * response.applied();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ledgerEntries);
+        // Un SELECT ... FOR UPDATE, el contador, los UPDATE agrupados y los INSERT del libro mayor en lotes:
+        // muy por debajo de una sentencia por cuenta o por movimiento
+        long ledgerInsertBatches = Math.ceilDiv(ledgerEntries, JDBC_BATCH_SIZE);
+        assertThat(preparedStatements).isLessThan(ACCOUNTS / 10 + ledgerInsertBatches);
+    }
+}
@@ -0,0 +1,178 @@
+package dev.magadiflo.app.integration.service;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.exception.InsufficientBalanceException;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.app.repository.AccountRepository;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.retry.RetryExecutor;
+import dev.magadiflo.app.service.AccountService;
+import dev.magadiflo.app.service.TransferCounterService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@Tag("integration")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class AccountServiceTransferConcurrencyTest {
+
+    private static final int ACCOUNTS = 10;
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 500;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+
+    @Nested
+    @TestPropertySource(properties = "app.accounts.transfer-locking=optimistic")
+    class OptimisticLocking extends RandomConcurrentTransfers {
+        @Test
+        void shouldPreserveTotalBalanceUnderConcurrentRandomTransfers() throws Exception {
+            this.runAndVerifyInvariants();
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "app.accounts.transfer-locking=pessimistic")
+    class PessimisticLocking extends RandomConcurrentTransfers {
+        @Test
+        void shouldPreserveTotalBalanceUnderConcurrentRandomTransfers() throws Exception {
+            this.runAndVerifyInvariants();
+        }
+    }
+
+    /**
+     * Las clases {@code @Nested} reciben sus dependencias de su propio contexto de Spring
+     * (cada una con su {@code transfer-locking}), por eso el estado vive aquí y no en la clase externa.
+     */
+    abstract static class RandomConcurrentTransfers {
+
+        @Autowired
+        private AccountService accountService;
+
+        @Autowired
+        private AccountRepository accountRepository;
+
+        @Autowired
+        private BankRepository bankRepository;
+
+        @Autowired
+        private TransferCounterService transferCounterService;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        private Long bankId;
+        private List<Long> accountIds;
+
+        @BeforeEach
+        void setUp() {
+            Bank bank = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build());
+            this.bankId = bank.getId();
+            this.accountIds = new ArrayList<>();
+            for (int i = 0; i < ACCOUNTS; i++) {
+                Account account = this.accountRepository.save(Account.builder()
+                        .holder("Titular " + i)
+                        .balance(Money.of(INITIAL_BALANCE))
+                        .bank(bank)
+                        .build());
+                this.accountIds.add(account.getId());
+            }
+        }
+
+        void runAndVerifyInvariants() throws Exception {
+            // given
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger rejected = new AtomicInteger();
+            AtomicInteger conflicts = new AtomicInteger();
+            ConcurrentLinkedQueue<Throwable> unexpectedErrors = new ConcurrentLinkedQueue<>();
+            List<Future<?>> futures = new ArrayList<>();
+            AtomicBoolean running = new AtomicBoolean(true);
+
+            // when
+            try (ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1)) {
+                // Consolida los fragmentos del contador mientras las transferencias siguen en curso
+                Future<?> rollups = executor.submit(() -> {
+                    while (running.get()) {
+                        this.transferCounterService.rollup(this.bankId);
+                        Thread.sleep(5);
+                    }
+                    return null;
+                });
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(() -> {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        for (int j = 0; j < TRANSFERS_PER_THREAD; j++) {
+                            int source = random.nextInt(ACCOUNTS);
+                            int target = (source + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                            BigDecimal amount = BigDecimal.valueOf(random.nextInt(1, 50_000), 2);
+                            try {
+                                this.accountService.transfer(new TransactionRequest(
+                                        this.accountIds.get(source), this.accountIds.get(target), amount));
+                                completed.incrementAndGet();
+                            } catch (InsufficientBalanceException e) {
+                                rejected.incrementAndGet();
+                            } catch (ConcurrencyFailureException e) {
+                                // Reintentos agotados: la transferencia se revirtió completa
+                                conflicts.incrementAndGet();
+                            } catch (RuntimeException e) {
+                                unexpectedErrors.add(e);
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                running.set(false);
+                rollups.get();
+            }
+
+            // then
+            List<Account> accounts = this.accountRepository.findAllById(this.accountIds);
+            Money totalBalance = accounts.stream()
+                    .map(Account::getBalance)
+                    .reduce(Money.ZERO, Money::plus);
+            int totalTransfers = this.accountService.countTotalTransfersToBank(this.bankId);
+            this.transferCounterService.rollup(this.bankId);
+            int consolidatedTransfers = this.bankRepository.findTotalTransfersById(this.bankId).orElseThrow();
+            log.info("Completadas: {} | Rechazadas por saldo: {} | Conflictos sin resolver: {} | Reintentos: {}",
+                    completed.get(), rejected.get(), conflicts.get(),
+                    this.meterRegistry.counter(RetryExecutor.RETRIES_METRIC, "operation", "transfer").count());
+
+            assertThat(unexpectedErrors).isEmpty();
+            assertThat(completed.get() + rejected.get() + conflicts.get()).isEqualTo(THREADS * TRANSFERS_PER_THREAD);
+            assertThat(totalBalance).isEqualTo(Money.of(INITIAL_BALANCE.multiply(BigDecimal.valueOf(ACCOUNTS))));
+            assertThat(accounts).allSatisfy(account -> assertThat(account.getBalance()).isGreaterThanOrEqualTo(Money.ZERO));
+            assertThat(totalTransfers).isEqualTo(completed.get());
+            assertThat(consolidatedTransfers).isEqualTo(completed.get());
+            assertThat(this.transferCounterService.countPendingTransfers(this.bankId)).isZero();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package dev.magadiflo.app.integration.service;
+
+import dev.magadiflo.app.cache.HibernateCacheEndpoint;
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.AccountService;
+import dev.magadiflo.app.service.TransferCounterService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@ActiveProfiles("test-h2")
+@Sql(scripts = TestScripts.CLEANUP_H2, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail"
+})
+class BankSecondLevelCacheTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransferCounterService transferCounterService;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private HibernateCacheEndpoint hibernateCacheEndpoint;
+
+    private Long bankId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // El script de limpieza reinicia los IDs sin pasar por Hibernate
+        SessionFactory sessionFactory = this.entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        this.bankId = this.bankRepository.save(Bank.builder().name("BCP").totalTransfers(0).build()).getId();
+        this.statistics = sessionFactory.getStatistics();
+        this.statistics.clear();
+    }
+
+    @Test
+    void shouldServeRepeatedBankLookupsFromTheCache() {
+        // given
+        this.bankRepository.findById(this.bankId);
+        this.bankRepository.findByName("BCP");
+        this.bankRepository.existsByName("BCP");
+        long statementsAfterFirstLookups = this.statistics.getPrepareStatementCount();
+
+        // when
+        Bank byId = this.bankRepository.findById(this.bankId).orElseThrow();
+        Bank byName = this.bankRepository.findByName("BCP").orElseThrow();
+        boolean exists = this.bankRepository.existsByName("BCP");
+
+        // then
+        assertThat(byId.getName()).isEqualTo("BCP");
+        assertThat(byName.getId()).isEqualTo(this.bankId);
+        assertThat(exists).isTrue();
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookups);
+        HibernateCacheEndpoint.HibernateCacheReport report = this.hibernateCacheEndpoint.report();
+        assertThat(report.regions().get(Bank.CACHE_REGION).hitRatio()).isPositive();
+        assertThat(report.queryCache().hits()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepBanksCachedWhileTransfersAreCountedAndConsolidated() {
+        // given
+        Long milagrosId = this.accountService.saveAccount(
+                new AccountCreateRequest("Milagros", new BigDecimal("2000.00"), this.bankId)).id();
+        Long kiaraId = this.accountService.saveAccount(
+                new AccountCreateRequest("Kiara", new BigDecimal("1000.00"), this.bankId)).id();
+
+        // when
+        this.accountService.transfer(new TransactionRequest(milagrosId, kiaraId, new BigDecimal("100.00")));
+        this.transferCounterService.rollup(this.bankId);
+        long statementsAfterRollup = this.statistics.getPrepareStatementCount();
+        Bank bank = this.bankRepository.findById(this.bankId).orElseThrow();
+
+        // then
+        // Ni las sentencias nativas sobre cuentas y fragmentos ni la consolidación vacían la región de los bancos
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(statementsAfterRollup);
+        assertThat(bank.getName()).isEqualTo("BCP");
+        assertThat(this.accountService.countTotalTransfersToBank(this.bankId)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,156 @@
+package dev.magadiflo.app.unit.cache;
+
+import dev.magadiflo.app.cache.AccountCache;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.exception.AccountNotFoundException;
+import dev.magadiflo.app.factory.AccountTestFactory;
+import dev.magadiflo.app.money.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class AccountCacheTest {
+
+    private AccountCache accountCacheUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        this.accountCacheUnderTest = AccountTestFactory.createAccountCache();
+    }
+
+    @Test
+    void shouldReleaseConcurrentReadersWhenTheLoaderFailsWithAnError() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<AccountResponse> loader = executor.submit(() -> this.accountCacheUnderTest.getById(1L, id -> {
+                loading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new StackOverflowError();
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            AtomicReference<Thread> readerThread = new AtomicReference<>();
+            Future<AccountResponse> reader = executor.submit(() -> {
+                readerThread.set(Thread.currentThread());
+                return this.accountCacheUnderTest.getById(1L, id -> {
+                    throw new AssertionError("la cuenta ya se está cargando");
+                });
+            });
+            // El lector queda esperando la carga en curso de la misma cuenta
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> readerThread.get() != null && readerThread.get().getState() == Thread.State.WAITING);
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> loader.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(StackOverflowError.class);
+            assertThatThrownBy(() -> reader.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(StackOverflowError.class);
+        }
+        AccountResponse account = this.accountCacheUnderTest.getById(1L,
+                id -> new AccountResponse(id, "Milagros", Money.of("2000"), "BCP"));
+        assertThat(account.holder()).isEqualTo("Milagros");
+    }
+
+    @Test
+    void shouldNotLogAWarningWhenTheAccountDoesNotExist() {
+        // given
+        // Caffeine registra con System.Logger (java.util.logging) las cargas asíncronas que terminan con error
+        Logger caffeineLogger = Logger.getLogger("com.github.benmanes.caffeine.cache.LocalAsyncCache");
+        List<LogRecord> warnings = new CopyOnWriteArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord logRecord) {
+                if (logRecord.getLevel().intValue() >= Level.WARNING.intValue()) {
+                    warnings.add(logRecord);
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        caffeineLogger.addHandler(handler);
+
+        // when
+        try {
+            assertThatThrownBy(() -> this.accountCacheUnderTest.getById(999L, id -> {
+                throw new AccountNotFoundException(id);
+            })).isInstanceOf(AccountNotFoundException.class);
+        } finally {
+            caffeineLogger.removeHandler(handler);
+        }
+
+        // then
+        assertThat(warnings).isEmpty();
+    }
+
+    @Test
+    void shouldReportNotFoundToConcurrentReadersOfAMissingAccount() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<AccountResponse> loader = executor.submit(() -> this.accountCacheUnderTest.getById(999L, id -> {
+                loading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new AccountNotFoundException(id);
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            AtomicReference<Thread> readerThread = new AtomicReference<>();
+            Future<AccountResponse> reader = executor.submit(() -> {
+                readerThread.set(Thread.currentThread());
+                return this.accountCacheUnderTest.getById(999L, id -> {
+                    throw new AssertionError("la cuenta ya se está cargando");
+                });
+            });
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> readerThread.get() != null && readerThread.get().getState() == Thread.State.WAITING);
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> loader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(AccountNotFoundException.class);
+            assertThatThrownBy(() -> reader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(AccountNotFoundException.class)
+                    .cause().hasMessage(new AccountNotFoundException(999L).getMessage());
+        }
+    }
+}
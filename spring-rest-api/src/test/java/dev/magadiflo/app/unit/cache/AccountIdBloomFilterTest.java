@@ -0,0 +1,100 @@
+package dev.magadiflo.app.unit.cache;
+
+import dev.magadiflo.app.cache.AccountIdBloomFilter;
+import dev.magadiflo.app.config.AccountIdFilterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountIdBloomFilterTest {
+
+    private static final int ACCOUNTS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private MeterRegistry meterRegistry;
+    private AccountIdBloomFilter filterUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        AccountIdFilterProperties properties = new AccountIdFilterProperties(true, FALSE_POSITIVE_RATE, 1_000, Duration.ofHours(1));
+        this.filterUnderTest = new AccountIdBloomFilter(properties, this.meterRegistry);
+    }
+
+    @Test
+    void shouldNotRejectAnyIdBeforeTheFirstBuild() {
+        // when
+        boolean mightContain = this.filterUnderTest.mightContain(42L);
+
+        // then
+        assertThat(mightContain).isTrue();
+        assertThat(this.filterUnderTest.needsRebuild()).isTrue();
+    }
+
+    @Test
+    void shouldKeepEveryExistingIdAndRejectMostMissingOnes() {
+        // given
+        this.filterUnderTest.rebuild(ACCOUNTS, ids(1, ACCOUNTS));
+
+        // when
+        long falseNegatives = LongStream.rangeClosed(1, ACCOUNTS)
+                .filter(id -> !this.filterUnderTest.mightContain(id))
+                .count();
+        long falsePositives = LongStream.rangeClosed(ACCOUNTS + 1L, ACCOUNTS * 11L)
+                .filter(this.filterUnderTest::mightContain)
+                .count();
+
+        // then
+        assertThat(falseNegatives).isZero();
+        // El filtro se dimensiona para el doble de cuentas, por lo que la tasa real queda por debajo del objetivo
+        assertThat((double) falsePositives / (ACCOUNTS * 10L)).isLessThan(FALSE_POSITIVE_RATE);
+        assertThat(this.meterRegistry.get(AccountIdBloomFilter.REJECTIONS_METRIC).counter().count())
+                .isEqualTo(ACCOUNTS * 10L - falsePositives);
+        assertThat(this.meterRegistry.get(AccountIdBloomFilter.SIZE_METRIC).gauge().value()).isPositive();
+        assertThat(this.meterRegistry.get(AccountIdBloomFilter.EXPECTED_FPP_METRIC).gauge().value())
+                .isLessThan(FALSE_POSITIVE_RATE);
+    }
+
+    @Test
+    void shouldKeepIdsAddedWhileRebuildingAndSinceThePreviousRebuild() {
+        // given
+        this.filterUnderTest.rebuild(0, Stream.empty());
+        this.filterUnderTest.add(1_001L);
+
+        // when
+        // La cuenta 1_001 aún no está confirmada cuando se recorre la tabla, y la 1_002 se crea durante el recorrido
+        this.filterUnderTest.rebuild(1_000, Stream.concat(ids(1, 1_000), Stream.of(0L)
+                .peek(ignored -> this.filterUnderTest.add(1_002L))
+                .filter(ignored -> false)));
+
+        // then
+        assertThat(this.filterUnderTest.mightContain(1_001L)).isTrue();
+        assertThat(this.filterUnderTest.mightContain(1_002L)).isTrue();
+        assertThat(this.filterUnderTest.needsRebuild()).isFalse();
+    }
+
+    @Test
+    void shouldAskForRebuildWhenTooManyAccountsWereDeleted() {
+        // given
+        this.filterUnderTest.rebuild(100, ids(1, 100));
+
+        // when
+        for (int i = 0; i < 11; i++) {
+            this.filterUnderTest.recordDeletion();
+        }
+
+        // then
+        assertThat(this.filterUnderTest.needsRebuild()).isTrue();
+    }
+
+    private static Stream<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed();
+    }
+}
@@ -0,0 +1,260 @@
+package dev.magadiflo.app.unit.coalescing;
+
+import dev.magadiflo.app.coalescing.DepositCoalescer;
+import dev.magadiflo.app.config.DepositCoalescingProperties;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.exception.AccountNotFoundException;
+import dev.magadiflo.app.exception.DatabaseOperationException;
+import dev.magadiflo.app.money.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class DepositCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private MeterRegistry meterRegistry;
+    private DepositCoalescer depositCoalescerUnderTest;
+    private BigDecimal balance;
+    private List<List<BigDecimal>> appliedBatches;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        DepositCoalescingProperties properties = new DepositCoalescingProperties(true, Duration.ofMillis(200), CALLERS, Duration.ofSeconds(5));
+        this.depositCoalescerUnderTest = new DepositCoalescer(properties, this.meterRegistry);
+        this.balance = new BigDecimal("1000");
+        this.appliedBatches = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    void shouldApplyConcurrentDepositsAsOneSummedUpdateWhenBatchIsFull() throws Exception {
+        // given
+        Function<List<BigDecimal>, AccountResponse> applier = amounts -> {
+            BigDecimal total = this.record(amounts);
+            this.balance = this.balance.add(total);
+            return new AccountResponse(1L, "Milagros", Money.of(this.balance), "BCP");
+        };
+        List<Future<AccountResponse>> futures = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> this.depositCoalescerUnderTest.deposit(1L, BigDecimal.TEN, applier)));
+            }
+        }
+
+        // then
+        List<Money> balances = new ArrayList<>();
+        for (Future<AccountResponse> future : futures) {
+            balances.add(future.get().balance());
+        }
+        assertThat(this.appliedBatches).singleElement()
+                .satisfies(amounts -> assertThat(amounts).hasSize(CALLERS).allMatch(amount -> amount.compareTo(BigDecimal.TEN) == 0));
+        assertThat(this.balance).isEqualByComparingTo("1080");
+        assertThat(balances).containsExactlyInAnyOrder(
+                Money.of("1010"), Money.of("1020"), Money.of("1030"), Money.of("1040"),
+                Money.of("1050"), Money.of("1060"), Money.of("1070"), Money.of("1080"));
+        assertThat(this.meterRegistry.summary(DepositCoalescer.BATCH_SIZE_METRIC).max()).isEqualTo(CALLERS);
+        assertThat(this.meterRegistry.timer(DepositCoalescer.WAIT_METRIC).count()).isEqualTo(CALLERS);
+    }
+
+    @Test
+    void shouldApplyLoneDepositWhenWindowExpires() {
+        // given
+        Function<List<BigDecimal>, AccountResponse> applier = amounts -> {
+            BigDecimal total = this.record(amounts);
+            return new AccountResponse(1L, "Milagros", Money.of(this.balance.add(total)), "BCP");
+        };
+
+        // when
+        AccountResponse response = this.depositCoalescerUnderTest.deposit(1L, new BigDecimal("250"), applier);
+
+        // then
+        assertThat(response.balance()).isEqualTo(Money.of("1250"));
+        assertThat(this.appliedBatches).singleElement()
+                .satisfies(amounts -> assertThat(amounts).singleElement().isEqualTo(new BigDecimal("250.00")));
+        assertThat(this.meterRegistry.summary(DepositCoalescer.BATCH_SIZE_METRIC).count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPropagateApplierExceptionToCaller() {
+        // given
+        Function<List<BigDecimal>, AccountResponse> applier = amounts -> {
+            throw new AccountNotFoundException(99L);
+        };
+
+        // when
+        // then
+        assertThatThrownBy(() -> this.depositCoalescerUnderTest.deposit(99L, BigDecimal.TEN, applier))
+                .isInstanceOf(AccountNotFoundException.class)
+                .hasMessage("No se encontró la cuenta con ID: 99");
+    }
+
+    @Test
+    void shouldPropagateApplierErrorToEveryDepositOfTheBatch() {
+        // given
+        Function<List<BigDecimal>, AccountResponse> applier = amounts -> {
+            throw new StackOverflowError();
+        };
+        List<Future<AccountResponse>> futures = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> this.depositCoalescerUnderTest.deposit(1L, BigDecimal.TEN, applier)));
+            }
+        }
+
+        // then
+        assertThat(futures).allSatisfy(future -> assertThatThrownBy(future::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(StackOverflowError.class));
+    }
+
+    @Test
+    void shouldWithdrawTheDepositFromItsOpenBatchAfterMaxWait() throws Exception {
+        // given
+        DepositCoalescingProperties properties = new DepositCoalescingProperties(true, Duration.ofMillis(20), CALLERS, Duration.ofMillis(200));
+        DepositCoalescer depositCoalescer = new DepositCoalescer(properties, this.meterRegistry);
+        CountDownLatch applying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<List<BigDecimal>, AccountResponse> applier = amounts -> {
+            applying.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.balance = this.balance.add(this.record(amounts));
+            return new AccountResponse(1L, "Milagros", Money.of(this.balance), "BCP");
+        };
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            Future<AccountResponse> first = executor.submit(() -> depositCoalescer.deposit(1L, BigDecimal.TEN, applier));
+            assertThat(applying.await(5, TimeUnit.SECONDS)).isTrue();
+            // El segundo grupo queda abierto mientras su líder espera el turno del primero
+            AtomicReference<Thread> secondLeaderThread = new AtomicReference<>();
+            Future<AccountResponse> secondLeader = executor.submit(() -> {
+                secondLeaderThread.set(Thread.currentThread());
+                return depositCoalescer.deposit(1L, new BigDecimal("20"), applier);
+            });
+            await().atMost(Duration.ofSeconds(5)).until(() ->
+                    secondLeaderThread.get() != null && secondLeaderThread.get().getState() == Thread.State.WAITING);
+            Future<AccountResponse> follower = executor.submit(() -> depositCoalescer.deposit(1L, new BigDecimal("30"), applier));
+            await().atMost(Duration.ofSeconds(5)).until(follower::isDone);
+            release.countDown();
+
+            // then
+            assertThatThrownBy(follower::get)
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(DatabaseOperationException.class)
+                    .hasMessageContaining("depósito agrupado sin aplicar");
+            assertThat(first.get().balance()).isEqualTo(Money.of("1010"));
+            assertThat(secondLeader.get().balance()).isEqualTo(Money.of("1030"));
+        }
+        assertThat(this.appliedBatches).containsExactly(List.of(new BigDecimal("10.00")), List.of(new BigDecimal("20.00")));
+    }
+
+    @Test
+    void shouldWaitForTheResultAfterMaxWaitWhenTheBatchIsAlreadyClosed() throws Exception {
+        // given
+        DepositCoalescingProperties properties = new DepositCoalescingProperties(true, Duration.ofSeconds(10), 2, Duration.ofMillis(100));
+        DepositCoalescer depositCoalescer = new DepositCoalescer(properties, this.meterRegistry);
+        CountDownLatch applying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<List<BigDecimal>, AccountResponse> applier = amounts -> {
+            applying.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new AccountResponse(1L, "Milagros", Money.of(this.balance.add(this.record(amounts))), "BCP");
+        };
+        List<Future<AccountResponse>> futures = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int i = 0; i < 2; i++) {
+                futures.add(executor.submit(() -> depositCoalescer.deposit(1L, BigDecimal.TEN, applier)));
+            }
+            assertThat(applying.await(5, TimeUnit.SECONDS)).isTrue();
+            // El grupo lleno se cerró: vencido maxWait, el depósito que no es líder sigue esperando al líder
+            await().during(Duration.ofMillis(300)).atMost(Duration.ofSeconds(5))
+                    .until(() -> futures.stream().noneMatch(Future::isDone));
+            release.countDown();
+        }
+
+        // then
+        List<Money> balances = new ArrayList<>();
+        for (Future<AccountResponse> future : futures) {
+            balances.add(future.get().balance());
+        }
+        assertThat(balances).containsExactlyInAnyOrder(Money.of("1010"), Money.of("1020"));
+        assertThat(this.appliedBatches).singleElement()
+                .satisfies(amounts -> assertThat(amounts).hasSize(2));
+    }
+
+    @Test
+    void shouldNotBlockOtherAccountsWhileABatchIsBeingApplied() throws Exception {
+        // given
+        DepositCoalescingProperties properties = new DepositCoalescingProperties(true, Duration.ofMillis(200), 1, Duration.ofSeconds(5));
+        DepositCoalescer depositCoalescer = new DepositCoalescer(properties, this.meterRegistry);
+        CountDownLatch applying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<List<BigDecimal>, AccountResponse> slowApplier = amounts -> {
+            applying.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new AccountResponse(1L, "Milagros", Money.of(this.balance.add(this.record(amounts))), "BCP");
+        };
+        Function<List<BigDecimal>, AccountResponse> applier = amounts ->
+                new AccountResponse(257L, "Kiara", Money.of(this.balance.add(this.record(amounts))), "BCP");
+
+        // when
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<AccountResponse> slowDeposit = executor.submit(() -> depositCoalescer.deposit(1L, BigDecimal.TEN, slowApplier));
+            assertThat(applying.await(5, TimeUnit.SECONDS)).isTrue();
+            // Con candados repartidos en 256 franjas, las cuentas 1 y 257 compartían candado
+            AccountResponse response = depositCoalescer.deposit(257L, new BigDecimal("50"), applier);
+            boolean slowDepositDone = slowDeposit.isDone();
+            release.countDown();
+
+            // then
+            assertThat(response.balance()).isEqualTo(Money.of("1050"));
+            assertThat(slowDepositDone).isFalse();
+            assertThat(slowDeposit.get().balance()).isEqualTo(Money.of("1010"));
+        }
+    }
+
+    private BigDecimal record(List<BigDecimal> amounts) {
+        this.appliedBatches.add(amounts);
+        return amounts.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
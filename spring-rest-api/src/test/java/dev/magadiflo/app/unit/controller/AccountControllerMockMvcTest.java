@@ -2,30 +2,55 @@ package dev.magadiflo.app.unit.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.magadiflo.app.controller.AccountController;
+import dev.magadiflo.app.dto.AccountBatchCreateRequest;
 import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountImportChunkResult;
+import dev.magadiflo.app.dto.AccountImportResponse;
+import dev.magadiflo.app.dto.AccountImportRowError;
+import dev.magadiflo.app.dto.AccountLookupRequest;
+import dev.magadiflo.app.dto.AccountLookupResponse;
+import dev.magadiflo.app.dto.AccountPage;
 import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.LedgerEntryResponse;
 import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.TransferBatchRequest;
+import dev.magadiflo.app.dto.TransferBatchResponse;
+import dev.magadiflo.app.dto.TransferLegResult;
+import dev.magadiflo.app.entity.LedgerEntry;
 import dev.magadiflo.app.exception.AccountNotFoundException;
+import dev.magadiflo.app.exception.BalanceLimitExceededException;
+import dev.magadiflo.app.exception.IdempotencyKeyConflictException;
 import dev.magadiflo.app.exception.InsufficientBalanceException;
+import dev.magadiflo.app.idempotency.IdempotencyExecutor;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.app.service.AccountImportService;
 import dev.magadiflo.app.service.AccountService;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AccountController.class)
@@ -34,6 +59,12 @@ class AccountControllerMockMvcTest {
     @MockitoBean
     private AccountService accountService;
 
+    @MockitoBean
+    private AccountImportService accountImportService;
+
+    @MockitoBean
+    private IdempotencyExecutor idempotencyExecutor;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -44,8 +75,8 @@ class AccountControllerMockMvcTest {
     void shouldReturnAllAccountsWhenTheyExist() throws Exception {
         // given
         List<AccountResponse> accounts = List.of(
-                new AccountResponse(1L, "Milagros", new BigDecimal("2000"), "BCP"),
-                new AccountResponse(2L, "Kiara", new BigDecimal("1000"), "BCP")
+                new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP"),
+                new AccountResponse(2L, "Kiara", Money.of("1000"), "BCP")
         );
         Mockito.when(this.accountService.findAllAccounts()).thenReturn(accounts);
 
@@ -72,11 +103,76 @@ class AccountControllerMockMvcTest {
         Mockito.verifyNoMoreInteractions(this.accountService);
     }
 
+    @Test
+    void shouldReturnPageWithNextLinkWhenMoreAccountsExist() throws Exception {
+        // given
+        List<AccountResponse> accounts = List.of(
+                new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP"),
+                new AccountResponse(2L, "Kiara", Money.of("1000"), "BCP")
+        );
+        Mockito.when(this.accountService.findAccountPage(null, 2)).thenReturn(new AccountPage(accounts, "YToy", 2));
+
+        // when
+        ResultActions result = this.mockMvc.perform(get("/api/v1/accounts").param("limit", "2"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(jsonPath("$[1].id").value(2))
+                .andExpect(header().string(HttpHeaders.LINK, "<http://localhost/api/v1/accounts?after=YToy&limit=2>; rel=\"next\""));
+        Mockito.verify(this.accountService).findAccountPage(null, 2);
+        Mockito.verifyNoMoreInteractions(this.accountService);
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutLinkHeader() throws Exception {
+        // given
+        List<AccountResponse> accounts = List.of(new AccountResponse(3L, "Lesly", Money.of("500"), "BCP"));
+        Mockito.when(this.accountService.findAccountPage("YToy", null)).thenReturn(new AccountPage(accounts, null, 50));
+
+        // when
+        ResultActions result = this.mockMvc.perform(get("/api/v1/accounts").param("after", "YToy"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @Test
+    void shouldStreamAllAccountsAsNdjsonWhenRequested() throws Exception {
+        // given
+        List<AccountResponse> accounts = List.of(
+                new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP"),
+                new AccountResponse(2L, "Kiara", Money.of("1000"), "BCP")
+        );
+        Mockito.when(this.accountService.exportAllAccounts(Mockito.any())).thenAnswer(invocation -> {
+            Consumer<AccountResponse> consumer = invocation.getArgument(0);
+            accounts.forEach(consumer);
+            return (long) accounts.size();
+        });
+        String expectedBody = this.objectMapper.writeValueAsString(accounts.get(0)) + "\n"
+                              + this.objectMapper.writeValueAsString(accounts.get(1)) + "\n";
+
+        // when
+        MvcResult asyncResult = this.mockMvc.perform(get("/api/v1/accounts").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions result = this.mockMvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expectedBody));
+        Mockito.verify(this.accountService).exportAllAccounts(Mockito.any());
+        Mockito.verifyNoMoreInteractions(this.accountService);
+    }
+
     @Test
     void shouldCreateNewAccountSuccessfully() throws Exception {
         // given
         AccountCreateRequest request = new AccountCreateRequest("Milagros", new BigDecimal("2000"), 1L);
-        AccountResponse accountResponse = new AccountResponse(1L, "Milagros", new BigDecimal("2000"), "BCP");
+        AccountResponse accountResponse = new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP");
         Mockito.when(this.accountService.saveAccount(request)).thenReturn(accountResponse);
 
         // when
@@ -90,16 +186,138 @@ class AccountControllerMockMvcTest {
                 .andExpect(header().string("Location", Matchers.containsString("/api/v1/accounts/1")))
                 .andExpect(jsonPath("$.id", Matchers.is(1)))
                 .andExpect(jsonPath("$.holder", Matchers.is("Milagros")))
-                .andExpect(jsonPath("$.balance", Matchers.is(2000)))
+                .andExpect(jsonPath("$.balance", Matchers.is(2000.0)))
                 .andExpect(jsonPath("$.bankName", Matchers.is("BCP")));
         Mockito.verify(this.accountService).saveAccount(Mockito.any());
         Mockito.verifyNoMoreInteractions(this.accountService);
     }
 
+    @Test
+    void shouldReturn201WithCreatedAccountsWhenAccountBatchIsValid() throws Exception {
+        // given
+        var request = new AccountBatchCreateRequest(List.of(
+                new AccountCreateRequest("Milagros", new BigDecimal("2000"), 1L),
+                new AccountCreateRequest("Kiara", new BigDecimal("500"), 2L)
+        ));
+        List<AccountResponse> accounts = List.of(
+                new AccountResponse(1000L, "Milagros", Money.of("2000"), "BCP"),
+                new AccountResponse(1001L, "Kiara", Money.of("500"), "BBVA")
+        );
+        Mockito.when(this.accountService.saveAccounts(request.accounts())).thenReturn(accounts);
+
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/v1/accounts/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(request)));
+
+        // then
+        result.andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.size()", Matchers.is(2)))
+                .andExpect(jsonPath("$[0].id", Matchers.is(1000)))
+                .andExpect(jsonPath("$[0].holder", Matchers.is("Milagros")))
+                .andExpect(jsonPath("$[1].id", Matchers.is(1001)))
+                .andExpect(jsonPath("$[1].bankName", Matchers.is("BBVA")));
+        Mockito.verify(this.accountService).saveAccounts(request.accounts());
+        Mockito.verifyNoMoreInteractions(this.accountService);
+    }
+
+    @Test
+    void shouldReturn400WhenAccountBatchHasInvalidAccount() throws Exception {
+        // given
+        var request = new AccountBatchCreateRequest(List.of(
+                new AccountCreateRequest("Milagros", new BigDecimal("2000"), 1L),
+                new AccountCreateRequest(" ", new BigDecimal("-1"), 1L)
+        ));
+
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/v1/accounts/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(request)));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors['accounts[1].holder']").exists())
+                .andExpect(jsonPath("$.validationErrors['accounts[1].balance']").exists());
+        Mockito.verifyNoInteractions(this.accountService);
+    }
+
+    @Test
+    void shouldReturnPerChunkSummaryWhenCsvImportIsProcessed() throws Exception {
+        // given
+        String body = """
+                holder,balance,bankId
+                Milagros,2000,1
+                Kiara,-5,1
+                """;
+        var response = AccountImportResponse.of(List.of(AccountImportChunkResult.committed(0, 1, 2, 1, 1,
+                List.of(new AccountImportRowError(2, "El saldo no puede ser negativo")))));
+        Mockito.when(this.accountImportService.importAccounts(Mockito.any())).thenReturn(response);
+
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/v1/accounts/import")
+                .contentType(AccountController.TEXT_CSV_VALUE)
+                .content(body));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.rows").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.chunks[0].status").value("COMMITTED"))
+                .andExpect(jsonPath("$.chunks[0].errors[0].row").value(2))
+                .andExpect(jsonPath("$.chunks[0].errors[0].message").value("El saldo no puede ser negativo"))
+                .andExpect(jsonPath("$.chunks[0].message").doesNotExist());
+        Mockito.verify(this.accountImportService).importAccounts(Mockito.any());
+        Mockito.verifyNoInteractions(this.accountService);
+    }
+
+    @Test
+    void shouldReturnFoundAccountsAndMissingIdsWhenLookingUpByIds() throws Exception {
+        // given
+        var request = new AccountLookupRequest(List.of(2L, 99L, 1L));
+        var response = new AccountLookupResponse(List.of(
+                new AccountResponse(2L, "Kiara", Money.of("1000"), "BCP"),
+                new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP")
+        ), List.of(99L));
+        Mockito.when(this.accountService.findAccountsByIds(request.ids())).thenReturn(response);
+
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/v1/accounts/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(request)));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.accounts.size()", Matchers.is(2)))
+                .andExpect(jsonPath("$.accounts[0].id", Matchers.is(2)))
+                .andExpect(jsonPath("$.accounts[1].id", Matchers.is(1)))
+                .andExpect(jsonPath("$.missingIds", Matchers.contains(99)));
+        Mockito.verify(this.accountService).findAccountsByIds(request.ids());
+        Mockito.verifyNoMoreInteractions(this.accountService);
+    }
+
+    @Test
+    void shouldReturn400WhenLookupHasNoIds() throws Exception {
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/v1/accounts/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"ids": []}
+                        """));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors.ids").value("Debe especificarse al menos un ID de cuenta"));
+        Mockito.verifyNoInteractions(this.accountService);
+    }
+
     @Test
     void shouldReturnAccountDetailsWhenAccountExists() throws Exception {
         // given
-        AccountResponse accountResponse = new AccountResponse(1L, "Milagros", new BigDecimal("2000"), "BCP");
+        AccountResponse accountResponse = new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP");
         Mockito.when(this.accountService.findAccountById(1L)).thenReturn(accountResponse);
 
         // when
@@ -110,12 +328,41 @@ class AccountControllerMockMvcTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id", Matchers.is(1)))
                 .andExpect(jsonPath("$.holder", Matchers.is("Milagros")))
-                .andExpect(jsonPath("$.balance", Matchers.is(2000)))
+                .andExpect(jsonPath("$.balance", Matchers.is(2000.0)))
                 .andExpect(jsonPath("$.bankName", Matchers.is("BCP")));
         Mockito.verify(this.accountService).findAccountById(1L);
         Mockito.verifyNoMoreInteractions(this.accountService);
     }
 
+    @Test
+    void shouldReturnLedgerMovementsFromGivenSeq() throws Exception {
+        // given
+        List<LedgerEntryResponse> movements = List.of(
+                new LedgerEntryResponse(51L, LedgerEntry.Type.DEPOSIT, new BigDecimal("500"), null, Instant.parse("2025-01-01T10:00:00Z")),
+                new LedgerEntryResponse(52L, LedgerEntry.Type.TRANSFER_OUT, new BigDecimal("-200"), 2L, Instant.parse("2025-01-01T10:05:00Z"))
+        );
+        Mockito.when(this.accountService.findAccountMovements(1L, 50L, 20)).thenReturn(movements);
+
+        // when
+        ResultActions result = this.mockMvc.perform(get("/api/v1/accounts/{accountId}/movements", 1L)
+                .param("afterSeq", "50")
+                .param("limit", "20"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(jsonPath("$[0].seq").value(51))
+                .andExpect(jsonPath("$[0].type").value("DEPOSIT"))
+                .andExpect(jsonPath("$[0].counterpartyAccountId").doesNotExist())
+                .andExpect(jsonPath("$[1].seq").value(52))
+                .andExpect(jsonPath("$[1].type").value("TRANSFER_OUT"))
+                .andExpect(jsonPath("$[1].amount").value(-200))
+                .andExpect(jsonPath("$[1].counterpartyAccountId").value(2));
+        Mockito.verify(this.accountService).findAccountMovements(1L, 50L, 20);
+        Mockito.verifyNoMoreInteractions(this.accountService);
+    }
+
     @Test
     void shouldReturn404WhenAccountNotFound() throws Exception {
         // given
@@ -137,6 +384,87 @@ class AccountControllerMockMvcTest {
         Mockito.verifyNoMoreInteractions(this.accountService);
     }
 
+    @Test
+    void shouldDelegateDepositToIdempotencyExecutorWhenIdempotencyKeyIsPresent() throws Exception {
+        // given
+        var request = new DepositRequest(new BigDecimal("500"));
+        // Respuesta almacenada: se escribe tal cual, sin pasar por Jackson
+        String storedBody = "{\"id\":1,\"holder\":\"Milagros\",\"balance\":2500.00,\"bankName\":\"BCP\"}";
+        Mockito.when(this.idempotencyExecutor.execute(Mockito.eq("clave-1"), Mockito.eq("deposit:1"), Mockito.eq(request),
+                        Mockito.any()))
+                .thenReturn(storedBody.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/v1/accounts/{accountId}/deposit", 1L)
+                .header(AccountController.IDEMPOTENCY_KEY_HEADER, "clave-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(request)));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(storedBody));
+        Mockito.verify(this.idempotencyExecutor).execute(Mockito.eq("clave-1"), Mockito.eq("deposit:1"), Mockito.eq(request),
+                Mockito.any());
+        Mockito.verifyNoInteractions(this.accountService);
+    }
+
+    @Test
+    void shouldReturn422WhenIdempotencyKeyIsReusedWithDifferentRequest() throws Exception {
+        // given
+        var request = new DepositRequest(new BigDecimal("500"));
+        Mockito.when(this.idempotencyExecutor.execute(Mockito.eq("clave-1"), Mockito.anyString(), Mockito.any(),
+                        Mockito.any()))
+                .thenThrow(new IdempotencyKeyConflictException("clave-1"));
+
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/v1/accounts/{accountId}/deposit", 1L)
+                .header(AccountController.IDEMPOTENCY_KEY_HEADER, "clave-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(request)));
+
+        // then
+        result.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.status").value(422))
+                .andExpect(jsonPath("$.message").value("La clave de idempotencia clave-1 ya se utilizó con una petición diferente"));
+        Mockito.verifyNoInteractions(this.accountService);
+    }
+
+    @Test
+    void shouldReturn400WhenDepositAmountExceedsTheMaximumAmount() throws Exception {
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/v1/accounts/{accountId}/deposit", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"amount": 92233720368547758.08}
+                        """));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors.amount").value("El monto no puede superar 92233720368547758.07"));
+        Mockito.verifyNoInteractions(this.accountService);
+    }
+
+    @Test
+    void shouldReturn400WhenDepositWouldExceedTheMaximumBalance() throws Exception {
+        // given
+        var request = new DepositRequest(new BigDecimal("500"));
+        Mockito.when(this.accountService.deposit(1L, request)).thenThrow(new BalanceLimitExceededException(1L, "Milagros"));
+
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/v1/accounts/{accountId}/deposit", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(request)));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message")
+                        .value("El saldo de la cuenta del titular Milagros (ID: 1) superaría el máximo permitido (92233720368547758.07)"));
+        Mockito.verify(this.accountService).deposit(1L, request);
+        Mockito.verifyNoMoreInteractions(this.accountService);
+    }
+
     @Test
     void shouldTransferMoneySuccessfully() throws Exception {
         // given
@@ -177,5 +505,58 @@ class AccountControllerMockMvcTest {
         Mockito.verify(this.accountService).transfer(Mockito.any());
         Mockito.verifyNoMoreInteractions(this.accountService);
     }
-}
 
+    @Test
+    void shouldReturnStatusPerLegWhenTransferBatchIsProcessed() throws Exception {
+        // given
+        var applied = new TransactionRequest(1L, 2L, new BigDecimal("500"));
+        var rejected = new TransactionRequest(3L, 4L, new BigDecimal("900"));
+        var request = new TransferBatchRequest(List.of(applied, rejected));
+        var response = TransferBatchResponse.of(List.of(
+                TransferLegResult.applied(0, applied),
+                TransferLegResult.rejected(1, rejected, TransferLegResult.Status.INSUFFICIENT_BALANCE,
+                        "Saldo insuficiente en la cuenta del titular Kiara (ID: 3)")
+        ));
+        Mockito.when(this.accountService.transferBatch(request.transfers())).thenReturn(response);
+
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/v1/accounts/transfers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(request)));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.applied").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].index").value(0))
+                .andExpect(jsonPath("$.results[0].status").value("APPLIED"))
+                .andExpect(jsonPath("$.results[0].message").doesNotExist())
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("INSUFFICIENT_BALANCE"))
+                .andExpect(jsonPath("$.results[1].message").value("Saldo insuficiente en la cuenta del titular Kiara (ID: 3)"));
+        Mockito.verify(this.accountService).transferBatch(request.transfers());
+        Mockito.verifyNoMoreInteractions(this.accountService);
+    }
+
+    @Test
+    void shouldReturn400WhenTransferBatchHasInvalidLeg() throws Exception {
+        // given
+        var request = new TransferBatchRequest(List.of(
+                new TransactionRequest(1L, 2L, new BigDecimal("500")),
+                new TransactionRequest(1L, null, new BigDecimal("0"))
+        ));
+
+        // when
+        ResultActions result = this.mockMvc.perform(post("/api/v1/accounts/transfers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(request)));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors['transfers[1].targetAccountId']").exists())
+                .andExpect(jsonPath("$.validationErrors['transfers[1].amount']").exists());
+        Mockito.verifyNoInteractions(this.accountService);
+    }
+}
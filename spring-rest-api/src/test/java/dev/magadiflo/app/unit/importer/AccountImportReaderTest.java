@@ -0,0 +1,95 @@
+package dev.magadiflo.app.unit.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.importer.AccountImportReader;
+import dev.magadiflo.app.importer.AccountImportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class AccountImportReaderTest {
+
+    @Test
+    void shouldSkipHeaderAndBlankLinesAndUnquoteCsvFields() throws IOException {
+        // given
+        String body = """
+                holder,balance,bankId
+                Milagros Díaz,2000.50,1
+
+                "Guerrero, Edwin ""Tito\""", 100 ,2
+                """;
+
+        // when
+        List<AccountImportRow> rows = readAll(AccountImportReader.csv(new StringReader(body)));
+
+        // then
+        assertThat(rows)
+                .extracting(AccountImportRow::row, AccountImportRow::request)
+                .containsExactly(
+                        tuple(1L, new AccountCreateRequest("Milagros Díaz", new BigDecimal("2000.50"), 1L)),
+                        tuple(2L, new AccountCreateRequest("Guerrero, Edwin \"Tito\"", new BigDecimal("100"), 2L)));
+    }
+
+    @Test
+    void shouldReturnUnreadableCsvRowsWithoutStoppingTheReader() throws IOException {
+        // given
+        String body = """
+                Milagros,abc,1
+                Kiara,100
+                "Susana,100,1
+                Lesly,,1
+                """;
+
+        // when
+        List<AccountImportRow> rows = readAll(AccountImportReader.csv(new StringReader(body)));
+
+        // then
+        assertThat(rows).hasSize(4);
+        assertThat(rows.get(0).error()).isEqualTo("Saldo o banco no numérico: abc, 1");
+        assertThat(rows.get(1).error()).isEqualTo("Se esperaban 3 columnas (holder,balance,bankId) y se encontraron 2");
+        assertThat(rows.get(2).error()).isEqualTo("Comillas sin cerrar en la fila");
+        // Un campo vacío llega como nulo y lo rechaza la validación del servicio
+        assertThat(rows.get(3).isParsed()).isTrue();
+        assertThat(rows.get(3).request().balance()).isNull();
+    }
+
+    @Test
+    void shouldReadOneRequestPerNdjsonLineAndReportInvalidJson() throws IOException {
+        // given
+        String body = """
+                {"holder": "Milagros", "balance": 2000, "bankId": 1}
+                {"holder": "Kiara", "balance":
+                {"holder": "Susana", "balance": 500.25, "bankId": 2}
+                """;
+
+        // when
+        List<AccountImportRow> rows = readAll(AccountImportReader.ndjson(new StringReader(body), new ObjectMapper()));
+
+        // then
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).request()).isEqualTo(new AccountCreateRequest("Milagros", new BigDecimal("2000"), 1L));
+        assertThat(rows.get(1).isParsed()).isFalse();
+        assertThat(rows.get(1).error()).startsWith("JSON inválido");
+        assertThat(rows.get(2).row()).isEqualTo(3L);
+        assertThat(rows.get(2).request()).isEqualTo(new AccountCreateRequest("Susana", new BigDecimal("500.25"), 2L));
+    }
+
+    private static List<AccountImportRow> readAll(AccountImportReader reader) throws IOException {
+        List<AccountImportRow> rows = new ArrayList<>();
+        try (reader) {
+            AccountImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
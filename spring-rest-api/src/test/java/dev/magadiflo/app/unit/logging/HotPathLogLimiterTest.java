@@ -0,0 +1,88 @@
+package dev.magadiflo.app.unit.logging;
+
+import dev.magadiflo.app.config.HotPathLoggingProperties;
+import dev.magadiflo.app.logging.HotPathEvent;
+import dev.magadiflo.app.logging.HotPathLogLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotPathLogLimiterTest {
+
+    private MeterRegistry meterRegistry;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.logger = Mockito.mock(Logger.class);
+        Mockito.when(this.logger.isInfoEnabled()).thenReturn(true);
+    }
+
+    @Test
+    void shouldWriteOneOfEveryNMessagesOfEachEvent() {
+        // given
+        HotPathLogLimiter limiter = new HotPathLogLimiter(new HotPathLoggingProperties(true, 10, 0), this.meterRegistry);
+
+        // when
+        long deposits = IntStream.range(0, 100).filter(i -> limiter.isInfoEnabled(this.logger, HotPathEvent.DEPOSIT)).count();
+        long withdrawals = IntStream.range(0, 5).filter(i -> limiter.isInfoEnabled(this.logger, HotPathEvent.WITHDRAWAL)).count();
+
+        // then
+        assertThat(deposits).isEqualTo(10);
+        assertThat(withdrawals).isEqualTo(1);
+        assertThat(this.suppressed(HotPathEvent.DEPOSIT)).isEqualTo(90);
+        assertThat(this.suppressed(HotPathEvent.WITHDRAWAL)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldLimitMessagesPerSecondOfEachEvent() {
+        // given
+        HotPathLogLimiter limiter = new HotPathLogLimiter(new HotPathLoggingProperties(true, 1, 5), this.meterRegistry);
+
+        // when
+        long transfers = IntStream.range(0, 100).filter(i -> limiter.isInfoEnabled(this.logger, HotPathEvent.TRANSFER)).count();
+
+        // then
+        assertThat(transfers).isEqualTo(5);
+        assertThat(this.suppressed(HotPathEvent.TRANSFER)).isEqualTo(95);
+    }
+
+    @Test
+    void shouldNotCountMessagesWhoseLevelIsDisabled() {
+        // given
+        HotPathLogLimiter limiter = new HotPathLogLimiter(new HotPathLoggingProperties(true, 10, 0), this.meterRegistry);
+        Mockito.when(this.logger.isDebugEnabled()).thenReturn(false);
+
+        // when
+        boolean enabled = limiter.isDebugEnabled(this.logger, HotPathEvent.DEPOSIT);
+
+        // then
+        assertThat(enabled).isFalse();
+        assertThat(limiter.isInfoEnabled(this.logger, HotPathEvent.DEPOSIT)).isTrue();
+        assertThat(this.suppressed(HotPathEvent.DEPOSIT)).isZero();
+    }
+
+    @Test
+    void shouldWriteEveryMessageWhenDisabled() {
+        // given
+        HotPathLogLimiter limiter = new HotPathLogLimiter(new HotPathLoggingProperties(false, 10, 5), this.meterRegistry);
+
+        // when
+        long written = IntStream.range(0, 100).filter(i -> limiter.isInfoEnabled(this.logger, HotPathEvent.BALANCE_UPDATE)).count();
+
+        // then
+        assertThat(written).isEqualTo(100);
+    }
+
+    private double suppressed(HotPathEvent event) {
+        return this.meterRegistry.counter(HotPathLogLimiter.SUPPRESSED_METRIC, "event", event.name().toLowerCase()).count();
+    }
+}
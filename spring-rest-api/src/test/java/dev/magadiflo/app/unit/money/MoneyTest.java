@@ -0,0 +1,84 @@
+package dev.magadiflo.app.unit.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.app.money.MoneyConverter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldAddAndSubtractInCents() {
+        // given
+        Money balance = Money.of("2000.00");
+
+        // when
+        Money result = balance.plus(Money.of("150.75")).minus(Money.of("0.80"));
+
+        // then
+        assertThat(result).isEqualTo(Money.ofCents(214_995));
+        assertThat(result.toBigDecimal()).isEqualTo(new BigDecimal("2149.95"));
+        assertThat(Money.of("1300")).isEqualTo(Money.of("1300.00"));
+        assertThat(Money.of("100.01").isGreaterThan(Money.of("100"))).isTrue();
+    }
+
+    @Test
+    void shouldThrowArithmeticExceptionInsteadOfOverflowing() {
+        // given
+        Money max = Money.ofCents(Long.MAX_VALUE);
+
+        // when
+        // then
+        assertThatThrownBy(() -> max.plus(Money.ofCents(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofCents(Long.MIN_VALUE).minus(Money.ofCents(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of("10.005")).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldFormatWithTwoDecimals() {
+        // when
+        // then
+        assertThat(Money.of("1500.05")).hasToString("1500.05");
+        assertThat(Money.of("7")).hasToString("7.00");
+        assertThat(Money.of("-0.5")).hasToString("-0.50");
+        assertThat(Money.of("-12.30")).hasToString("-12.30");
+    }
+
+    @Test
+    void shouldConvertToAndFromDecimalColumn() {
+        // given
+        MoneyConverter converter = new MoneyConverter();
+
+        // when
+        BigDecimal column = converter.convertToDatabaseColumn(Money.of("2000.5"));
+
+        // then
+        assertThat(column).isEqualTo(new BigDecimal("2000.50"));
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo(Money.ofCents(200_050));
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void shouldKeepJsonWireFormatOfDecimalBalance() throws Exception {
+        // given
+        AccountResponse account = new AccountResponse(1L, "Milagros", Money.of("2000.5"), "BCP");
+
+        // when
+        String json = this.objectMapper.writeValueAsString(account);
+        AccountResponse read = this.objectMapper.readValue(json, AccountResponse.class);
+
+        // then
+        assertThat(json).isEqualTo("{\"id\":1,\"holder\":\"Milagros\",\"balance\":2000.50,\"bankName\":\"BCP\"}");
+        assertThat(read).isEqualTo(account);
+        assertThat(this.objectMapper.readValue("\"15.7\"", Money.class)).isEqualTo(Money.of("15.70"));
+    }
+}
@@ -0,0 +1,81 @@
+package dev.magadiflo.app.unit.repository;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcPropertySet;
+import com.mysql.cj.jdbc.JdbcPropertySetImpl;
+import dev.magadiflo.app.repository.CursorFetchAspect;
+import jakarta.persistence.EntityManager;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.jdbc.Work;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorFetchAspectTest {
+
+    private Connection connection;
+    private ProceedingJoinPoint joinPoint;
+    private CursorFetchAspect cursorFetchAspectUnderTest;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.connection = Mockito.mock(Connection.class);
+        Session session = Mockito.mock(Session.class);
+        Mockito.when(session.doReturningWork(Mockito.any())).thenAnswer(invocation ->
+                invocation.<ReturningWork<?>>getArgument(0).execute(this.connection));
+        Mockito.doAnswer(invocation -> {
+            invocation.<Work>getArgument(0).execute(this.connection);
+            return null;
+        }).when(session).doWork(Mockito.any());
+        EntityManager entityManager = Mockito.mock(EntityManager.class);
+        Mockito.when(entityManager.unwrap(Session.class)).thenReturn(session);
+        this.joinPoint = Mockito.mock(ProceedingJoinPoint.class);
+        Mockito.when(this.joinPoint.getSignature()).thenReturn(Mockito.mock(Signature.class));
+        this.cursorFetchAspectUnderTest = new CursorFetchAspect(entityManager);
+    }
+
+    @Test
+    void shouldEnableCursorFetchOnlyWhileTheQueryIsCreated() throws Throwable {
+        // given
+        JdbcPropertySet properties = new JdbcPropertySetImpl();
+        JdbcConnection mysqlConnection = Mockito.mock(JdbcConnection.class);
+        Mockito.when(mysqlConnection.getPropertySet()).thenReturn(properties);
+        Mockito.when(this.connection.isWrapperFor(JdbcConnection.class)).thenReturn(true);
+        Mockito.when(this.connection.unwrap(JdbcConnection.class)).thenReturn(mysqlConnection);
+        // La consulta se crea (y el driver fija las propiedades de la sentencia) dentro de proceed()
+        Mockito.when(this.joinPoint.proceed()).thenAnswer(invocation -> List.of(
+                properties.getBooleanProperty(PropertyKey.useCursorFetch).getValue(),
+                properties.getBooleanProperty(PropertyKey.useServerPrepStmts).getValue()));
+
+        // when
+        Object settingsDuringQuery = this.cursorFetchAspectUnderTest.withCursorFetch(this.joinPoint);
+
+        // then
+        assertThat(settingsDuringQuery).isEqualTo(List.of(true, true));
+        assertThat(properties.getBooleanProperty(PropertyKey.useCursorFetch).getValue()).isFalse();
+        assertThat(properties.getBooleanProperty(PropertyKey.useServerPrepStmts).getValue()).isFalse();
+    }
+
+    @Test
+    void shouldRunTheQueryAsIsWithOtherDrivers() throws Throwable {
+        // given
+        Mockito.when(this.connection.isWrapperFor(JdbcConnection.class)).thenReturn(false);
+        Mockito.when(this.joinPoint.proceed()).thenReturn(List.of(1L));
+
+        // when
+        Object result = this.cursorFetchAspectUnderTest.withCursorFetch(this.joinPoint);
+
+        // then
+        assertThat(result).isEqualTo(List.of(1L));
+        Mockito.verify(this.connection, Mockito.never()).unwrap(Mockito.any());
+    }
+}
@@ -0,0 +1,86 @@
+package dev.magadiflo.app.unit.retry;
+
+import dev.magadiflo.app.config.RetryProperties;
+import dev.magadiflo.app.exception.InsufficientBalanceException;
+import dev.magadiflo.app.retry.RetryExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryExecutorTest {
+
+    private MeterRegistry meterRegistry;
+    private RetryExecutor retryExecutorUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        RetryProperties retryProperties = new RetryProperties(3, Duration.ofMillis(1), Duration.ofMillis(4), 2.0);
+        this.retryExecutorUnderTest = new RetryExecutor(retryProperties, this.meterRegistry);
+    }
+
+    @Test
+    void shouldRetryUntilActionSucceedsWhenConflictIsTransient() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = this.retryExecutorUnderTest.execute("deposit", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Account", 1L);
+            }
+            return "ok";
+        });
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+        assertThat(this.count(RetryExecutor.RETRIES_METRIC, "deposit")).isEqualTo(2.0);
+        assertThat(this.count(RetryExecutor.EXHAUSTED_METRIC, "deposit")).isZero();
+    }
+
+    @Test
+    void shouldGiveUpAndRethrowWhenMaxAttemptsAreExhausted() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> this.retryExecutorUnderTest.execute("transfer", () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Account", 1L);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        // then
+        assertThat(attempts).hasValue(3);
+        assertThat(this.count(RetryExecutor.RETRIES_METRIC, "transfer")).isEqualTo(2.0);
+        assertThat(this.count(RetryExecutor.EXHAUSTED_METRIC, "transfer")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotRetryWhenExceptionIsNotAConcurrencyFailure() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> this.retryExecutorUnderTest.execute("withdraw", () -> {
+            attempts.incrementAndGet();
+            throw new InsufficientBalanceException(1L, "Milagros");
+        })).isInstanceOf(InsufficientBalanceException.class);
+
+        // then
+        assertThat(attempts).hasValue(1);
+        assertThat(this.meterRegistry.getMeters()).isEmpty();
+    }
+
+    private double count(String metric, String operation) {
+        return this.meterRegistry.counter(metric, "operation", operation).count();
+    }
+}
@@ -1,31 +1,60 @@
 package dev.magadiflo.app.unit.service;
 
+import dev.magadiflo.app.cache.AccountCache;
+import dev.magadiflo.app.cache.AccountIdBloomFilter;
+import dev.magadiflo.app.config.AccountProperties;
 import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountCursor;
+import dev.magadiflo.app.dto.AccountLookupResponse;
+import dev.magadiflo.app.dto.AccountPage;
 import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.LedgerEntryResponse;
 import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.TransferBatchResponse;
+import dev.magadiflo.app.dto.TransferLegResult;
 import dev.magadiflo.app.dto.WithdrawalRequest;
 import dev.magadiflo.app.entity.Account;
 import dev.magadiflo.app.entity.Bank;
+import dev.magadiflo.app.entity.LedgerEntry;
 import dev.magadiflo.app.exception.AccountNotFoundException;
+import dev.magadiflo.app.exception.BalanceLimitExceededException;
+import dev.magadiflo.app.exception.BankNotFoundException;
 import dev.magadiflo.app.exception.InsufficientBalanceException;
+import dev.magadiflo.app.exception.InvalidCursorException;
 import dev.magadiflo.app.factory.AccountTestFactory;
+import dev.magadiflo.app.logging.HotPathLogLimiter;
 import dev.magadiflo.app.mapper.AccountMapper;
+import dev.magadiflo.app.metrics.AccountMetrics;
+import dev.magadiflo.app.money.Money;
 import dev.magadiflo.app.repository.AccountRepository;
 import dev.magadiflo.app.repository.BankRepository;
+import dev.magadiflo.app.service.LedgerService;
+import dev.magadiflo.app.service.TransferCounterService;
 import dev.magadiflo.app.service.impl.AccountServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ExtendWith(MockitoExtension.class)
 class AccountServiceImplMockitoAnnotationTest {
@@ -35,6 +64,20 @@ class AccountServiceImplMockitoAnnotationTest {
     private BankRepository bankRepository;
     @Mock
     private AccountMapper accountMapper;
+    @Mock
+    private TransferCounterService transferCounterService;
+    @Mock
+    private LedgerService ledgerService;
+    @Spy
+    private AccountProperties accountProperties = AccountTestFactory.createAccountProperties();
+    @Spy
+    private AccountCache accountCache = AccountTestFactory.createAccountCache();
+    @Spy
+    private AccountIdBloomFilter accountIdBloomFilter = AccountTestFactory.createAccountIdBloomFilter(false);
+    @Spy
+    private HotPathLogLimiter hotPathLogLimiter = AccountTestFactory.createHotPathLogLimiter();
+    @Spy
+    private AccountMetrics accountMetrics = AccountTestFactory.createAccountMetrics();
     @InjectMocks
     private AccountServiceImpl accountServiceUnderTest;
 
@@ -53,9 +96,11 @@ class AccountServiceImplMockitoAnnotationTest {
         this.accountServiceUnderTest.transfer(request);
 
         // then
-        assertThat(sourceAccount.getBalance()).isEqualByComparingTo("1300");
-        assertThat(targetAccount.getBalance()).isEqualByComparingTo("1700");
-        assertThat(bank.getTotalTransfers()).isEqualTo(1);
+        assertThat(sourceAccount.getBalance()).isEqualTo(Money.of("1300"));
+        assertThat(targetAccount.getBalance()).isEqualTo(Money.of("1700"));
+        assertThat(sourceAccount.getLedgerPosition()).isEqualTo(1L);
+        assertThat(targetAccount.getLedgerPosition()).isEqualTo(1L);
+        assertThat(bank.getTotalTransfers()).isZero();
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verify(this.accountRepository).findById(2L);
         Mockito.verify(this.accountRepository, Mockito.times(2)).findById(Mockito.anyLong());
@@ -63,7 +108,9 @@ class AccountServiceImplMockitoAnnotationTest {
         Mockito.verify(this.accountRepository).save(sourceAccount);
         Mockito.verify(this.accountRepository).save(targetAccount);
         Mockito.verify(this.accountRepository, Mockito.times(2)).save(Mockito.any(Account.class));
-        Mockito.verify(this.bankRepository).save(bank);
+        Mockito.verify(this.bankRepository, Mockito.never()).save(bank);
+        Mockito.verify(this.transferCounterService).increment(bank.getId());
+        Mockito.verify(this.ledgerService).recordTransfers(List.of(request), Map.of(1L, sourceAccount, 2L, targetAccount));
     }
 
     @Test
@@ -83,8 +130,8 @@ class AccountServiceImplMockitoAnnotationTest {
                 .hasMessage("Saldo insuficiente en la cuenta del titular Milagros (ID: 1)");
 
         // then
-        assertThat(sourceAccount.getBalance()).isEqualByComparingTo("2000");
-        assertThat(targetAccount.getBalance()).isEqualByComparingTo("1000");
+        assertThat(sourceAccount.getBalance()).isEqualTo(Money.of("2000"));
+        assertThat(targetAccount.getBalance()).isEqualTo(Money.of("1000"));
         assertThat(bank.getTotalTransfers()).isZero();
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verify(this.accountRepository).findById(2L);
@@ -93,36 +140,36 @@ class AccountServiceImplMockitoAnnotationTest {
         Mockito.verify(this.accountRepository, Mockito.never()).save(sourceAccount);
         Mockito.verify(this.accountRepository, Mockito.never()).save(targetAccount);
         Mockito.verify(this.bankRepository, Mockito.never()).save(bank);
+        Mockito.verifyNoInteractions(this.transferCounterService, this.ledgerService);
     }
 
     @Test
     void shouldReturnAccountResponseWhenAccountExists() {
         // given
-        Account account = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal("2000"));
-        Bank bank = AccountTestFactory.createBank(1L, "BCP", account);
-        AccountResponse accountResponse = new AccountResponse(account.getId(), account.getHolder(), account.getBalance(), account.getBank().getName());
+        AccountResponse accountResponse = new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP");
 
-        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.of(account));
-        Mockito.when(this.accountMapper.toAccountResponse(account)).thenReturn(accountResponse);
+        Mockito.when(this.accountRepository.findAccountResponseById(1L)).thenReturn(Optional.of(accountResponse));
 
         // when
         AccountResponse result = this.accountServiceUnderTest.findAccountById(1L);
+        AccountResponse cachedResult = this.accountServiceUnderTest.findAccountById(1L);
 
         // then
         assertThat(result)
                 .isNotNull()
-                .isSameAs(accountResponse);
+                .isSameAs(accountResponse)
+                .isSameAs(cachedResult);
         assertThat(result)
                 .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
-                .containsExactly(1L, "Milagros", new BigDecimal("2000"), bank.getName());
-        Mockito.verify(this.accountRepository).findById(1L);
-        Mockito.verify(this.accountMapper).toAccountResponse(account);
+                .containsExactly(1L, "Milagros", Money.of("2000"), "BCP");
+        Mockito.verify(this.accountRepository).findAccountResponseById(1L);
+        Mockito.verifyNoInteractions(this.accountMapper);
     }
 
     @Test
     void shouldThrowAccountNotFoundExceptionWhenAccountDoesNotExist() {
         // given
-        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.empty());
+        Mockito.when(this.accountRepository.findAccountResponseById(1L)).thenReturn(Optional.empty());
 
         // when
         assertThatThrownBy(() -> this.accountServiceUnderTest.findAccountById(1L))
@@ -130,49 +177,85 @@ class AccountServiceImplMockitoAnnotationTest {
                 .hasMessage("No se encontró la cuenta con ID: 1");
 
         // then
-        Mockito.verify(this.accountRepository).findById(1L);
-        Mockito.verify(this.accountMapper, Mockito.never()).toAccountResponse(Mockito.any(Account.class));
+        Mockito.verify(this.accountRepository).findAccountResponseById(1L);
+        Mockito.verifyNoInteractions(this.accountMapper);
+    }
+
+    @Test
+    void shouldRejectAccountWithoutQueryingWhenBloomFilterRulesItOut() {
+        // given
+        Mockito.doReturn(false).when(this.accountIdBloomFilter).mightContain(99L);
+
+        // when
+        assertThatThrownBy(() -> this.accountServiceUnderTest.findAccountById(99L))
+                .isInstanceOf(AccountNotFoundException.class)
+                .hasMessage("No se encontró la cuenta con ID: 99");
+
+        // then
+        Mockito.verifyNoInteractions(this.accountRepository, this.accountMapper);
+    }
+
+    @Test
+    void shouldLookUpOnlyUncachedCandidateIdsAndReportMissingOnesInRequestOrder() {
+        // given
+        this.accountIdBloomFilter = AccountTestFactory.createAccountIdBloomFilter(true);
+        this.accountIdBloomFilter.rebuild(3, Stream.of(1L, 2L, 3L));
+        this.accountServiceUnderTest = new AccountServiceImpl(this.accountRepository, this.bankRepository, this.accountMapper,
+                this.accountProperties, this.transferCounterService, this.ledgerService, this.accountCache, this.accountIdBloomFilter,
+                this.hotPathLogLimiter, this.accountMetrics);
+        AccountResponse milagros = new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP");
+        AccountResponse kiara = new AccountResponse(2L, "Kiara", Money.of("1000"), "BCP");
+        Mockito.when(this.accountRepository.findAccountResponseById(1L)).thenReturn(Optional.of(milagros));
+        this.accountServiceUnderTest.findAccountById(1L); // Milagros queda en caché
+        Mockito.when(this.accountRepository.findAccountResponsesByIds(Mockito.anyCollection())).thenReturn(List.of(kiara));
+
+        // when
+        AccountLookupResponse response = this.accountServiceUnderTest.findAccountsByIds(List.of(3L, 2L, 1_000_000L, 1L, 2L));
+
+        // then
+        assertThat(response.accounts()).containsExactly(kiara, milagros);
+        assertThat(response.missingIds()).containsExactly(3L, 1_000_000L);
+        // 1 está en caché y el filtro descarta 1 000 000: solo 2 y 3 llegan a la base de datos
+        Mockito.verify(this.accountRepository).findAccountResponsesByIds(
+                Mockito.argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(2L, 3L))));
     }
 
     @Test
     void shouldGetBalanceOfAnAccountWhenAccountExists() {
         // given
-        Account account = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal("2000"));
+        AccountResponse accountResponse = new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP");
 
-        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        Mockito.when(this.accountRepository.findAccountResponseById(1L)).thenReturn(Optional.of(accountResponse));
 
         // when
         BigDecimal result = this.accountServiceUnderTest.getAccountBalance(1L);
 
         // then
-        assertThat(result).isEqualByComparingTo(account.getBalance());
-        Mockito.verify(this.accountRepository).findById(1L);
+        assertThat(result).isEqualByComparingTo(accountResponse.balance().toBigDecimal());
+        Mockito.verify(this.accountRepository).findAccountResponseById(1L);
     }
 
     @Test
     void shouldGetTotalTransfersWhenBankExists() {
         // given
-        Bank bank = AccountTestFactory.createBank(1L, "BCP");
-        bank.setTotalTransfers(10);
-
-        Mockito.when(this.bankRepository.findById(1L)).thenReturn(Optional.of(bank));
+        Mockito.when(this.bankRepository.findTotalTransfersById(1L)).thenReturn(Optional.of(10));
 
         // when
         int result = this.accountServiceUnderTest.countTotalTransfersToBank(1L);
 
         // then
         assertThat(result).isEqualTo(10);
-        Mockito.verify(this.bankRepository).findById(1L);
+        Mockito.verify(this.bankRepository).findTotalTransfersById(1L);
     }
 
     @Test
     void shouldGetAllAccountsWhenAccountsExists() {
         // given
         List<AccountResponse> accountResponses = List.of(
-                new AccountResponse(1L, "Milagros", new BigDecimal("2000"), "BCP"),
-                new AccountResponse(2L, "Kiara", new BigDecimal("1000"), "BCP")
+                new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP"),
+                new AccountResponse(2L, "Kiara", Money.of("1000"), "BCP")
         );
-        Mockito.when(this.accountRepository.getAllAccounts()).thenReturn(accountResponses);
+        Mockito.when(this.accountRepository.getAccountsAfter(0L, Limit.of(1000))).thenReturn(accountResponses);
 
         // when
         List<AccountResponse> result = this.accountServiceUnderTest.findAllAccounts();
@@ -182,7 +265,75 @@ class AccountServiceImplMockitoAnnotationTest {
                 .isNotEmpty()
                 .hasSize(2)
                 .containsExactlyElementsOf(accountResponses);
-        Mockito.verify(this.accountRepository).getAllAccounts();
+        Mockito.verify(this.accountRepository).getAccountsAfter(0L, Limit.of(1000));
+    }
+
+    @Test
+    void shouldReturnPageWithNextCursorWhenMoreAccountsExist() {
+        // given
+        List<AccountResponse> accountResponses = List.of(
+                new AccountResponse(11L, "Milagros", Money.of("2000"), "BCP"),
+                new AccountResponse(12L, "Kiara", Money.of("1000"), "BCP"),
+                new AccountResponse(13L, "Lesly", Money.of("500"), "BCP")
+        );
+        String cursor = new AccountCursor(10L).encode();
+        Mockito.when(this.accountRepository.getAccountsAfter(10L, Limit.of(3))).thenReturn(accountResponses);
+
+        // when
+        AccountPage page = this.accountServiceUnderTest.findAccountPage(cursor, 2);
+
+        // then
+        assertThat(page.accounts()).containsExactlyElementsOf(accountResponses.subList(0, 2));
+        assertThat(page.limit()).isEqualTo(2);
+        assertThat(AccountCursor.decode(page.nextCursor()).lastAccountId()).isEqualTo(12L);
+        Mockito.verify(this.accountRepository).getAccountsAfter(10L, Limit.of(3));
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutNextCursorAndClampLimit() {
+        // given
+        List<AccountResponse> accountResponses = List.of(new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP"));
+        Mockito.when(this.accountRepository.getAccountsAfter(0L, Limit.of(501))).thenReturn(accountResponses);
+
+        // when
+        AccountPage page = this.accountServiceUnderTest.findAccountPage(null, 10_000);
+
+        // then
+        assertThat(page.accounts()).containsExactlyElementsOf(accountResponses);
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.limit()).isEqualTo(500);
+    }
+
+    @Test
+    void shouldThrowInvalidCursorExceptionWhenCursorIsTampered() {
+        // when
+        assertThatThrownBy(() -> this.accountServiceUnderTest.findAccountPage("no-es-un-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessage("El cursor de paginación no es válido: no-es-un-cursor");
+
+        // then
+        Mockito.verifyNoInteractions(this.accountRepository);
+    }
+
+    @Test
+    void shouldExportEveryStreamedAccountAndCloseTheStream() {
+        // given
+        List<AccountResponse> accountResponses = List.of(
+                new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP"),
+                new AccountResponse(2L, "Kiara", Money.of("1000"), "BCP")
+        );
+        AtomicBoolean closed = new AtomicBoolean();
+        Mockito.when(this.accountRepository.streamAllAccounts())
+                .thenReturn(accountResponses.stream().onClose(() -> closed.set(true)));
+        List<AccountResponse> exported = new ArrayList<>();
+
+        // when
+        long count = this.accountServiceUnderTest.exportAllAccounts(exported::add);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(exported).containsExactlyElementsOf(accountResponses);
+        assertThat(closed).isTrue();
     }
 
     @Test
@@ -218,13 +369,72 @@ class AccountServiceImplMockitoAnnotationTest {
         assertThat(actualResponse)
                 .isNotNull()
                 .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
-                .containsExactly(10L, "Milagros", new BigDecimal("2000"), "BCP");
+                .containsExactly(10L, "Milagros", Money.of("2000"), "BCP");
         Mockito.verify(this.bankRepository).findById(1L);
         Mockito.verify(this.accountMapper).toAccount(accountRequest, bank);
         Mockito.verify(this.accountRepository).save(accountWithoutId);
+        Mockito.verify(this.ledgerService).recordOpening(accountWithoutId);
         Mockito.verify(this.accountMapper).toAccountResponse(accountWithoutId);
     }
 
+    @Test
+    void shouldSaveAllAccountsOfBatchWithOneSaveAllAndTheirOpeningMovements() {
+        // given
+        AccountCreateRequest milagrosRequest = AccountTestFactory.createAccountRequest("Milagros", new BigDecimal("2000"), 1L);
+        AccountCreateRequest kiaraRequest = AccountTestFactory.createAccountRequest("Kiara", new BigDecimal("500"), 2L);
+        Bank bcp = AccountTestFactory.createBank(1L, "BCP");
+        Bank bbva = AccountTestFactory.createBank(2L, "BBVA");
+        Account milagros = AccountTestFactory.createAccountWithoutId(milagrosRequest, bcp);
+        Account kiara = AccountTestFactory.createAccountWithoutId(kiaraRequest, bbva);
+
+        Mockito.when(this.bankRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(bcp, bbva));
+        Mockito.when(this.accountMapper.toAccount(milagrosRequest, bcp)).thenReturn(milagros);
+        Mockito.when(this.accountMapper.toAccount(kiaraRequest, bbva)).thenReturn(kiara);
+        Mockito.doAnswer(invocation -> {
+            List<Account> saved = invocation.getArgument(0);
+            saved.get(0).setId(1000L); // Simula los IDs asignados desde accounts_seq
+            saved.get(1).setId(1001L);
+            return saved;
+        }).when(this.accountRepository).saveAll(List.of(milagros, kiara));
+        Mockito.when(this.accountMapper.toAccountResponse(Mockito.any(Account.class)))
+                .thenAnswer(invocation -> AccountTestFactory.toAccountResponse(invocation.getArgument(0)));
+
+        // when
+        List<AccountResponse> responses = this.accountServiceUnderTest.saveAccounts(List.of(milagrosRequest, kiaraRequest));
+
+        // then
+        assertThat(responses)
+                .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::bankName)
+                .containsExactly(
+                        tuple(1000L, "Milagros", "BCP"),
+                        tuple(1001L, "Kiara", "BBVA"));
+        Mockito.verify(this.bankRepository).findAllById(Set.of(1L, 2L));
+        Mockito.verify(this.accountRepository).saveAll(List.of(milagros, kiara));
+        Mockito.verify(this.ledgerService).recordOpenings(List.of(milagros, kiara));
+        Mockito.verify(this.accountRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verifyNoMoreInteractions(this.accountRepository, this.ledgerService);
+    }
+
+    @Test
+    void shouldThrowBankNotFoundExceptionAndSaveNothingWhenBatchReferencesMissingBank() {
+        // given
+        AccountCreateRequest milagrosRequest = AccountTestFactory.createAccountRequest("Milagros", new BigDecimal("2000"), 1L);
+        AccountCreateRequest kiaraRequest = AccountTestFactory.createAccountRequest("Kiara", new BigDecimal("500"), 99L);
+        Bank bcp = AccountTestFactory.createBank(1L, "BCP");
+
+        Mockito.when(this.bankRepository.findAllById(Set.of(1L, 99L))).thenReturn(List.of(bcp));
+        Mockito.when(this.accountMapper.toAccount(milagrosRequest, bcp))
+                .thenReturn(AccountTestFactory.createAccountWithoutId(milagrosRequest, bcp));
+
+        // when
+        assertThatThrownBy(() -> this.accountServiceUnderTest.saveAccounts(List.of(milagrosRequest, kiaraRequest)))
+                .isInstanceOf(BankNotFoundException.class)
+                .hasMessage("No se encontró el banco con ID: 99");
+
+        // then
+        Mockito.verifyNoInteractions(this.accountRepository, this.ledgerService);
+    }
+
     @Test
     void shouldWithdrawAmountSuccessfullyWhenAccountExists() {
         // given
@@ -243,13 +453,14 @@ class AccountServiceImplMockitoAnnotationTest {
 
         // then
         assertThat(accountBeforeWithdrawal.getBalance())
-                .isEqualByComparingTo("1500");
+                .isEqualTo(Money.of("1500"));
         assertThat(actualResponse)
                 .isNotNull()
                 .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
-                .containsExactly(1L, "Milagros", new BigDecimal("1500"), bank.getName());
+                .containsExactly(1L, "Milagros", Money.of("1500"), bank.getName());
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verify(this.accountRepository).save(accountBeforeWithdrawal);
+        Mockito.verify(this.ledgerService).recordWithdrawal(accountBeforeWithdrawal, request.amount());
         Mockito.verify(this.accountMapper).toAccountResponse(accountBeforeWithdrawal);
     }
 
@@ -267,10 +478,30 @@ class AccountServiceImplMockitoAnnotationTest {
                 .hasMessage("Saldo insuficiente en la cuenta del titular Milagros (ID: 1)");
 
         // then
-        assertThat(account.getBalance()).isEqualByComparingTo("1000");
+        assertThat(account.getBalance()).isEqualTo(Money.of("1000"));
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verify(this.accountRepository, Mockito.never()).save(Mockito.any());
         Mockito.verify(this.accountMapper, Mockito.never()).toAccountResponse(Mockito.any());
+        Mockito.verifyNoInteractions(this.ledgerService);
+    }
+
+    @Test
+    void shouldThrowBalanceLimitExceededExceptionWhenDepositOverflowsTheBalance() {
+        // given
+        Account account = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal(Money.MAX_AMOUNT));
+        DepositRequest request = new DepositRequest(new BigDecimal("0.01"));
+        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.of(account));
+
+        // when
+        assertThatThrownBy(() -> this.accountServiceUnderTest.deposit(1L, request))
+                .isInstanceOf(BalanceLimitExceededException.class)
+                .hasMessage("El saldo de la cuenta del titular Milagros (ID: 1) superaría el máximo permitido (92233720368547758.07)");
+
+        // then
+        assertThat(account.getBalance()).isEqualTo(Money.of(Money.MAX_AMOUNT));
+        Mockito.verify(this.accountRepository).findById(1L);
+        Mockito.verify(this.accountRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verifyNoInteractions(this.ledgerService);
     }
 
     @Test
@@ -288,4 +519,261 @@ class AccountServiceImplMockitoAnnotationTest {
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verifyNoMoreInteractions(this.accountRepository, this.accountMapper);
     }
+
+    @Test
+    void shouldDepositWithSingleUpdateWhenBalanceUpdateModeIsAtomic() {
+        // given
+        Account accountAfterDeposit = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal("2500"));
+        Bank bank = AccountTestFactory.createBank(1L, "BCP", accountAfterDeposit);
+        AccountResponse expectedResponse = AccountTestFactory.toAccountResponse(accountAfterDeposit);
+        DepositRequest request = new DepositRequest(new BigDecimal("500"));
+        Mockito.doReturn(AccountProperties.BalanceUpdateMode.ATOMIC).when(this.accountProperties).balanceUpdateMode();
+        Mockito.when(this.accountRepository.increaseBalance(1L, request.amount())).thenReturn(1);
+        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.of(accountAfterDeposit));
+        Mockito.when(this.accountMapper.toAccountResponse(accountAfterDeposit)).thenReturn(expectedResponse);
+
+        // when
+        AccountResponse actualResponse = this.accountServiceUnderTest.deposit(1L, request);
+
+        // then
+        assertThat(actualResponse)
+                .isNotNull()
+                .extracting(AccountResponse::id, AccountResponse::balance, AccountResponse::bankName)
+                .containsExactly(1L, Money.of("2500"), bank.getName());
+        Mockito.verify(this.accountRepository).increaseBalance(1L, request.amount());
+        Mockito.verify(this.accountRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(this.ledgerService).recordDeposit(accountAfterDeposit, request.amount());
+    }
+
+    @Test
+    void shouldThrowAccountNotFoundExceptionWhenAtomicDepositAffectsNoRows() {
+        // given
+        DepositRequest request = new DepositRequest(new BigDecimal("500"));
+        Mockito.doReturn(AccountProperties.BalanceUpdateMode.ATOMIC).when(this.accountProperties).balanceUpdateMode();
+        Mockito.when(this.accountRepository.increaseBalance(1L, request.amount())).thenReturn(0);
+
+        // when
+        assertThatThrownBy(() -> this.accountServiceUnderTest.deposit(1L, request))
+                .isInstanceOf(AccountNotFoundException.class)
+                .hasMessage("No se encontró la cuenta con ID: 1");
+
+        // then
+        Mockito.verify(this.accountRepository).increaseBalance(1L, request.amount());
+        Mockito.verify(this.accountRepository).findById(1L);
+        Mockito.verifyNoMoreInteractions(this.accountRepository, this.accountMapper);
+        Mockito.verifyNoInteractions(this.ledgerService);
+    }
+
+    @Test
+    void shouldThrowBalanceLimitExceededExceptionWhenAtomicDepositAffectsNoRowsOfAnExistingAccount() {
+        // given
+        Account account = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal(Money.MAX_AMOUNT));
+        DepositRequest request = new DepositRequest(new BigDecimal("0.01"));
+        Mockito.doReturn(AccountProperties.BalanceUpdateMode.ATOMIC).when(this.accountProperties).balanceUpdateMode();
+        Mockito.when(this.accountRepository.increaseBalance(1L, request.amount())).thenReturn(0);
+        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.of(account));
+
+        // when
+        assertThatThrownBy(() -> this.accountServiceUnderTest.deposit(1L, request))
+                .isInstanceOf(BalanceLimitExceededException.class)
+                .hasMessage("El saldo de la cuenta del titular Milagros (ID: 1) superaría el máximo permitido (92233720368547758.07)");
+
+        // then
+        Mockito.verify(this.accountRepository).increaseBalance(1L, request.amount());
+        Mockito.verify(this.accountRepository).findById(1L);
+        Mockito.verifyNoMoreInteractions(this.accountRepository, this.accountMapper);
+        Mockito.verifyNoInteractions(this.ledgerService);
+    }
+
+    @Test
+    void shouldApplyAllDepositsInOneUpdateAndRecordEachOneInTheLedger() {
+        // given
+        Account account = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal("2000"));
+        Bank bank = AccountTestFactory.createBank(1L, "BCP", account);
+        List<DepositRequest> requests = List.of(
+                new DepositRequest(new BigDecimal("100")),
+                new DepositRequest(new BigDecimal("250")));
+        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        Mockito.when(this.accountMapper.toAccountResponse(account))
+                .thenAnswer(invocation -> AccountTestFactory.toAccountResponse(account));
+
+        // when
+        AccountResponse actualResponse = this.accountServiceUnderTest.depositAll(1L, requests);
+
+        // then
+        assertThat(actualResponse.balance()).isEqualTo(Money.of("2350"));
+        assertThat(account.getLedgerPosition()).isEqualTo(2L);
+        Mockito.verify(this.accountRepository).findById(1L);
+        Mockito.verify(this.accountRepository).save(account);
+        Mockito.verify(this.ledgerService).recordDeposit(account, new BigDecimal("100"));
+        Mockito.verify(this.ledgerService).recordDeposit(account, new BigDecimal("250"));
+        Mockito.verify(this.accountMetrics).recordMoneyMovedAfterCommit(
+                AccountMetrics.MoneyMovement.DEPOSIT, bank.getId(), new BigDecimal("350"));
+    }
+
+    @Test
+    void shouldThrowInsufficientBalanceExceptionWhenAtomicWithdrawalAffectsNoRows() {
+        // given
+        Account account = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal("1000"));
+        WithdrawalRequest request = new WithdrawalRequest(new BigDecimal("1200"));
+        Mockito.doReturn(AccountProperties.BalanceUpdateMode.ATOMIC).when(this.accountProperties).balanceUpdateMode();
+        Mockito.when(this.accountRepository.decreaseBalance(1L, request.amount())).thenReturn(0);
+        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.of(account));
+
+        // when
+        assertThatThrownBy(() -> this.accountServiceUnderTest.withdraw(1L, request))
+                .isInstanceOf(InsufficientBalanceException.class)
+                .hasMessage("Saldo insuficiente en la cuenta del titular Milagros (ID: 1)");
+
+        // then
+        assertThat(account.getBalance()).isEqualTo(Money.of("1000"));
+        Mockito.verify(this.accountRepository).decreaseBalance(1L, request.amount());
+        Mockito.verify(this.accountRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(this.accountMapper, Mockito.never()).toAccountResponse(Mockito.any());
+    }
+
+    @Test
+    void shouldLockAccountsInAscendingIdOrderWhenTransferLockingIsPessimistic() {
+        // given
+        TransactionRequest request = new TransactionRequest(2L, 1L, new BigDecimal("300"));
+        Account sourceAccount = AccountTestFactory.createAccount(2L, "Kiara", new BigDecimal("1000"));
+        Account targetAccount = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal("2000"));
+        Bank bank = AccountTestFactory.createBank(1L, "BCP", sourceAccount, targetAccount);
+        Mockito.doReturn(AccountProperties.TransferLocking.PESSIMISTIC).when(this.accountProperties).transferLocking();
+        Mockito.when(this.accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(targetAccount));
+        Mockito.when(this.accountRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(sourceAccount));
+
+        // when
+        this.accountServiceUnderTest.transfer(request);
+
+        // then
+        assertThat(sourceAccount.getBalance()).isEqualTo(Money.of("700"));
+        assertThat(targetAccount.getBalance()).isEqualTo(Money.of("2300"));
+        InOrder inOrder = Mockito.inOrder(this.accountRepository, this.transferCounterService);
+        inOrder.verify(this.accountRepository).findByIdForUpdate(1L);
+        inOrder.verify(this.accountRepository).findByIdForUpdate(2L);
+        inOrder.verify(this.transferCounterService).increment(bank.getId());
+        Mockito.verify(this.accountRepository, Mockito.never()).findById(Mockito.anyLong());
+        Mockito.verify(this.bankRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void shouldNotCountTransferWhenPessimisticTransferHasInsufficientBalance() {
+        // given
+        TransactionRequest request = new TransactionRequest(1L, 2L, new BigDecimal("5000"));
+        Account sourceAccount = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal("2000"));
+        Account targetAccount = AccountTestFactory.createAccount(2L, "Kiara", new BigDecimal("1000"));
+        AccountTestFactory.createBank(1L, "BCP", sourceAccount, targetAccount);
+        Mockito.doReturn(AccountProperties.TransferLocking.PESSIMISTIC).when(this.accountProperties).transferLocking();
+        Mockito.when(this.accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(sourceAccount));
+        Mockito.when(this.accountRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(targetAccount));
+
+        // when
+        assertThatThrownBy(() -> this.accountServiceUnderTest.transfer(request))
+                .isInstanceOf(InsufficientBalanceException.class)
+                .hasMessage("Saldo insuficiente en la cuenta del titular Milagros (ID: 1)");
+
+        // then
+        assertThat(sourceAccount.getBalance()).isEqualTo(Money.of("2000"));
+        assertThat(targetAccount.getBalance()).isEqualTo(Money.of("1000"));
+        Mockito.verifyNoInteractions(this.bankRepository, this.transferCounterService);
+    }
+
+    @Test
+    void shouldAddPendingShardTransfersWhenCountingTotalTransfers() {
+        // given
+        Mockito.when(this.bankRepository.findTotalTransfersById(1L)).thenReturn(Optional.of(10));
+        Mockito.when(this.transferCounterService.countPendingTransfers(1L)).thenReturn(5L);
+
+        // when
+        int result = this.accountServiceUnderTest.countTotalTransfersToBank(1L);
+
+        // then
+        assertThat(result).isEqualTo(15);
+        Mockito.verify(this.bankRepository).findTotalTransfersById(1L);
+        Mockito.verify(this.transferCounterService).countPendingTransfers(1L);
+    }
+
+    @Test
+    void shouldApplyValidLegsAndReportRejectedOnesWhenTransferBatchIsProcessed() {
+        // given
+        Account milagros = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal("2000"));
+        Account kiara = AccountTestFactory.createAccount(2L, "Kiara", new BigDecimal("100"));
+        Account lesly = AccountTestFactory.createAccount(3L, "Lesly", new BigDecimal("500"));
+        Bank bcp = AccountTestFactory.createBank(1L, "BCP", milagros, kiara);
+        AccountTestFactory.createBank(2L, "BBVA", lesly);
+        List<TransactionRequest> requests = List.of(
+                new TransactionRequest(1L, 2L, new BigDecimal("700")),
+                new TransactionRequest(2L, 1L, new BigDecimal("800")),
+                new TransactionRequest(2L, 1L, new BigDecimal("1000")),
+                new TransactionRequest(1L, 3L, new BigDecimal("10")),
+                new TransactionRequest(1L, 99L, new BigDecimal("10")),
+                new TransactionRequest(1L, 1L, new BigDecimal("10"))
+        );
+        Mockito.when(this.accountRepository.findAllByIdForUpdate(List.of(1L, 2L, 3L, 99L)))
+                .thenReturn(List.of(milagros, kiara, lesly));
+
+        // when
+        TransferBatchResponse response = this.accountServiceUnderTest.transferBatch(requests);
+
+        // then
+        assertThat(response.total()).isEqualTo(6);
+        assertThat(response.applied()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(4);
+        assertThat(response.results())
+                .extracting(TransferLegResult::status)
+                .containsExactly(
+                        TransferLegResult.Status.APPLIED,
+                        TransferLegResult.Status.APPLIED,
+                        TransferLegResult.Status.INSUFFICIENT_BALANCE,
+                        TransferLegResult.Status.INVALID_TRANSACTION,
+                        TransferLegResult.Status.ACCOUNT_NOT_FOUND,
+                        TransferLegResult.Status.INVALID_TRANSACTION);
+        assertThat(response.results().get(4).message()).isEqualTo("No se encontró la cuenta con ID: 99");
+        assertThat(milagros.getBalance()).isEqualTo(Money.of("2100"));
+        assertThat(kiara.getBalance()).isEqualTo(Money.of("0"));
+        assertThat(lesly.getBalance()).isEqualTo(Money.of("500"));
+        assertThat(milagros.getLedgerPosition()).isEqualTo(2L);
+        assertThat(kiara.getLedgerPosition()).isEqualTo(2L);
+        assertThat(lesly.getLedgerPosition()).isZero();
+        Mockito.verify(this.accountRepository).findAllByIdForUpdate(List.of(1L, 2L, 3L, 99L));
+        Mockito.verify(this.transferCounterService).increment(bcp.getId(), 2L);
+        Mockito.verify(this.ledgerService).recordTransfers(List.of(requests.get(0), requests.get(1)),
+                Map.of(1L, milagros, 2L, kiara, 3L, lesly));
+        Mockito.verify(this.accountRepository, Mockito.never()).findById(Mockito.anyLong());
+    }
+
+    @Test
+    void shouldReturnLedgerMovementsWhenAccountExists() {
+        // given
+        List<LedgerEntryResponse> movements = List.of(
+                new LedgerEntryResponse(51L, LedgerEntry.Type.DEPOSIT, new BigDecimal("500"), null, Instant.now()),
+                new LedgerEntryResponse(52L, LedgerEntry.Type.TRANSFER_OUT, new BigDecimal("-200"), 2L, Instant.now()));
+        Mockito.when(this.accountRepository.existsById(1L)).thenReturn(true);
+        Mockito.when(this.ledgerService.findMovements(1L, 50L, 20)).thenReturn(movements);
+
+        // when
+        List<LedgerEntryResponse> actualMovements = this.accountServiceUnderTest.findAccountMovements(1L, 50L, 20);
+
+        // then
+        assertThat(actualMovements)
+                .extracting(LedgerEntryResponse::seq)
+                .containsExactly(51L, 52L);
+        Mockito.verify(this.accountRepository).existsById(1L);
+        Mockito.verify(this.ledgerService).findMovements(1L, 50L, 20);
+    }
+
+    @Test
+    void shouldThrowAccountNotFoundExceptionWhenQueryingMovementsOfMissingAccount() {
+        // given
+        Mockito.when(this.accountRepository.existsById(99L)).thenReturn(false);
+
+        // when
+        assertThatThrownBy(() -> this.accountServiceUnderTest.findAccountMovements(99L, 0L, 50))
+                .isInstanceOf(AccountNotFoundException.class)
+                .hasMessage("No se encontró la cuenta con ID: 99");
+
+        // then
+        Mockito.verifyNoInteractions(this.ledgerService);
+    }
 }
@@ -10,16 +10,21 @@ import dev.magadiflo.app.exception.AccountNotFoundException;
 import dev.magadiflo.app.exception.InsufficientBalanceException;
 import dev.magadiflo.app.factory.AccountTestFactory;
 import dev.magadiflo.app.mapper.AccountMapper;
+import dev.magadiflo.app.money.Money;
 import dev.magadiflo.app.repository.AccountRepository;
 import dev.magadiflo.app.repository.BankRepository;
 import dev.magadiflo.app.service.AccountService;
+import dev.magadiflo.app.service.LedgerService;
+import dev.magadiflo.app.service.TransferCounterService;
 import dev.magadiflo.app.service.impl.AccountServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,6 +35,8 @@ class AccountServiceImplMockitoManualTest {
     private AccountRepository accountRepository;
     private BankRepository bankRepository;
     private AccountMapper accountMapper;
+    private TransferCounterService transferCounterService;
+    private LedgerService ledgerService;
     private AccountService accountServiceUnderTest;
 
     @BeforeEach
@@ -37,7 +44,12 @@ class AccountServiceImplMockitoManualTest {
         this.accountRepository = Mockito.mock(AccountRepository.class);
         this.bankRepository = Mockito.mock(BankRepository.class);
         this.accountMapper = Mockito.mock(AccountMapper.class);
-        this.accountServiceUnderTest = new AccountServiceImpl(this.accountRepository, this.bankRepository, this.accountMapper);
+        this.transferCounterService = Mockito.mock(TransferCounterService.class);
+        this.ledgerService = Mockito.mock(LedgerService.class);
+        this.accountServiceUnderTest = new AccountServiceImpl(this.accountRepository, this.bankRepository, this.accountMapper,
+                AccountTestFactory.createAccountProperties(), this.transferCounterService, this.ledgerService,
+                AccountTestFactory.createAccountCache(), AccountTestFactory.createAccountIdBloomFilter(false),
+                AccountTestFactory.createHotPathLogLimiter(), AccountTestFactory.createAccountMetrics());
     }
 
     @Test
@@ -55,9 +67,11 @@ class AccountServiceImplMockitoManualTest {
         this.accountServiceUnderTest.transfer(request);
 
         // then
-        assertThat(sourceAccount.getBalance()).isEqualByComparingTo("1300");
-        assertThat(targetAccount.getBalance()).isEqualByComparingTo("1700");
-        assertThat(bank.getTotalTransfers()).isEqualTo(1);
+        assertThat(sourceAccount.getBalance()).isEqualTo(Money.of("1300"));
+        assertThat(targetAccount.getBalance()).isEqualTo(Money.of("1700"));
+        assertThat(sourceAccount.getLedgerPosition()).isEqualTo(1L);
+        assertThat(targetAccount.getLedgerPosition()).isEqualTo(1L);
+        assertThat(bank.getTotalTransfers()).isZero();
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verify(this.accountRepository).findById(2L);
         Mockito.verify(this.accountRepository, Mockito.times(2)).findById(Mockito.anyLong());
@@ -65,7 +79,9 @@ class AccountServiceImplMockitoManualTest {
         Mockito.verify(this.accountRepository).save(sourceAccount);
         Mockito.verify(this.accountRepository).save(targetAccount);
         Mockito.verify(this.accountRepository, Mockito.times(2)).save(Mockito.any(Account.class));
-        Mockito.verify(this.bankRepository).save(bank);
+        Mockito.verify(this.bankRepository, Mockito.never()).save(bank);
+        Mockito.verify(this.transferCounterService).increment(bank.getId());
+        Mockito.verify(this.ledgerService).recordTransfers(List.of(request), Map.of(1L, sourceAccount, 2L, targetAccount));
     }
 
     @Test
@@ -85,8 +101,8 @@ class AccountServiceImplMockitoManualTest {
                 .hasMessage("Saldo insuficiente en la cuenta del titular Milagros (ID: 1)");
 
         // then
-        assertThat(sourceAccount.getBalance()).isEqualByComparingTo("2000");
-        assertThat(targetAccount.getBalance()).isEqualByComparingTo("1000");
+        assertThat(sourceAccount.getBalance()).isEqualTo(Money.of("2000"));
+        assertThat(targetAccount.getBalance()).isEqualTo(Money.of("1000"));
         assertThat(bank.getTotalTransfers()).isZero();
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verify(this.accountRepository).findById(2L);
@@ -95,36 +111,36 @@ class AccountServiceImplMockitoManualTest {
         Mockito.verify(this.accountRepository, Mockito.never()).save(sourceAccount);
         Mockito.verify(this.accountRepository, Mockito.never()).save(targetAccount);
         Mockito.verify(this.bankRepository, Mockito.never()).save(bank);
+        Mockito.verifyNoInteractions(this.transferCounterService, this.ledgerService);
     }
 
     @Test
     void shouldReturnAccountResponseWhenAccountExists() {
         // given
-        Account account = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal("2000"));
-        Bank bank = AccountTestFactory.createBank(1L, "BCP", account);
-        AccountResponse accountResponse = new AccountResponse(account.getId(), account.getHolder(), account.getBalance(), account.getBank().getName());
+        AccountResponse accountResponse = new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP");
 
-        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.of(account));
-        Mockito.when(this.accountMapper.toAccountResponse(account)).thenReturn(accountResponse);
+        Mockito.when(this.accountRepository.findAccountResponseById(1L)).thenReturn(Optional.of(accountResponse));
 
         // when
         AccountResponse result = this.accountServiceUnderTest.findAccountById(1L);
+        AccountResponse cachedResult = this.accountServiceUnderTest.findAccountById(1L);
 
         // then
         assertThat(result)
                 .isNotNull()
-                .isSameAs(accountResponse);
+                .isSameAs(accountResponse)
+                .isSameAs(cachedResult);
         assertThat(result)
                 .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
-                .containsExactly(1L, "Milagros", new BigDecimal("2000"), bank.getName());
-        Mockito.verify(this.accountRepository).findById(1L);
-        Mockito.verify(this.accountMapper).toAccountResponse(account);
+                .containsExactly(1L, "Milagros", Money.of("2000"), "BCP");
+        Mockito.verify(this.accountRepository).findAccountResponseById(1L);
+        Mockito.verifyNoInteractions(this.accountMapper);
     }
 
     @Test
     void shouldThrowAccountNotFoundExceptionWhenAccountDoesNotExist() {
         // given
-        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.empty());
+        Mockito.when(this.accountRepository.findAccountResponseById(1L)).thenReturn(Optional.empty());
 
         // when
         assertThatThrownBy(() -> this.accountServiceUnderTest.findAccountById(1L))
@@ -132,49 +148,46 @@ class AccountServiceImplMockitoManualTest {
                 .hasMessage("No se encontró la cuenta con ID: 1");
 
         // then
-        Mockito.verify(this.accountRepository).findById(1L);
-        Mockito.verify(this.accountMapper, Mockito.never()).toAccountResponse(Mockito.any(Account.class));
+        Mockito.verify(this.accountRepository).findAccountResponseById(1L);
+        Mockito.verifyNoInteractions(this.accountMapper);
     }
 
     @Test
     void shouldGetBalanceOfAnAccountWhenAccountExists() {
         // given
-        Account account = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal("2000"));
+        AccountResponse accountResponse = new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP");
 
-        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        Mockito.when(this.accountRepository.findAccountResponseById(1L)).thenReturn(Optional.of(accountResponse));
 
         // when
         BigDecimal result = this.accountServiceUnderTest.getAccountBalance(1L);
 
         // then
-        assertThat(result).isEqualByComparingTo(account.getBalance());
-        Mockito.verify(this.accountRepository).findById(1L);
+        assertThat(result).isEqualByComparingTo(accountResponse.balance().toBigDecimal());
+        Mockito.verify(this.accountRepository).findAccountResponseById(1L);
     }
 
     @Test
     void shouldGetTotalTransfersWhenBankExists() {
         // given
-        Bank bank = AccountTestFactory.createBank(1L, "BCP");
-        bank.setTotalTransfers(10);
-
-        Mockito.when(this.bankRepository.findById(1L)).thenReturn(Optional.of(bank));
+        Mockito.when(this.bankRepository.findTotalTransfersById(1L)).thenReturn(Optional.of(10));
 
         // when
         int result = this.accountServiceUnderTest.countTotalTransfersToBank(1L);
 
         // then
         assertThat(result).isEqualTo(10);
-        Mockito.verify(this.bankRepository).findById(1L);
+        Mockito.verify(this.bankRepository).findTotalTransfersById(1L);
     }
 
     @Test
     void shouldGetAllAccountsWhenAccountsExists() {
         // given
         List<AccountResponse> accountResponses = List.of(
-                new AccountResponse(1L, "Milagros", new BigDecimal("2000"), "BCP"),
-                new AccountResponse(2L, "Kiara", new BigDecimal("1000"), "BCP")
+                new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP"),
+                new AccountResponse(2L, "Kiara", Money.of("1000"), "BCP")
         );
-        Mockito.when(this.accountRepository.getAllAccounts()).thenReturn(accountResponses);
+        Mockito.when(this.accountRepository.getAccountsAfter(0L, Limit.of(1000))).thenReturn(accountResponses);
 
         // when
         List<AccountResponse> result = this.accountServiceUnderTest.findAllAccounts();
@@ -184,7 +197,7 @@ class AccountServiceImplMockitoManualTest {
                 .isNotEmpty()
                 .hasSize(2)
                 .containsExactlyElementsOf(accountResponses);
-        Mockito.verify(this.accountRepository).getAllAccounts();
+        Mockito.verify(this.accountRepository).getAccountsAfter(0L, Limit.of(1000));
     }
 
     @Test
@@ -220,7 +233,7 @@ class AccountServiceImplMockitoManualTest {
         assertThat(actualResponse)
                 .isNotNull()
                 .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
-                .containsExactly(10L, "Milagros", new BigDecimal("2000"), "BCP");
+                .containsExactly(10L, "Milagros", Money.of("2000"), "BCP");
         Mockito.verify(this.bankRepository).findById(1L);
         Mockito.verify(this.accountMapper).toAccount(accountRequest, bank);
         Mockito.verify(this.accountRepository).save(accountWithoutId);
@@ -245,11 +258,11 @@ class AccountServiceImplMockitoManualTest {
 
         // then
         assertThat(accountBeforeWithdrawal.getBalance())
-                .isEqualByComparingTo("1500");
+                .isEqualTo(Money.of("1500"));
         assertThat(actualResponse)
                 .isNotNull()
                 .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
-                .containsExactly(1L, "Milagros", new BigDecimal("1500"), bank.getName());
+                .containsExactly(1L, "Milagros", Money.of("1500"), bank.getName());
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verify(this.accountRepository).save(accountBeforeWithdrawal);
         Mockito.verify(this.accountMapper).toAccountResponse(accountBeforeWithdrawal);
@@ -269,7 +282,7 @@ class AccountServiceImplMockitoManualTest {
                 .hasMessage("Saldo insuficiente en la cuenta del titular Milagros (ID: 1)");
 
         // then
-        assertThat(account.getBalance()).isEqualByComparingTo("1000");
+        assertThat(account.getBalance()).isEqualTo(Money.of("1000"));
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verify(this.accountRepository, Mockito.never()).save(Mockito.any());
         Mockito.verify(this.accountMapper, Mockito.never()).toAccountResponse(Mockito.any());
@@ -1,5 +1,11 @@
 package dev.magadiflo.app.unit.service;
 
+import dev.magadiflo.app.cache.AccountCache;
+import dev.magadiflo.app.cache.AccountIdBloomFilter;
+import dev.magadiflo.app.config.AccountCacheProperties;
+import dev.magadiflo.app.config.AccountIdFilterProperties;
+import dev.magadiflo.app.config.AccountProperties;
+import dev.magadiflo.app.config.HotPathLoggingProperties;
 import dev.magadiflo.app.dto.AccountCreateRequest;
 import dev.magadiflo.app.dto.AccountResponse;
 import dev.magadiflo.app.dto.TransactionRequest;
@@ -9,25 +15,38 @@ import dev.magadiflo.app.entity.Bank;
 import dev.magadiflo.app.exception.AccountNotFoundException;
 import dev.magadiflo.app.exception.InsufficientBalanceException;
 import dev.magadiflo.app.factory.AccountTestFactory;
+import dev.magadiflo.app.logging.HotPathLogLimiter;
 import dev.magadiflo.app.mapper.AccountMapper;
+import dev.magadiflo.app.metrics.AccountMetrics;
+import dev.magadiflo.app.money.Money;
 import dev.magadiflo.app.repository.AccountRepository;
 import dev.magadiflo.app.repository.BankRepository;
 import dev.magadiflo.app.service.AccountService;
+import dev.magadiflo.app.service.LedgerService;
+import dev.magadiflo.app.service.TransferCounterService;
 import dev.magadiflo.app.service.impl.AccountServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@SpringBootTest(classes = AccountServiceImpl.class)
+@EnableConfigurationProperties({AccountProperties.class, AccountCacheProperties.class, AccountIdFilterProperties.class,
+        HotPathLoggingProperties.class})
+@SpringBootTest(classes = {AccountServiceImpl.class, AccountCache.class, AccountIdBloomFilter.class, HotPathLogLimiter.class,
+        AccountMetrics.class, SimpleMeterRegistry.class})
 class AccountServiceImplSpringBootTest {
     @MockitoBean
     private AccountRepository accountRepository;
@@ -35,8 +54,20 @@ class AccountServiceImplSpringBootTest {
     private BankRepository bankRepository;
     @MockitoBean
     private AccountMapper accountMapper;
+    @MockitoBean
+    private TransferCounterService transferCounterService;
+    @MockitoBean
+    private LedgerService ledgerService;
     @Autowired
     private AccountService accountServiceUnderTest;
+    @Autowired
+    private AccountCache accountCache;
+
+    @BeforeEach
+    void setUp() {
+        // La caché es un bean compartido por todas las pruebas del contexto
+        this.accountCache.invalidateAll();
+    }
 
     @Test
     void shouldTransferBalanceWhenAccountsAreFromSameBank() {
@@ -53,9 +84,11 @@ class AccountServiceImplSpringBootTest {
         this.accountServiceUnderTest.transfer(request);
 
         // then
-        assertThat(sourceAccount.getBalance()).isEqualByComparingTo("1300");
-        assertThat(targetAccount.getBalance()).isEqualByComparingTo("1700");
-        assertThat(bank.getTotalTransfers()).isEqualTo(1);
+        assertThat(sourceAccount.getBalance()).isEqualTo(Money.of("1300"));
+        assertThat(targetAccount.getBalance()).isEqualTo(Money.of("1700"));
+        assertThat(sourceAccount.getLedgerPosition()).isEqualTo(1L);
+        assertThat(targetAccount.getLedgerPosition()).isEqualTo(1L);
+        assertThat(bank.getTotalTransfers()).isZero();
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verify(this.accountRepository).findById(2L);
         Mockito.verify(this.accountRepository, Mockito.times(2)).findById(Mockito.anyLong());
@@ -63,7 +96,9 @@ class AccountServiceImplSpringBootTest {
         Mockito.verify(this.accountRepository).save(sourceAccount);
         Mockito.verify(this.accountRepository).save(targetAccount);
         Mockito.verify(this.accountRepository, Mockito.times(2)).save(Mockito.any(Account.class));
-        Mockito.verify(this.bankRepository).save(bank);
+        Mockito.verify(this.bankRepository, Mockito.never()).save(bank);
+        Mockito.verify(this.transferCounterService).increment(bank.getId());
+        Mockito.verify(this.ledgerService).recordTransfers(List.of(request), Map.of(1L, sourceAccount, 2L, targetAccount));
     }
 
     @Test
@@ -83,8 +118,8 @@ class AccountServiceImplSpringBootTest {
                 .hasMessage("Saldo insuficiente en la cuenta del titular Milagros (ID: 1)");
 
         // then
-        assertThat(sourceAccount.getBalance()).isEqualByComparingTo("2000");
-        assertThat(targetAccount.getBalance()).isEqualByComparingTo("1000");
+        assertThat(sourceAccount.getBalance()).isEqualTo(Money.of("2000"));
+        assertThat(targetAccount.getBalance()).isEqualTo(Money.of("1000"));
         assertThat(bank.getTotalTransfers()).isZero();
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verify(this.accountRepository).findById(2L);
@@ -93,36 +128,36 @@ class AccountServiceImplSpringBootTest {
         Mockito.verify(this.accountRepository, Mockito.never()).save(sourceAccount);
         Mockito.verify(this.accountRepository, Mockito.never()).save(targetAccount);
         Mockito.verify(this.bankRepository, Mockito.never()).save(bank);
+        Mockito.verifyNoInteractions(this.transferCounterService, this.ledgerService);
     }
 
     @Test
     void shouldReturnAccountResponseWhenAccountExists() {
         // given
-        Account account = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal("2000"));
-        Bank bank = AccountTestFactory.createBank(1L, "BCP", account);
-        AccountResponse accountResponse = new AccountResponse(account.getId(), account.getHolder(), account.getBalance(), account.getBank().getName());
+        AccountResponse accountResponse = new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP");
 
-        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.of(account));
-        Mockito.when(this.accountMapper.toAccountResponse(account)).thenReturn(accountResponse);
+        Mockito.when(this.accountRepository.findAccountResponseById(1L)).thenReturn(Optional.of(accountResponse));
 
         // when
         AccountResponse result = this.accountServiceUnderTest.findAccountById(1L);
+        AccountResponse cachedResult = this.accountServiceUnderTest.findAccountById(1L);
 
         // then
         assertThat(result)
                 .isNotNull()
-                .isSameAs(accountResponse);
+                .isSameAs(accountResponse)
+                .isSameAs(cachedResult);
         assertThat(result)
                 .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
-                .containsExactly(1L, "Milagros", new BigDecimal("2000"), bank.getName());
-        Mockito.verify(this.accountRepository).findById(1L);
-        Mockito.verify(this.accountMapper).toAccountResponse(account);
+                .containsExactly(1L, "Milagros", Money.of("2000"), "BCP");
+        Mockito.verify(this.accountRepository).findAccountResponseById(1L);
+        Mockito.verifyNoInteractions(this.accountMapper);
     }
 
     @Test
     void shouldThrowAccountNotFoundExceptionWhenAccountDoesNotExist() {
         // given
-        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.empty());
+        Mockito.when(this.accountRepository.findAccountResponseById(1L)).thenReturn(Optional.empty());
 
         // when
         assertThatThrownBy(() -> this.accountServiceUnderTest.findAccountById(1L))
@@ -130,49 +165,46 @@ class AccountServiceImplSpringBootTest {
                 .hasMessage("No se encontró la cuenta con ID: 1");
 
         // then
-        Mockito.verify(this.accountRepository).findById(1L);
-        Mockito.verify(this.accountMapper, Mockito.never()).toAccountResponse(Mockito.any(Account.class));
+        Mockito.verify(this.accountRepository).findAccountResponseById(1L);
+        Mockito.verifyNoInteractions(this.accountMapper);
     }
 
     @Test
     void shouldGetBalanceOfAnAccountWhenAccountExists() {
         // given
-        Account account = AccountTestFactory.createAccount(1L, "Milagros", new BigDecimal("2000"));
+        AccountResponse accountResponse = new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP");
 
-        Mockito.when(this.accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        Mockito.when(this.accountRepository.findAccountResponseById(1L)).thenReturn(Optional.of(accountResponse));
 
         // when
         BigDecimal result = this.accountServiceUnderTest.getAccountBalance(1L);
 
         // then
-        assertThat(result).isEqualByComparingTo(account.getBalance());
-        Mockito.verify(this.accountRepository).findById(1L);
+        assertThat(result).isEqualByComparingTo(accountResponse.balance().toBigDecimal());
+        Mockito.verify(this.accountRepository).findAccountResponseById(1L);
     }
 
     @Test
     void shouldGetTotalTransfersWhenBankExists() {
         // given
-        Bank bank = AccountTestFactory.createBank(1L, "BCP");
-        bank.setTotalTransfers(10);
-
-        Mockito.when(this.bankRepository.findById(1L)).thenReturn(Optional.of(bank));
+        Mockito.when(this.bankRepository.findTotalTransfersById(1L)).thenReturn(Optional.of(10));
 
         // when
         int result = this.accountServiceUnderTest.countTotalTransfersToBank(1L);
 
         // then
         assertThat(result).isEqualTo(10);
-        Mockito.verify(this.bankRepository).findById(1L);
+        Mockito.verify(this.bankRepository).findTotalTransfersById(1L);
     }
 
     @Test
     void shouldGetAllAccountsWhenAccountsExists() {
         // given
         List<AccountResponse> accountResponses = List.of(
-                new AccountResponse(1L, "Milagros", new BigDecimal("2000"), "BCP"),
-                new AccountResponse(2L, "Kiara", new BigDecimal("1000"), "BCP")
+                new AccountResponse(1L, "Milagros", Money.of("2000"), "BCP"),
+                new AccountResponse(2L, "Kiara", Money.of("1000"), "BCP")
         );
-        Mockito.when(this.accountRepository.getAllAccounts()).thenReturn(accountResponses);
+        Mockito.when(this.accountRepository.getAccountsAfter(0L, Limit.of(1000))).thenReturn(accountResponses);
 
         // when
         List<AccountResponse> result = this.accountServiceUnderTest.findAllAccounts();
@@ -182,7 +214,7 @@ class AccountServiceImplSpringBootTest {
                 .isNotEmpty()
                 .hasSize(2)
                 .containsExactlyElementsOf(accountResponses);
-        Mockito.verify(this.accountRepository).getAllAccounts();
+        Mockito.verify(this.accountRepository).getAccountsAfter(0L, Limit.of(1000));
     }
 
     @Test
@@ -218,7 +250,7 @@ class AccountServiceImplSpringBootTest {
         assertThat(actualResponse)
                 .isNotNull()
                 .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
-                .containsExactly(10L, "Milagros", new BigDecimal("2000"), "BCP");
+                .containsExactly(10L, "Milagros", Money.of("2000"), "BCP");
         Mockito.verify(this.bankRepository).findById(1L);
         Mockito.verify(this.accountMapper).toAccount(accountRequest, bank);
         Mockito.verify(this.accountRepository).save(accountWithoutId);
@@ -243,11 +275,11 @@ class AccountServiceImplSpringBootTest {
 
         // then
         assertThat(accountBeforeWithdrawal.getBalance())
-                .isEqualByComparingTo("1500");
+                .isEqualTo(Money.of("1500"));
         assertThat(actualResponse)
                 .isNotNull()
                 .extracting(AccountResponse::id, AccountResponse::holder, AccountResponse::balance, AccountResponse::bankName)
-                .containsExactly(1L, "Milagros", new BigDecimal("1500"), bank.getName());
+                .containsExactly(1L, "Milagros", Money.of("1500"), bank.getName());
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verify(this.accountRepository).save(accountBeforeWithdrawal);
         Mockito.verify(this.accountMapper).toAccountResponse(accountBeforeWithdrawal);
@@ -267,7 +299,7 @@ class AccountServiceImplSpringBootTest {
                 .hasMessage("Saldo insuficiente en la cuenta del titular Milagros (ID: 1)");
 
         // then
-        assertThat(account.getBalance()).isEqualByComparingTo("1000");
+        assertThat(account.getBalance()).isEqualTo(Money.of("1000"));
         Mockito.verify(this.accountRepository).findById(1L);
         Mockito.verify(this.accountRepository, Mockito.never()).save(Mockito.any());
         Mockito.verify(this.accountMapper, Mockito.never()).toAccountResponse(Mockito.any());
@@ -0,0 +1,355 @@
+package dev.magadiflo.reactive.integration;
+
+import dev.magadiflo.app.constants.TestScripts;
+import dev.magadiflo.app.dto.AccountCreateRequest;
+import dev.magadiflo.app.dto.AccountResponse;
+import dev.magadiflo.app.dto.AccountUpdateRequest;
+import dev.magadiflo.app.dto.DepositRequest;
+import dev.magadiflo.app.dto.LedgerEntryResponse;
+import dev.magadiflo.app.dto.TransactionRequest;
+import dev.magadiflo.app.dto.WithdrawalRequest;
+import dev.magadiflo.app.entity.Account;
+import dev.magadiflo.app.entity.LedgerEntry;
+import dev.magadiflo.app.money.Money;
+import dev.magadiflo.reactive.ReactiveAccountApplication;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@ActiveProfiles({"test-h2", ReactiveAccountApplication.PROFILE})
+@SpringBootTest(classes = ReactiveAccountApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveAccountRoutesTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        // Sin DataSource no hay @Sql: los scripts se ejecutan con R2DBC
+        new ResourceDatabasePopulator(Arrays.stream(TestScripts.H2_REACTIVE_INIT)
+                .map(ClassPathResource::new)
+                .toArray(ClassPathResource[]::new))
+                .populate(this.connectionFactory)
+                .block();
+    }
+
+    @Test
+    void shouldReturnAllAccountsWhenTheyExist() {
+        // given
+
+        // when
+        WebTestClient.ResponseSpec response = this.client
+                .get()
+                .uri("/api/v1/accounts")
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBodyList(AccountResponse.class)
+                .hasSize(8)
+                .contains(new AccountResponse(1L, "Lesly Águila", Money.of("3000.00"), "BCP"));
+    }
+
+    @Test
+    void shouldReturnAPageWithTheLinkToTheNextOne() {
+        // given
+
+        // when
+        WebTestClient.ResponseSpec response = this.client
+                .get()
+                .uri("/api/v1/accounts?limit=3")
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.LINK, "<http://localhost:\\d+/api/v1/accounts\\?after=.+&limit=3>; rel=\"next\"")
+                .expectBodyList(AccountResponse.class)
+                .value(accounts -> assertThat(accounts).extracting(AccountResponse::id).containsExactly(1L, 2L, 3L));
+    }
+
+    @Test
+    void shouldExportAllAccountsAsNdjson() {
+        // given
+
+        // when
+        WebTestClient.ResponseSpec response = this.client
+                .get()
+                .uri("/api/v1/accounts")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(AccountResponse.class)
+                .getResponseBody()
+                .collectList()
+                .doOnNext(accounts -> assertThat(accounts).hasSize(8))
+                .block();
+    }
+
+    @Test
+    void shouldCreateNewAccountWithItsOpeningMovement() {
+        // given
+        AccountCreateRequest request = new AccountCreateRequest("Milagros", new BigDecimal("2000.00"), 1L);
+
+        // when
+        WebTestClient.ResponseSpec response = this.client
+                .post()
+                .uri("/api/v1/accounts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange();
+
+        // then
+        AccountResponse created = response.expectStatus().isCreated()
+                .expectHeader().valueMatches("Location", "http://localhost:\\d+/api/v1/accounts/\\d+")
+                .expectBody(AccountResponse.class)
+                .returnResult()
+                .getResponseBody();
+        assertThat(created).isNotNull();
+        assertThat(created.id()).isGreaterThanOrEqualTo(Account.FIRST_GENERATED_ID);
+        assertThat(created).isEqualTo(new AccountResponse(created.id(), "Milagros", Money.of("2000.00"), "BCP"));
+        this.client.get()
+                .uri("/api/v1/accounts/{id}/movements", created.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(LedgerEntryResponse.class)
+                .value(movements -> assertThat(movements)
+                        .singleElement()
+                        .satisfies(movement -> {
+                            assertThat(movement.type()).isEqualTo(LedgerEntry.Type.OPENING);
+                            assertThat(movement.amount()).isEqualByComparingTo("2000");
+                        }));
+    }
+
+    @Test
+    void shouldReturn400WithTheValidationErrorsWhenTheRequestIsInvalid() {
+        // given
+        AccountCreateRequest request = new AccountCreateRequest("", new BigDecimal("-1"), 1L);
+
+        // when
+        WebTestClient.ResponseSpec response = this.client
+                .post()
+                .uri("/api/v1/accounts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange();
+
+        // then
+        response.expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation Failed")
+                .jsonPath("$.message").isEqualTo("Los datos enviados no cumplen con las validaciones requeridas")
+                .jsonPath("$.validationErrors.holder[0]").isEqualTo("El nombre del titular no puede estar vacío")
+                .jsonPath("$.validationErrors.balance[0]").isEqualTo("El saldo no puede ser negativo");
+    }
+
+    @Test
+    void shouldReturn404WhenAccountNotFound() {
+        // given
+        long accountId = 10L;
+
+        // when
+        WebTestClient.ResponseSpec response = this.client
+                .get()
+                .uri("/api/v1/accounts/{accountId}", accountId)
+                .exchange();
+
+        // then
+        response.expectStatus().isNotFound()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.timestamp").exists()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.error").isEqualTo("Not Found")
+                .jsonPath("$.message").isEqualTo("No se encontró la cuenta con ID: " + accountId)
+                .jsonPath("$.path").isEqualTo("/api/v1/accounts/" + accountId);
+    }
+
+    @Test
+    void shouldReturn400WhenTheAccountIdIsNotANumber() {
+        // given
+
+        // when
+        WebTestClient.ResponseSpec response = this.client
+                .get()
+                .uri("/api/v1/accounts/abc")
+                .exchange();
+
+        // then
+        response.expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.path").isEqualTo("/api/v1/accounts/abc");
+    }
+
+    @Test
+    void shouldDepositAndWithdrawAtomically() {
+        // given
+        long accountId = 1L;
+
+        // when
+        this.client.post()
+                .uri("/api/v1/accounts/{accountId}/deposit", accountId)
+                .bodyValue(new DepositRequest(new BigDecimal("500.00")))
+                .exchange()
+                .expectStatus().isOk();
+        WebTestClient.ResponseSpec withdrawal = this.client.post()
+                .uri("/api/v1/accounts/{accountId}/withdraw", accountId)
+                .bodyValue(new WithdrawalRequest(new BigDecimal("1500.00")))
+                .exchange();
+
+        // then
+        withdrawal.expectStatus().isOk()
+                .expectBody(AccountResponse.class)
+                .value(account -> assertThat(account.balance()).isEqualTo(Money.of("2000")));
+    }
+
+    @Test
+    void shouldStampTheMovementsWithTheLedgerPositionOfTheAccount() {
+        // given
+        var request = new TransactionRequest(1L, 2L, new BigDecimal("100"));
+
+        // when
+        this.client.post()
+                .uri("/api/v1/accounts/{accountId}/deposit", 1L)
+                .bodyValue(new DepositRequest(new BigDecimal("500.00")))
+                .exchange()
+                .expectStatus().isOk();
+        this.client.post()
+                .uri("/api/v1/accounts/transfer")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        // then
+        // Las fotos de saldo de la aplicación servlet se apoyan en estas posiciones, no en el seq
+        assertThat(this.databaseClient.sql("SELECT account_position FROM ledger_entries WHERE account_id = 1 ORDER BY seq")
+                .map(row -> row.get("account_position", Long.class))
+                .all()
+                .collectList()
+                .block())
+                .containsExactly(1L, 2L);
+        assertThat(this.databaseClient.sql("SELECT ledger_position FROM accounts WHERE id IN (1, 2) ORDER BY id")
+                .map(row -> row.get("ledger_position", Long.class))
+                .all()
+                .collectList()
+                .block())
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    void shouldReturn400WhenTheWithdrawalExceedsTheBalance() {
+        // given
+        long accountId = 6L;
+
+        // when
+        WebTestClient.ResponseSpec response = this.client.post()
+                .uri("/api/v1/accounts/{accountId}/withdraw", accountId)
+                .bodyValue(new WithdrawalRequest(new BigDecimal("100.01")))
+                .exchange();
+
+        // then
+        response.expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Saldo insuficiente en la cuenta del titular Kiara Lozano (ID: 6)");
+    }
+
+    @Test
+    void shouldTransferMoneyAndCountItForTheBank() {
+        // given
+        var request = new TransactionRequest(1L, 2L, new BigDecimal("2999"));
+
+        // when
+        WebTestClient.ResponseSpec response = this.client
+                .post()
+                .uri("/api/v1/accounts/transfer")
+                .bodyValue(request)
+                .exchange();
+
+        // then
+        response.expectStatus().isNoContent()
+                .expectBody().isEmpty();
+        this.client.get().uri("/api/v1/accounts/1/balance").exchange()
+                .expectBody(BigDecimal.class).value(balance -> assertThat(balance).isEqualByComparingTo("1"));
+        this.client.get().uri("/api/v1/accounts/2/balance").exchange()
+                .expectBody(BigDecimal.class).value(balance -> assertThat(balance).isEqualByComparingTo("4999"));
+        this.client.get().uri("/api/v1/banks/1").exchange()
+                .expectBody(Integer.class).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectTransfersBetweenBanksAndWithInsufficientBalance() {
+        // given
+        var betweenBanks = new TransactionRequest(1L, 3L, new BigDecimal("10"));
+        var insufficientBalance = new TransactionRequest(1L, 2L, new BigDecimal("5000"));
+
+        // when
+        WebTestClient.ResponseSpec betweenBanksResponse = this.client.post()
+                .uri("/api/v1/accounts/transfer")
+                .bodyValue(betweenBanks)
+                .exchange();
+        WebTestClient.ResponseSpec insufficientBalanceResponse = this.client.post()
+                .uri("/api/v1/accounts/transfer")
+                .bodyValue(insufficientBalance)
+                .exchange();
+
+        // then
+        betweenBanksResponse.expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("No se puede hacer transferencia entre cuentas de diferentes bancos");
+        insufficientBalanceResponse.expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Saldo insuficiente en la cuenta del titular Lesly Águila (ID: 1)")
+                .jsonPath("$.path").isEqualTo("/api/v1/accounts/transfer");
+        this.client.get().uri("/api/v1/accounts/1/balance").exchange()
+                .expectBody(BigDecimal.class).value(balance -> assertThat(balance).isEqualByComparingTo("3000"));
+    }
+
+    @Test
+    void shouldUpdateTheHolderAndDeleteTheAccount() {
+        // given
+        long accountId = 4L;
+
+        // when
+        this.client.put()
+                .uri("/api/v1/accounts/{accountId}", accountId)
+                .bodyValue(new AccountUpdateRequest("Briela C."))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(AccountResponse.class)
+                .value(account -> assertThat(account.holder()).isEqualTo("Briela C."));
+        WebTestClient.ResponseSpec deletion = this.client.delete()
+                .uri("/api/v1/accounts/{accountId}", accountId)
+                .exchange();
+
+        // then
+        deletion.expectStatus().isNoContent();
+        this.client.get().uri("/api/v1/accounts/search?holder=Briela C.").exchange()
+                .expectStatus().isNotFound();
+    }
+}
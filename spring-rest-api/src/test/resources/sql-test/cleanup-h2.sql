@@ -5,6 +5,10 @@ SET REFERENTIAL_INTEGRITY FALSE;
 -- Limpia las tablas en cualquier orden (sin preocuparte por FKs)
 TRUNCATE TABLE accounts;
 TRUNCATE TABLE banks;
+TRUNCATE TABLE bank_transfer_counters;
+TRUNCATE TABLE ledger_entries;
+TRUNCATE TABLE account_balance_snapshots;
+TRUNCATE TABLE idempotency_keys;
 
 -- Reactiva las validaciones
 SET REFERENTIAL_INTEGRITY TRUE;
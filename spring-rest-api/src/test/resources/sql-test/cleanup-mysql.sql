@@ -5,6 +5,10 @@ SET FOREIGN_KEY_CHECKS = 0;
 -- Limpia las tablas en cualquier orden
 TRUNCATE TABLE accounts;
 TRUNCATE TABLE banks;
+TRUNCATE TABLE bank_transfer_counters;
+TRUNCATE TABLE ledger_entries;
+TRUNCATE TABLE account_balance_snapshots;
+TRUNCATE TABLE idempotency_keys;
 
 -- Reactivar verificación de foreign keys
 SET FOREIGN_KEY_CHECKS = 1;
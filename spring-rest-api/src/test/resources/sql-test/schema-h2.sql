@@ -0,0 +1,62 @@
+-- Esquema para H2 cuando no lo crea Hibernate (p. ej. la variante reactiva, que solo usa R2DBC).
+-- Mismo DDL que genera Hibernate a partir de las entidades JPA; si las tablas ya existen no hace nada.
+
+CREATE SEQUENCE IF NOT EXISTS banks_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS accounts_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS ledger_entries_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS banks (
+    total_transfers INTEGER NOT NULL,
+    id BIGINT NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    name VARCHAR(100) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS accounts (
+    balance NUMERIC(19,2) NOT NULL,
+    bank_id BIGINT,
+    id BIGINT NOT NULL,
+    ledger_position BIGINT DEFAULT 0 NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    holder VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id),
+    FOREIGN KEY (bank_id) REFERENCES banks
+);
+
+CREATE TABLE IF NOT EXISTS bank_transfer_counters (
+    shard INTEGER NOT NULL,
+    bank_id BIGINT NOT NULL,
+    transfers BIGINT NOT NULL,
+    PRIMARY KEY (shard, bank_id)
+);
+
+CREATE TABLE IF NOT EXISTS ledger_entries (
+    amount NUMERIC(19,2) NOT NULL,
+    account_id BIGINT NOT NULL,
+    account_position BIGINT NOT NULL,
+    counterparty_account_id BIGINT,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    seq BIGINT NOT NULL,
+    type ENUM ('DEPOSIT','OPENING','TRANSFER_IN','TRANSFER_OUT','WITHDRAWAL') NOT NULL,
+    PRIMARY KEY (seq)
+);
+
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_account_seq ON ledger_entries (account_id, seq);
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_account_position ON ledger_entries (account_id, account_position);
+
+CREATE TABLE IF NOT EXISTS account_balance_snapshots (
+    balance NUMERIC(19,2) NOT NULL,
+    account_id BIGINT NOT NULL,
+    last_position BIGINT NOT NULL,
+    taken_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (account_id)
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    response_body VARCHAR(4000),
+    PRIMARY KEY (idempotency_key)
+);